@@ -0,0 +1,154 @@
+package io.catalyst.bridge;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test data shaped like real process payloads and n8n responses.
+ */
+public final class BenchmarkData {
+
+    private BenchmarkData() {
+        // Static utility class
+    }
+
+    /**
+     * Builds an order list payload as Java collections.
+     *
+     * @param records number of orders
+     * @return the payload
+     */
+    public static Map<String, Object> orders(int records) {
+        List<Object> orders = new ArrayList<>(records);
+        for (int i = 0; i < records; i++) {
+            orders.add(order(i));
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("processInstanceId", "7f3c2a10-5d4e-11ef-9c1a-0242ac120002");
+        payload.put("source", "camunda");
+        payload.put("orders", orders);
+        return payload;
+    }
+
+    /**
+     * Builds the same order list as nested maps only, keyed by position, as
+     * FEEL context expressions produce them.
+     *
+     * @param records number of orders
+     * @return the payload
+     */
+    static Map<String, Object> ordersByKey(int records) {
+        Map<String, Object> orders = new LinkedHashMap<>();
+        for (int i = 0; i < records; i++) {
+            Map<String, Object> order = order(i);
+            order.remove("lines");
+            orders.put("order" + i, order);
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("processInstanceId", "7f3c2a10-5d4e-11ef-9c1a-0242ac120002");
+        payload.put("source", "camunda");
+        payload.put("orders", orders);
+        return payload;
+    }
+
+    /**
+     * Builds an order list payload as JSON text.
+     *
+     * @param records number of orders
+     * @return the JSON
+     */
+    static String ordersJson(int records) {
+        StringBuilder json = new StringBuilder(256 + records * 320);
+        json.append("{\"processInstanceId\":\"7f3c2a10-5d4e-11ef-9c1a-0242ac120002\",\"source\":\"camunda\",\"orders\":[");
+        for (int i = 0; i < records; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":\"ORD-").append(100000 + i).append("\",")
+                .append("\"status\":\"").append(i % 3 == 0 ? "shipped" : "open").append("\",")
+                .append("\"total\":").append(19.99 + i).append(',')
+                .append("\"customer\":{\"id\":").append(5000 + i)
+                .append(",\"name\":\"Customer ").append(i).append("\",\"email\":\"customer")
+                .append(i).append("@example.com\",\"address\":{\"city\":\"Berlin\",\"zip\":\"10115\"}},")
+                .append("\"lines\":[{\"sku\":\"SKU-1\",\"qty\":2,\"price\":4.5},{\"sku\":\"SKU-2\",\"qty\":1,\"price\":10.99}]}");
+        }
+        json.append("]}");
+        return json.toString();
+    }
+
+    /**
+     * Builds a typical n8n workflow response: a status envelope around the
+     * processed records.
+     *
+     * @param records number of records in the response
+     * @return the JSON
+     */
+    public static String n8nResponse(int records) {
+        return "{\"success\":true,\"executionId\":\"48213\",\"workflow\":{\"id\":\"Xk2p9Q\",\"name\":\"Sync orders\"},"
+            + "\"result\":{\"status\":\"completed\",\"count\":" + records + ",\"data\":"
+            + ordersJson(records) + "}}";
+    }
+
+    /**
+     * Converts nested Java maps to the shaded immutable Scala maps that the
+     * FEEL engine hands to Camunda Platform delegates.
+     *
+     * @param value a map, or a leaf value
+     * @return the Scala map, or the leaf value unchanged
+     */
+    static Object toScala(Object value) {
+        if (!(value instanceof Map)) {
+            return value;
+        }
+        Map<Object, Object> converted = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+            converted.put(entry.getKey(), toScala(entry.getValue()));
+        }
+        try {
+            Class<?> javaConverters = Class.forName("camundajar.impl.scala.collection.JavaConverters$");
+            Object converters = javaConverters.getField("MODULE$").get(null);
+            Object wrapped = javaConverters.getMethod("mapAsScalaMap", Map.class).invoke(converters, converted);
+
+            Class<?> mapFactory = Class.forName("camundajar.impl.scala.collection.immutable.Map$");
+            Method from = mapFactory.getMethod("from", Class.forName("camundajar.impl.scala.collection.IterableOnce"));
+            return from.invoke(mapFactory.getField("MODULE$").get(null), wrapped);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Shaded Scala from the FEEL engine is not on the classpath", e);
+        }
+    }
+
+    private static Map<String, Object> order(int i) {
+        Map<String, Object> address = new LinkedHashMap<>();
+        address.put("city", "Berlin");
+        address.put("zip", "10115");
+
+        Map<String, Object> customer = new LinkedHashMap<>();
+        customer.put("id", 5000 + i);
+        customer.put("name", "Customer " + i);
+        customer.put("email", "customer" + i + "@example.com");
+        customer.put("address", address);
+
+        List<Object> lines = new ArrayList<>();
+        lines.add(line("SKU-1", 2, 4.5));
+        lines.add(line("SKU-2", 1, 10.99));
+
+        Map<String, Object> order = new LinkedHashMap<>();
+        order.put("id", "ORD-" + (100000 + i));
+        order.put("status", i % 3 == 0 ? "shipped" : "open");
+        order.put("total", 19.99 + i);
+        order.put("customer", customer);
+        order.put("lines", lines);
+        return order;
+    }
+
+    private static Map<String, Object> line(String sku, int qty, double price) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("sku", sku);
+        line.put("qty", qty);
+        line.put("price", price);
+        return line;
+    }
+}
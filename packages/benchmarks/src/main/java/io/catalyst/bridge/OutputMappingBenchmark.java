@@ -0,0 +1,63 @@
+package io.catalyst.bridge;
+
+import org.camunda.bpm.engine.impl.pvm.runtime.ExecutionImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Output mapping of an n8n response into process variables: parsing the
+ * mapping and the response, then extracting each JSON path.
+ *
+ * <p>Variables are written to an in-memory PVM execution, so no database
+ * work is included.</p>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class OutputMappingBenchmark {
+
+    private static final String MAPPING = "{"
+        + "\"workflowSuccess\": \"$.success\","
+        + "\"executionId\": \"$.executionId\","
+        + "\"resultStatus\": \"$.result.status\","
+        + "\"orderCount\": \"$.result.count\","
+        + "\"firstOrderId\": \"$.result.data.orders[0].id\","
+        + "\"firstCustomerCity\": \"$.result.data.orders[0].customer.address.city\","
+        + "\"firstOrderLines\": \"$.result.data.orders[0].lines\","
+        + "\"workflow\": \"$.workflow\""
+        + "}";
+
+    @Param({"1", "10", "100", "1000"})
+    public int records;
+
+    private CatalystBridge bridge;
+    private ExecutionImpl execution;
+    private String response;
+
+    @Setup
+    public void setUp() {
+        bridge = new CatalystBridge();
+        execution = new ExecutionImpl();
+        response = BenchmarkData.n8nResponse(records);
+    }
+
+    @Benchmark
+    public ExecutionImpl applyOutputMapping() {
+        bridge.applyOutputMapping(execution, response, MAPPING);
+        return execution;
+    }
+}
@@ -0,0 +1,67 @@
+package io.catalyst.bridge;
+
+import io.catalyst.bridge.payload.JsonPayloads;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Payload preparation as done on every execution: JSON strings are parsed,
+ * Java maps passed through and FEEL's Scala maps converted, then the result
+ * is serialized to the request body.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PayloadBenchmark {
+
+    @Param({"string", "map", "scala"})
+    public String kind;
+
+    @Param({"1", "10", "100", "1000"})
+    public int records;
+
+    private CatalystBridge bridge;
+    private Object payload;
+
+    @Setup
+    public void setUp() {
+        bridge = new CatalystBridge();
+        switch (kind) {
+            case "string":
+                payload = BenchmarkData.ordersJson(records);
+                break;
+            case "map":
+                payload = BenchmarkData.orders(records);
+                break;
+            case "scala":
+                payload = BenchmarkData.toScala(BenchmarkData.ordersByKey(records));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown payload kind: " + kind);
+        }
+    }
+
+    @Benchmark
+    public Object prepareJsonPayload() throws Exception {
+        return bridge.prepareJsonPayload(payload);
+    }
+
+    @Benchmark
+    public byte[] prepareAndSerialize() throws Exception {
+        return JsonPayloads.toBytes(bridge.prepareJsonPayload(payload));
+    }
+}
@@ -0,0 +1,49 @@
+package io.catalyst.bridge;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Webhook URL allowlist check with allowlists of growing size. The URL
+ * matches the last prefix, the worst case for a linear scan.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WebhookUrlValidationBenchmark {
+
+    @Param({"3", "50", "500", "5000"})
+    public int prefixes;
+
+    private String[] allowlist;
+    private String url;
+
+    @Setup
+    public void setUp() {
+        allowlist = new String[prefixes];
+        for (int i = 0; i < prefixes; i++) {
+            allowlist[i] = "http://tenant-" + i + ".n8n.internal:5678/webhook/";
+        }
+        url = allowlist[prefixes - 1] + "7d1c6a52-orders/sync";
+    }
+
+    @Benchmark
+    public String validateWebhookUrl() {
+        CatalystBridge.validateWebhookUrl(url, allowlist);
+        return url;
+    }
+}
@@ -0,0 +1,92 @@
+package io.catalyst.bridge.enforcement;
+
+import io.catalyst.bridge.config.CatalystPaths;
+import io.catalyst.bridge.config.EnforcementConfig;
+import io.catalyst.bridge.licensing.LicenseLoader;
+import io.catalyst.bridge.licensing.LicenseValidator;
+import io.catalyst.bridge.licensing.LicenseValidatorBenchmark;
+import io.catalyst.bridge.logging.EnforcementLogger;
+import io.catalyst.bridge.usage.FileUsageStore;
+import io.catalyst.bridge.usage.RunRateCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * The license and usage check that runs before every webhook call, with the
+ * real {@link FileUsageStore} persisting the counter to a temporary
+ * directory. All threads share one engine, as all job executor threads
+ * share the bridge's engine.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnforcementBenchmark {
+
+    private Path directory;
+    private EnforcementEngine engine;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("catalyst-bench");
+        CatalystPaths paths = new CatalystPaths(directory);
+        Files.write(paths.getLicenseFilePath(), LicenseValidatorBenchmark
+            .licenseKey("enterprise", Integer.MAX_VALUE, "2099-12-31").getBytes());
+
+        EnforcementConfig config = EnforcementConfig.defaults();
+        engine = EnforcementEngine.create(
+            new LicenseLoader(paths, new LicenseValidator()),
+            new FileUsageStore(paths.getUsageFilePath()),
+            new RunRateCalculator(config),
+            new PreGraceEvaluator(config),
+            new LimpModeEvaluator(config),
+            new EnforcementLogger(),
+            new DelayEnforcer(),
+            Clock.systemDefaultZone());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public EnforcementStatus enforce1Thread() throws CatalystDisabledException {
+        return engine.enforce();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public EnforcementStatus enforce4Threads() throws CatalystDisabledException {
+        return engine.enforce();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public EnforcementStatus enforceMaxThreads() throws CatalystDisabledException {
+        return engine.enforce();
+    }
+}
@@ -0,0 +1,116 @@
+package io.catalyst.bridge.http;
+
+import io.catalyst.bridge.BenchmarkData;
+import io.catalyst.bridge.payload.PayloadTemplate;
+import io.catalyst.bridge.payload.VariableProjection;
+import org.camunda.bpm.engine.impl.pvm.runtime.ExecutionImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The paths that use the bridge's buffer pool: rendering a payload template,
+ * writing a variable projection and reading a text response through
+ * {@link ResponseReader}. With {@code buffers=unpooled} the same work is done
+ * with plain {@link ByteArrayOutputStream}s and scratch arrays, as before
+ * pooling, so {@code -prof gc} shows the allocation the pool saves.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BufferPoolBenchmark {
+
+    private static final String TEMPLATE = "{\"processInstanceId\": {{processInstanceId}}, "
+        + "\"source\": \"camunda\", \"orders\": {{orders}}}";
+
+    @Param({"pooled", "unpooled"})
+    public String buffers;
+
+    @Param({"1", "10", "100", "1000"})
+    public int records;
+
+    private boolean pooled;
+    private PayloadTemplate template;
+    private Map<String, Object> variables;
+    private VariableProjection projection;
+    private ExecutionImpl execution;
+    private WebhookRequest request;
+    private byte[] response;
+
+    @Setup
+    public void setUp() {
+        switch (buffers) {
+            case "pooled":
+                pooled = true;
+                break;
+            case "unpooled":
+                pooled = false;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown buffer mode: " + buffers);
+        }
+        template = PayloadTemplate.compile(TEMPLATE);
+        variables = BenchmarkData.orders(records);
+        projection = VariableProjection.parse(Arrays.asList("processInstanceId", "source", "orders"));
+        execution = new ExecutionImpl();
+        variables.forEach(execution::setVariable);
+        request = WebhookRequest.builder().url("http://localhost:5678/webhook/orders").build();
+        response = BenchmarkData.n8nResponse(records).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] renderTemplate() throws IOException {
+        if (pooled) {
+            return template.renderToBytes(variables::get);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        template.render(variables::get, out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] projectVariables() throws IOException {
+        if (pooled) {
+            return projection.toBytes(execution);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        projection.write(execution, out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public Object readResponse() throws IOException {
+        InputStream body = new ByteArrayInputStream(response);
+        if (pooled) {
+            return ResponseReader.read(request, 200, response.length, "application/json",
+                StandardCharsets.UTF_8, null, null, body);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int n;
+        while ((n = body.read(buffer)) >= 0) {
+            out.write(buffer, 0, n);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
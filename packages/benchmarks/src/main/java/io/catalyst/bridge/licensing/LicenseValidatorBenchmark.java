@@ -0,0 +1,57 @@
+package io.catalyst.bridge.licensing;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * License key parsing and validation, run whenever the license is loaded.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LicenseValidatorBenchmark {
+
+    private LicenseValidator validator;
+    private String licenseKey;
+
+    @Setup
+    public void setUp() {
+        validator = new LicenseValidator();
+        licenseKey = licenseKey("professional", 50000, "2099-12-31");
+    }
+
+    @Benchmark
+    public License validate() throws InvalidLicenseException {
+        return validator.validate(licenseKey);
+    }
+
+    /**
+     * Builds a license key in the {@code CAT{version}.{payload}.{signature}} format.
+     *
+     * @param tier the license tier
+     * @param annualLimit executions per year
+     * @param expiryDate ISO expiry date
+     * @return the key
+     */
+    public static String licenseKey(String tier, int annualLimit, String expiryDate) {
+        String json = String.format(
+            "{\"tier\":\"%s\",\"annualLimit\":%d,\"customer\":\"Benchmark GmbH\",\"startDate\":\"2024-01-01\","
+                + "\"expiryDate\":\"%s\"}", tier, annualLimit, expiryDate);
+        return "CAT1." + Base64.getEncoder().encodeToString(json.getBytes(StandardCharsets.UTF_8)) + ".SIGNATURE";
+    }
+}
@@ -0,0 +1,61 @@
+package io.catalyst.bridge.load;
+
+import io.catalyst.bridge.metrics.LatencyHistogram;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.delegate.ExecutionListener;
+import org.camunda.bpm.engine.impl.bpmn.parser.AbstractBpmnParseListener;
+import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.camunda.bpm.engine.impl.util.xml.Element;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the end-to-end latency of every process instance the load test
+ * starts, from its scheduled start to the end of the process.
+ *
+ * <p>Registered as a BPMN parse listener, it adds itself as end listener to
+ * every deployed process, so the models need no changes. Latency is counted
+ * from the time the instance was due to start, not when a starter thread
+ * got to it, so a backlog of starts shows up in the percentiles.</p>
+ */
+final class CompletionRecorder extends AbstractBpmnParseListener implements ExecutionListener {
+
+    /** Variable holding the {@link System#nanoTime()} at which the instance was due. */
+    static final String SCHEDULED_NANOS_VAR = "loadTestScheduledNanos";
+
+    private static final String SUCCESS_VAR = "n8nSuccess";
+
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder n8nErrors = new LongAdder();
+
+    @Override
+    public void parseProcess(Element processElement, ProcessDefinitionEntity processDefinition) {
+        processDefinition.addListener(ExecutionListener.EVENTNAME_END, this);
+    }
+
+    @Override
+    public void notify(DelegateExecution execution) {
+        Object scheduled = execution.getVariable(SCHEDULED_NANOS_VAR);
+        if (!(scheduled instanceof Long) || execution.isCanceled()) {
+            return;
+        }
+        latencies.record(System.nanoTime() - (Long) scheduled);
+        completed.increment();
+        if (Boolean.FALSE.equals(execution.getVariable(SUCCESS_VAR))) {
+            n8nErrors.increment();
+        }
+    }
+
+    LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    long getCompleted() {
+        return completed.sum();
+    }
+
+    long getN8nErrors() {
+        return n8nErrors.sum();
+    }
+}
@@ -0,0 +1,106 @@
+package io.catalyst.bridge.load;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A random distribution of non-negative values, used for stub latencies
+ * (milliseconds) and response sizes (bytes).
+ *
+ * <p>Specifications:</p>
+ * <ul>
+ *   <li>{@code fixed:20} - always 20</li>
+ *   <li>{@code uniform:10-50} - uniform between 10 and 50</li>
+ *   <li>{@code exp:30} - exponential with mean 30</li>
+ *   <li>{@code lognormal:20,200} - log-normal with median 20 and 99th percentile 200</li>
+ * </ul>
+ */
+final class Distribution {
+
+    /** Standard normal quantile of the 99th percentile. */
+    private static final double Z_99 = 2.3263;
+
+    private final String spec;
+    private final Kind kind;
+    private final double a;
+    private final double b;
+
+    private enum Kind { FIXED, UNIFORM, EXPONENTIAL, LOGNORMAL }
+
+    private Distribution(String spec, Kind kind, double a, double b) {
+        this.spec = spec;
+        this.kind = kind;
+        this.a = a;
+        this.b = b;
+    }
+
+    /**
+     * Parses a distribution specification.
+     *
+     * @param spec the specification, e.g. {@code lognormal:20,200}
+     * @return the distribution
+     * @throws IllegalArgumentException if the specification is invalid
+     */
+    static Distribution parse(String spec) {
+        String trimmed = spec.trim().toLowerCase(Locale.ROOT);
+        int colon = trimmed.indexOf(':');
+        String name = colon < 0 ? "fixed" : trimmed.substring(0, colon);
+        String args = colon < 0 ? trimmed : trimmed.substring(colon + 1);
+        try {
+            switch (name) {
+                case "fixed":
+                    return new Distribution(spec, Kind.FIXED, Double.parseDouble(args), 0);
+                case "uniform": {
+                    String[] range = args.split("-");
+                    return new Distribution(spec, Kind.UNIFORM, Double.parseDouble(range[0]),
+                        Double.parseDouble(range[1]));
+                }
+                case "exp":
+                    return new Distribution(spec, Kind.EXPONENTIAL, Double.parseDouble(args), 0);
+                case "lognormal": {
+                    String[] values = args.split(",");
+                    double median = Double.parseDouble(values[0]);
+                    double p99 = Double.parseDouble(values[1]);
+                    if (median <= 0 || p99 < median) {
+                        throw new IllegalArgumentException("Log-normal needs 0 < median <= p99: " + spec);
+                    }
+                    return new Distribution(spec, Kind.LOGNORMAL, Math.log(median), Math.log(p99 / median) / Z_99);
+                }
+                default:
+                    throw new IllegalArgumentException("Unknown distribution: " + spec);
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid distribution: " + spec, e);
+        }
+    }
+
+    /**
+     * Draws a value.
+     *
+     * @return a non-negative sample
+     */
+    double sample() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double value;
+        switch (kind) {
+            case UNIFORM:
+                value = a + random.nextDouble() * (b - a);
+                break;
+            case EXPONENTIAL:
+                value = -a * Math.log(1 - random.nextDouble());
+                break;
+            case LOGNORMAL:
+                value = Math.exp(a + b * random.nextGaussian());
+                break;
+            default:
+                value = a;
+                break;
+        }
+        return Math.max(0, value);
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
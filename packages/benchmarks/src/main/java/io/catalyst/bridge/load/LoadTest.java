@@ -0,0 +1,543 @@
+package io.catalyst.bridge.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.catalyst.bridge.CatalystBridge;
+import io.catalyst.bridge.config.CatalystPaths;
+import io.catalyst.bridge.licensing.LicenseValidatorBenchmark;
+import io.catalyst.bridge.metrics.LatencyHistogram;
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParseListener;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.jobexecutor.DefaultJobExecutor;
+import org.camunda.bpm.engine.impl.persistence.StrongUuidGenerator;
+import org.camunda.bpm.engine.runtime.Incident;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.camunda.bpm.model.bpmn.instance.Process;
+import org.camunda.bpm.model.bpmn.instance.ServiceTask;
+import org.camunda.bpm.model.bpmn.instance.camunda.CamundaInputOutput;
+import org.camunda.bpm.model.bpmn.instance.camunda.CamundaInputParameter;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * End-to-end load test: an in-memory Camunda engine on H2 runs connector
+ * BPMNs against an embedded stub n8n at a fixed rate of new process
+ * instances.
+ *
+ * <p>The webhook URLs in the deployed models are pointed at the stub, which
+ * answers with configurable latency, error rate and response size. The
+ * instance rate is open-loop: instances are started on schedule whether or
+ * not earlier ones have finished, and their latency is measured from the
+ * scheduled start to the process end. While the test runs, the job
+ * executor's busy threads and queue, the executable job backlog and heap
+ * usage are sampled once per second.</p>
+ *
+ * <p>Run {@code java -cp target/benchmarks.jar io.catalyst.bridge.load.LoadTest --help}
+ * for the options.</p>
+ */
+public final class LoadTest {
+
+    private static final String DEFAULT_BPMN = "../../connectors/integrations/developer-tools/ping-test/ping-test.bpmn";
+    private static final Pattern URL_ORIGIN = Pattern.compile("^https?://[^/]+(/.*)?$");
+    private static final int MAX_FAILURE_MESSAGES = 5;
+
+    private final Options options;
+    private final CompletionRecorder recorder = new CompletionRecorder();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder startFailures = new LongAdder();
+    private final Map<String, LongAdder> failureMessages = new ConcurrentHashMap<>();
+    private final Samples samples = new Samples();
+
+    private LoadTest(Options options) {
+        this.options = options;
+    }
+
+    /**
+     * Runs the load test and prints the report.
+     *
+     * @param args options as {@code --name=value}
+     * @throws Exception if the engine or stub cannot be started
+     */
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        if (options.has("help")) {
+            System.out.println(Options.USAGE);
+            return;
+        }
+        new LoadTest(options).run();
+        // Camunda and the bridge keep non-daemon threads
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        int rate = options.getInt("rate", 20);
+        int durationSeconds = options.getInt("duration", 60);
+        int drainSeconds = options.getInt("drain", 30);
+        boolean async = options.getBoolean("async", false);
+        int jobThreads = options.getInt("job-threads", 10);
+        int starterThreads = options.getInt("starters", 32);
+
+        Path license = options.getBoolean("unlicensed", false) ? null : installLicense();
+        try (StubN8nServer stub = new StubN8nServer(
+                options.getInt("port", 5678),
+                Distribution.parse(options.get("latency", "lognormal:20,100")),
+                Distribution.parse(options.get("response-bytes", "512")),
+                options.getDouble("error-rate", 0.0))) {
+
+            ProcessEngine engine = buildEngine(jobThreads, starterThreads);
+            try {
+                List<String> processKeys = deploy(engine, stub.getBaseUrl(), async);
+                System.out.printf("Deployed %s; stub n8n at %s; %d instances/s for %d s%s%n",
+                    processKeys, stub.getBaseUrl(), rate, durationSeconds, async ? " (async)" : "");
+
+                ThreadPoolExecutor starters = new ThreadPoolExecutor(starterThreads, starterThreads,
+                    60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), StubN8nServer.daemon("load-starter"));
+                ThreadPoolExecutor jobPool = jobPool(engine);
+                ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(
+                    StubN8nServer.daemon("load-sampler"));
+                sampler.scheduleAtFixedRate(() -> samples.take(engine, jobPool, starters), 1, 1, TimeUnit.SECONDS);
+
+                long begin = System.nanoTime();
+                drive(engine, processKeys, starters, rate, durationSeconds, begin);
+                long driveEnd = System.nanoTime();
+                long expected = started.sum();
+                long drainDeadline = driveEnd + TimeUnit.SECONDS.toNanos(drainSeconds);
+                while (System.nanoTime() < drainDeadline
+                        && recorder.getCompleted() + startFailures.sum() + incidents(engine) < expected) {
+                    Thread.sleep(100);
+                }
+                long end = System.nanoTime();
+                sampler.shutdownNow();
+
+                Map<String, Object> report = report(engine, stub, rate, durationSeconds, async, jobThreads,
+                    (end - begin) / 1e9);
+                starters.shutdownNow();
+                print(report);
+                String out = options.get("out", null);
+                if (out != null) {
+                    new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(new File(out), report);
+                    System.out.println("Results written to " + out);
+                }
+            } finally {
+                engine.close();
+            }
+        } finally {
+            if (license != null) {
+                Files.deleteIfExists(license);
+            }
+        }
+    }
+
+    /**
+     * Writes a benchmark license next to the bridge jar if there is none, so
+     * the run measures the bridge rather than the unlicensed delay.
+     *
+     * @return the license file written, to remove after the run; null if one already existed
+     */
+    private static Path installLicense() throws IOException {
+        CatalystPaths paths = new CatalystPaths();
+        Path license = paths.getLicenseFilePath();
+        if (Files.exists(license)) {
+            return null;
+        }
+        Files.write(license, List.of("# Written by the load test, removed when it ends",
+            LicenseValidatorBenchmark.licenseKey("enterprise", Integer.MAX_VALUE, "2099-12-31")));
+        // Start over from the usage state of earlier unlicensed runs
+        Files.deleteIfExists(paths.getUsageFilePath());
+        return license;
+    }
+
+    private ProcessEngine buildEngine(int jobThreads, int starterThreads) {
+        ProcessEngineConfigurationImpl config = (ProcessEngineConfigurationImpl)
+            ProcessEngineConfiguration.createStandaloneInMemProcessEngineConfiguration();
+        config.setProcessEngineName("catalyst-load-test");
+        config.setJdbcUrl("jdbc:h2:mem:catalyst-load;DB_CLOSE_DELAY=-1");
+        config.setJdbcMaxActiveConnections(starterThreads + jobThreads + 5);
+        config.setHistory(options.get("history", ProcessEngineConfiguration.HISTORY_FULL));
+        config.setEnforceHistoryTimeToLive(false);
+        // As in production setups; the default database id blocks serialize concurrent starts
+        config.setIdGenerator(new StrongUuidGenerator());
+        config.setCustomPostBPMNParseListeners(new ArrayList<>(Collections.<BpmnParseListener>singletonList(recorder)));
+
+        DefaultJobExecutor jobExecutor = new DefaultJobExecutor();
+        jobExecutor.setCorePoolSize(jobThreads);
+        jobExecutor.setMaxPoolSize(jobThreads);
+        jobExecutor.setQueueSize(options.getInt("job-queue", jobThreads));
+        jobExecutor.setMaxJobsPerAcquisition(options.getInt("jobs-per-acquisition", jobThreads));
+        config.setJobExecutor(jobExecutor);
+        config.setJobExecutorActivate(true);
+        return config.buildProcessEngine();
+    }
+
+    private static ThreadPoolExecutor jobPool(ProcessEngine engine) {
+        Object jobExecutor = ((ProcessEngineConfigurationImpl) engine.getProcessEngineConfiguration()).getJobExecutor();
+        return jobExecutor instanceof DefaultJobExecutor
+            ? ((DefaultJobExecutor) jobExecutor).getThreadPoolExecutor() : null;
+    }
+
+    /**
+     * Deploys the BPMN files with their webhook URLs pointed at the stub and
+     * returns the keys of their executable processes.
+     */
+    private List<String> deploy(ProcessEngine engine, String stubBaseUrl, boolean async) throws Exception {
+        List<String> keys = new ArrayList<>();
+        for (String file : options.get("bpmn", DEFAULT_BPMN).split(",")) {
+            Path path = Paths.get(file.trim());
+            if (!Files.isRegularFile(path)) {
+                throw new IllegalArgumentException("BPMN file not found: " + path.toAbsolutePath()
+                    + " (run from packages/benchmarks or pass --bpmn)");
+            }
+            BpmnModelInstance model = Bpmn.readModelFromFile(path.toFile());
+            for (ServiceTask task : model.getModelElementsByType(ServiceTask.class)) {
+                String delegate = task.getCamundaDelegateExpression();
+                if (delegate != null && delegate.contains("catalystConnector")) {
+                    // No Spring context here, so use the class directly
+                    task.setCamundaDelegateExpression(null);
+                    task.setCamundaClass(CatalystBridge.class.getName());
+                }
+                if (async) {
+                    task.setCamundaAsyncBefore(true);
+                }
+                if (task.getExtensionElements() == null) {
+                    continue;
+                }
+                for (CamundaInputOutput io : task.getExtensionElements().getChildElementsByType(CamundaInputOutput.class)) {
+                    for (CamundaInputParameter parameter : io.getCamundaInputParameters()) {
+                        if ("webhookUrl".equals(parameter.getCamundaName())) {
+                            Matcher matcher = URL_ORIGIN.matcher(parameter.getTextContent().trim());
+                            if (matcher.matches()) {
+                                parameter.setTextContent(stubBaseUrl + (matcher.group(1) == null ? "/" : matcher.group(1)));
+                            }
+                        }
+                    }
+                }
+            }
+            engine.getRepositoryService().createDeployment()
+                .addModelInstance(path.getFileName().toString(), model)
+                .deploy();
+            for (Process process : model.getModelElementsByType(Process.class)) {
+                if (process.isExecutable()) {
+                    keys.add(process.getId());
+                }
+            }
+        }
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("No executable process in " + options.get("bpmn", DEFAULT_BPMN));
+        }
+        return keys;
+    }
+
+    /**
+     * Starts instances at the target rate, round-robin over the process keys.
+     */
+    private void drive(ProcessEngine engine, List<String> processKeys, ThreadPoolExecutor starters,
+                       int rate, int durationSeconds, long begin) throws InterruptedException {
+        Map<String, Object> variables = options.getVariables();
+        long total = (long) rate * durationSeconds;
+        double intervalNanos = 1e9 / rate;
+        AtomicLong next = new AtomicLong();
+        while (next.get() < total) {
+            long now = System.nanoTime();
+            // Start every instance that is due, so a slow tick does not lower the rate
+            while (next.get() < total && begin + (long) (next.get() * intervalNanos) <= now) {
+                long index = next.getAndIncrement();
+                long scheduled = begin + (long) (index * intervalNanos);
+                String key = processKeys.get((int) (index % processKeys.size()));
+                started.increment();
+                starters.execute(() -> start(engine, key, variables, scheduled));
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private void start(ProcessEngine engine, String key, Map<String, Object> variables, long scheduled) {
+        Map<String, Object> instanceVariables = new HashMap<>(variables);
+        instanceVariables.put(CompletionRecorder.SCHEDULED_NANOS_VAR, scheduled);
+        try {
+            engine.getRuntimeService().startProcessInstanceByKey(key, instanceVariables);
+        } catch (RuntimeException e) {
+            startFailures.increment();
+            failureMessages.computeIfAbsent(String.valueOf(e.getMessage()), m -> new LongAdder()).increment();
+        }
+    }
+
+    private static long incidents(ProcessEngine engine) {
+        return engine.getRuntimeService().createIncidentQuery().count();
+    }
+
+    private Map<String, Object> report(ProcessEngine engine, StubN8nServer stub, int rate, int durationSeconds,
+                                       boolean async, int jobThreads, double elapsedSeconds) {
+        for (Incident incident : engine.getRuntimeService().createIncidentQuery().list()) {
+            failureMessages.computeIfAbsent(String.valueOf(incident.getIncidentMessage()), m -> new LongAdder())
+                .increment();
+        }
+        long completed = recorder.getCompleted();
+        long incidents = incidents(engine);
+        LatencyHistogram latencies = recorder.getLatencies();
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("rate", rate);
+        config.put("durationSeconds", durationSeconds);
+        config.put("async", async);
+        config.put("jobThreads", jobThreads);
+        config.put("history", options.get("history", ProcessEngineConfiguration.HISTORY_FULL));
+        config.put("latency", options.get("latency", "lognormal:20,100"));
+        config.put("responseBytes", options.get("response-bytes", "512"));
+        config.put("errorRate", options.getDouble("error-rate", 0.0));
+
+        Map<String, Object> instances = new LinkedHashMap<>();
+        instances.put("started", started.sum());
+        instances.put("completed", completed);
+        instances.put("n8nErrors", recorder.getN8nErrors());
+        instances.put("failed", startFailures.sum() + incidents);
+        instances.put("incomplete", Math.max(0, started.sum() - completed - startFailures.sum() - incidents));
+        instances.put("throughputPerSecond", round(completed / elapsedSeconds));
+
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("p50Millis", millis(latencies.valueAtPercentile(50)));
+        latency.put("p90Millis", millis(latencies.valueAtPercentile(90)));
+        latency.put("p99Millis", millis(latencies.valueAtPercentile(99)));
+        latency.put("p999Millis", millis(latencies.valueAtPercentile(99.9)));
+        latency.put("maxMillis", millis(latencies.getMax()));
+        latency.put("meanMillis", round(latencies.getMean() / 1e6));
+
+        Map<String, Object> n8n = new LinkedHashMap<>();
+        n8n.put("requests", stub.getRequests());
+        n8n.put("injectedErrors", stub.getErrors());
+        n8n.put("meanLatencyMillis", round(stub.getMeanLatencyMillis()));
+        n8n.put("bytesIn", stub.getBytesIn());
+        n8n.put("bytesOut", stub.getBytesOut());
+
+        List<Map<String, Object>> failures = new ArrayList<>();
+        failureMessages.entrySet().stream()
+            .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+            .limit(MAX_FAILURE_MESSAGES)
+            .forEach(entry -> {
+                Map<String, Object> failure = new LinkedHashMap<>();
+                failure.put("count", entry.getValue().sum());
+                failure.put("message", entry.getKey());
+                failures.add(failure);
+            });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config);
+        report.put("elapsedSeconds", round(elapsedSeconds));
+        report.put("instances", instances);
+        report.put("latency", latency);
+        report.put("stubN8n", n8n);
+        report.put("saturation", samples.toMap(jobThreads));
+        report.put("failures", failures);
+        return report;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void print(Map<String, Object> report) {
+        Map<String, Object> instances = (Map<String, Object>) report.get("instances");
+        Map<String, Object> latency = (Map<String, Object>) report.get("latency");
+        Map<String, Object> n8n = (Map<String, Object>) report.get("stubN8n");
+        Map<String, Object> saturation = (Map<String, Object>) report.get("saturation");
+        System.out.println();
+        System.out.printf("Instances     started %s, completed %s (n8n errors %s), failed %s, incomplete %s%n",
+            instances.get("started"), instances.get("completed"), instances.get("n8nErrors"),
+            instances.get("failed"), instances.get("incomplete"));
+        System.out.printf("Throughput    %s instances/s over %s s%n",
+            instances.get("throughputPerSecond"), report.get("elapsedSeconds"));
+        System.out.printf("Latency (ms)  p50 %s  p90 %s  p99 %s  p99.9 %s  max %s%n",
+            latency.get("p50Millis"), latency.get("p90Millis"), latency.get("p99Millis"),
+            latency.get("p999Millis"), latency.get("maxMillis"));
+        System.out.printf("Stub n8n      %s requests, %s injected errors, mean latency %s ms%n",
+            n8n.get("requests"), n8n.get("injectedErrors"), n8n.get("meanLatencyMillis"));
+        System.out.printf("Job executor  busy threads avg %s / max %s of %s, queue max %s, executable backlog max %s%n",
+            saturation.get("jobThreadsBusyAvg"), saturation.get("jobThreadsBusyMax"), saturation.get("jobThreads"),
+            saturation.get("jobQueueMax"), saturation.get("executableJobsMax"));
+        System.out.printf("Starters      backlog max %s%n", saturation.get("starterBacklogMax"));
+        System.out.printf("Heap          peak %s MB, end %s MB, %s GCs taking %s ms%n",
+            saturation.get("heapPeakMb"), saturation.get("heapEndMb"), saturation.get("gcCount"),
+            saturation.get("gcTimeMillis"));
+        for (Object failure : (List<Object>) report.get("failures")) {
+            Map<String, Object> f = (Map<String, Object>) failure;
+            System.out.printf("Failure       %sx %s%n", f.get("count"), f.get("message"));
+        }
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    /**
+     * Once-per-second samples of executor saturation and heap usage.
+     */
+    private static final class Samples {
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final long gcCountAtStart = gcCount();
+        private final long gcTimeAtStart = gcTime();
+        private long count;
+        private long busySum;
+        private int busyMax;
+        private int queueMax;
+        private long executableMax;
+        private int starterBacklogMax;
+        private long heapPeak;
+        private long heapLast;
+
+        synchronized void take(ProcessEngine engine, ThreadPoolExecutor jobPool, ThreadPoolExecutor starters) {
+            try {
+                if (jobPool != null) {
+                    int busy = jobPool.getActiveCount();
+                    busySum += busy;
+                    busyMax = Math.max(busyMax, busy);
+                    queueMax = Math.max(queueMax, jobPool.getQueue().size());
+                }
+                executableMax = Math.max(executableMax,
+                    engine.getManagementService().createJobQuery().executable().count());
+                starterBacklogMax = Math.max(starterBacklogMax, starters.getQueue().size());
+                heapLast = memory.getHeapMemoryUsage().getUsed();
+                heapPeak = Math.max(heapPeak, heapLast);
+                count++;
+            } catch (RuntimeException e) {
+                // The engine is shutting down
+            }
+        }
+
+        synchronized Map<String, Object> toMap(int jobThreads) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("jobThreads", jobThreads);
+            map.put("jobThreadsBusyAvg", count == 0 ? 0 : round((double) busySum / count));
+            map.put("jobThreadsBusyMax", busyMax);
+            map.put("jobQueueMax", queueMax);
+            map.put("executableJobsMax", executableMax);
+            map.put("starterBacklogMax", starterBacklogMax);
+            map.put("heapPeakMb", heapPeak / (1024 * 1024));
+            map.put("heapEndMb", heapLast / (1024 * 1024));
+            map.put("gcCount", gcCount() - gcCountAtStart);
+            map.put("gcTimeMillis", gcTime() - gcTimeAtStart);
+            return map;
+        }
+
+        private static long gcCount() {
+            long total = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                total += Math.max(0, gc.getCollectionCount());
+            }
+            return total;
+        }
+
+        private static long gcTime() {
+            long total = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                total += Math.max(0, gc.getCollectionTime());
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Command line options of the form {@code --name=value}.
+     */
+    private static final class Options {
+        static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: java -cp target/benchmarks.jar io.catalyst.bridge.load.LoadTest [options]",
+            "",
+            "  --bpmn=FILES               Comma-separated BPMN files (default: the ping-test example)",
+            "  --var=NAME=VALUE           Start variable, repeatable (default: camundaMessage=load test)",
+            "  --rate=N                   Process instances started per second (default 20)",
+            "  --duration=SECONDS         How long to start instances (default 60)",
+            "  --drain=SECONDS            How long to wait for running instances afterwards (default 30)",
+            "  --async=true               Make the connector service tasks asyncBefore jobs",
+            "  --job-threads=N            Job executor threads (default 10)",
+            "  --job-queue=N              Job executor queue size (default: job threads)",
+            "  --jobs-per-acquisition=N   Jobs acquired per acquisition cycle (default: job threads)",
+            "  --starters=N               Threads starting instances (default 32)",
+            "  --history=LEVEL            none, activity, audit or full (default full)",
+            "  --port=N                   Stub n8n port (default 5678, allowed by the default allowlist)",
+            "  --latency=DIST             Stub latency in ms (default lognormal:20,100)",
+            "  --response-bytes=DIST      Stub response size (default 512)",
+            "  --error-rate=FRACTION      Share of HTTP 500 responses (default 0)",
+            "  --unlicensed=true          Keep the bridge unlicensed, with its enforcement delay",
+            "  --out=FILE                 Also write the results as JSON",
+            "",
+            "DIST is fixed:V, uniform:MIN-MAX, exp:MEAN or lognormal:MEDIAN,P99.");
+
+        private final Map<String, String> values = new HashMap<>();
+        private final Map<String, Object> variables = new LinkedHashMap<>();
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (String arg : args) {
+                if (!arg.startsWith("--")) {
+                    throw new IllegalArgumentException("Unknown argument: " + arg + System.lineSeparator() + USAGE);
+                }
+                int eq = arg.indexOf('=');
+                String name = eq < 0 ? arg.substring(2) : arg.substring(2, eq);
+                String value = eq < 0 ? "true" : arg.substring(eq + 1);
+                if ("var".equals(name)) {
+                    int split = value.indexOf('=');
+                    if (split <= 0) {
+                        throw new IllegalArgumentException("Expected --var=NAME=VALUE: " + arg);
+                    }
+                    options.variables.put(value.substring(0, split), value.substring(split + 1));
+                } else {
+                    options.values.put(name, value);
+                }
+            }
+            if (options.variables.isEmpty()) {
+                options.variables.put("camundaMessage", "load test");
+            }
+            return options;
+        }
+
+        boolean has(String name) {
+            return values.containsKey(name);
+        }
+
+        String get(String name, String defaultValue) {
+            return values.getOrDefault(name, defaultValue);
+        }
+
+        int getInt(String name, int defaultValue) {
+            return values.containsKey(name) ? Integer.parseInt(values.get(name)) : defaultValue;
+        }
+
+        double getDouble(String name, double defaultValue) {
+            return values.containsKey(name) ? Double.parseDouble(values.get(name)) : defaultValue;
+        }
+
+        boolean getBoolean(String name, boolean defaultValue) {
+            return values.containsKey(name) ? Boolean.parseBoolean(values.get(name)) : defaultValue;
+        }
+
+        Map<String, Object> getVariables() {
+            return variables;
+        }
+    }
+}
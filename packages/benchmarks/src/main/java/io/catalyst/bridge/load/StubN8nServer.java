@@ -0,0 +1,167 @@
+package io.catalyst.bridge.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Embedded stand-in for n8n that answers every webhook path with a
+ * configurable latency, error rate and response size.
+ *
+ * <p>Responses are delayed on a scheduler rather than by sleeping request
+ * threads, so thousands of slow calls can be in flight at once. Successful
+ * responses have the shape of the ping-test workflow's response, padded to
+ * the drawn size; injected errors are HTTP 500.</p>
+ */
+final class StubN8nServer implements AutoCloseable {
+
+    private static final byte[] OK_PREFIX = ("{\"success\":true,\"statusCode\":200,"
+        + "\"responseBody\":{\"n8nMessage\":\"pong from stub n8n\"},\"padding\":\"").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] OK_SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ERROR_BODY = "{\"success\":false,\"error\":\"Injected stub failure\"}"
+        .getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final ExecutorService handlers;
+    private final ScheduledExecutorService responder;
+    private final Distribution latencyMillis;
+    private final Distribution responseBytes;
+    private final double errorRate;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder latencyNanos = new LongAdder();
+
+    /**
+     * Starts the server on the loopback interface.
+     *
+     * @param port the port; the bridge's default allowlist accepts 5678
+     * @param latencyMillis response latency in milliseconds
+     * @param responseBytes successful response size in bytes
+     * @param errorRate fraction of requests answered with HTTP 500
+     * @throws IOException if the port cannot be bound
+     */
+    StubN8nServer(int port, Distribution latencyMillis, Distribution responseBytes, double errorRate)
+            throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.responseBytes = responseBytes;
+        this.errorRate = errorRate;
+        this.handlers = Executors.newFixedThreadPool(4, daemon("stub-n8n-handler"));
+        this.responder = Executors.newScheduledThreadPool(4, daemon("stub-n8n-responder"));
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        server.createContext("/", this::handle);
+        server.setExecutor(handlers);
+        server.start();
+    }
+
+    /**
+     * Returns the base URL, without a trailing slash.
+     *
+     * @return e.g. {@code http://localhost:5678}
+     */
+    String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    long getRequests() {
+        return requests.sum();
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+    long getBytesIn() {
+        return bytesIn.sum();
+    }
+
+    long getBytesOut() {
+        return bytesOut.sum();
+    }
+
+    /**
+     * Returns the mean injected latency.
+     *
+     * @return milliseconds
+     */
+    double getMeanLatencyMillis() {
+        long count = requests.sum();
+        return count == 0 ? 0 : latencyNanos.sum() / 1e6 / count;
+    }
+
+    private void handle(HttpExchange exchange) {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = in.read(buffer)) >= 0) {
+                bytesIn.add(n);
+            }
+        } catch (IOException e) {
+            exchange.close();
+            return;
+        }
+        requests.increment();
+        long delay = (long) (latencyMillis.sample() * 1_000_000);
+        latencyNanos.add(delay);
+        boolean error = errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+        responder.schedule(() -> respond(exchange, error), delay, TimeUnit.NANOSECONDS);
+    }
+
+    private void respond(HttpExchange exchange, boolean error) {
+        byte[] body;
+        int status;
+        if (error) {
+            errors.increment();
+            body = ERROR_BODY;
+            status = 500;
+        } else {
+            int padding = Math.max(0, (int) responseBytes.sample() - OK_PREFIX.length - OK_SUFFIX.length);
+            body = new byte[OK_PREFIX.length + padding + OK_SUFFIX.length];
+            System.arraycopy(OK_PREFIX, 0, body, 0, OK_PREFIX.length);
+            Arrays.fill(body, OK_PREFIX.length, OK_PREFIX.length + padding, (byte) 'x');
+            System.arraycopy(OK_SUFFIX, 0, body, OK_PREFIX.length + padding, OK_SUFFIX.length);
+            status = 200;
+        }
+        try (OutputStream out = exchange.getResponseBody()) {
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(status, body.length);
+            out.write(body);
+            bytesOut.add(body.length);
+        } catch (IOException e) {
+            // The client gave up, e.g. after its timeout
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        responder.shutdownNow();
+        handlers.shutdownNow();
+    }
+
+    static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
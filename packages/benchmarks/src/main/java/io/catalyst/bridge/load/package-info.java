@@ -0,0 +1,11 @@
+/**
+ * End-to-end load test of the bridge inside an embedded Camunda engine.
+ *
+ * <ul>
+ *   <li>{@link io.catalyst.bridge.load.LoadTest} - Drives process instances at a fixed rate and reports</li>
+ *   <li>{@link io.catalyst.bridge.load.StubN8nServer} - Stand-in n8n with configurable latency and errors</li>
+ *   <li>{@link io.catalyst.bridge.load.CompletionRecorder} - Records instance latency at process end</li>
+ *   <li>{@link io.catalyst.bridge.load.Distribution} - Latency and size distributions</li>
+ * </ul>
+ */
+package io.catalyst.bridge.load;
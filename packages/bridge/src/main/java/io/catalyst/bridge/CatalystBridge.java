@@ -1,27 +1,73 @@
 package io.catalyst.bridge;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.catalyst.bridge.config.CompressionConfig;
+import io.catalyst.bridge.config.EndpointPoolConfig;
+import io.catalyst.bridge.config.HedgingConfig;
+import io.catalyst.bridge.config.IdempotencyConfig;
+import io.catalyst.bridge.config.MetricsConfig;
+import io.catalyst.bridge.config.SpoolConfig;
+import io.catalyst.bridge.config.TransportConfig;
 import io.catalyst.bridge.enforcement.CatalystDisabledException;
+import io.catalyst.bridge.endpoint.EndpointRegistry;
+import io.catalyst.bridge.endpoint.HttpHealthProbe;
+import io.catalyst.bridge.endpoint.PoolingWebhookClient;
 import io.catalyst.bridge.enforcement.EnforcementEngine;
-import org.apache.hc.client5.http.classic.methods.HttpPost;
-import org.apache.hc.client5.http.config.RequestConfig;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
-import org.apache.hc.client5.http.impl.classic.HttpClients;
-import org.apache.hc.core5.http.ContentType;
-import org.apache.hc.core5.http.io.entity.EntityUtils;
-import org.apache.hc.core5.http.io.entity.StringEntity;
-import org.apache.hc.core5.util.Timeout;
+import io.catalyst.bridge.enforcement.EnforcementMonitor;
+import io.catalyst.bridge.enforcement.LimpMode;
+import io.catalyst.bridge.http.BinaryBody;
+import io.catalyst.bridge.http.InputStreamBody;
+import io.catalyst.bridge.http.MultipartBody;
+import io.catalyst.bridge.http.ResponseMode;
+import io.catalyst.bridge.http.WebhookCaller;
+import io.catalyst.bridge.http.WebhookClient;
+import io.catalyst.bridge.http.WebhookRequest;
+import io.catalyst.bridge.http.WebhookResponse;
+import io.catalyst.bridge.idempotency.IdempotencyKeys;
+import io.catalyst.bridge.idempotency.ResponseDedupStore;
+import io.catalyst.bridge.jfr.CatalystOutputMapping;
+import io.catalyst.bridge.logging.FailureLogThrottler;
+import io.catalyst.bridge.mapping.ItemStreamProcessor;
+import io.catalyst.bridge.mapping.ItemStreamResult;
+import io.catalyst.bridge.mapping.JsonPathExtractor;
+import io.catalyst.bridge.metrics.ExecutionCosts;
+import io.catalyst.bridge.metrics.ExecutionTimings;
+import io.catalyst.bridge.metrics.SlowExecutionLog;
+import io.catalyst.bridge.metrics.WebhookMetrics;
+import io.catalyst.bridge.pagination.CursorPaginator;
+import io.catalyst.bridge.payload.JsonPayloads;
+import io.catalyst.bridge.payload.PayloadTemplate;
+import io.catalyst.bridge.payload.VariableProjection;
+import io.catalyst.bridge.pagination.PaginationResult;
+import io.catalyst.bridge.spool.CamundaSpoolCorrelator;
+import io.catalyst.bridge.spool.SpoolEntry;
+import io.catalyst.bridge.spool.SpoolReplayer;
+import io.catalyst.bridge.spool.WebhookSpool;
+import io.catalyst.bridge.stats.BridgeStats;
+import io.catalyst.bridge.tracing.Span;
+import io.catalyst.bridge.tracing.SpanKind;
+import io.catalyst.bridge.tracing.TraceContext;
+import io.catalyst.bridge.tracing.Tracer;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
 import org.camunda.bpm.engine.delegate.JavaDelegate;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.value.FileValue;
+import org.camunda.bpm.engine.variable.value.builder.FileValueBuilder;
+import org.camunda.bpm.engine.variable.value.TypedValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Camunda 7 JavaDelegate for making HTTP POST requests to N8N webhook URLs.
@@ -31,16 +77,42 @@ import java.util.concurrent.TimeUnit;
  * - Delegate Expression: ${catalystConnector} (recommended for Spring Boot/Camunda Run)
  * <p>
  * Input Parameters:
- * - webhookUrl (required): The N8N webhook endpoint URL
+ * - webhookUrl (required): The N8N webhook endpoint URL, or pool://<pool>/<path> for a logical endpoint
  * - payload (optional): JSON payload to send as String or Map
+ * - payloadTemplate (optional): JSON template with {{variable}} placeholders rendered with JSON escaping
+ * - payloadVariables (optional): Variables sent as a JSON object, each as name or name:field
  * - timeout (optional): Request timeout in seconds (default 30)
  * - headers (optional): Additional HTTP headers as Map<String, String>
  * - outputMapping (optional): JSON string mapping response fields to process variables
+ * - spool (optional): Set to false to opt out of the durable spool (default true when enabled)
+ * - spoolCorrelationMessage (optional): Message correlated to the instance after spooled delivery
+ * - idempotent (optional): Set to true if the webhook may safely run twice; enables hedging on pools
+ * - fileVariables (optional): File or byte-array variables streamed as multipart parts next to the payload
+ * - rawBodyVariable (optional): File or byte-array variable streamed as the whole request body
+ * - responseType (optional): text, binary or auto (default auto: non-JSON/text responses become a file)
+ * - maxResponseBytes (optional): Abort if the response body is larger (default 100 MB)
+ * - itemsVariable (optional): Read an NDJSON or JSON array response item by item into this variable
+ * - itemMapping (optional): JSON string mapping item fields to JSON paths, applied to each item
+ * - itemsSpillThresholdBytes (optional): Items larger than this are stored as a JSON file (default 1 MB)
+ * - paginationCursorPath (optional): JSON path of the next-page cursor; fetches all pages into itemsVariable
+ * - paginationItemsPath (optional): JSON path of the item array in each page (default $.items)
+ * - paginationCursorField (optional): Payload field that carries the cursor to the next page (default cursor)
+ * - paginationMaxPages (optional): Maximum number of pages to fetch (default 100)
+ * - paginationMaxItems (optional): Maximum number of items to collect (default 10000)
+ * - idempotencyKey (optional): Key sent with instance and activity as Idempotency-Key; retries reuse the response
+ * - timingsVariable (optional): Local variable receiving the execution's phase timings in microseconds
+ * - traceparent (optional): W3C trace parent that the execution's span continues (variable name configurable)
  * <p>
  * Output Variables:
  * - n8nResponse: The response body as String
  * - n8nStatusCode: HTTP status code (Integer)
  * - n8nSuccess: Boolean indicating if request was successful (2xx status)
+ * - n8nSpooled: true if n8n was unavailable and the request was spooled for later delivery
+ * - n8nResponseFile: The response body as FileValue for binary responses (n8nResponse is then empty)
+ * - n8nItemCount: Number of items read when itemsVariable is set (n8nResponse is then empty)
+ * - n8nPageCount: Number of pages fetched when paginating
+ * - n8nPaginationTruncated: true if a pagination limit stopped the fetch before the last page
+ * - n8nDeduplicated: true if a retried call with an idempotencyKey was answered from the local store
  * - Additional variables defined in outputMapping
  */
 @Component("catalystConnector")
@@ -49,21 +121,72 @@ public class CatalystBridge implements JavaDelegate {
     private static final Logger LOGGER = LoggerFactory.getLogger(CatalystBridge.class);
     private static final String WEBHOOK_URL_PARAM = "webhookUrl";
     private static final String PAYLOAD_PARAM = "payload";
+    private static final String PAYLOAD_TEMPLATE_PARAM = "payloadTemplate";
+    private static final String PAYLOAD_VARIABLES_PARAM = "payloadVariables";
     private static final String TIMEOUT_PARAM = "timeout";
     private static final String HEADERS_PARAM = "headers";
     private static final String OUTPUT_MAPPING_PARAM = "outputMapping";
+    private static final String SPOOL_PARAM = "spool";
+    private static final String SPOOL_CORRELATION_MESSAGE_PARAM = "spoolCorrelationMessage";
+    private static final String IDEMPOTENT_PARAM = "idempotent";
+    private static final String FILE_VARIABLES_PARAM = "fileVariables";
+    private static final String RAW_BODY_VARIABLE_PARAM = "rawBodyVariable";
+    private static final String RESPONSE_TYPE_PARAM = "responseType";
+    private static final String MAX_RESPONSE_BYTES_PARAM = "maxResponseBytes";
+    private static final String ITEMS_VARIABLE_PARAM = "itemsVariable";
+    private static final String ITEM_MAPPING_PARAM = "itemMapping";
+    private static final String ITEMS_SPILL_THRESHOLD_PARAM = "itemsSpillThresholdBytes";
+    private static final String PAGINATION_CURSOR_PATH_PARAM = "paginationCursorPath";
+    private static final String PAGINATION_ITEMS_PATH_PARAM = "paginationItemsPath";
+    private static final String PAGINATION_CURSOR_FIELD_PARAM = "paginationCursorField";
+    private static final String PAGINATION_MAX_PAGES_PARAM = "paginationMaxPages";
+    private static final String PAGINATION_MAX_ITEMS_PARAM = "paginationMaxItems";
+    private static final String IDEMPOTENCY_KEY_PARAM = "idempotencyKey";
+    private static final String TIMINGS_VARIABLE_PARAM = "timingsVariable";
+
+    private static final String MDC_TRACE_ID = "traceId";
+    private static final String MDC_SPAN_ID = "spanId";
+
+    private static final String PAYLOAD_PART_NAME = "payload";
 
     private static final String RESPONSE_VAR = "n8nResponse";
     private static final String STATUS_CODE_VAR = "n8nStatusCode";
     private static final String SUCCESS_VAR = "n8nSuccess";
+    private static final String SPOOLED_VAR = "n8nSpooled";
+    private static final String RESPONSE_FILE_VAR = "n8nResponseFile";
+    private static final String ITEM_COUNT_VAR = "n8nItemCount";
+    private static final String PAGE_COUNT_VAR = "n8nPageCount";
+    private static final String PAGINATION_TRUNCATED_VAR = "n8nPaginationTruncated";
+    private static final String DEDUPLICATED_VAR = "n8nDeduplicated";
+    private static final String LOOP_COUNTER_VAR = "loopCounter";
+    private static final String DEFAULT_RESPONSE_FILENAME = "n8n-response";
+    private static final String ITEMS_FILENAME = "items.json";
 
     private static final int DEFAULT_TIMEOUT_SECONDS = 30;
+    private static final long DEFAULT_MAX_RESPONSE_BYTES = 100L * 1024 * 1024;
+    private static final long DEFAULT_ITEMS_SPILL_THRESHOLD_BYTES = 1024L * 1024;
+    private static final int DEFAULT_PAGINATION_MAX_PAGES = 100;
+    private static final int DEFAULT_PAGINATION_MAX_ITEMS = 10_000;
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     // License enforcement engine (lazy-initialized singleton)
     private static volatile EnforcementEngine enforcementEngine;
     private static final Object ENGINE_LOCK = new Object();
 
+    // Durable outbound spool (lazy-initialized singleton, null when disabled)
+    private static volatile SpoolReplayer spoolReplayer;
+    private static volatile boolean spoolInitialized;
+    private static final Object SPOOL_LOCK = new Object();
+
+    // HTTP client resolving logical endpoint pools (lazy-initialized singleton)
+    private static volatile WebhookCaller webhookClient;
+    private static final Object CLIENT_LOCK = new Object();
+
+    // Local store of recent responses by idempotency key, null if disabled
+    private static volatile ResponseDedupStore dedupStore;
+    private static volatile boolean dedupInitialized;
+    private static final Object DEDUP_LOCK = new Object();
+
     // Security: Webhook URL allowlist configuration
     private static final String WEBHOOK_ALLOWLIST_ENV = "CATALYST_WEBHOOK_ALLOWLIST";
     private static final String DEFAULT_WEBHOOK_ALLOWLIST =
@@ -96,8 +219,20 @@ public class CatalystBridge implements JavaDelegate {
      * @param webhookUrl The webhook URL to validate
      * @throws SecurityException if the URL doesn't match any allowed prefix
      */
-    private void validateWebhookUrl(String webhookUrl) {
-        for (String prefix : ALLOWED_WEBHOOK_PREFIXES) {
+    static void validateWebhookUrl(String webhookUrl) {
+        validateWebhookUrl(webhookUrl, ALLOWED_WEBHOOK_PREFIXES);
+    }
+
+    /**
+     * Validates a webhook URL against the given allowed prefixes.
+     * Package-private so that the benchmarks can use allowlists of any size.
+     *
+     * @param webhookUrl The webhook URL to validate
+     * @param allowedPrefixes The allowed URL prefixes
+     * @throws SecurityException if the URL doesn't match any allowed prefix
+     */
+    static void validateWebhookUrl(String webhookUrl, String[] allowedPrefixes) {
+        for (String prefix : allowedPrefixes) {
             if (webhookUrl.startsWith(prefix)) {
                 LOGGER.debug("Webhook URL validated against prefix: {}", prefix);
                 return;
@@ -105,7 +240,7 @@ public class CatalystBridge implements JavaDelegate {
         }
 
         // URL didn't match any allowed prefix - provide helpful error message
-        String allowedPrefixList = String.join(", ", ALLOWED_WEBHOOK_PREFIXES);
+        String allowedPrefixList = String.join(", ", allowedPrefixes);
         String errorMessage = String.format(
             "Webhook URL validation failed: URL does not match any allowed prefix.%n" +
             "  Attempted URL: %s%n" +
@@ -118,68 +253,248 @@ public class CatalystBridge implements JavaDelegate {
         throw new SecurityException(errorMessage);
     }
 
-    /**
-     * Result holder for webhook HTTP response.
-     */
-    private static class WebhookResult {
-        final String response;
-        final int statusCode;
-        final boolean success;
+    @Override
+    public void execute(DelegateExecution execution) throws Exception {
+        ExecutionCosts costs = ExecutionCosts.shared();
+        long allocatedBefore = costs.threadAllocatedBytes();
+        long cpuBefore = costs.threadCpuNanos();
+        Span span = startSpan(execution);
+        Object timingsVariable = null;
+        ExecutionTimings timings = null;
+        boolean success = false;
+        try {
+            // Print banner at start of execution, at DEBUG while failures are being summarized
+            printExecutionBanner(execution, FailureLogThrottler.shared().isBannerQuiet());
+
+            timingsVariable = execution.getVariable(TIMINGS_VARIABLE_PARAM);
+            if (SlowExecutionLog.shared().isEnabled() || timingsVariable != null) {
+                timings = ExecutionTimings.start(execution.getCurrentActivityId(), execution.getProcessInstanceId());
+            }
 
-        WebhookResult(String response, int statusCode, boolean success) {
-            this.response = response;
-            this.statusCode = statusCode;
-            this.success = success;
+            // License enforcement check - must be first
+            // Applies delays in limp mode, throws CatalystDisabledException if blocked
+            try {
+                BridgeStats.shared().recordEnforcement(getEnforcementEngine().enforce());
+            } catch (CatalystDisabledException e) {
+                BridgeStats.shared().recordLimpMode(LimpMode.DISABLED);
+                throw e;
+            }
+            lap(timings, ExecutionTimings.Phase.ENFORCEMENT);
+
+            callWebhook(execution, timings, span);
+            success = true;
+        } catch (Exception e) {
+            if (span != null) {
+                span.setError(e.toString());
+            }
+            throw e;
+        } finally {
+            finishTimings(execution, timings, timingsVariable, success);
+            if (span != null) {
+                span.end();
+                MDC.remove(MDC_TRACE_ID);
+                MDC.remove(MDC_SPAN_ID);
+            }
+            if (costs.isEnabled()) {
+                Object webhookUrl = execution.getVariable(WEBHOOK_URL_PARAM);
+                if (webhookUrl != null) {
+                    costs.recordSince(webhookUrl.toString(), allocatedBefore, cpuBefore);
+                }
+            }
         }
     }
 
-    @Override
-    public void execute(DelegateExecution execution) throws Exception {
-        // Print banner at start of execution
-        printExecutionBanner(execution);
+    /**
+     * Starts the execution's span, continuing the trace in the process
+     * variables if there is one, and puts its ids in the MDC.
+     *
+     * @return the span, or null if tracing is disabled
+     */
+    private Span startSpan(DelegateExecution execution) {
+        Tracer tracer = Tracer.shared();
+        if (!tracer.isEnabled()) {
+            return null;
+        }
+        Object traceparent = execution.getVariable(tracer.getParentVariable());
+        Object tracestate = traceparent != null ? execution.getVariable(TraceContext.TRACESTATE) : null;
+        TraceContext parent = traceparent != null
+            ? TraceContext.parse(traceparent.toString(), tracestate != null ? tracestate.toString() : null)
+            : null;
+        Span span = tracer.startSpan("catalyst " + execution.getCurrentActivityId(), SpanKind.INTERNAL, parent)
+            .setAttribute("camunda.activity_id", execution.getCurrentActivityId())
+            .setAttribute("camunda.process_instance_id", execution.getProcessInstanceId())
+            .setAttribute("camunda.process_definition_id", execution.getProcessDefinitionId());
+        MDC.put(MDC_TRACE_ID, span.getContext().getTraceId());
+        MDC.put(MDC_SPAN_ID, span.getContext().getSpanId());
+        return span;
+    }
 
-        // License enforcement check - must be first
-        // Applies delays in limp mode, throws CatalystDisabledException if blocked
-        getEnforcementEngine().enforce();
+    /**
+     * Finishes the execution's timings, keeps them if the execution was slow
+     * and stores them in the requested local variable.
+     */
+    private void finishTimings(DelegateExecution execution, ExecutionTimings timings, Object timingsVariable,
+                               boolean success) {
+        if (timings == null) {
+            return;
+        }
+        timings.finish(success);
+        if (SlowExecutionLog.shared().record(timings)) {
+            LOGGER.debug("Slow execution: {}", timings);
+        }
+        if (timingsVariable != null && !timingsVariable.toString().trim().isEmpty()) {
+            execution.setVariableLocal(timingsVariable.toString().trim(), timings.toMap());
+        }
+    }
 
+    /**
+     * Builds the request, calls the webhook and stores the response, lapping
+     * the execution's phases as it goes.
+     *
+     * @param execution the execution
+     * @param timings the execution's timings, or null if it is not timed
+     * @param span the execution's span, or null if it is not traced
+     */
+    private void callWebhook(DelegateExecution execution, ExecutionTimings timings, Span span) throws Exception {
         try {
             // Get and validate webhook URL
             String webhookUrl = getRequiredParameter(execution, WEBHOOK_URL_PARAM);
-            validateWebhookUrl(webhookUrl);
+            if (!EndpointRegistry.isPoolUrl(webhookUrl)) {
+                // Pool URLs are validated per resolved member URL
+                validateWebhookUrl(webhookUrl);
+            }
             LOGGER.debug("Webhook URL: {}", webhookUrl);
+            if (timings != null) {
+                timings.setRoute(WebhookMetrics.routeOf(webhookUrl));
+            }
 
-            // Get payload (REQUIRED - no auto-build!)
-            Object payloadObj = execution.getVariable(PAYLOAD_PARAM);
+            // Get payload (REQUIRED - no auto-build!), unless it is rendered from a template,
+            // projected from variables, or a file is sent as the whole body
+            Object payloadObj = getPayloadParameter(execution);
+            Object payloadTemplate = execution.getVariable(PAYLOAD_TEMPLATE_PARAM);
+            List<String> payloadVariables = getVariableNamesParameter(execution, PAYLOAD_VARIABLES_PARAM);
+            Object rawBodyVariable = execution.getVariable(RAW_BODY_VARIABLE_PARAM);
 
-            if (payloadObj == null) {
-                throw new IllegalArgumentException(
-                    "Payload is required. Template must define a 'payload' input parameter.");
+            if (payloadObj == null && payloadTemplate == null && payloadVariables.isEmpty() && rawBodyVariable == null) {
+                throw new IllegalArgumentException("Payload is required. Template must define a 'payload', "
+                    + "'payloadTemplate' or 'payloadVariables' input parameter.");
             }
 
             // Get optional parameters
             Integer timeout = getTimeoutParameter(execution);
             Map<String, String> headers = getHeadersParameter(execution);
 
-            // Make HTTP request
-            WebhookResult result = makeHttpRequest(webhookUrl, payloadObj, timeout, headers);
-
-            // Store response in process variables
-            execution.setVariable(RESPONSE_VAR, result.response);
-            execution.setVariable(STATUS_CODE_VAR, result.statusCode);
-            execution.setVariable(SUCCESS_VAR, result.success);
+            // Make HTTP request, spooling it if n8n is unavailable
+            WebhookRequest request = buildRequest(webhookUrl, payloadObj, timeout, headers,
+                Boolean.TRUE.equals(getBooleanParameter(execution, IDEMPOTENT_PARAM)))
+                .toBuilder()
+                .responseMode(getResponseModeParameter(execution))
+                .maxResponseBytes(getLongParameter(execution, MAX_RESPONSE_BYTES_PARAM, DEFAULT_MAX_RESPONSE_BYTES))
+                .responseHandler(getItemStreamProcessor(execution))
+                .timings(timings)
+                .parentSpan(span)
+                .build();
+            if (payloadTemplate != null) {
+                request = withTemplateBody(execution, request, payloadTemplate.toString());
+            } else if (!payloadVariables.isEmpty()) {
+                request = withVariablesBody(execution, request, payloadVariables);
+            }
+            if (rawBodyVariable != null) {
+                request = withRawBody(execution, request, rawBodyVariable.toString().trim());
+            } else {
+                request = withFileParts(execution, request);
+            }
+            lap(timings, ExecutionTimings.Phase.SERIALIZATION);
+            CursorPaginator paginator = getCursorPaginator(execution);
+            if (paginator != null) {
+                storePages(execution, paginator.fetch(request));
+                lap(timings, ExecutionTimings.Phase.VARIABLE_WRITES);
+                LOGGER.info("Successfully executed paginated Catalyst Connector webhook call for process instance: {}",
+                    execution.getProcessInstanceId());
+                return;
+            }
+            String idempotencyKey = getIdempotencyKey(execution);
+            ResponseDedupStore dedup = idempotencyKey != null ? getDedupStore() : null;
+            if (idempotencyKey != null
+                    && request.getHeaders().keySet().stream().noneMatch(IdempotencyKeys.HEADER::equalsIgnoreCase)) {
+                request = request.toBuilder().header(IdempotencyKeys.HEADER, idempotencyKey).build();
+            }
+            WebhookResponse result = dedup != null ? dedup.get(idempotencyKey, webhookUrl) : null;
+            boolean deduplicated = result != null;
+            if (deduplicated) {
+                LOGGER.info("Webhook call for process instance {} already succeeded, reusing response for key {}",
+                    execution.getProcessInstanceId(), idempotencyKey);
+            } else {
+                try {
+                    result = getWebhookClient().execute(request);
+                } catch (IOException e) {
+                    // Only spooled if the request provably did not reach n8n, which may
+                    // already have run it after e.g. a read timeout
+                    if (WebhookClient.isConnectFailure(e) && spoolRequest(execution, request, e.toString())) {
+                        return;
+                    }
+                    throw e;
+                }
+            }
+            try {
+                if (result.isUnavailable() && spoolRequest(execution, request, "HTTP " + result.getStatusCode())) {
+                    return;
+                }
 
-            // Apply output mapping if configured
-            String outputMapping = (String) execution.getVariable(OUTPUT_MAPPING_PARAM);
-            if (outputMapping != null && !outputMapping.trim().isEmpty()) {
-                applyOutputMapping(execution, result.response, outputMapping);
+                // Store response in process variables
+                if (result.isBinary()) {
+                    execution.setVariable(RESPONSE_FILE_VAR, toFileValue(result.getBinaryBody()));
+                }
+                if (result.getHandledBody() instanceof ItemStreamResult) {
+                    storeItems(execution, (ItemStreamResult) result.getHandledBody());
+                }
+                execution.setVariable(RESPONSE_VAR, result.getBody());
+                execution.setVariable(STATUS_CODE_VAR, result.getStatusCode());
+                execution.setVariable(SUCCESS_VAR, result.isSuccess());
+                if (!result.isSuccess()
+                        && FailureLogThrottler.shared().recordFailure(webhookUrl, "HTTP " + result.getStatusCode())) {
+                    LOGGER.warn("N8N webhook returned non-success status code {} for process instance: {}",
+                        result.getStatusCode(), execution.getProcessInstanceId());
+                }
+                lap(timings, ExecutionTimings.Phase.VARIABLE_WRITES);
+
+                // Apply output mapping if configured
+                String outputMapping = (String) execution.getVariable(OUTPUT_MAPPING_PARAM);
+                if (outputMapping != null && !outputMapping.trim().isEmpty()) {
+                    if (result.isBinary()) {
+                        LOGGER.warn("Output mapping skipped: the response is binary ({})",
+                            result.getBinaryBody().getContentType());
+                    } else if (result.getHandledBody() != null) {
+                        LOGGER.warn("Output mapping skipped: the response was read item by item; use '{}'",
+                            ITEM_MAPPING_PARAM);
+                    } else {
+                        applyOutputMapping(execution, result.getBody(), outputMapping);
+                    }
+                }
+                lap(timings, ExecutionTimings.Phase.MAPPING);
+                if (idempotencyKey != null) {
+                    execution.setVariable(DEDUPLICATED_VAR, deduplicated);
+                }
+                if (dedup != null && !deduplicated) {
+                    dedup.put(idempotencyKey, webhookUrl, result);
+                }
+                lap(timings, ExecutionTimings.Phase.VARIABLE_WRITES);
+            } finally {
+                result.discard();
             }
 
             LOGGER.info("Successfully executed Catalyst Connector webhook call for process instance: {}",
                 execution.getProcessInstanceId());
 
         } catch (Exception e) {
-            LOGGER.error("Error executing Catalyst Connector webhook call for process instance: {}",
-                execution.getProcessInstanceId(), e);
+            Object webhookUrl = execution.getVariable(WEBHOOK_URL_PARAM);
+            if (FailureLogThrottler.shared().recordFailure(webhookUrl != null ? webhookUrl.toString() : null, e)) {
+                LOGGER.error("Error executing Catalyst Connector webhook call for process instance: {}",
+                    execution.getProcessInstanceId(), e);
+            } else {
+                LOGGER.debug("Error executing Catalyst Connector webhook call for process instance {}: {}",
+                    execution.getProcessInstanceId(), e.toString());
+            }
 
             // Set error state in variables
             execution.setVariable(SUCCESS_VAR, false);
@@ -190,10 +505,21 @@ public class CatalystBridge implements JavaDelegate {
         }
     }
 
+    private static void lap(ExecutionTimings timings, ExecutionTimings.Phase phase) {
+        if (timings != null) {
+            timings.lap(phase);
+        }
+    }
+
     /**
      * Prints a banner at the start of each execution for easy log separation
+     *
+     * @param quiet log the banner at DEBUG instead of INFO
      */
-    private void printExecutionBanner(DelegateExecution execution) {
+    private void printExecutionBanner(DelegateExecution execution, boolean quiet) {
+        if (quiet ? !LOGGER.isDebugEnabled() : !LOGGER.isInfoEnabled()) {
+            return;
+        }
         String processInstanceId = execution.getProcessInstanceId();
         String webhookUrl = (String) execution.getVariable(WEBHOOK_URL_PARAM);
         String timeout = execution.getVariable(TIMEOUT_PARAM) != null
@@ -214,7 +540,11 @@ public class CatalystBridge implements JavaDelegate {
             "| Timeout: " + formatBannerLine(timeout, 63) + "|\n" +
             "+--------------------------------------------------------------------------+";
 
-        LOGGER.info(banner);
+        if (quiet) {
+            LOGGER.debug(banner);
+        } else {
+            LOGGER.info(banner);
+        }
     }
 
     /**
@@ -225,61 +555,283 @@ public class CatalystBridge implements JavaDelegate {
     }
 
     /**
-     * Makes the HTTP POST request to the webhook URL.
+     * Builds the HTTP POST request for the webhook URL.
      */
-    private WebhookResult makeHttpRequest(String webhookUrl, Object payload, int timeoutSeconds,
-                                          Map<String, String> headers) throws Exception {
+    private WebhookRequest buildRequest(String webhookUrl, Object payload, int timeoutSeconds,
+                                        Map<String, String> headers, boolean idempotent) throws Exception {
+        WebhookRequest.Builder builder = WebhookRequest.builder()
+            .url(webhookUrl)
+            .timeoutSeconds(timeoutSeconds)
+            .headers(headers)
+            .idempotent(idempotent);
+
+        // Set payload if provided; stored JSON is sent as is
+        if (payload instanceof TypedValue) {
+            builder.body(JsonPayloads.serializedJson((TypedValue) payload).getBytes(StandardCharsets.UTF_8));
+        } else if (payload != null) {
+            Object jsonObject = prepareJsonPayload(payload);
+            builder.body(JsonPayloads.toBytes(jsonObject));
+        }
+
+        return builder.build();
+    }
 
-        RequestConfig requestConfig = RequestConfig.custom()
-            .setConnectTimeout(Timeout.of(timeoutSeconds, TimeUnit.SECONDS))
-            .setResponseTimeout(Timeout.of(timeoutSeconds, TimeUnit.SECONDS))
+    /**
+     * Replaces the body with the payload template rendered against the
+     * process variables. The template is compiled once per distinct text.
+     */
+    private WebhookRequest withTemplateBody(DelegateExecution execution, WebhookRequest request, String template)
+            throws IOException {
+        if (request.getBody() != null) {
+            LOGGER.warn("Both '{}' and '{}' are set; the payload is not sent", PAYLOAD_PARAM, PAYLOAD_TEMPLATE_PARAM);
+        }
+        byte[] body = PayloadTemplate.of(template).renderToBytes(name -> {
+            if (!execution.hasVariable(name)) {
+                throw new IllegalArgumentException("Payload template variable '" + name + "' is not defined");
+            }
+            return convertScalaToJava(execution.getVariable(name));
+        });
+        return request.toBuilder()
+            .body(body)
             .build();
+    }
 
-        try (CloseableHttpClient httpClient = HttpClients.custom()
-                .setDefaultRequestConfig(requestConfig)
-                .build()) {
+    /**
+     * Replaces the body with the listed process variables written as a JSON
+     * object; JSON variables are embedded without being parsed.
+     */
+    private WebhookRequest withVariablesBody(DelegateExecution execution, WebhookRequest request,
+                                             List<String> entries) throws IOException {
+        if (request.getBody() != null) {
+            LOGGER.warn("Both '{}' and '{}' are set; the payload is not sent", PAYLOAD_PARAM, PAYLOAD_VARIABLES_PARAM);
+        }
+        return request.toBuilder()
+            .body(VariableProjection.parse(entries).toBytes(execution))
+            .build();
+    }
 
-            HttpPost httpPost = new HttpPost(webhookUrl);
+    /**
+     * Replaces the body with the content of a file or byte-array variable,
+     * streamed from the variable without copying it into the payload.
+     */
+    private WebhookRequest withRawBody(DelegateExecution execution, WebhookRequest request, String variableName) {
+        if (request.getBody() != null) {
+            LOGGER.warn("Both '{}' and '{}' are set; the payload is not sent", PAYLOAD_PARAM, RAW_BODY_VARIABLE_PARAM);
+        }
+        InputStreamBody file = getFileVariable(execution, variableName);
+        WebhookRequest.Builder builder = request.toBuilder()
+            .body((byte[]) null)
+            .streamingBody(file);
+        boolean hasDisposition = request.getHeaders().keySet().stream()
+            .anyMatch("Content-Disposition"::equalsIgnoreCase);
+        if (file.getFilename() != null && !hasDisposition) {
+            builder.header("Content-Disposition", "attachment; filename=\""
+                + file.getFilename().replace("\"", "%22").replace("\r", "").replace("\n", "") + "\"");
+        }
+        return builder.build();
+    }
 
-            // Set payload if provided
-            if (payload != null) {
-                Object jsonObject = prepareJsonPayload(payload);
-                String jsonPayload = OBJECT_MAPPER.writeValueAsString(jsonObject);
-                StringEntity entity = new StringEntity(jsonPayload, ContentType.APPLICATION_JSON);
-                httpPost.setEntity(entity);
-                LOGGER.debug("Request payload: {}", jsonPayload);
-            }
+    /**
+     * Turns the request into a multipart upload if file variables are
+     * configured: the JSON payload becomes the {@code payload} part and each
+     * variable a part named after it.
+     */
+    private WebhookRequest withFileParts(DelegateExecution execution, WebhookRequest request) {
+        List<String> variableNames = getVariableNamesParameter(execution, FILE_VARIABLES_PARAM);
+        if (variableNames.isEmpty()) {
+            return request;
+        }
+        MultipartBody.Builder multipart = MultipartBody.builder();
+        if (request.getBody() != null) {
+            multipart.part(PAYLOAD_PART_NAME, request.getBody(), request.getContentType());
+        }
+        for (String variableName : variableNames) {
+            multipart.part(variableName, getFileVariable(execution, variableName));
+        }
+        return request.toBuilder()
+            .body((byte[]) null)
+            .streamingBody(multipart.build())
+            .build();
+    }
 
-            // Set default headers (can be overridden by custom headers)
-            httpPost.setHeader("Content-Type", "application/json");
-            httpPost.setHeader("Accept", "application/json");
+    /**
+     * Reads a file or byte-array variable as a streaming body. File contents
+     * are opened lazily, once per send.
+     */
+    private InputStreamBody getFileVariable(DelegateExecution execution, String variableName) {
+        TypedValue value = execution.getVariableTyped(variableName);
+        if (value instanceof FileValue) {
+            FileValue file = (FileValue) value;
+            String contentType = file.getMimeType();
+            if (contentType != null && file.getEncoding() != null) {
+                contentType += "; charset=" + file.getEncoding();
+            }
+            return new InputStreamBody(file::getValue, contentType, -1, file.getFilename());
+        }
+        if (value != null && value.getValue() instanceof byte[]) {
+            return InputStreamBody.of((byte[]) value.getValue(), null, variableName);
+        }
+        throw new IllegalArgumentException(
+            "Variable '" + variableName + "' must be a file or byte array variable to be uploaded");
+    }
 
-            // Set custom headers if provided
-            if (headers != null) {
-                headers.forEach(httpPost::setHeader);
+    /**
+     * Converts a binary response into a file variable, taking the MIME type
+     * and charset from the content type and the name from
+     * {@code Content-Disposition}.
+     */
+    private FileValue toFileValue(BinaryBody binary) {
+        FileValueBuilder file = Variables
+            .fileValue(binary.getFilename() != null ? binary.getFilename() : DEFAULT_RESPONSE_FILENAME)
+            .file(binary.getFile().toFile());
+        String contentType = binary.getContentType();
+        if (contentType != null) {
+            String[] params = contentType.split(";");
+            file.mimeType(params[0].trim());
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.toLowerCase(Locale.ROOT).startsWith("charset=")) {
+                    file.encoding(param.substring(8).replace("\"", "").trim());
+                }
             }
+        }
+        LOGGER.debug("Storing {} response bytes as file variable '{}'", binary.getSize(), RESPONSE_FILE_VAR);
+        return file.create();
+    }
 
-            LOGGER.info("Sending POST request to: {}", webhookUrl);
+    /**
+     * Creates the paginator if the template sets a cursor path.
+     *
+     * @return the paginator, or null if paginationCursorPath is not set
+     */
+    private CursorPaginator getCursorPaginator(DelegateExecution execution) throws IOException {
+        Object cursorPath = execution.getVariable(PAGINATION_CURSOR_PATH_PARAM);
+        if (cursorPath == null || cursorPath.toString().trim().isEmpty()) {
+            return null;
+        }
+        Object itemsVariable = execution.getVariable(ITEMS_VARIABLE_PARAM);
+        if (itemsVariable == null || itemsVariable.toString().trim().isEmpty()) {
+            throw new IllegalArgumentException(
+                "Parameter '" + ITEMS_VARIABLE_PARAM + "' is required when '" + PAGINATION_CURSOR_PATH_PARAM + "' is set");
+        }
+        CursorPaginator.Builder builder = CursorPaginator.builder()
+            .client(getWebhookClient())
+            .cursorPath(cursorPath.toString().trim())
+            .itemMapping(getItemMappingParameter(execution))
+            .maxPages((int) getLongParameter(execution, PAGINATION_MAX_PAGES_PARAM, DEFAULT_PAGINATION_MAX_PAGES))
+            .maxItems((int) getLongParameter(execution, PAGINATION_MAX_ITEMS_PARAM, DEFAULT_PAGINATION_MAX_ITEMS));
+        Object itemsPath = execution.getVariable(PAGINATION_ITEMS_PATH_PARAM);
+        if (itemsPath != null && !itemsPath.toString().trim().isEmpty()) {
+            builder.itemsPath(itemsPath.toString().trim());
+        }
+        Object cursorField = execution.getVariable(PAGINATION_CURSOR_FIELD_PARAM);
+        if (cursorField != null && !cursorField.toString().trim().isEmpty()) {
+            builder.cursorField(cursorField.toString().trim());
+        }
+        return builder.build();
+    }
 
-            try (CloseableHttpResponse response = httpClient.execute(httpPost)) {
-                int statusCode = response.getCode();
-                String responseBody = response.getEntity() != null
-                    ? EntityUtils.toString(response.getEntity())
-                    : "";
+    /**
+     * Stores the items aggregated over all pages and the status of the
+     * last page requested.
+     */
+    private void storePages(DelegateExecution execution, PaginationResult pages) {
+        String variableName = execution.getVariable(ITEMS_VARIABLE_PARAM).toString().trim();
+        execution.setVariable(variableName, pages.getItems());
+        execution.setVariable(ITEM_COUNT_VAR, (long) pages.getItems().size());
+        execution.setVariable(PAGE_COUNT_VAR, pages.getPages());
+        execution.setVariable(PAGINATION_TRUNCATED_VAR, pages.isTruncated());
+        execution.setVariable(RESPONSE_VAR, pages.getErrorBody());
+        execution.setVariable(STATUS_CODE_VAR, pages.getStatusCode());
+        execution.setVariable(SUCCESS_VAR, pages.isSuccess());
+        if (pages.isTruncated()) {
+            LOGGER.warn("Pagination stopped at a limit after {} pages and {} items",
+                pages.getPages(), pages.getItems().size());
+        }
+    }
 
-                LOGGER.info("Received response with status code: {}", statusCode);
-                LOGGER.debug("Response body: {}", responseBody);
+    /**
+     * Stores items read from the response: as a list while small, otherwise
+     * as a JSON file variable.
+     */
+    private void storeItems(DelegateExecution execution, ItemStreamResult items) {
+        String variableName = execution.getVariable(ITEMS_VARIABLE_PARAM).toString().trim();
+        if (items.isSpilled()) {
+            LOGGER.debug("Storing {} items ({} bytes) as file variable '{}'",
+                items.getCount(), items.getSize(), variableName);
+            execution.setVariable(variableName, Variables.fileValue(ITEMS_FILENAME)
+                .file(items.getFile().toFile())
+                .mimeType("application/json")
+                .encoding("UTF-8")
+                .create());
+        } else {
+            execution.setVariable(variableName, items.getItems());
+        }
+        execution.setVariable(ITEM_COUNT_VAR, items.getCount());
+    }
 
-                // Determine success based on 2xx status codes
-                boolean success = statusCode >= 200 && statusCode < 300;
+    /**
+     * Spools the request for later delivery if the spool is enabled and the
+     * template has not opted out. The execution completes with n8nSpooled=true;
+     * models that need the response wait on the spoolCorrelationMessage.
+     *
+     * @return true if the request was spooled
+     */
+    private boolean spoolRequest(DelegateExecution execution, WebhookRequest request, String reason) {
+        SpoolReplayer replayer = getSpoolReplayer();
+        if (replayer == null || Boolean.FALSE.equals(getBooleanParameter(execution, SPOOL_PARAM))) {
+            return false;
+        }
+        if (request.getStreamingBody() != null) {
+            LOGGER.warn("File uploads are not spooled; failing webhook call for process instance {}",
+                execution.getProcessInstanceId());
+            return false;
+        }
 
-                if (!success) {
-                    LOGGER.warn("N8N webhook returned non-success status code: {}", statusCode);
-                }
+        Object correlationMessage = execution.getVariable(SPOOL_CORRELATION_MESSAGE_PARAM);
+        SpoolEntry entry = SpoolEntry.builder()
+            .request(request)
+            .processEngineName(execution.getProcessEngine() != null
+                ? execution.getProcessEngine().getName() : null)
+            .processInstanceId(execution.getProcessInstanceId())
+            .correlationMessage(correlationMessage != null ? correlationMessage.toString() : null)
+            .build();
 
-                return new WebhookResult(responseBody, statusCode, success);
-            }
+        try {
+            SpoolEntry stored = replayer.submit(entry);
+            LOGGER.warn("N8N unavailable ({}), spooled webhook call #{} for process instance: {}",
+                reason, stored.getSequence(), execution.getProcessInstanceId());
+        } catch (IOException e) {
+            LOGGER.error("Failed to spool webhook call for process instance {}: {}",
+                execution.getProcessInstanceId(), e.getMessage());
+            return false;
+        }
+
+        execution.setVariable(SPOOLED_VAR, true);
+        execution.setVariable(SUCCESS_VAR, false);
+        execution.setVariable(STATUS_CODE_VAR, 0);
+        execution.setVariable(RESPONSE_VAR, "Spooled for delivery: " + reason);
+        return true;
+    }
+
+    /**
+     * Derives the idempotency key of this service task execution, or returns
+     * null if the template defines no {@code idempotencyKey}.
+     * <p>
+     * The activity instance id is generated anew each time a job is retried,
+     * so the activity is identified by its element id and, inside a
+     * multi-instance activity, its loop counter.
+     */
+    private String getIdempotencyKey(DelegateExecution execution) {
+        Object templateKey = execution.getVariable(IDEMPOTENCY_KEY_PARAM);
+        if (templateKey == null) {
+            return null;
         }
+        Object loopCounter = execution.getVariableLocal(LOOP_COUNTER_VAR);
+        String activity = loopCounter != null
+            ? execution.getCurrentActivityId() + "#" + loopCounter
+            : execution.getCurrentActivityId();
+        return IdempotencyKeys.derive(execution.getProcessInstanceId(), activity, templateKey.toString().trim());
     }
 
     /**
@@ -291,7 +843,11 @@ public class CatalystBridge implements JavaDelegate {
      * @return Object ready for JSON serialization
      * @throws Exception if JSON parsing fails
      */
-    private Object prepareJsonPayload(Object payload) throws Exception {
+    Object prepareJsonPayload(Object payload) throws Exception {
+        if (JsonPayloads.isSpinJson(payload)) {
+            // Written as its own JSON text
+            return payload;
+        }
         if (payload instanceof String) {
             try {
                 return OBJECT_MAPPER.readValue((String) payload, Object.class);
@@ -384,6 +940,21 @@ public class CatalystBridge implements JavaDelegate {
         return obj;
     }
 
+    /**
+     * Gets the payload parameter. A Spin JSON value or an object value
+     * serialized as JSON is returned as the typed value so that its stored
+     * JSON is sent without deserializing it.
+     *
+     * @return the typed JSON value, the payload object, or null if not set
+     */
+    private Object getPayloadParameter(DelegateExecution execution) {
+        TypedValue typed = execution.getVariableTyped(PAYLOAD_PARAM, false);
+        if (JsonPayloads.serializedJson(typed) != null) {
+            return typed;
+        }
+        return execution.getVariable(PAYLOAD_PARAM);
+    }
+
     /**
      * Gets a required parameter from the execution context.
      */
@@ -418,6 +989,112 @@ public class CatalystBridge implements JavaDelegate {
         }
     }
 
+    /**
+     * Gets the response type parameter.
+     *
+     * @return the response mode, AUTO if not set
+     */
+    private ResponseMode getResponseModeParameter(DelegateExecution execution) {
+        Object value = execution.getVariable(RESPONSE_TYPE_PARAM);
+        if (value == null || value.toString().trim().isEmpty()) {
+            return ResponseMode.AUTO;
+        }
+        try {
+            return ResponseMode.parse(value.toString());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                "Parameter '" + RESPONSE_TYPE_PARAM + "' must be text, binary or auto, got: " + value);
+        }
+    }
+
+    /**
+     * Gets an optional numeric parameter or returns the default.
+     */
+    private long getLongParameter(DelegateExecution execution, String paramName, long defaultValue) {
+        Object value = execution.getVariable(paramName);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return value instanceof Number ? ((Number) value).longValue() : Long.parseLong(value.toString().trim());
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid {} value: {}, using default: {}", paramName, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Creates the item stream processor if the template reads the response
+     * item by item.
+     *
+     * @return the processor, or null if itemsVariable is not set
+     */
+    private ItemStreamProcessor getItemStreamProcessor(DelegateExecution execution) throws IOException {
+        Object itemsVariable = execution.getVariable(ITEMS_VARIABLE_PARAM);
+        if (itemsVariable == null || itemsVariable.toString().trim().isEmpty()) {
+            return null;
+        }
+        return new ItemStreamProcessor(getItemMappingParameter(execution),
+            getLongParameter(execution, ITEMS_SPILL_THRESHOLD_PARAM, DEFAULT_ITEMS_SPILL_THRESHOLD_BYTES));
+    }
+
+    /**
+     * Gets the per-item mapping as a Map or JSON string.
+     *
+     * @return the mapping, or null if not set
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, String> getItemMappingParameter(DelegateExecution execution) throws IOException {
+        Object mappingObj = execution.getVariable(ITEM_MAPPING_PARAM);
+        if (mappingObj instanceof Map) {
+            return (Map<String, String>) mappingObj;
+        }
+        if (mappingObj != null && !mappingObj.toString().trim().isEmpty()) {
+            return OBJECT_MAPPER.readValue(mappingObj.toString(), Map.class);
+        }
+        return null;
+    }
+
+    /**
+     * Gets an optional boolean parameter.
+     *
+     * @return the value, or null if not set
+     */
+    private Boolean getBooleanParameter(DelegateExecution execution, String paramName) {
+        Object value = execution.getVariable(paramName);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return Boolean.parseBoolean(value.toString().trim());
+    }
+
+    /**
+     * Gets a list of variable names given as a collection or a comma-separated string.
+     *
+     * @return the names, empty if not set
+     */
+    private List<String> getVariableNamesParameter(DelegateExecution execution, String paramName) {
+        Object value = execution.getVariable(paramName);
+        List<String> names = new ArrayList<>();
+        if (value instanceof Collection) {
+            for (Object name : (Collection<?>) value) {
+                if (name != null && !name.toString().trim().isEmpty()) {
+                    names.add(name.toString().trim());
+                }
+            }
+        } else if (value != null) {
+            for (String name : value.toString().split(",")) {
+                if (!name.trim().isEmpty()) {
+                    names.add(name.trim());
+                }
+            }
+        }
+        return names;
+    }
+
     /**
      * Gets the headers parameter as a Map.
      */
@@ -453,10 +1130,14 @@ public class CatalystBridge implements JavaDelegate {
      * @param mappingJson The output mapping configuration as JSON string
      */
     @SuppressWarnings("unchecked")
-    private void applyOutputMapping(DelegateExecution execution, String jsonResponse, String mappingJson) {
+    void applyOutputMapping(DelegateExecution execution, String jsonResponse, String mappingJson) {
+        CatalystOutputMapping event = new CatalystOutputMapping();
+        event.begin();
+        int failed = 0;
         try {
             // Parse the mapping configuration
             Map<String, String> mappings = OBJECT_MAPPER.readValue(mappingJson, Map.class);
+            event.mappings = mappings.size();
 
             // Parse the response JSON
             com.fasterxml.jackson.databind.JsonNode responseNode = OBJECT_MAPPER.readTree(jsonResponse);
@@ -467,171 +1148,128 @@ public class CatalystBridge implements JavaDelegate {
                 String jsonPath = mapping.getValue();
 
                 try {
-                    Object value = extractValueFromJsonPath(responseNode, jsonPath);
+                    Object value = JsonPathExtractor.extract(responseNode, jsonPath);
                     execution.setVariable(variableName, value);
                     LOGGER.debug("Mapped variable: {} = {}", variableName, value);
                 } catch (Exception e) {
                     LOGGER.warn("Failed to extract value for variable '{}' using path '{}': {}",
                         variableName, jsonPath, e.getMessage());
                     execution.setVariable(variableName, null);
+                    failed++;
                 }
             }
 
         } catch (Exception e) {
             LOGGER.warn("Output mapping failed: {}", e.getMessage());
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.activityId = execution.getCurrentActivityId();
+                event.failedMappings = failed;
+                event.responseLength = jsonResponse != null ? jsonResponse.length() : 0;
+                event.commit();
+            }
         }
     }
 
     /**
-     * Extracts a value from a JSON node using a simple JSON path.
-     * Supports paths like "$.field", "$.parent.child.field", and "$.array[0].field[1]".
+     * Returns the enforcement engine, creating it if necessary, and publishes
+     * its snapshots through JMX and the status endpoint.
+     * Thread-safe lazy initialization using double-checked locking.
      *
-     * @param rootNode The root JSON node
-     * @param jsonPath The JSON path (e.g., "$.field", "$.parent.child", "$.output[0].content[0].text")
-     * @return The extracted value, or null if path doesn't exist
+     * @return the EnforcementEngine singleton
      */
-    private Object extractValueFromJsonPath(com.fasterxml.jackson.databind.JsonNode rootNode, String jsonPath) {
-        // Remove leading "$." if present
-        String path = jsonPath.startsWith("$.") ? jsonPath.substring(2) : jsonPath;
-
-        // Split path into segments
-        String[] segments = path.split("\\.");
-
-        // Navigate through the JSON structure
-        com.fasterxml.jackson.databind.JsonNode currentNode = rootNode;
-        for (String segment : segments) {
-            if (currentNode == null || currentNode.isNull()) {
-                LOGGER.warn("Node is null at segment: '{}' in path: '{}'", segment, jsonPath);
-                return null;
-            }
-
-            // Check if segment contains array index notation like "field[0]"
-            if (segment.contains("[") && segment.contains("]")) {
-                currentNode = processArraySegment(currentNode, segment);
-            } else {
-                currentNode = currentNode.get(segment);
-            }
-
-            if (currentNode == null) {
-                LOGGER.warn("Failed to navigate to segment: '{}' in path: '{}'", segment, jsonPath);
-                return null;
+    private EnforcementEngine getEnforcementEngine() {
+        if (enforcementEngine == null) {
+            synchronized (ENGINE_LOCK) {
+                if (enforcementEngine == null) {
+                    EnforcementEngine engine = EnforcementEngine.create();
+                    if (MetricsConfig.fromEnvironment().isJmxEnabled()) {
+                        new EnforcementMonitor(engine).registerMBean(ManagementFactory.getPlatformMBeanServer());
+                    }
+                    BridgeStats.shared().publish(BridgeStats.ENFORCEMENT_PATH, () -> engine.snapshot().toMap());
+                    enforcementEngine = engine;
+                }
             }
         }
-
-        return convertJsonNodeToValue(currentNode);
+        return enforcementEngine;
     }
 
     /**
-     * Processes a segment containing array index notation like "field[0]" or "arr[1][2]".
+     * Returns the spool replayer, creating it on first use if the spool is enabled.
+     * Thread-safe lazy initialization using double-checked locking.
      *
-     * @param node The current JSON node
-     * @param segment The segment containing field and array indices (e.g., "output[0]" or "data[1][2]")
-     * @return The node after navigating through field and array indices, or null if navigation fails
+     * @return the SpoolReplayer singleton, or null if spooling is disabled
      */
-    private com.fasterxml.jackson.databind.JsonNode processArraySegment(
-            com.fasterxml.jackson.databind.JsonNode node, String segment) {
-
-        // Extract field name (everything before first '[')
-        int firstBracket = segment.indexOf('[');
-        String fieldName = segment.substring(0, firstBracket);
-
-        // Get the field first
-        com.fasterxml.jackson.databind.JsonNode currentNode = node.get(fieldName);
-
-        if (currentNode == null) {
-            LOGGER.warn("Field '{}' not found in segment '{}'", fieldName, segment);
-            return null;
-        }
-
-        // Extract all array indices from the segment (e.g., "[0][1]" -> [0, 1])
-        String indicesString = segment.substring(firstBracket);
-        String[] indexParts = indicesString.split("\\[");
-
-        // Process each array index
-        for (String indexPart : indexParts) {
-            if (indexPart.isEmpty()) {
-                continue;
-            }
-
-            String indexStr = indexPart.replace("]", "").trim();
-
-            try {
-                int index = Integer.parseInt(indexStr);
-
-                if (!currentNode.isArray()) {
-                    LOGGER.warn("Node is not an array in segment '{}', cannot access index {}", segment, index);
-                    return null;
-                }
-
-                if (index < 0 || index >= currentNode.size()) {
-                    LOGGER.warn("Array index {} out of bounds (size: {}) in segment '{}'",
-                        index, currentNode.size(), segment);
-                    return null;
+    private SpoolReplayer getSpoolReplayer() {
+        if (!spoolInitialized) {
+            synchronized (SPOOL_LOCK) {
+                if (!spoolInitialized) {
+                    SpoolConfig config = SpoolConfig.fromEnvironment();
+                    if (config.isEnabled()) {
+                        try {
+                            WebhookSpool spool = new WebhookSpool(config);
+                            spool.registerMBean(ManagementFactory.getPlatformMBeanServer());
+                            SpoolReplayer replayer = new SpoolReplayer(spool,
+                                getWebhookClient(), new CamundaSpoolCorrelator(), config);
+                            replayer.start();
+                            spoolReplayer = replayer;
+                            LOGGER.info("Webhook spool enabled at {}", config.getDirectory());
+                        } catch (IOException e) {
+                            LOGGER.error("Failed to open webhook spool at {}, spooling disabled: {}",
+                                config.getDirectory(), e.getMessage());
+                        }
+                    }
+                    spoolInitialized = true;
                 }
-
-                currentNode = currentNode.get(index);
-
-            } catch (NumberFormatException e) {
-                LOGGER.warn("Invalid array index '{}' in segment '{}'", indexStr, segment);
-                return null;
-            }
-
-            if (currentNode == null) {
-                LOGGER.warn("Array access returned null in segment '{}'", segment);
-                return null;
             }
         }
-
-        return currentNode;
+        return spoolReplayer;
     }
+
     /**
-     * Converts a JsonNode to an appropriate Java value.
+     * Returns the response dedup store, creating it on first use if it is enabled.
+     * Thread-safe lazy initialization using double-checked locking.
      *
-     * @param node The JSON node to convert
-     * @return The converted value
+     * @return the ResponseDedupStore singleton, or null if local deduplication is disabled
      */
-    private Object convertJsonNodeToValue(com.fasterxml.jackson.databind.JsonNode node) {
-        if (node == null || node.isNull()) {
-            return null;
-        } else if (node.isTextual()) {
-            return node.asText();
-        } else if (node.isInt()) {
-            return node.asInt();
-        } else if (node.isLong()) {
-            return node.asLong();
-        } else if (node.isDouble() || node.isFloat()) {
-            return node.asDouble();
-        } else if (node.isBoolean()) {
-            return node.asBoolean();
-        } else if (node.isArray()) {
-            // Convert JSON array to Java List
-            List<Object> list = new ArrayList<>();
-            for (com.fasterxml.jackson.databind.JsonNode element : node) {
-                list.add(convertJsonNodeToValue(element)); // Recursively convert elements
-            }
-            return list;
-        } else if (node.isObject()) {
-            // For complex objects, return as JSON string
-            return node.toString();
-        } else {
-            return node.asText();
+    private ResponseDedupStore getDedupStore() {
+        if (!dedupInitialized) {
+            synchronized (DEDUP_LOCK) {
+                if (!dedupInitialized) {
+                    IdempotencyConfig config = IdempotencyConfig.fromEnvironment();
+                    if (config.isStoreEnabled()) {
+                        dedupStore = new ResponseDedupStore(config, Clock.systemUTC());
+                    }
+                    dedupInitialized = true;
+                }
+            }
         }
+        return dedupStore;
     }
 
     /**
-     * Returns the enforcement engine, creating it if necessary.
+     * Returns the webhook client, creating it and the endpoint registry if necessary.
      * Thread-safe lazy initialization using double-checked locking.
      *
-     * @return the EnforcementEngine singleton
+     * @return the webhook client singleton
      */
-    private EnforcementEngine getEnforcementEngine() {
-        if (enforcementEngine == null) {
-            synchronized (ENGINE_LOCK) {
-                if (enforcementEngine == null) {
-                    enforcementEngine = EnforcementEngine.create();
+    private WebhookCaller getWebhookClient() {
+        if (webhookClient == null) {
+            synchronized (CLIENT_LOCK) {
+                if (webhookClient == null) {
+                    EndpointPoolConfig config = EndpointPoolConfig.fromEnvironment();
+                    EndpointRegistry registry = new EndpointRegistry(config,
+                        new HttpHealthProbe(config.getHealthPath(), config.getHealthTimeout()),
+                        Clock.systemUTC());
+                    registry.start();
+                    webhookClient = new PoolingWebhookClient(registry, CatalystBridge::validateWebhookUrl,
+                        WebhookClient.fromConfig(TransportConfig.fromEnvironment(),
+                            CompressionConfig.fromEnvironment()),
+                        HedgingConfig.fromEnvironment(), Clock.systemUTC());
                 }
             }
         }
-        return enforcementEngine;
+        return webhookClient;
     }
 }
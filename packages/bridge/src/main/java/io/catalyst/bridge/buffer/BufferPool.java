@@ -0,0 +1,138 @@
+package io.catalyst.bridge.buffer;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free pool of byte arrays in power-of-two size classes.
+ *
+ * <p>Used for the scratch buffers of request encoding and response reading,
+ * so that their size does not translate into young-generation allocation on
+ * every call. Each size class is a small array of slots; threads start
+ * scanning at a slot derived from their id, which spreads concurrent
+ * callers over different slots. A request that finds no free buffer
+ * allocates a new one; a release that finds no free slot drops the buffer,
+ * so the pool never holds more than its fixed number of slots.</p>
+ *
+ * <p>Buffers are handed out with stale contents. A buffer must not be used
+ * after it has been released.</p>
+ *
+ * <p>Thread-safe.</p>
+ */
+public final class BufferPool {
+
+    /** Smallest size class in bytes. */
+    public static final int MIN_BUFFER_SIZE = 4 * 1024;
+
+    /** Largest size class in bytes; larger requests are not pooled. */
+    public static final int MAX_BUFFER_SIZE = 1024 * 1024;
+
+    /** Slots of the smallest class; each larger class has half as many, at least two. */
+    private static final int MAX_SLOTS = 64;
+
+    private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_BUFFER_SIZE);
+    private static final int CLASSES = Integer.numberOfTrailingZeros(MAX_BUFFER_SIZE) - MIN_SHIFT + 1;
+
+    private static final BufferPool SHARED = new BufferPool();
+
+    private final AtomicReferenceArray<byte[]>[] classes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates an empty pool.
+     */
+    public BufferPool() {
+        // Generic arrays cannot be created; every element is set to an AtomicReferenceArray<byte[]> below
+        @SuppressWarnings("unchecked")
+        AtomicReferenceArray<byte[]>[] created = (AtomicReferenceArray<byte[]>[]) new AtomicReferenceArray<?>[CLASSES];
+        for (int i = 0; i < CLASSES; i++) {
+            created[i] = new AtomicReferenceArray<>(Math.max(2, MAX_SLOTS >> i));
+        }
+        this.classes = created;
+    }
+
+    /**
+     * Returns the pool shared by the bridge.
+     *
+     * @return the shared pool
+     */
+    public static BufferPool shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns a buffer of at least the given size.
+     *
+     * @param minSize the minimum length
+     * @return a pooled buffer of the smallest fitting size class, or a new
+     *         array of exactly minSize if it exceeds {@link #MAX_BUFFER_SIZE}
+     */
+    public byte[] acquire(int minSize) {
+        if (minSize > MAX_BUFFER_SIZE) {
+            misses.increment();
+            return new byte[minSize];
+        }
+        int index = classIndex(minSize);
+        AtomicReferenceArray<byte[]> slots = classes[index];
+        int start = stripe(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            byte[] buffer = slots.getAndSet((start + i) % slots.length(), null);
+            if (buffer != null) {
+                hits.increment();
+                return buffer;
+            }
+        }
+        misses.increment();
+        return new byte[MIN_BUFFER_SIZE << index];
+    }
+
+    /**
+     * Returns a buffer to the pool. Buffers that do not match a size class
+     * are dropped.
+     *
+     * @param buffer the buffer, may be null
+     */
+    public void release(byte[] buffer) {
+        if (buffer == null || buffer.length < MIN_BUFFER_SIZE || buffer.length > MAX_BUFFER_SIZE
+                || Integer.bitCount(buffer.length) != 1) {
+            return;
+        }
+        AtomicReferenceArray<byte[]> slots = classes[classIndex(buffer.length)];
+        int start = stripe(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.compareAndSet((start + i) % slots.length(), null, buffer)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns how many requests were served from the pool.
+     *
+     * @return the hit count
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns how many requests allocated a new array.
+     *
+     * @return the miss count
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private static int classIndex(int size) {
+        if (size <= MIN_BUFFER_SIZE) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(size - 1) - MIN_SHIFT;
+    }
+
+    private static int stripe(int slots) {
+        return (int) (((Thread.currentThread().getId() * 0x9E3779B9L) >>> 16) % slots);
+    }
+}
@@ -0,0 +1,157 @@
+package io.catalyst.bridge.buffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Growable in-memory output stream backed by buffers from a {@link BufferPool}.
+ *
+ * <p>Replaces {@code ByteArrayOutputStream} for scratch data: growing swaps
+ * the buffer for one of the next size class and returns the old one, and
+ * {@link #close()} returns the last one. Content can be read without the
+ * extra copy of {@code toByteArray()} through {@link #toString(Charset)},
+ * {@link #writeTo(OutputStream)} or {@link #getBuffer()}.</p>
+ *
+ * <p>Not thread-safe. Must be closed, typically with try-with-resources;
+ * the stream and anything obtained from {@link #getBuffer()} must not be
+ * used afterwards.</p>
+ */
+public final class PooledOutputStream extends OutputStream {
+
+    private final BufferPool pool;
+    private byte[] buffer;
+    private int count;
+
+    /**
+     * Creates a stream on the shared pool.
+     *
+     * @param initialSize expected size in bytes
+     */
+    public PooledOutputStream(int initialSize) {
+        this(BufferPool.shared(), initialSize);
+    }
+
+    /**
+     * Creates a stream.
+     *
+     * @param pool the pool to take buffers from
+     * @param initialSize expected size in bytes
+     */
+    public PooledOutputStream(BufferPool pool, int initialSize) {
+        this.pool = pool;
+        this.buffer = pool.acquire(Math.max(initialSize, BufferPool.MIN_BUFFER_SIZE));
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(count + 1);
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        ensureCapacity(count + len);
+        System.arraycopy(b, off, buffer, count, len);
+        count += len;
+    }
+
+    /**
+     * Reads a stream to its end directly into the pooled buffer.
+     *
+     * @param in the stream to read; not closed
+     * @return the number of bytes read
+     * @throws IOException if reading fails
+     */
+    public long readFrom(InputStream in) throws IOException {
+        long total = 0;
+        while (true) {
+            if (count == buffer.length) {
+                ensureCapacity(count + 1);
+            }
+            int n = in.read(buffer, count, buffer.length - count);
+            if (n < 0) {
+                return total;
+            }
+            count += n;
+            total += n;
+        }
+    }
+
+    /**
+     * Returns the number of bytes written.
+     *
+     * @return the size
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the backing buffer; valid bytes are {@code [0, size())}.
+     *
+     * @return the buffer, owned by this stream until it is closed
+     */
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Copies the content into a new array of exactly {@link #size()} bytes.
+     *
+     * @return the content
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, count);
+    }
+
+    /**
+     * Decodes the content.
+     *
+     * @param charset the charset
+     * @return the content as a string
+     */
+    public String toString(Charset charset) {
+        return new String(buffer, 0, count, charset);
+    }
+
+    /**
+     * Writes the content to another stream.
+     *
+     * @param out the target
+     * @throws IOException if writing fails
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, count);
+    }
+
+    /**
+     * Returns the buffer to the pool. Safe to call more than once.
+     */
+    @Override
+    public void close() {
+        if (buffer != null) {
+            pool.release(buffer);
+            buffer = null;
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (buffer == null) {
+            throw new IllegalStateException("Stream is closed");
+        }
+        if (required <= buffer.length) {
+            return;
+        }
+        if (required < 0) {
+            throw new OutOfMemoryError("Buffer size exceeds 2 GB");
+        }
+        byte[] grown = pool.acquire(Math.max(required, buffer.length <= Integer.MAX_VALUE / 2 ? buffer.length * 2
+            : Integer.MAX_VALUE - 8));
+        System.arraycopy(buffer, 0, grown, 0, count);
+        pool.release(buffer);
+        buffer = grown;
+    }
+}
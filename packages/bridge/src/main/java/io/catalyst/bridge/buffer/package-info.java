@@ -0,0 +1,11 @@
+/**
+ * Pooled byte buffers for request encoding and response reading.
+ *
+ * <ul>
+ *   <li>{@link io.catalyst.bridge.buffer.BufferPool} - Lock-free, size-classed pool of byte arrays</li>
+ *   <li>{@link io.catalyst.bridge.buffer.PooledOutputStream} - Growable output stream on pooled buffers</li>
+ * </ul>
+ *
+ * @see io.catalyst.bridge.http
+ */
+package io.catalyst.bridge.buffer;
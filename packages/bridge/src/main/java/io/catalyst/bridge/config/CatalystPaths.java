@@ -15,6 +15,8 @@ import java.nio.file.Paths;
  * <ul>
  *   <li>{@code catalyst.lic} - License file</li>
  *   <li>{@code catalyst-usage.json} - Usage tracking data</li>
+ *   <li>{@code catalyst-spool/} - Durable webhook spool (when enabled)</li>
+ *   <li>{@code catalyst-stats.bin} - Memory-mapped activity counters (when enabled)</li>
  * </ul>
  *
  * <p>In a typical Camunda deployment, the JAR is placed in {@code camunda/lib/},
@@ -33,6 +35,12 @@ public class CatalystPaths {
     /** Name of the usage tracking file */
     public static final String USAGE_FILE_NAME = "catalyst-usage.json";
 
+    /** Name of the webhook spool directory */
+    public static final String SPOOL_DIR_NAME = "catalyst-spool";
+
+    /** Name of the memory-mapped stats file */
+    public static final String STATS_FILE_NAME = "catalyst-stats.bin";
+
     private final Path libDirectory;
 
     /**
@@ -81,6 +89,24 @@ public class CatalystPaths {
         return libDirectory.resolve(USAGE_FILE_NAME);
     }
 
+    /**
+     * Returns the path to the webhook spool directory (catalyst-spool).
+     *
+     * @return the spool directory path
+     */
+    public Path getSpoolDirectory() {
+        return libDirectory.resolve(SPOOL_DIR_NAME);
+    }
+
+    /**
+     * Returns the path to the stats file (catalyst-stats.bin).
+     *
+     * @return the stats file path
+     */
+    public Path getStatsFilePath() {
+        return libDirectory.resolve(STATS_FILE_NAME);
+    }
+
     /**
      * Resolves the lib directory by finding the location of the Catalyst Bridge JAR.
      *
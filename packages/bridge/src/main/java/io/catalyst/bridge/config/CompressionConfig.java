@@ -0,0 +1,146 @@
+package io.catalyst.bridge.config;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Configuration for webhook request and response compression.
+ *
+ * <p>Request bodies at or above the threshold are compressed with the
+ * configured coding and sent with {@code Content-Encoding}. n8n's webhook
+ * node does not decode compressed requests itself, so request compression is
+ * off by default and meant for endpoints behind a proxy that does. Response
+ * compression only advertises {@code Accept-Encoding}; the server decides.</p>
+ *
+ * <p>Environment variables:</p>
+ * <ul>
+ *   <li>{@code CATALYST_REQUEST_COMPRESSION} - none, gzip, deflate or zstd (default none)</li>
+ *   <li>{@code CATALYST_COMPRESSION_THRESHOLD_BYTES} - minimum body size to compress (default 16384)</li>
+ *   <li>{@code CATALYST_RESPONSE_COMPRESSION} - advertise Accept-Encoding (default true)</li>
+ * </ul>
+ *
+ * @see io.catalyst.bridge.http.ContentCoding
+ */
+public final class CompressionConfig {
+
+    /** Environment variable for the request coding */
+    public static final String REQUEST_COMPRESSION_ENV = "CATALYST_REQUEST_COMPRESSION";
+
+    /** Environment variable for the request compression threshold */
+    public static final String THRESHOLD_ENV = "CATALYST_COMPRESSION_THRESHOLD_BYTES";
+
+    /** Environment variable for advertising Accept-Encoding */
+    public static final String RESPONSE_COMPRESSION_ENV = "CATALYST_RESPONSE_COMPRESSION";
+
+    /** Request coding value that disables request compression */
+    public static final String NONE = "none";
+
+    /** Default minimum request body size to compress */
+    public static final int DEFAULT_THRESHOLD_BYTES = 16 * 1024;
+
+    private final String requestCoding;
+    private final int thresholdBytes;
+    private final boolean responseCompression;
+
+    private CompressionConfig(Builder builder) {
+        this.requestCoding = builder.requestCoding;
+        this.thresholdBytes = builder.thresholdBytes;
+        this.responseCompression = builder.responseCompression;
+    }
+
+    /**
+     * Reads the configuration from environment variables.
+     *
+     * @return the compression configuration
+     */
+    public static CompressionConfig fromEnvironment() {
+        return fromEnvironment(System.getenv());
+    }
+
+    /**
+     * Reads the configuration from the given environment map.
+     *
+     * @param env the environment variables
+     * @return the compression configuration
+     */
+    public static CompressionConfig fromEnvironment(Map<String, String> env) {
+        Builder builder = builder();
+
+        String coding = env.get(REQUEST_COMPRESSION_ENV);
+        if (coding != null && !coding.trim().isEmpty()) {
+            builder.requestCoding(coding);
+        }
+
+        String threshold = env.get(THRESHOLD_ENV);
+        if (threshold != null && !threshold.trim().isEmpty()) {
+            builder.thresholdBytes(Integer.parseInt(threshold.trim()));
+        }
+
+        String response = env.get(RESPONSE_COMPRESSION_ENV);
+        if (response != null && !response.trim().isEmpty()) {
+            builder.responseCompression(Boolean.parseBoolean(response.trim()));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns a builder for creating custom configuration.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns true if request bodies may be compressed.
+     *
+     * @return true if a request coding other than none is configured
+     */
+    public boolean isRequestCompressionEnabled() {
+        return !NONE.equals(requestCoding);
+    }
+
+    // ========== Getters ==========
+
+    public String getRequestCoding() {
+        return requestCoding;
+    }
+
+    public int getThresholdBytes() {
+        return thresholdBytes;
+    }
+
+    public boolean isResponseCompression() {
+        return responseCompression;
+    }
+
+    /**
+     * Builder for creating CompressionConfig instances with custom values.
+     */
+    public static class Builder {
+        private String requestCoding = NONE;
+        private int thresholdBytes = DEFAULT_THRESHOLD_BYTES;
+        private boolean responseCompression = true;
+
+        public Builder requestCoding(String requestCoding) {
+            this.requestCoding = requestCoding.trim().toLowerCase(Locale.ROOT);
+            return this;
+        }
+
+        public Builder thresholdBytes(int thresholdBytes) {
+            this.thresholdBytes = thresholdBytes;
+            return this;
+        }
+
+        public Builder responseCompression(boolean responseCompression) {
+            this.responseCompression = responseCompression;
+            return this;
+        }
+
+        public CompressionConfig build() {
+            return new CompressionConfig(this);
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package io.catalyst.bridge.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration for logical n8n endpoints (named pools of n8n base URLs).
+ *
+ * <p>Pools are defined with the {@code CATALYST_ENDPOINT_POOLS} environment
+ * variable: pools are separated by {@code ;}, the name is followed by
+ * {@code =} and a comma-separated list of base URLs:</p>
+ * <pre>
+ * CATALYST_ENDPOINT_POOLS=workers=http://n8n-webhook-1:5678,http://n8n-webhook-2:5678;ai=http://n8n-ai:5678
+ * </pre>
+ *
+ * <p>Optional settings:</p>
+ * <ul>
+ *   <li>{@code CATALYST_POOL_HEALTH_PATH} - active health check path (default {@code /healthz})</li>
+ *   <li>{@code CATALYST_POOL_HEALTH_INTERVAL_SECONDS} - active check interval, 0 disables (default 10)</li>
+ * </ul>
+ *
+ * <p>Outlier ejection and slow-start thresholds use defaults that can be
+ * overridden via the builder for testing.</p>
+ *
+ * @see io.catalyst.bridge.endpoint.EndpointRegistry
+ */
+public final class EndpointPoolConfig {
+
+    /** Environment variable defining the pools */
+    public static final String POOLS_ENV = "CATALYST_ENDPOINT_POOLS";
+
+    /** Environment variable overriding the health check path */
+    public static final String HEALTH_PATH_ENV = "CATALYST_POOL_HEALTH_PATH";
+
+    /** Environment variable overriding the health check interval */
+    public static final String HEALTH_INTERVAL_ENV = "CATALYST_POOL_HEALTH_INTERVAL_SECONDS";
+
+    /** n8n's built-in health endpoint */
+    public static final String DEFAULT_HEALTH_PATH = "/healthz";
+
+    /** Default interval between active health checks */
+    public static final Duration DEFAULT_HEALTH_INTERVAL = Duration.ofSeconds(10);
+
+    /** Default timeout of a single health check */
+    public static final Duration DEFAULT_HEALTH_TIMEOUT = Duration.ofSeconds(2);
+
+    /** Failed health checks before a member is marked unhealthy */
+    public static final int DEFAULT_UNHEALTHY_THRESHOLD = 2;
+
+    /** Consecutive call failures before a member is ejected */
+    public static final int DEFAULT_CONSECUTIVE_FAILURES = 5;
+
+    /** Ejection time for the first ejection; multiplied by the ejection count */
+    public static final Duration DEFAULT_BASE_EJECTION_TIME = Duration.ofSeconds(30);
+
+    /** Upper bound for the ejection time */
+    public static final Duration DEFAULT_MAX_EJECTION_TIME = Duration.ofMinutes(5);
+
+    /** Maximum percentage of a pool that may be ejected at once */
+    public static final int DEFAULT_MAX_EJECTION_PERCENT = 50;
+
+    /** Window over which a returning member ramps up to full weight */
+    public static final Duration DEFAULT_SLOW_START_WINDOW = Duration.ofSeconds(30);
+
+    private final Map<String, List<String>> pools;
+    private final String healthPath;
+    private final Duration healthInterval;
+    private final Duration healthTimeout;
+    private final int unhealthyThreshold;
+    private final int consecutiveFailures;
+    private final Duration baseEjectionTime;
+    private final Duration maxEjectionTime;
+    private final int maxEjectionPercent;
+    private final Duration slowStartWindow;
+
+    private EndpointPoolConfig(Builder builder) {
+        this.pools = Collections.unmodifiableMap(new LinkedHashMap<>(builder.pools));
+        this.healthPath = builder.healthPath;
+        this.healthInterval = builder.healthInterval;
+        this.healthTimeout = builder.healthTimeout;
+        this.unhealthyThreshold = builder.unhealthyThreshold;
+        this.consecutiveFailures = builder.consecutiveFailures;
+        this.baseEjectionTime = builder.baseEjectionTime;
+        this.maxEjectionTime = builder.maxEjectionTime;
+        this.maxEjectionPercent = builder.maxEjectionPercent;
+        this.slowStartWindow = builder.slowStartWindow;
+    }
+
+    /**
+     * Reads the configuration from environment variables.
+     *
+     * @return the pool configuration
+     */
+    public static EndpointPoolConfig fromEnvironment() {
+        return fromEnvironment(System.getenv());
+    }
+
+    /**
+     * Reads the configuration from the given environment map.
+     *
+     * @param env the environment variables
+     * @return the pool configuration
+     * @throws IllegalArgumentException if the pool definition is malformed
+     */
+    public static EndpointPoolConfig fromEnvironment(Map<String, String> env) {
+        Builder builder = builder();
+
+        String pools = env.get(POOLS_ENV);
+        if (pools != null && !pools.trim().isEmpty()) {
+            for (String pool : pools.split(";")) {
+                if (pool.trim().isEmpty()) {
+                    continue;
+                }
+                int separator = pool.indexOf('=');
+                if (separator <= 0) {
+                    throw new IllegalArgumentException(
+                        "Invalid pool definition '" + pool.trim() + "' in " + POOLS_ENV + ", expected name=url1,url2");
+                }
+                List<String> members = new ArrayList<>();
+                for (String member : pool.substring(separator + 1).split(",")) {
+                    if (!member.trim().isEmpty()) {
+                        members.add(member.trim());
+                    }
+                }
+                builder.pool(pool.substring(0, separator).trim(), members);
+            }
+        }
+
+        String healthPath = env.get(HEALTH_PATH_ENV);
+        if (healthPath != null && !healthPath.trim().isEmpty()) {
+            builder.healthPath(healthPath.trim());
+        }
+
+        String interval = env.get(HEALTH_INTERVAL_ENV);
+        if (interval != null && !interval.trim().isEmpty()) {
+            builder.healthInterval(Duration.ofSeconds(Long.parseLong(interval.trim())));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns a builder for creating custom configuration.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // ========== Getters ==========
+
+    public Map<String, List<String>> getPools() {
+        return pools;
+    }
+
+    public String getHealthPath() {
+        return healthPath;
+    }
+
+    public Duration getHealthInterval() {
+        return healthInterval;
+    }
+
+    public Duration getHealthTimeout() {
+        return healthTimeout;
+    }
+
+    public int getUnhealthyThreshold() {
+        return unhealthyThreshold;
+    }
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    public Duration getBaseEjectionTime() {
+        return baseEjectionTime;
+    }
+
+    public Duration getMaxEjectionTime() {
+        return maxEjectionTime;
+    }
+
+    public int getMaxEjectionPercent() {
+        return maxEjectionPercent;
+    }
+
+    public Duration getSlowStartWindow() {
+        return slowStartWindow;
+    }
+
+    /**
+     * Builder for creating EndpointPoolConfig instances with custom values.
+     */
+    public static class Builder {
+        private final Map<String, List<String>> pools = new LinkedHashMap<>();
+        private String healthPath = DEFAULT_HEALTH_PATH;
+        private Duration healthInterval = DEFAULT_HEALTH_INTERVAL;
+        private Duration healthTimeout = DEFAULT_HEALTH_TIMEOUT;
+        private int unhealthyThreshold = DEFAULT_UNHEALTHY_THRESHOLD;
+        private int consecutiveFailures = DEFAULT_CONSECUTIVE_FAILURES;
+        private Duration baseEjectionTime = DEFAULT_BASE_EJECTION_TIME;
+        private Duration maxEjectionTime = DEFAULT_MAX_EJECTION_TIME;
+        private int maxEjectionPercent = DEFAULT_MAX_EJECTION_PERCENT;
+        private Duration slowStartWindow = DEFAULT_SLOW_START_WINDOW;
+
+        public Builder pool(String name, List<String> baseUrls) {
+            this.pools.put(name, Collections.unmodifiableList(new ArrayList<>(baseUrls)));
+            return this;
+        }
+
+        public Builder healthPath(String healthPath) {
+            this.healthPath = healthPath;
+            return this;
+        }
+
+        public Builder healthInterval(Duration healthInterval) {
+            this.healthInterval = healthInterval;
+            return this;
+        }
+
+        public Builder healthTimeout(Duration healthTimeout) {
+            this.healthTimeout = healthTimeout;
+            return this;
+        }
+
+        public Builder unhealthyThreshold(int unhealthyThreshold) {
+            this.unhealthyThreshold = unhealthyThreshold;
+            return this;
+        }
+
+        public Builder consecutiveFailures(int consecutiveFailures) {
+            this.consecutiveFailures = consecutiveFailures;
+            return this;
+        }
+
+        public Builder baseEjectionTime(Duration baseEjectionTime) {
+            this.baseEjectionTime = baseEjectionTime;
+            return this;
+        }
+
+        public Builder maxEjectionTime(Duration maxEjectionTime) {
+            this.maxEjectionTime = maxEjectionTime;
+            return this;
+        }
+
+        public Builder maxEjectionPercent(int maxEjectionPercent) {
+            this.maxEjectionPercent = maxEjectionPercent;
+            return this;
+        }
+
+        public Builder slowStartWindow(Duration slowStartWindow) {
+            this.slowStartWindow = slowStartWindow;
+            return this;
+        }
+
+        public EndpointPoolConfig build() {
+            return new EndpointPoolConfig(this);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package io.catalyst.bridge.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuration for hedged webhook requests.
+ *
+ * <p>An idempotent call to an endpoint pool that has not answered within the
+ * route's observed latency percentile is sent a second time to another pool
+ * member; the first response wins. A global budget caps hedges to a
+ * percentage of all calls so hedging cannot amplify load during an overload.</p>
+ *
+ * <p>Environment variables:</p>
+ * <ul>
+ *   <li>{@code CATALYST_HEDGE_BUDGET_PERCENT} - extra load allowed for hedges, 0 disables (default 5)</li>
+ *   <li>{@code CATALYST_HEDGE_PERCENTILE} - route latency percentile used as hedge delay (default 95)</li>
+ * </ul>
+ *
+ * @see io.catalyst.bridge.endpoint.PoolingWebhookClient
+ */
+public final class HedgingConfig {
+
+    /** Environment variable for the hedge budget */
+    public static final String BUDGET_PERCENT_ENV = "CATALYST_HEDGE_BUDGET_PERCENT";
+
+    /** Environment variable for the hedge delay percentile */
+    public static final String PERCENTILE_ENV = "CATALYST_HEDGE_PERCENTILE";
+
+    /** Default hedge budget as a percentage of calls */
+    public static final double DEFAULT_BUDGET_PERCENT = 5.0;
+
+    /** Default latency percentile after which a hedge is sent */
+    public static final double DEFAULT_PERCENTILE = 95.0;
+
+    /** Lower bound for the hedge delay */
+    public static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(5);
+
+    /** Samples a route needs before it is hedged */
+    public static final int DEFAULT_MIN_SAMPLES = 20;
+
+    /** Window over which route latencies are observed */
+    public static final Duration DEFAULT_LATENCY_WINDOW = Duration.ofMinutes(1);
+
+    /** Maximum hedges that can be saved up during quiet periods */
+    public static final int DEFAULT_MAX_BURST = 10;
+
+    private final double budgetPercent;
+    private final double percentile;
+    private final Duration minDelay;
+    private final int minSamples;
+    private final Duration latencyWindow;
+    private final int maxBurst;
+
+    private HedgingConfig(Builder builder) {
+        this.budgetPercent = builder.budgetPercent;
+        this.percentile = builder.percentile;
+        this.minDelay = builder.minDelay;
+        this.minSamples = builder.minSamples;
+        this.latencyWindow = builder.latencyWindow;
+        this.maxBurst = builder.maxBurst;
+    }
+
+    /**
+     * Reads the configuration from environment variables.
+     *
+     * @return the hedging configuration
+     */
+    public static HedgingConfig fromEnvironment() {
+        return fromEnvironment(System.getenv());
+    }
+
+    /**
+     * Reads the configuration from the given environment map.
+     *
+     * @param env the environment variables
+     * @return the hedging configuration
+     */
+    public static HedgingConfig fromEnvironment(Map<String, String> env) {
+        Builder builder = builder();
+
+        String budget = env.get(BUDGET_PERCENT_ENV);
+        if (budget != null && !budget.trim().isEmpty()) {
+            builder.budgetPercent(Double.parseDouble(budget.trim()));
+        }
+
+        String percentile = env.get(PERCENTILE_ENV);
+        if (percentile != null && !percentile.trim().isEmpty()) {
+            builder.percentile(Double.parseDouble(percentile.trim()));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns a builder for creating custom configuration.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns true if hedging is enabled.
+     *
+     * @return true if the budget is positive
+     */
+    public boolean isEnabled() {
+        return budgetPercent > 0;
+    }
+
+    // ========== Getters ==========
+
+    public double getBudgetPercent() {
+        return budgetPercent;
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public Duration getMinDelay() {
+        return minDelay;
+    }
+
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    public Duration getLatencyWindow() {
+        return latencyWindow;
+    }
+
+    public int getMaxBurst() {
+        return maxBurst;
+    }
+
+    /**
+     * Builder for creating HedgingConfig instances with custom values.
+     */
+    public static class Builder {
+        private double budgetPercent = DEFAULT_BUDGET_PERCENT;
+        private double percentile = DEFAULT_PERCENTILE;
+        private Duration minDelay = DEFAULT_MIN_DELAY;
+        private int minSamples = DEFAULT_MIN_SAMPLES;
+        private Duration latencyWindow = DEFAULT_LATENCY_WINDOW;
+        private int maxBurst = DEFAULT_MAX_BURST;
+
+        public Builder budgetPercent(double budgetPercent) {
+            this.budgetPercent = budgetPercent;
+            return this;
+        }
+
+        public Builder percentile(double percentile) {
+            this.percentile = percentile;
+            return this;
+        }
+
+        public Builder minDelay(Duration minDelay) {
+            this.minDelay = minDelay;
+            return this;
+        }
+
+        public Builder minSamples(int minSamples) {
+            this.minSamples = minSamples;
+            return this;
+        }
+
+        public Builder latencyWindow(Duration latencyWindow) {
+            this.latencyWindow = latencyWindow;
+            return this;
+        }
+
+        public Builder maxBurst(int maxBurst) {
+            this.maxBurst = maxBurst;
+            return this;
+        }
+
+        public HedgingConfig build() {
+            return new HedgingConfig(this);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package io.catalyst.bridge.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuration for local deduplication of webhook calls with an idempotency key.
+ *
+ * <p>Calls made with the {@code idempotencyKey} input parameter send an
+ * {@code Idempotency-Key} header. Their successful text responses are kept
+ * in a bounded in-memory store, so a retried job with the same key is
+ * answered from the store instead of calling n8n again.</p>
+ *
+ * <p>Environment variables:</p>
+ * <ul>
+ *   <li>{@code CATALYST_DEDUP_MAX_ENTRIES} - responses kept per JVM, 0 disables the store (default 10000)</li>
+ *   <li>{@code CATALYST_DEDUP_TTL_SECONDS} - how long a response is reused (default 3600)</li>
+ *   <li>{@code CATALYST_DEDUP_MAX_BODY_BYTES} - larger responses are not kept (default 65536)</li>
+ * </ul>
+ *
+ * @see io.catalyst.bridge.idempotency.ResponseDedupStore
+ */
+public final class IdempotencyConfig {
+
+    /** Environment variable for the store size */
+    public static final String MAX_ENTRIES_ENV = "CATALYST_DEDUP_MAX_ENTRIES";
+
+    /** Environment variable for the entry lifetime */
+    public static final String TTL_SECONDS_ENV = "CATALYST_DEDUP_TTL_SECONDS";
+
+    /** Environment variable for the largest response body kept */
+    public static final String MAX_BODY_BYTES_ENV = "CATALYST_DEDUP_MAX_BODY_BYTES";
+
+    /** Default number of responses kept */
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    /** Default entry lifetime; covers Camunda's default retry cycle with room to spare */
+    public static final Duration DEFAULT_TTL = Duration.ofHours(1);
+
+    /** Default largest decoded response body kept, in bytes */
+    public static final int DEFAULT_MAX_BODY_BYTES = 64 * 1024;
+
+    private final int maxEntries;
+    private final Duration ttl;
+    private final int maxBodyBytes;
+
+    private IdempotencyConfig(Builder builder) {
+        this.maxEntries = builder.maxEntries;
+        this.ttl = builder.ttl;
+        this.maxBodyBytes = builder.maxBodyBytes;
+    }
+
+    /**
+     * Reads the configuration from environment variables.
+     *
+     * @return the idempotency configuration
+     */
+    public static IdempotencyConfig fromEnvironment() {
+        return fromEnvironment(System.getenv());
+    }
+
+    /**
+     * Reads the configuration from the given environment map.
+     *
+     * @param env the environment variables
+     * @return the idempotency configuration
+     */
+    public static IdempotencyConfig fromEnvironment(Map<String, String> env) {
+        Builder builder = builder();
+
+        String maxEntries = env.get(MAX_ENTRIES_ENV);
+        if (maxEntries != null && !maxEntries.trim().isEmpty()) {
+            builder.maxEntries(Integer.parseInt(maxEntries.trim()));
+        }
+
+        String ttl = env.get(TTL_SECONDS_ENV);
+        if (ttl != null && !ttl.trim().isEmpty()) {
+            builder.ttl(Duration.ofSeconds(Long.parseLong(ttl.trim())));
+        }
+
+        String maxBodyBytes = env.get(MAX_BODY_BYTES_ENV);
+        if (maxBodyBytes != null && !maxBodyBytes.trim().isEmpty()) {
+            builder.maxBodyBytes(Integer.parseInt(maxBodyBytes.trim()));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns a builder for creating custom configuration.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns true if responses are deduplicated locally.
+     *
+     * @return true if the store can hold entries for a positive time
+     */
+    public boolean isStoreEnabled() {
+        return maxEntries > 0 && !ttl.isZero() && !ttl.isNegative();
+    }
+
+    // ========== Getters ==========
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public int getMaxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    /**
+     * Builder for creating IdempotencyConfig instances with custom values.
+     */
+    public static class Builder {
+        private int maxEntries = DEFAULT_MAX_ENTRIES;
+        private Duration ttl = DEFAULT_TTL;
+        private int maxBodyBytes = DEFAULT_MAX_BODY_BYTES;
+
+        public Builder maxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        public Builder ttl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        public Builder maxBodyBytes(int maxBodyBytes) {
+            this.maxBodyBytes = maxBodyBytes;
+            return this;
+        }
+
+        public IdempotencyConfig build() {
+            return new IdempotencyConfig(this);
+        }
+    }
+}
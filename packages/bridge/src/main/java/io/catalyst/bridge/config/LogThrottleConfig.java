@@ -0,0 +1,152 @@
+package io.catalyst.bridge.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuration for throttled failure logging.
+ *
+ * <p>Failed executions are grouped by route and error, e.g. the exception
+ * class or {@code HTTP 503}. The first failures of a group in each interval
+ * are logged in full, with their stack trace; further ones are only counted,
+ * and summarized in one line when the interval is over. While failures are
+ * being summarized, the per-execution banner is logged at DEBUG. Failure
+ * counters in the metrics are exact either way.</p>
+ *
+ * <p>Environment variables:</p>
+ * <ul>
+ *   <li>{@code CATALYST_LOG_THROTTLE_ENABLED} - throttle failure logging (default true)</li>
+ *   <li>{@code CATALYST_LOG_THROTTLE_FIRST} - failures per route and error logged in full per interval (default 5)</li>
+ *   <li>{@code CATALYST_LOG_THROTTLE_INTERVAL_SECONDS} - summary interval (default 60)</li>
+ *   <li>{@code CATALYST_LOG_THROTTLE_QUIET_BANNER} - log the execution banner at DEBUG while
+ *       failures are summarized (default true)</li>
+ * </ul>
+ *
+ * @see io.catalyst.bridge.logging.FailureLogThrottler
+ */
+public final class LogThrottleConfig {
+
+    /** Environment variable enabling throttling */
+    public static final String ENABLED_ENV = "CATALYST_LOG_THROTTLE_ENABLED";
+
+    /** Environment variable for the failures logged in full per interval */
+    public static final String FIRST_ENV = "CATALYST_LOG_THROTTLE_FIRST";
+
+    /** Environment variable for the summary interval in seconds */
+    public static final String INTERVAL_ENV = "CATALYST_LOG_THROTTLE_INTERVAL_SECONDS";
+
+    /** Environment variable for quieting the execution banner */
+    public static final String QUIET_BANNER_ENV = "CATALYST_LOG_THROTTLE_QUIET_BANNER";
+
+    /** Default failures per route and error logged in full per interval */
+    public static final int DEFAULT_FIRST = 5;
+
+    /** Default summary interval */
+    public static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(60);
+
+    private final boolean enabled;
+    private final int first;
+    private final Duration interval;
+    private final boolean quietBanner;
+
+    private LogThrottleConfig(Builder builder) {
+        this.enabled = builder.enabled;
+        this.first = builder.first;
+        this.interval = builder.interval;
+        this.quietBanner = builder.quietBanner;
+    }
+
+    /**
+     * Reads the configuration from environment variables.
+     *
+     * @return the log throttle configuration
+     */
+    public static LogThrottleConfig fromEnvironment() {
+        return fromEnvironment(System.getenv());
+    }
+
+    /**
+     * Reads the configuration from the given environment map.
+     *
+     * @param env the environment variables
+     * @return the log throttle configuration
+     */
+    public static LogThrottleConfig fromEnvironment(Map<String, String> env) {
+        Builder builder = builder()
+            .enabled(Boolean.parseBoolean(env.getOrDefault(ENABLED_ENV, "true").trim()))
+            .quietBanner(Boolean.parseBoolean(env.getOrDefault(QUIET_BANNER_ENV, "true").trim()));
+
+        String first = env.get(FIRST_ENV);
+        if (first != null && !first.trim().isEmpty()) {
+            builder.first(Integer.parseInt(first.trim()));
+        }
+
+        String interval = env.get(INTERVAL_ENV);
+        if (interval != null && !interval.trim().isEmpty()) {
+            builder.interval(Duration.ofSeconds(Long.parseLong(interval.trim())));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns a builder for creating custom configuration.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // ========== Getters ==========
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getFirst() {
+        return first;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public boolean isQuietBanner() {
+        return quietBanner;
+    }
+
+    /**
+     * Builder for creating LogThrottleConfig instances with custom values.
+     */
+    public static class Builder {
+        private boolean enabled = true;
+        private int first = DEFAULT_FIRST;
+        private Duration interval = DEFAULT_INTERVAL;
+        private boolean quietBanner = true;
+
+        public Builder enabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        public Builder first(int first) {
+            this.first = first;
+            return this;
+        }
+
+        public Builder interval(Duration interval) {
+            this.interval = interval;
+            return this;
+        }
+
+        public Builder quietBanner(boolean quietBanner) {
+            this.quietBanner = quietBanner;
+            return this;
+        }
+
+        public LogThrottleConfig build() {
+            return new LogThrottleConfig(this);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package io.catalyst.bridge.config;
+
+import java.util.Map;
+
+/**
+ * Configuration for webhook call metrics.
+ *
+ * <p>Every webhook call is recorded per route, outcome and status class.
+ * The series are published as JMX MBeans and, when Micrometer is on the
+ * classpath, bound to its global registry.</p>
+ *
+ * <p>Environment variables:</p>
+ * <ul>
+ *   <li>{@code CATALYST_METRICS_JMX} - register MBeans in the platform MBean server (default true)</li>
+ *   <li>{@code CATALYST_METRICS_MICROMETER} - bind to Micrometer's global registry if present (default true)</li>
+ *   <li>{@code CATALYST_METRICS_MAX_ROUTES} - distinct webhook paths tracked; further paths share
+ *       the route {@code other} (default 200)</li>
+ *   <li>{@code CATALYST_METRICS_RESOURCES} - record heap allocation and CPU time of each execution
+ *       per route (default false)</li>
+ * </ul>
+ *
+ * @see io.catalyst.bridge.metrics.WebhookMetrics
+ */
+public final class MetricsConfig {
+
+    /** Environment variable enabling JMX */
+    public static final String JMX_ENV = "CATALYST_METRICS_JMX";
+
+    /** Environment variable enabling the Micrometer binding */
+    public static final String MICROMETER_ENV = "CATALYST_METRICS_MICROMETER";
+
+    /** Environment variable for the route limit */
+    public static final String MAX_ROUTES_ENV = "CATALYST_METRICS_MAX_ROUTES";
+
+    /** Environment variable enabling allocation and CPU time metrics */
+    public static final String RESOURCES_ENV = "CATALYST_METRICS_RESOURCES";
+
+    /** Default route limit; keeps MBean and meter counts bounded when URLs contain ids */
+    public static final int DEFAULT_MAX_ROUTES = 200;
+
+    private final boolean jmxEnabled;
+    private final boolean micrometerEnabled;
+    private final int maxRoutes;
+    private final boolean resourcesEnabled;
+
+    private MetricsConfig(Builder builder) {
+        this.jmxEnabled = builder.jmxEnabled;
+        this.micrometerEnabled = builder.micrometerEnabled;
+        this.maxRoutes = builder.maxRoutes;
+        this.resourcesEnabled = builder.resourcesEnabled;
+    }
+
+    /**
+     * Reads the configuration from environment variables.
+     *
+     * @return the metrics configuration
+     */
+    public static MetricsConfig fromEnvironment() {
+        return fromEnvironment(System.getenv());
+    }
+
+    /**
+     * Reads the configuration from the given environment map.
+     *
+     * @param env the environment variables
+     * @return the metrics configuration
+     */
+    public static MetricsConfig fromEnvironment(Map<String, String> env) {
+        Builder builder = builder();
+
+        String jmx = env.get(JMX_ENV);
+        if (jmx != null && !jmx.trim().isEmpty()) {
+            builder.jmxEnabled(Boolean.parseBoolean(jmx.trim()));
+        }
+
+        String micrometer = env.get(MICROMETER_ENV);
+        if (micrometer != null && !micrometer.trim().isEmpty()) {
+            builder.micrometerEnabled(Boolean.parseBoolean(micrometer.trim()));
+        }
+
+        String maxRoutes = env.get(MAX_ROUTES_ENV);
+        if (maxRoutes != null && !maxRoutes.trim().isEmpty()) {
+            builder.maxRoutes(Integer.parseInt(maxRoutes.trim()));
+        }
+
+        String resources = env.get(RESOURCES_ENV);
+        if (resources != null && !resources.trim().isEmpty()) {
+            builder.resourcesEnabled(Boolean.parseBoolean(resources.trim()));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns a builder for creating custom configuration.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // ========== Getters ==========
+
+    public boolean isJmxEnabled() {
+        return jmxEnabled;
+    }
+
+    public boolean isMicrometerEnabled() {
+        return micrometerEnabled;
+    }
+
+    public int getMaxRoutes() {
+        return maxRoutes;
+    }
+
+    public boolean isResourcesEnabled() {
+        return resourcesEnabled;
+    }
+
+    /**
+     * Builder for creating MetricsConfig instances with custom values.
+     */
+    public static class Builder {
+        private boolean jmxEnabled = true;
+        private boolean micrometerEnabled = true;
+        private int maxRoutes = DEFAULT_MAX_ROUTES;
+        private boolean resourcesEnabled;
+
+        public Builder jmxEnabled(boolean jmxEnabled) {
+            this.jmxEnabled = jmxEnabled;
+            return this;
+        }
+
+        public Builder micrometerEnabled(boolean micrometerEnabled) {
+            this.micrometerEnabled = micrometerEnabled;
+            return this;
+        }
+
+        public Builder maxRoutes(int maxRoutes) {
+            this.maxRoutes = maxRoutes;
+            return this;
+        }
+
+        public Builder resourcesEnabled(boolean resourcesEnabled) {
+            this.resourcesEnabled = resourcesEnabled;
+            return this;
+        }
+
+        public MetricsConfig build() {
+            return new MetricsConfig(this);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package io.catalyst.bridge.config;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuration for the durable outbound webhook spool.
+ *
+ * <p>The spool is disabled by default. It is enabled with the
+ * {@code CATALYST_SPOOL_ENABLED=true} environment variable; the remaining
+ * settings are optional:</p>
+ * <ul>
+ *   <li>{@code CATALYST_SPOOL_DIR} - spool directory (default: {@code catalyst-spool} next to the JAR)</li>
+ *   <li>{@code CATALYST_SPOOL_SEGMENT_BYTES} - segment file size before rolling (default 4 MB)</li>
+ *   <li>{@code CATALYST_SPOOL_MAX_ENTRIES} - maximum pending requests (default 10,000)</li>
+ *   <li>{@code CATALYST_SPOOL_MAX_ATTEMPTS} - replay attempts of one request before it is moved to
+ *       the dead-letter file (default 1,000)</li>
+ * </ul>
+ *
+ * <p>Only requests that provably did not reach n8n are spooled: connect
+ * failures and 502/503/504 responses. Spooled requests are stored in plain
+ * text in the segment files, including their headers; credentials sent as
+ * headers (e.g. n8n header auth) are therefore persisted in the spool
+ * directory, which should be readable by the engine's user only. An entry is
+ * written when the request is spooled, independently of the job's
+ * transaction: if that transaction later rolls back and the job is retried,
+ * the request may be delivered twice, so webhooks that must not run twice
+ * should use an {@code idempotencyKey}.</p>
+ *
+ * @see io.catalyst.bridge.spool.WebhookSpool
+ */
+public final class SpoolConfig {
+
+    /** Environment variable enabling the spool */
+    public static final String ENABLED_ENV = "CATALYST_SPOOL_ENABLED";
+
+    /** Environment variable overriding the spool directory */
+    public static final String DIR_ENV = "CATALYST_SPOOL_DIR";
+
+    /** Environment variable overriding the segment size */
+    public static final String SEGMENT_BYTES_ENV = "CATALYST_SPOOL_SEGMENT_BYTES";
+
+    /** Environment variable overriding the backlog limit */
+    public static final String MAX_ENTRIES_ENV = "CATALYST_SPOOL_MAX_ENTRIES";
+
+    /** Environment variable overriding the replay attempts per request */
+    public static final String MAX_ATTEMPTS_ENV = "CATALYST_SPOOL_MAX_ATTEMPTS";
+
+    /** Default segment size: 4 MB */
+    public static final long DEFAULT_SEGMENT_BYTES = 4L * 1024 * 1024;
+
+    /** Default maximum number of pending requests */
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    /** Default replay attempts per request before it is dead-lettered */
+    public static final int DEFAULT_MAX_ATTEMPTS = 1_000;
+
+    /** Default delay before the first replay retry */
+    public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofSeconds(1);
+
+    /** Default upper bound for the replay retry delay */
+    public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long segmentBytes;
+    private final int maxEntries;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    private SpoolConfig(Builder builder) {
+        this.enabled = builder.enabled;
+        this.directory = builder.directory;
+        this.segmentBytes = builder.segmentBytes;
+        this.maxEntries = builder.maxEntries;
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoff = builder.initialBackoff;
+        this.maxBackoff = builder.maxBackoff;
+    }
+
+    /**
+     * Reads the configuration from environment variables.
+     *
+     * @return the spool configuration
+     */
+    public static SpoolConfig fromEnvironment() {
+        return fromEnvironment(System.getenv());
+    }
+
+    /**
+     * Reads the configuration from the given environment map.
+     *
+     * @param env the environment variables
+     * @return the spool configuration
+     */
+    public static SpoolConfig fromEnvironment(Map<String, String> env) {
+        Builder builder = builder()
+            .enabled(Boolean.parseBoolean(env.getOrDefault(ENABLED_ENV, "false").trim()));
+
+        String dir = env.get(DIR_ENV);
+        builder.directory(dir != null && !dir.trim().isEmpty()
+            ? Paths.get(dir.trim())
+            : new CatalystPaths().getSpoolDirectory());
+
+        String segmentBytes = env.get(SEGMENT_BYTES_ENV);
+        if (segmentBytes != null && !segmentBytes.trim().isEmpty()) {
+            builder.segmentBytes(Long.parseLong(segmentBytes.trim()));
+        }
+
+        String maxEntries = env.get(MAX_ENTRIES_ENV);
+        if (maxEntries != null && !maxEntries.trim().isEmpty()) {
+            builder.maxEntries(Integer.parseInt(maxEntries.trim()));
+        }
+
+        String maxAttempts = env.get(MAX_ATTEMPTS_ENV);
+        if (maxAttempts != null && !maxAttempts.trim().isEmpty()) {
+            builder.maxAttempts(Integer.parseInt(maxAttempts.trim()));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns a builder for creating custom configuration.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // ========== Getters ==========
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public long getSegmentBytes() {
+        return segmentBytes;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    /**
+     * Builder for creating SpoolConfig instances with custom values.
+     */
+    public static class Builder {
+        private boolean enabled;
+        private Path directory;
+        private long segmentBytes = DEFAULT_SEGMENT_BYTES;
+        private int maxEntries = DEFAULT_MAX_ENTRIES;
+        private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+        private Duration initialBackoff = DEFAULT_INITIAL_BACKOFF;
+        private Duration maxBackoff = DEFAULT_MAX_BACKOFF;
+
+        public Builder enabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        public Builder directory(Path directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        public Builder segmentBytes(long segmentBytes) {
+            this.segmentBytes = segmentBytes;
+            return this;
+        }
+
+        public Builder maxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        public Builder maxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder initialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+            return this;
+        }
+
+        public Builder maxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        public SpoolConfig build() {
+            return new SpoolConfig(this);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package io.catalyst.bridge.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/**
+ * Configuration for the shared-memory activity counters and the read-only
+ * status endpoint.
+ *
+ * <p>With stats enabled, the bridge keeps rolling counters of its webhook
+ * calls per connector route, and the current limp mode and usage, in a small
+ * memory-mapped file. Updating them takes a few atomic operations and no
+ * locks. With a port set, the counters are also served as JSON over HTTP, for
+ * the Control Panel dashboard; serving them never touches the engine
+ * database or the usage file.</p>
+ *
+ * <p>Environment variables:</p>
+ * <ul>
+ *   <li>{@code CATALYST_STATS_ENABLED} - keep activity counters (default false)</li>
+ *   <li>{@code CATALYST_STATS_FILE} - the memory-mapped file (default: {@code catalyst-stats.bin} next to the JAR)</li>
+ *   <li>{@code CATALYST_STATS_MAX_CONNECTORS} - routes counted separately, at most 4096; further
+ *       routes are counted together as {@code other} (default 64)</li>
+ *   <li>{@code CATALYST_STATS_PORT} - port of the status endpoint (default: no endpoint)</li>
+ *   <li>{@code CATALYST_STATS_BIND_ADDRESS} - address the status endpoint listens on (default 127.0.0.1)</li>
+ * </ul>
+ *
+ * <p>The config is read lazily by the first execution, so malformed numbers
+ * are logged and replaced by their default instead of failing it.</p>
+ *
+ * @see io.catalyst.bridge.stats.BridgeStats
+ */
+public final class StatsConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatsConfig.class);
+
+    /** Environment variable enabling the counters */
+    public static final String ENABLED_ENV = "CATALYST_STATS_ENABLED";
+
+    /** Environment variable overriding the stats file */
+    public static final String FILE_ENV = "CATALYST_STATS_FILE";
+
+    /** Environment variable for the number of separately counted routes */
+    public static final String MAX_CONNECTORS_ENV = "CATALYST_STATS_MAX_CONNECTORS";
+
+    /** Environment variable for the status endpoint port */
+    public static final String PORT_ENV = "CATALYST_STATS_PORT";
+
+    /** Environment variable for the status endpoint bind address */
+    public static final String BIND_ADDRESS_ENV = "CATALYST_STATS_BIND_ADDRESS";
+
+    /** Default number of separately counted routes */
+    public static final int DEFAULT_MAX_CONNECTORS = 64;
+
+    /** Largest number of separately counted routes, about 5 MB of counters */
+    public static final int MAX_CONNECTORS = 4096;
+
+    /** Port value meaning no status endpoint */
+    public static final int NO_PORT = -1;
+
+    /** Default status endpoint bind address, local connections only */
+    public static final String DEFAULT_BIND_ADDRESS = "127.0.0.1";
+
+    private final boolean enabled;
+    private final Path file;
+    private final int maxConnectors;
+    private final int port;
+    private final String bindAddress;
+
+    private StatsConfig(Builder builder) {
+        this.enabled = builder.enabled;
+        this.file = builder.file;
+        this.maxConnectors = builder.maxConnectors;
+        this.port = builder.port;
+        this.bindAddress = builder.bindAddress;
+    }
+
+    /**
+     * Reads the configuration from environment variables.
+     *
+     * @return the stats configuration
+     */
+    public static StatsConfig fromEnvironment() {
+        return fromEnvironment(System.getenv());
+    }
+
+    /**
+     * Reads the configuration from the given environment map.
+     *
+     * @param env the environment variables
+     * @return the stats configuration
+     */
+    public static StatsConfig fromEnvironment(Map<String, String> env) {
+        Builder builder = builder()
+            .enabled(Boolean.parseBoolean(env.getOrDefault(ENABLED_ENV, "false").trim()));
+
+        String file = env.get(FILE_ENV);
+        builder.file(file != null && !file.trim().isEmpty()
+            ? Paths.get(file.trim())
+            : new CatalystPaths().getStatsFilePath());
+
+        String maxConnectors = env.get(MAX_CONNECTORS_ENV);
+        if (maxConnectors != null && !maxConnectors.trim().isEmpty()) {
+            builder.maxConnectors(parseInt(MAX_CONNECTORS_ENV, maxConnectors, 1, Integer.MAX_VALUE,
+                DEFAULT_MAX_CONNECTORS));
+        }
+
+        String port = env.get(PORT_ENV);
+        if (port != null && !port.trim().isEmpty()) {
+            builder.port(parseInt(PORT_ENV, port, 0, 65535, NO_PORT));
+        }
+
+        String bindAddress = env.get(BIND_ADDRESS_ENV);
+        if (bindAddress != null && !bindAddress.trim().isEmpty()) {
+            builder.bindAddress(bindAddress.trim());
+        }
+
+        return builder.build();
+    }
+
+    private static int parseInt(String name, String value, int min, int max, int defaultValue) {
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            if (parsed >= min && parsed <= max) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Logged below
+        }
+        LOGGER.warn("Invalid {} value: {}, using default: {}", name, value, defaultValue);
+        return defaultValue;
+    }
+
+    /**
+     * Returns a builder for creating custom configuration.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns true if the counters are served over HTTP.
+     *
+     * @return true if enabled and a port is set
+     */
+    public boolean isEndpointEnabled() {
+        return enabled && port != NO_PORT;
+    }
+
+    // ========== Getters ==========
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public int getMaxConnectors() {
+        return maxConnectors;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public String getBindAddress() {
+        return bindAddress;
+    }
+
+    /**
+     * Builder for creating StatsConfig instances with custom values.
+     */
+    public static class Builder {
+        private boolean enabled;
+        private Path file;
+        private int maxConnectors = DEFAULT_MAX_CONNECTORS;
+        private int port = NO_PORT;
+        private String bindAddress = DEFAULT_BIND_ADDRESS;
+
+        public Builder enabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        public Builder file(Path file) {
+            this.file = file;
+            return this;
+        }
+
+        public Builder maxConnectors(int maxConnectors) {
+            this.maxConnectors = maxConnectors;
+            return this;
+        }
+
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        public Builder bindAddress(String bindAddress) {
+            this.bindAddress = bindAddress;
+            return this;
+        }
+
+        public StatsConfig build() {
+            return new StatsConfig(this);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package io.catalyst.bridge.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuration for per-execution phase timings.
+ *
+ * <p>Executions taking at least the threshold are kept in an in-memory ring
+ * buffer of the most recent slow executions, readable over JMX. A task can
+ * additionally receive its own timings as a local variable through the
+ * {@code timingsVariable} input parameter.</p>
+ *
+ * <p>Environment variables:</p>
+ * <ul>
+ *   <li>{@code CATALYST_TIMING_SLOW_THRESHOLD_MS} - executions at least this slow are kept (default 1000)</li>
+ *   <li>{@code CATALYST_TIMING_SLOW_LOG_SIZE} - slow executions kept; 0 disables the log (default 100)</li>
+ * </ul>
+ *
+ * @see io.catalyst.bridge.metrics.SlowExecutionLog
+ */
+public final class TimingConfig {
+
+    /** Environment variable for the slow execution threshold in milliseconds */
+    public static final String SLOW_THRESHOLD_ENV = "CATALYST_TIMING_SLOW_THRESHOLD_MS";
+
+    /** Environment variable for the number of slow executions kept */
+    public static final String SLOW_LOG_SIZE_ENV = "CATALYST_TIMING_SLOW_LOG_SIZE";
+
+    /** Default slow execution threshold */
+    public static final Duration DEFAULT_SLOW_THRESHOLD = Duration.ofSeconds(1);
+
+    /** Default number of slow executions kept */
+    public static final int DEFAULT_SLOW_LOG_SIZE = 100;
+
+    private final Duration slowThreshold;
+    private final int slowLogSize;
+
+    private TimingConfig(Builder builder) {
+        this.slowThreshold = builder.slowThreshold;
+        this.slowLogSize = builder.slowLogSize;
+    }
+
+    /**
+     * Reads the configuration from environment variables.
+     *
+     * @return the timing configuration
+     */
+    public static TimingConfig fromEnvironment() {
+        return fromEnvironment(System.getenv());
+    }
+
+    /**
+     * Reads the configuration from the given environment map.
+     *
+     * @param env the environment variables
+     * @return the timing configuration
+     */
+    public static TimingConfig fromEnvironment(Map<String, String> env) {
+        Builder builder = builder();
+
+        String threshold = env.get(SLOW_THRESHOLD_ENV);
+        if (threshold != null && !threshold.trim().isEmpty()) {
+            builder.slowThreshold(Duration.ofMillis(Long.parseLong(threshold.trim())));
+        }
+
+        String size = env.get(SLOW_LOG_SIZE_ENV);
+        if (size != null && !size.trim().isEmpty()) {
+            builder.slowLogSize(Integer.parseInt(size.trim()));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns a builder for creating custom configuration.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns true if slow executions are kept.
+     *
+     * @return true if the slow execution log has room for at least one entry
+     */
+    public boolean isSlowLogEnabled() {
+        return slowLogSize > 0;
+    }
+
+    // ========== Getters ==========
+
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    public int getSlowLogSize() {
+        return slowLogSize;
+    }
+
+    /**
+     * Builder for creating TimingConfig instances with custom values.
+     */
+    public static class Builder {
+        private Duration slowThreshold = DEFAULT_SLOW_THRESHOLD;
+        private int slowLogSize = DEFAULT_SLOW_LOG_SIZE;
+
+        public Builder slowThreshold(Duration slowThreshold) {
+            this.slowThreshold = slowThreshold;
+            return this;
+        }
+
+        public Builder slowLogSize(int slowLogSize) {
+            this.slowLogSize = slowLogSize;
+            return this;
+        }
+
+        public TimingConfig build() {
+            return new TimingConfig(this);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package io.catalyst.bridge.config;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuration for W3C trace-context propagation and span export.
+ *
+ * <p>With tracing enabled, each connector execution is a span, parented to
+ * the trace in the {@code traceparent} process variable if there is one, and
+ * each webhook call is a child span whose context is sent to n8n in the
+ * {@code traceparent} and {@code tracestate} headers. Trace and span ids are
+ * put in the SLF4J MDC for the duration of the execution.</p>
+ *
+ * <p>Spans are exported in batches from a background thread, either to a
+ * file of OTLP/JSON lines or to a custom {@code SpanExporter}. Without an
+ * exporter, context is still propagated and logged.</p>
+ *
+ * <p>Environment variables:</p>
+ * <ul>
+ *   <li>{@code CATALYST_TRACING_ENABLED} - create spans and propagate context (default true)</li>
+ *   <li>{@code CATALYST_TRACING_PARENT_VARIABLE} - process variable holding the incoming
+ *       {@code traceparent} (default traceparent; {@code tracestate} is read from the variable of that name)</li>
+ *   <li>{@code CATALYST_TRACING_FILE} - file to append spans to as OTLP/JSON lines (default none)</li>
+ *   <li>{@code CATALYST_TRACING_FILE_MAX_MB} - size at which the file is rolled over to {@code .1} (default 100)</li>
+ *   <li>{@code CATALYST_TRACING_EXPORTER} - class name of a custom {@code SpanExporter}, instead of the file</li>
+ *   <li>{@code CATALYST_TRACING_BATCH_SIZE} - spans per export (default 512)</li>
+ *   <li>{@code CATALYST_TRACING_QUEUE_SIZE} - spans waiting for export; further spans are dropped (default 2048)</li>
+ *   <li>{@code CATALYST_TRACING_EXPORT_INTERVAL_MS} - maximum delay before queued spans are exported (default 5000)</li>
+ * </ul>
+ *
+ * @see io.catalyst.bridge.tracing.Tracer
+ */
+public final class TracingConfig {
+
+    /** Environment variable enabling tracing */
+    public static final String ENABLED_ENV = "CATALYST_TRACING_ENABLED";
+
+    /** Environment variable for the process variable with the incoming trace */
+    public static final String PARENT_VARIABLE_ENV = "CATALYST_TRACING_PARENT_VARIABLE";
+
+    /** Environment variable for the OTLP/JSON span file */
+    public static final String FILE_ENV = "CATALYST_TRACING_FILE";
+
+    /** Environment variable for the span file size limit */
+    public static final String FILE_MAX_MB_ENV = "CATALYST_TRACING_FILE_MAX_MB";
+
+    /** Environment variable for a custom exporter class */
+    public static final String EXPORTER_ENV = "CATALYST_TRACING_EXPORTER";
+
+    /** Environment variable for the export batch size */
+    public static final String BATCH_SIZE_ENV = "CATALYST_TRACING_BATCH_SIZE";
+
+    /** Environment variable for the export queue size */
+    public static final String QUEUE_SIZE_ENV = "CATALYST_TRACING_QUEUE_SIZE";
+
+    /** Environment variable for the export interval */
+    public static final String EXPORT_INTERVAL_ENV = "CATALYST_TRACING_EXPORT_INTERVAL_MS";
+
+    /** Default process variable with the incoming trace */
+    public static final String DEFAULT_PARENT_VARIABLE = "traceparent";
+
+    /** Default span file size limit */
+    public static final long DEFAULT_FILE_MAX_BYTES = 100L * 1024 * 1024;
+
+    /** Default export batch size */
+    public static final int DEFAULT_BATCH_SIZE = 512;
+
+    /** Default export queue size */
+    public static final int DEFAULT_QUEUE_SIZE = 2048;
+
+    /** Default export interval */
+    public static final Duration DEFAULT_EXPORT_INTERVAL = Duration.ofSeconds(5);
+
+    private final boolean enabled;
+    private final String parentVariable;
+    private final Path file;
+    private final long fileMaxBytes;
+    private final String exporterClass;
+    private final int batchSize;
+    private final int queueSize;
+    private final Duration exportInterval;
+
+    private TracingConfig(Builder builder) {
+        this.enabled = builder.enabled;
+        this.parentVariable = builder.parentVariable;
+        this.file = builder.file;
+        this.fileMaxBytes = builder.fileMaxBytes;
+        this.exporterClass = builder.exporterClass;
+        this.batchSize = builder.batchSize;
+        this.queueSize = builder.queueSize;
+        this.exportInterval = builder.exportInterval;
+    }
+
+    /**
+     * Reads the configuration from environment variables.
+     *
+     * @return the tracing configuration
+     */
+    public static TracingConfig fromEnvironment() {
+        return fromEnvironment(System.getenv());
+    }
+
+    /**
+     * Reads the configuration from the given environment map.
+     *
+     * @param env the environment variables
+     * @return the tracing configuration
+     */
+    public static TracingConfig fromEnvironment(Map<String, String> env) {
+        Builder builder = builder();
+
+        String enabled = env.get(ENABLED_ENV);
+        if (enabled != null && !enabled.trim().isEmpty()) {
+            builder.enabled(Boolean.parseBoolean(enabled.trim()));
+        }
+
+        String parentVariable = env.get(PARENT_VARIABLE_ENV);
+        if (parentVariable != null && !parentVariable.trim().isEmpty()) {
+            builder.parentVariable(parentVariable.trim());
+        }
+
+        String file = env.get(FILE_ENV);
+        if (file != null && !file.trim().isEmpty()) {
+            builder.file(Paths.get(file.trim()));
+        }
+
+        String fileMaxMb = env.get(FILE_MAX_MB_ENV);
+        if (fileMaxMb != null && !fileMaxMb.trim().isEmpty()) {
+            builder.fileMaxBytes(Long.parseLong(fileMaxMb.trim()) * 1024 * 1024);
+        }
+
+        String exporter = env.get(EXPORTER_ENV);
+        if (exporter != null && !exporter.trim().isEmpty()) {
+            builder.exporterClass(exporter.trim());
+        }
+
+        String batchSize = env.get(BATCH_SIZE_ENV);
+        if (batchSize != null && !batchSize.trim().isEmpty()) {
+            builder.batchSize(Integer.parseInt(batchSize.trim()));
+        }
+
+        String queueSize = env.get(QUEUE_SIZE_ENV);
+        if (queueSize != null && !queueSize.trim().isEmpty()) {
+            builder.queueSize(Integer.parseInt(queueSize.trim()));
+        }
+
+        String interval = env.get(EXPORT_INTERVAL_ENV);
+        if (interval != null && !interval.trim().isEmpty()) {
+            builder.exportInterval(Duration.ofMillis(Long.parseLong(interval.trim())));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns a builder for creating custom configuration.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns true if spans are exported somewhere.
+     *
+     * @return true if a span file or exporter class is configured
+     */
+    public boolean isExportEnabled() {
+        return file != null || exporterClass != null;
+    }
+
+    // ========== Getters ==========
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getParentVariable() {
+        return parentVariable;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public long getFileMaxBytes() {
+        return fileMaxBytes;
+    }
+
+    public String getExporterClass() {
+        return exporterClass;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public Duration getExportInterval() {
+        return exportInterval;
+    }
+
+    /**
+     * Builder for creating TracingConfig instances with custom values.
+     */
+    public static class Builder {
+        private boolean enabled = true;
+        private String parentVariable = DEFAULT_PARENT_VARIABLE;
+        private Path file;
+        private long fileMaxBytes = DEFAULT_FILE_MAX_BYTES;
+        private String exporterClass;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private int queueSize = DEFAULT_QUEUE_SIZE;
+        private Duration exportInterval = DEFAULT_EXPORT_INTERVAL;
+
+        public Builder enabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        public Builder parentVariable(String parentVariable) {
+            this.parentVariable = parentVariable;
+            return this;
+        }
+
+        public Builder file(Path file) {
+            this.file = file;
+            return this;
+        }
+
+        public Builder fileMaxBytes(long fileMaxBytes) {
+            this.fileMaxBytes = fileMaxBytes;
+            return this;
+        }
+
+        public Builder exporterClass(String exporterClass) {
+            this.exporterClass = exporterClass;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder queueSize(int queueSize) {
+            this.queueSize = queueSize;
+            return this;
+        }
+
+        public Builder exportInterval(Duration exportInterval) {
+            this.exportInterval = exportInterval;
+            return this;
+        }
+
+        public TracingConfig build() {
+            return new TracingConfig(this);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package io.catalyst.bridge.config;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-endpoint transport selection for webhook calls.
+ *
+ * <p>By default every call goes over TCP. Endpoints co-located with the
+ * engine can be routed over a Unix domain socket by mapping their base URL
+ * to a socket path with {@code CATALYST_UNIX_SOCKETS}; entries are separated
+ * by {@code ;}:</p>
+ * <pre>
+ * CATALYST_UNIX_SOCKETS=http://n8n:5678=/var/run/n8n/n8n.sock
+ * </pre>
+ *
+ * <p>The webhook URL keeps its {@code http://} form and is allowlisted
+ * exactly as before; only the byte transport changes.</p>
+ *
+ * <p>Endpoints behind an HTTP/2-capable proxy can use HTTP/2 (h2c with prior
+ * knowledge for {@code http://}, ALPN-negotiated h2 for {@code https://}) by
+ * listing their base URLs in {@code CATALYST_HTTP2_ENDPOINTS}, or {@code *}
+ * for all endpoints. Concurrent calls are multiplexed as streams over a few
+ * connections. Flow control is tuned with:</p>
+ * <ul>
+ *   <li>{@code CATALYST_HTTP2_MAX_CONCURRENT_STREAMS} - streams per connection (default 100)</li>
+ *   <li>{@code CATALYST_HTTP2_INITIAL_WINDOW_SIZE} - per-stream receive window in bytes (default 65535)</li>
+ *   <li>{@code CATALYST_HTTP2_MAX_FRAME_SIZE} - largest frame accepted in bytes (default 16384)</li>
+ * </ul>
+ *
+ * @see io.catalyst.bridge.http.WebhookClient
+ */
+public final class TransportConfig {
+
+    /** Environment variable mapping base URLs to Unix socket paths */
+    public static final String UNIX_SOCKETS_ENV = "CATALYST_UNIX_SOCKETS";
+
+    /** Environment variable listing base URLs that use HTTP/2 ({@code *} for all) */
+    public static final String HTTP2_ENDPOINTS_ENV = "CATALYST_HTTP2_ENDPOINTS";
+
+    /** Environment variable for the HTTP/2 concurrent stream limit */
+    public static final String HTTP2_MAX_CONCURRENT_STREAMS_ENV = "CATALYST_HTTP2_MAX_CONCURRENT_STREAMS";
+
+    /** Environment variable for the HTTP/2 initial stream window size */
+    public static final String HTTP2_INITIAL_WINDOW_SIZE_ENV = "CATALYST_HTTP2_INITIAL_WINDOW_SIZE";
+
+    /** Environment variable for the HTTP/2 maximum frame size */
+    public static final String HTTP2_MAX_FRAME_SIZE_ENV = "CATALYST_HTTP2_MAX_FRAME_SIZE";
+
+    /** Value of {@link #HTTP2_ENDPOINTS_ENV} that enables HTTP/2 for every endpoint */
+    public static final String ALL_ENDPOINTS = "*";
+
+    /** Default concurrent streams per HTTP/2 connection */
+    public static final int DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS = 100;
+
+    /** Default HTTP/2 initial window size (protocol default) */
+    public static final int DEFAULT_HTTP2_INITIAL_WINDOW_SIZE = 65535;
+
+    /** Default HTTP/2 maximum frame size (protocol default) */
+    public static final int DEFAULT_HTTP2_MAX_FRAME_SIZE = 16384;
+
+    /** How long a route that fell back to HTTP/1.1 stays on HTTP/1.1 before HTTP/2 is retried */
+    public static final Duration DEFAULT_HTTP1_FALLBACK_DURATION = Duration.ofMinutes(10);
+
+    private final Map<String, Path> unixSockets;
+    private final List<String> http2Endpoints;
+    private final int http2MaxConcurrentStreams;
+    private final int http2InitialWindowSize;
+    private final int http2MaxFrameSize;
+    private final Duration http1FallbackDuration;
+
+    private TransportConfig(Builder builder) {
+        this.unixSockets = Collections.unmodifiableMap(new LinkedHashMap<>(builder.unixSockets));
+        this.http2Endpoints = Collections.unmodifiableList(new ArrayList<>(builder.http2Endpoints));
+        this.http2MaxConcurrentStreams = builder.http2MaxConcurrentStreams;
+        this.http2InitialWindowSize = builder.http2InitialWindowSize;
+        this.http2MaxFrameSize = builder.http2MaxFrameSize;
+        this.http1FallbackDuration = builder.http1FallbackDuration;
+    }
+
+    /**
+     * Reads the configuration from environment variables.
+     *
+     * @return the transport configuration
+     */
+    public static TransportConfig fromEnvironment() {
+        return fromEnvironment(System.getenv());
+    }
+
+    /**
+     * Reads the configuration from the given environment map.
+     *
+     * @param env the environment variables
+     * @return the transport configuration
+     * @throws IllegalArgumentException if an entry is malformed
+     */
+    public static TransportConfig fromEnvironment(Map<String, String> env) {
+        Builder builder = builder();
+
+        String sockets = env.get(UNIX_SOCKETS_ENV);
+        if (sockets != null && !sockets.trim().isEmpty()) {
+            for (String entry : sockets.split(";")) {
+                if (entry.trim().isEmpty()) {
+                    continue;
+                }
+                int separator = entry.indexOf('=');
+                if (separator <= 0 || separator == entry.length() - 1) {
+                    throw new IllegalArgumentException("Invalid entry '" + entry.trim() + "' in "
+                        + UNIX_SOCKETS_ENV + ", expected http://host:port=/path/to/socket");
+                }
+                builder.unixSocket(entry.substring(0, separator).trim(),
+                    Paths.get(entry.substring(separator + 1).trim()));
+            }
+        }
+
+        String http2 = env.get(HTTP2_ENDPOINTS_ENV);
+        if (http2 != null && !http2.trim().isEmpty()) {
+            for (String endpoint : http2.split(",")) {
+                if (!endpoint.trim().isEmpty()) {
+                    builder.http2Endpoint(endpoint.trim());
+                }
+            }
+        }
+
+        String streams = env.get(HTTP2_MAX_CONCURRENT_STREAMS_ENV);
+        if (streams != null && !streams.trim().isEmpty()) {
+            builder.http2MaxConcurrentStreams(Integer.parseInt(streams.trim()));
+        }
+
+        String window = env.get(HTTP2_INITIAL_WINDOW_SIZE_ENV);
+        if (window != null && !window.trim().isEmpty()) {
+            builder.http2InitialWindowSize(Integer.parseInt(window.trim()));
+        }
+
+        String frame = env.get(HTTP2_MAX_FRAME_SIZE_ENV);
+        if (frame != null && !frame.trim().isEmpty()) {
+            builder.http2MaxFrameSize(Integer.parseInt(frame.trim()));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns a builder for creating custom configuration.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // ========== Getters ==========
+
+    public Map<String, Path> getUnixSockets() {
+        return unixSockets;
+    }
+
+    public List<String> getHttp2Endpoints() {
+        return http2Endpoints;
+    }
+
+    public int getHttp2MaxConcurrentStreams() {
+        return http2MaxConcurrentStreams;
+    }
+
+    public int getHttp2InitialWindowSize() {
+        return http2InitialWindowSize;
+    }
+
+    public int getHttp2MaxFrameSize() {
+        return http2MaxFrameSize;
+    }
+
+    public Duration getHttp1FallbackDuration() {
+        return http1FallbackDuration;
+    }
+
+    /**
+     * Builder for creating TransportConfig instances with custom values.
+     */
+    public static class Builder {
+        private final Map<String, Path> unixSockets = new LinkedHashMap<>();
+        private final List<String> http2Endpoints = new ArrayList<>();
+        private int http2MaxConcurrentStreams = DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS;
+        private int http2InitialWindowSize = DEFAULT_HTTP2_INITIAL_WINDOW_SIZE;
+        private int http2MaxFrameSize = DEFAULT_HTTP2_MAX_FRAME_SIZE;
+        private Duration http1FallbackDuration = DEFAULT_HTTP1_FALLBACK_DURATION;
+
+        public Builder unixSocket(String baseUrl, Path socketPath) {
+            this.unixSockets.put(normalize(baseUrl), socketPath);
+            return this;
+        }
+
+        public Builder http2Endpoint(String baseUrl) {
+            this.http2Endpoints.add(normalize(baseUrl));
+            return this;
+        }
+
+        public Builder http2MaxConcurrentStreams(int http2MaxConcurrentStreams) {
+            this.http2MaxConcurrentStreams = http2MaxConcurrentStreams;
+            return this;
+        }
+
+        public Builder http2InitialWindowSize(int http2InitialWindowSize) {
+            this.http2InitialWindowSize = http2InitialWindowSize;
+            return this;
+        }
+
+        public Builder http2MaxFrameSize(int http2MaxFrameSize) {
+            this.http2MaxFrameSize = http2MaxFrameSize;
+            return this;
+        }
+
+        public Builder http1FallbackDuration(Duration http1FallbackDuration) {
+            this.http1FallbackDuration = http1FallbackDuration;
+            return this;
+        }
+
+        private static String normalize(String baseUrl) {
+            return baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        }
+
+        public TransportConfig build() {
+            return new TransportConfig(this);
+        }
+    }
+}
@@ -5,6 +5,17 @@
  * <ul>
  *   <li>{@link io.catalyst.bridge.config.EnforcementConfig} - Enforcement thresholds and constants</li>
  *   <li>{@link io.catalyst.bridge.config.CatalystPaths} - File path resolution for license and usage files</li>
+ *   <li>{@link io.catalyst.bridge.config.SpoolConfig} - Durable webhook spool settings</li>
+ *   <li>{@link io.catalyst.bridge.config.EndpointPoolConfig} - n8n endpoint pools, health checks and ejection</li>
+ *   <li>{@link io.catalyst.bridge.config.HedgingConfig} - Hedged request delay and budget</li>
+ *   <li>{@link io.catalyst.bridge.config.TransportConfig} - Per-endpoint transport (Unix domain sockets, HTTP/2)</li>
+ *   <li>{@link io.catalyst.bridge.config.CompressionConfig} - Request and response compression</li>
+ *   <li>{@link io.catalyst.bridge.config.IdempotencyConfig} - Local deduplication of retried calls</li>
+ *   <li>{@link io.catalyst.bridge.config.MetricsConfig} - Call metrics publishing (JMX, Micrometer)</li>
+ *   <li>{@link io.catalyst.bridge.config.TimingConfig} - Slow execution log of phase timings</li>
+ *   <li>{@link io.catalyst.bridge.config.TracingConfig} - Trace-context propagation and span export</li>
+ *   <li>{@link io.catalyst.bridge.config.StatsConfig} - Shared-memory activity counters and status endpoint</li>
+ *   <li>{@link io.catalyst.bridge.config.LogThrottleConfig} - Throttled, summarized failure logging</li>
  * </ul>
  *
  * <p>Key configuration areas:</p>
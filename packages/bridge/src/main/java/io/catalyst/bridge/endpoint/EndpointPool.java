@@ -0,0 +1,245 @@
+package io.catalyst.bridge.endpoint;
+
+import io.catalyst.bridge.config.EndpointPoolConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A named pool of n8n base URLs with load balancing and health-based ejection.
+ *
+ * <p>Selection uses power-of-two-choices over least outstanding requests:
+ * two distinct available members are sampled at random and the one with the
+ * lower {@code (outstanding + 1) / weight} wins. The weight ramps up linearly
+ * during the slow-start window after a member (re)joins, so a freshly
+ * restarted n8n is not flooded.</p>
+ *
+ * <p>A member is unavailable while it fails active health checks or while it
+ * is ejected as an outlier after too many consecutive failed calls. Ejection
+ * time grows with each ejection and at most
+ * {@link EndpointPoolConfig#getMaxEjectionPercent()} of the pool is ejected at
+ * once. If no member is available, all members are used (panic mode) rather
+ * than failing every call; entering and leaving panic mode is logged once
+ * each.</p>
+ *
+ * @see EndpointRegistry
+ * @see PoolMember
+ */
+public class EndpointPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EndpointPool.class);
+
+    private final String name;
+    private final List<PoolMember> members;
+    private final EndpointPoolConfig config;
+    private final Clock clock;
+    private final Random random;
+    private final Object lock = new Object();
+    private final AtomicBoolean panicMode = new AtomicBoolean();
+
+    /**
+     * Creates a pool.
+     *
+     * @param name the pool name used in {@code pool://name/...} URLs
+     * @param baseUrls the n8n base URLs
+     * @param config thresholds for ejection and slow start
+     * @param clock the clock for ejection and slow-start timing
+     * @param random the random source for member sampling
+     */
+    public EndpointPool(String name, List<String> baseUrls, EndpointPoolConfig config,
+                        Clock clock, Random random) {
+        if (baseUrls.isEmpty()) {
+            throw new IllegalArgumentException("Endpoint pool '" + name + "' has no members");
+        }
+        this.name = name;
+        this.config = config;
+        this.clock = clock;
+        this.random = random;
+
+        // Members configured at startup do not slow-start
+        long start = clock.millis() - config.getSlowStartWindow().toMillis();
+        List<PoolMember> list = new ArrayList<>();
+        for (String baseUrl : baseUrls) {
+            list.add(new PoolMember(baseUrl, start));
+        }
+        this.members = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Returns the pool name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the pool members.
+     *
+     * @return unmodifiable member list
+     */
+    public List<PoolMember> getMembers() {
+        return members;
+    }
+
+    /**
+     * Returns true while no member is available and calls go to all members.
+     *
+     * @return true in panic mode
+     */
+    public boolean isPanicMode() {
+        return panicMode.get();
+    }
+
+    /**
+     * Selects a member for a request and reserves an outstanding slot on it.
+     *
+     * @param path the webhook path appended to the member base URL
+     * @return the selection; callers must {@link EndpointSelection#complete(boolean)} it
+     */
+    public EndpointSelection select(String path) {
+        return select(path, null);
+    }
+
+    /**
+     * Selects an available member other than the given one, for hedging.
+     *
+     * @param path the webhook path appended to the member base URL
+     * @param exclude the member already serving the request
+     * @return the selection, or null if no other member is available
+     */
+    EndpointSelection selectOther(String path, PoolMember exclude) {
+        return select(path, exclude);
+    }
+
+    private EndpointSelection select(String path, PoolMember exclude) {
+        long now = clock.millis();
+        long slowStart = config.getSlowStartWindow().toMillis();
+
+        List<PoolMember> candidates = new ArrayList<>(members.size());
+        for (PoolMember member : members) {
+            if (member != exclude && member.isAvailable(now)) {
+                candidates.add(member);
+            }
+        }
+        if (candidates.isEmpty()) {
+            if (exclude != null) {
+                return null;
+            }
+            if (panicMode.compareAndSet(false, true)) {
+                LOGGER.warn("No available members in endpoint pool '{}', using all {} members until one recovers",
+                    name, members.size());
+            }
+            candidates = members;
+        } else if (exclude == null && panicMode.compareAndSet(true, false)) {
+            LOGGER.info("Endpoint pool '{}' has available members again", name);
+        }
+
+        PoolMember chosen;
+        if (candidates.size() == 1) {
+            chosen = candidates.get(0);
+        } else {
+            int first = random.nextInt(candidates.size());
+            int second = random.nextInt(candidates.size() - 1);
+            if (second >= first) {
+                second++;
+            }
+            PoolMember a = candidates.get(first);
+            PoolMember b = candidates.get(second);
+            chosen = score(a, now, slowStart) <= score(b, now, slowStart) ? a : b;
+        }
+
+        chosen.acquire();
+        String normalizedPath = path.startsWith("/") ? path : "/" + path;
+        return new EndpointSelection(this, chosen, chosen.getBaseUrl() + normalizedPath);
+    }
+
+    private static double score(PoolMember member, long now, long slowStart) {
+        return (member.getOutstanding() + 1) / member.weight(now, slowStart);
+    }
+
+    /**
+     * Feeds a call outcome into passive outlier detection.
+     *
+     * @param member the member that served the call
+     * @param success false for connection failures and 5xx responses
+     */
+    void recordOutcome(PoolMember member, boolean success) {
+        synchronized (lock) {
+            if (success) {
+                member.consecutiveFailures = 0;
+                return;
+            }
+
+            member.consecutiveFailures++;
+            long now = clock.millis();
+            if (member.consecutiveFailures < config.getConsecutiveFailures() || member.isEjected(now)) {
+                return;
+            }
+
+            if (!canEject(now)) {
+                LOGGER.warn("Endpoint pool '{}': not ejecting {} - max ejection percent ({}%) reached",
+                    name, member.getBaseUrl(), config.getMaxEjectionPercent());
+                return;
+            }
+
+            member.ejectionCount++;
+            long ejectionMillis = Math.min(
+                config.getBaseEjectionTime().toMillis() * member.ejectionCount,
+                config.getMaxEjectionTime().toMillis());
+            member.eject(now + ejectionMillis);
+            member.consecutiveFailures = 0;
+            LOGGER.warn("Endpoint pool '{}': ejected {} for {}s after {} consecutive failures",
+                name, member.getBaseUrl(), ejectionMillis / 1000, config.getConsecutiveFailures());
+        }
+    }
+
+    /**
+     * Feeds an active health check result into the member state.
+     *
+     * @param member the probed member
+     * @param healthy the probe result
+     */
+    void recordProbe(PoolMember member, boolean healthy) {
+        synchronized (lock) {
+            long now = clock.millis();
+            if (healthy) {
+                member.consecutiveProbeFailures = 0;
+                if (!member.isHealthy()) {
+                    LOGGER.info("Endpoint pool '{}': {} is healthy again", name, member.getBaseUrl());
+                }
+                member.markHealthy(true, now);
+                return;
+            }
+
+            member.consecutiveProbeFailures++;
+            if (member.isHealthy() && member.consecutiveProbeFailures >= config.getUnhealthyThreshold()) {
+                LOGGER.warn("Endpoint pool '{}': {} failed {} health checks, marking unhealthy",
+                    name, member.getBaseUrl(), member.consecutiveProbeFailures);
+                member.markHealthy(false, now);
+            }
+        }
+    }
+
+    private boolean canEject(long now) {
+        int ejected = 0;
+        for (PoolMember member : members) {
+            if (member.isEjected(now)) {
+                ejected++;
+            }
+        }
+        return (ejected + 1) * 100 <= members.size() * config.getMaxEjectionPercent();
+    }
+
+    @Override
+    public String toString() {
+        return "EndpointPool{name='" + name + "', members=" + members + "}";
+    }
+}
@@ -0,0 +1,161 @@
+package io.catalyst.bridge.endpoint;
+
+import io.catalyst.bridge.config.EndpointPoolConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Clock;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves logical webhook URLs of the form {@code pool://<pool>/<webhook path>}
+ * to a concrete n8n member URL.
+ *
+ * <p>Templates refer to a pool name instead of a host, so n8n can be scaled
+ * horizontally (e.g. queue-mode webhook processors) without editing BPMN:</p>
+ * <pre>
+ * webhookUrl = pool://workers/webhook/send-email
+ *            → http://n8n-webhook-2:5678/webhook/send-email
+ * </pre>
+ *
+ * <p>When started, members of all pools are actively health-checked on a
+ * background thread at the configured interval.</p>
+ *
+ * @see EndpointPool
+ * @see EndpointPoolConfig
+ */
+public class EndpointRegistry implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EndpointRegistry.class);
+
+    /** URL scheme for logical endpoints */
+    public static final String POOL_SCHEME = "pool://";
+
+    private final Map<String, EndpointPool> pools;
+    private final EndpointPoolConfig config;
+    private final HealthProbe healthProbe;
+    private ScheduledExecutorService healthExecutor;
+
+    /**
+     * Creates a registry with pools from the given configuration.
+     *
+     * @param config the pool configuration
+     * @param healthProbe the active health probe
+     * @param clock the clock for ejection and slow-start timing
+     */
+    public EndpointRegistry(EndpointPoolConfig config, HealthProbe healthProbe, Clock clock) {
+        this.config = config;
+        this.healthProbe = healthProbe;
+        Map<String, EndpointPool> map = new LinkedHashMap<>();
+        Random random = new Random();
+        for (Map.Entry<String, List<String>> pool : config.getPools().entrySet()) {
+            map.put(pool.getKey(), new EndpointPool(pool.getKey(), pool.getValue(), config, clock, random));
+        }
+        this.pools = Collections.unmodifiableMap(map);
+        if (!pools.isEmpty()) {
+            LOGGER.info("Endpoint pools configured: {}", pools.values());
+        }
+    }
+
+    /**
+     * Returns true if the URL refers to a logical endpoint.
+     *
+     * @param url the webhook URL
+     * @return true if the URL uses the {@code pool://} scheme
+     */
+    public static boolean isPoolUrl(String url) {
+        return url != null && url.startsWith(POOL_SCHEME);
+    }
+
+    /**
+     * Selects a pool member for a logical webhook URL.
+     *
+     * @param url a {@code pool://<pool>/<path>} URL
+     * @return the selection with the resolved URL
+     * @throws IllegalArgumentException if the URL is malformed or the pool is unknown
+     */
+    public EndpointSelection select(String url) {
+        if (!isPoolUrl(url)) {
+            throw new IllegalArgumentException("Not a pool URL: " + url);
+        }
+        String rest = url.substring(POOL_SCHEME.length());
+        int slash = rest.indexOf('/');
+        String poolName = slash >= 0 ? rest.substring(0, slash) : rest;
+        String path = slash >= 0 ? rest.substring(slash) : "/";
+
+        EndpointPool pool = pools.get(poolName);
+        if (pool == null) {
+            throw new IllegalArgumentException(String.format(
+                "Unknown endpoint pool '%s' in webhook URL %s. Configured pools: %s (set %s)",
+                poolName, url, pools.keySet(), EndpointPoolConfig.POOLS_ENV));
+        }
+        return pool.select(path);
+    }
+
+    /**
+     * Returns a pool by name.
+     *
+     * @param name the pool name
+     * @return the pool, or null if not configured
+     */
+    public EndpointPool getPool(String name) {
+        return pools.get(name);
+    }
+
+    /**
+     * Returns all configured pools.
+     *
+     * @return unmodifiable map of pools by name
+     */
+    public Map<String, EndpointPool> getPools() {
+        return pools;
+    }
+
+    /**
+     * Starts active health checking if any pools are configured.
+     */
+    public synchronized void start() {
+        long intervalMillis = config.getHealthInterval().toMillis();
+        if (pools.isEmpty() || intervalMillis <= 0 || healthExecutor != null) {
+            return;
+        }
+        healthExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalyst-endpoint-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthExecutor.scheduleWithFixedDelay(this::checkHealth, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs one round of active health checks over all members.
+     */
+    void checkHealth() {
+        for (EndpointPool pool : pools.values()) {
+            for (PoolMember member : pool.getMembers()) {
+                try {
+                    pool.recordProbe(member, healthProbe.probe(member.getBaseUrl()));
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Health check of {} failed: {}", member.getBaseUrl(), e.getMessage());
+                    pool.recordProbe(member, false);
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (healthExecutor != null) {
+            healthExecutor.shutdownNow();
+            healthExecutor = null;
+        }
+    }
+}
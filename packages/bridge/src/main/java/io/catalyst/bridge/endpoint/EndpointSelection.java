@@ -0,0 +1,84 @@
+package io.catalyst.bridge.endpoint;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The pool member chosen for one request, and the resolved URL to call.
+ *
+ * <p>Holds an outstanding-request slot on the member until
+ * {@link #complete(boolean)} is called, which also feeds the outcome into
+ * passive outlier detection. Completing more than once has no effect.</p>
+ *
+ * @see EndpointPool#select(String)
+ */
+public final class EndpointSelection {
+
+    private final EndpointPool pool;
+    private final PoolMember member;
+    private final String url;
+    private final AtomicBoolean completed = new AtomicBoolean();
+
+    EndpointSelection(EndpointPool pool, PoolMember member, String url) {
+        this.pool = pool;
+        this.member = member;
+        this.url = url;
+    }
+
+    /**
+     * Returns the resolved webhook URL (member base URL plus webhook path).
+     *
+     * @return the URL to call
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Returns the selected member.
+     *
+     * @return the member
+     */
+    public PoolMember getMember() {
+        return member;
+    }
+
+    /**
+     * Returns the name of the pool the member belongs to.
+     *
+     * @return the pool name
+     */
+    public String getPoolName() {
+        return pool.getName();
+    }
+
+    /**
+     * Selects another available member of the same pool for the same path.
+     *
+     * @return the alternative selection, or null if no other member is available
+     */
+    EndpointSelection alternative() {
+        return pool.selectOther(url.substring(member.getBaseUrl().length()), member);
+    }
+
+    /**
+     * Releases the member without recording an outcome, e.g. when the call
+     * was cancelled because a hedged duplicate answered first.
+     */
+    void abandon() {
+        if (completed.compareAndSet(false, true)) {
+            member.release();
+        }
+    }
+
+    /**
+     * Releases the member and records the outcome of the call.
+     *
+     * @param success false for connection failures and 5xx responses
+     */
+    public void complete(boolean success) {
+        if (completed.compareAndSet(false, true)) {
+            member.release();
+            pool.recordOutcome(member, success);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.catalyst.bridge.endpoint;
+
+/**
+ * Actively checks whether a pool member is able to serve requests.
+ *
+ * <p>Separated from {@link EndpointRegistry} for testability. The production
+ * implementation is {@link HttpHealthProbe}.</p>
+ */
+public interface HealthProbe {
+
+    /**
+     * Probes a member.
+     *
+     * @param baseUrl the member base URL
+     * @return true if the member is healthy
+     */
+    boolean probe(String baseUrl);
+}
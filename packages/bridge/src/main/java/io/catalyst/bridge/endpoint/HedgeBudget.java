@@ -0,0 +1,60 @@
+package io.catalyst.bridge.endpoint;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Global token bucket that limits hedged requests to a share of all calls.
+ *
+ * <p>Every call deposits {@code budgetPercent / 100} of a token; every hedge
+ * withdraws one whole token. With the default 5% budget at most one hedge is
+ * sent per 20 calls on average, plus a small burst saved up while calls were
+ * fast. When n8n is overloaded and everything is slow the bucket drains and
+ * hedging stops instead of doubling the load.</p>
+ */
+final class HedgeBudget {
+
+    private static final long TOKEN = 1_000_000L;
+
+    private final long depositPerCall;
+    private final long capacity;
+    private final AtomicLong balance = new AtomicLong();
+
+    /**
+     * Creates a budget.
+     *
+     * @param budgetPercent hedges allowed as a percentage of calls
+     * @param maxBurst maximum number of hedges that can be saved up
+     */
+    HedgeBudget(double budgetPercent, int maxBurst) {
+        this.depositPerCall = (long) (TOKEN * budgetPercent / 100.0);
+        this.capacity = TOKEN * Math.max(1, maxBurst);
+    }
+
+    /**
+     * Records a call, adding its share of the budget.
+     */
+    void onCall() {
+        long current;
+        long updated;
+        do {
+            current = balance.get();
+            updated = Math.min(capacity, current + depositPerCall);
+        } while (current != updated && !balance.compareAndSet(current, updated));
+    }
+
+    /**
+     * Takes one hedge from the budget.
+     *
+     * @return true if a hedge may be sent
+     */
+    boolean tryAcquire() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+}
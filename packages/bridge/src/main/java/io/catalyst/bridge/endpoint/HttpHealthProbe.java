@@ -0,0 +1,61 @@
+package io.catalyst.bridge.endpoint;
+
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Health probe that issues {@code GET <baseUrl><healthPath>} and treats any
+ * 2xx response as healthy. n8n serves {@code /healthz} out of the box.
+ *
+ * <p>Thread-safe; one HTTP client is shared by all probes.</p>
+ */
+public class HttpHealthProbe implements HealthProbe, Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpHealthProbe.class);
+
+    private final String healthPath;
+    private final CloseableHttpClient httpClient;
+
+    /**
+     * Creates a probe.
+     *
+     * @param healthPath the path appended to the member base URL
+     * @param timeout connect and response timeout of a probe
+     */
+    public HttpHealthProbe(String healthPath, Duration timeout) {
+        this.healthPath = healthPath.startsWith("/") ? healthPath : "/" + healthPath;
+        this.httpClient = HttpClients.custom()
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectTimeout(Timeout.of(timeout))
+                .setResponseTimeout(Timeout.of(timeout))
+                .build())
+            .build();
+    }
+
+    @Override
+    public boolean probe(String baseUrl) {
+        try {
+            return httpClient.execute(new HttpGet(baseUrl + healthPath), response -> {
+                int status = response.getCode();
+                return status >= 200 && status < 300;
+            });
+        } catch (IOException e) {
+            LOGGER.debug("Health check of {} failed: {}", baseUrl, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+}
@@ -0,0 +1,126 @@
+package io.catalyst.bridge.endpoint;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A single n8n base URL within an {@link EndpointPool}.
+ *
+ * <p>Tracks the state used for load balancing (outstanding requests and
+ * slow-start weight) and for health (active check result and passive
+ * outlier ejection). State transitions are performed by the owning pool
+ * under its lock; reads on the selection path are lock-free.</p>
+ *
+ * @see EndpointPool
+ */
+public final class PoolMember {
+
+    /** Weight of a member at the very start of its slow-start window */
+    static final double MIN_SLOW_START_WEIGHT = 0.1;
+
+    private final String baseUrl;
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    private volatile boolean healthy = true;
+    private volatile long ejectedUntilMillis;
+    private volatile long availableSinceMillis;
+
+    // Guarded by the pool lock
+    int consecutiveFailures;
+    int consecutiveProbeFailures;
+    int ejectionCount;
+
+    PoolMember(String baseUrl, long availableSinceMillis) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.availableSinceMillis = availableSinceMillis;
+    }
+
+    /**
+     * Returns the member's base URL without trailing slash.
+     *
+     * @return the base URL
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Returns the number of requests currently in flight to this member.
+     *
+     * @return outstanding requests
+     */
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    /**
+     * Returns the result of the latest active health checks.
+     *
+     * @return true unless the member failed the unhealthy threshold of checks
+     */
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * Returns true if the member is currently ejected as an outlier.
+     *
+     * @param nowMillis current time
+     * @return true if ejected
+     */
+    public boolean isEjected(long nowMillis) {
+        return nowMillis < ejectedUntilMillis;
+    }
+
+    /**
+     * Returns true if the member may receive traffic.
+     *
+     * @param nowMillis current time
+     * @return true if healthy and not ejected
+     */
+    public boolean isAvailable(long nowMillis) {
+        return healthy && !isEjected(nowMillis);
+    }
+
+    /**
+     * Returns the load-balancing weight, ramping linearly from
+     * {@link #MIN_SLOW_START_WEIGHT} to 1.0 over the slow-start window after
+     * the member (re)joined the pool.
+     *
+     * @param nowMillis current time
+     * @param slowStartMillis the slow-start window
+     * @return weight in (0, 1]
+     */
+    public double weight(long nowMillis, long slowStartMillis) {
+        long elapsed = nowMillis - availableSinceMillis;
+        if (slowStartMillis <= 0 || elapsed >= slowStartMillis) {
+            return 1.0;
+        }
+        return Math.max(MIN_SLOW_START_WEIGHT, (double) Math.max(0, elapsed) / slowStartMillis);
+    }
+
+    int acquire() {
+        return outstanding.incrementAndGet();
+    }
+
+    void release() {
+        outstanding.decrementAndGet();
+    }
+
+    void markHealthy(boolean healthy, long nowMillis) {
+        if (healthy && !this.healthy) {
+            availableSinceMillis = nowMillis;
+        }
+        this.healthy = healthy;
+    }
+
+    void eject(long untilMillis) {
+        ejectedUntilMillis = untilMillis;
+        // Slow start begins when the ejection ends
+        availableSinceMillis = untilMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolMember{" + baseUrl + ", outstanding=" + outstanding.get() + ", healthy=" + healthy + "}";
+    }
+}
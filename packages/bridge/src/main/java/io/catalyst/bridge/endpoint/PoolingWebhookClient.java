@@ -0,0 +1,264 @@
+package io.catalyst.bridge.endpoint;
+
+import io.catalyst.bridge.config.HedgingConfig;
+import io.catalyst.bridge.http.CancellationHandle;
+import io.catalyst.bridge.http.WebhookCaller;
+import io.catalyst.bridge.http.WebhookClient;
+import io.catalyst.bridge.http.WebhookRequest;
+import io.catalyst.bridge.http.WebhookResponse;
+import io.catalyst.bridge.metrics.RouteLatencies;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Clock;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * {@link WebhookCaller} that resolves {@code pool://} URLs through an
+ * {@link EndpointRegistry} and sends the result with a {@link WebhookClient}.
+ *
+ * <p>Literal URLs are sent unchanged. For logical URLs a member is selected,
+ * the resolved URL is checked with the supplied allowlist validator, and the
+ * call outcome (connection failure or 5xx counts as failure) is fed back into
+ * the pool's outlier detection.</p>
+ *
+ * <p>Idempotent requests to a pool are hedged: if the chosen member has not
+ * answered within the route's recent latency percentile (p95 by default), the
+ * same request is sent to a second member. The first successful response wins
+ * and the other exchange is cancelled. Hedges are limited by a global budget
+ * (see {@link HedgingConfig}) and routes are only hedged once enough latency
+ * samples have been observed.</p>
+ *
+ * @see EndpointRegistry
+ * @see HedgingConfig
+ */
+public class PoolingWebhookClient implements WebhookCaller {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PoolingWebhookClient.class);
+
+    private static final AtomicInteger HEDGE_THREAD_COUNT = new AtomicInteger();
+
+    private final EndpointRegistry registry;
+    private final Consumer<String> urlValidator;
+    private final WebhookClient delegate;
+    private final HedgingConfig hedging;
+    private final HedgeBudget hedgeBudget;
+    private final RouteLatencies latencies;
+    private final ExecutorService hedgeExecutor;
+
+    /**
+     * Creates a pooling client without hedging.
+     *
+     * @param registry the endpoint registry
+     * @param urlValidator validates resolved URLs; throws to reject
+     */
+    public PoolingWebhookClient(EndpointRegistry registry, Consumer<String> urlValidator) {
+        this(registry, urlValidator, new WebhookClient(),
+            HedgingConfig.builder().budgetPercent(0).build(), Clock.systemUTC());
+    }
+
+    /**
+     * Creates a pooling client.
+     *
+     * @param registry the endpoint registry
+     * @param urlValidator validates resolved URLs; throws to reject
+     * @param delegate the client that sends resolved requests
+     * @param hedging the hedging configuration
+     * @param clock the clock for latency windows
+     */
+    public PoolingWebhookClient(EndpointRegistry registry, Consumer<String> urlValidator,
+                                WebhookClient delegate, HedgingConfig hedging, Clock clock) {
+        this.registry = registry;
+        this.urlValidator = urlValidator;
+        this.delegate = delegate;
+        this.hedging = hedging;
+        this.hedgeBudget = new HedgeBudget(hedging.getBudgetPercent(), hedging.getMaxBurst());
+        this.latencies = new RouteLatencies(hedging.getLatencyWindow(), clock);
+        this.hedgeExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "catalyst-hedge-" + HEDGE_THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the endpoint registry.
+     *
+     * @return the registry
+     */
+    public EndpointRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Returns the client that sends the requests.
+     *
+     * @return the delegate client
+     */
+    public WebhookClient getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Returns the observed latencies per pool route ({@code pool://} URL as
+     * configured, without query).
+     *
+     * @return the route latencies
+     */
+    public RouteLatencies getLatencies() {
+        return latencies;
+    }
+
+    @Override
+    public WebhookResponse execute(WebhookRequest request) throws IOException {
+        return execute(request, null);
+    }
+
+    @Override
+    public WebhookResponse execute(WebhookRequest request, CancellationHandle cancellation) throws IOException {
+        String route = request.getUrl();
+        hedgeBudget.onCall();
+
+        if (!EndpointRegistry.isPoolUrl(route)) {
+            // Only pool routes can be hedged, so only their latencies are kept
+            return delegate.execute(request, cancellation);
+        }
+
+        EndpointSelection endpoint = registry.select(route);
+        if (!request.isIdempotent() || !hedging.isEnabled() || cancellation != null) {
+            return send(route, endpoint, request, cancellation);
+        }
+
+        long delayNanos = latencies.percentile(route, hedging.getPercentile(), hedging.getMinSamples());
+        if (delayNanos < 0) {
+            return send(route, endpoint, request, null);
+        }
+        return executeHedged(route, endpoint, request, Math.max(delayNanos, hedging.getMinDelay().toNanos()));
+    }
+
+    private WebhookResponse executeHedged(String route, EndpointSelection primary, WebhookRequest request,
+                                          long delayNanos) throws IOException {
+        BlockingQueue<Attempt> completed = new ArrayBlockingQueue<>(2);
+        Attempt first = start(route, primary, request, completed);
+        Attempt second = null;
+        try {
+            Attempt winner = completed.poll(delayNanos, TimeUnit.NANOSECONDS);
+            if (winner != null) {
+                return winner.result();
+            }
+
+            EndpointSelection alternative = primary.alternative();
+            if (alternative != null && !hedgeBudget.tryAcquire()) {
+                alternative.abandon();
+                alternative = null;
+            }
+            if (alternative == null) {
+                return completed.take().result();
+            }
+
+            LOGGER.debug("Hedging {} to {} after {}ms", route, alternative.getUrl(),
+                TimeUnit.NANOSECONDS.toMillis(delayNanos));
+            // Only the primary attempt laps the execution's timings
+            second = start(route, alternative, request.toBuilder().timings(null).build(), completed);
+
+            winner = completed.take();
+            if (!winner.isSuccess()) {
+                Attempt other = completed.take();
+                if (other.isSuccess()) {
+                    winner = other;
+                }
+            }
+            (winner == first ? second : first).discard();
+            return winner.result();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            first.discard();
+            if (second != null) {
+                second.discard();
+            }
+            throw new InterruptedIOException("Interrupted while waiting for webhook response from " + route);
+        }
+    }
+
+    private Attempt start(String route, EndpointSelection endpoint, WebhookRequest request,
+                          BlockingQueue<Attempt> completed) {
+        Attempt attempt = new Attempt();
+        hedgeExecutor.execute(() -> {
+            try {
+                attempt.response = send(route, endpoint, request, attempt.cancellation);
+                if (attempt.cancellation.isCancelled()) {
+                    attempt.discard();
+                }
+            } catch (IOException | RuntimeException e) {
+                attempt.failure = e;
+            }
+            completed.add(attempt);
+        });
+        return attempt;
+    }
+
+    private WebhookResponse send(String route, EndpointSelection endpoint, WebhookRequest request,
+                                 CancellationHandle cancellation) throws IOException {
+        boolean success = true;
+        try {
+            urlValidator.accept(endpoint.getUrl());
+            long start = System.nanoTime();
+            WebhookResponse response = delegate.execute(request.toBuilder().url(endpoint.getUrl()).build(), cancellation);
+            latencies.record(route, System.nanoTime() - start);
+            success = response.getStatusCode() < 500;
+            return response;
+        } catch (IOException e) {
+            success = false;
+            throw e;
+        } finally {
+            if (cancellation != null && cancellation.isCancelled()) {
+                endpoint.abandon();
+            } else {
+                endpoint.complete(success);
+            }
+        }
+    }
+
+    /**
+     * Outcome of one of the (up to two) exchanges of a hedged call.
+     */
+    private static final class Attempt {
+        private final CancellationHandle cancellation = new CancellationHandle();
+        private volatile WebhookResponse response;
+        private volatile Exception failure;
+
+        boolean isSuccess() {
+            return response != null && response.getStatusCode() < 500;
+        }
+
+        /**
+         * Cancels the exchange and releases the temporary resources of a
+         * response that arrived too late to be used.
+         */
+        void discard() {
+            cancellation.cancel();
+            WebhookResponse late = response;
+            if (late != null) {
+                late.discard();
+            }
+        }
+
+        WebhookResponse result() throws IOException {
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            }
+            if (failure != null) {
+                throw (RuntimeException) failure;
+            }
+            return response;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+/**
+ * Logical n8n endpoints: named pools of base URLs with load balancing.
+ *
+ * <p>This package lets templates target {@code pool://<name>/<webhook path>}
+ * instead of a single host:</p>
+ * <ul>
+ *   <li>{@link io.catalyst.bridge.endpoint.EndpointRegistry} - Resolves pool URLs, runs active health checks</li>
+ *   <li>{@link io.catalyst.bridge.endpoint.EndpointPool} - Power-of-two-choices balancing and outlier ejection</li>
+ *   <li>{@link io.catalyst.bridge.endpoint.PoolMember} - Per-member load, health and slow-start state</li>
+ *   <li>{@link io.catalyst.bridge.endpoint.EndpointSelection} - Chosen member for one request</li>
+ *   <li>{@link io.catalyst.bridge.endpoint.HealthProbe} - Active health check abstraction</li>
+ * </ul>
+ *
+ * <p>Resolved URLs are validated against the webhook allowlist exactly like
+ * literal webhook URLs.</p>
+ *
+ * @see io.catalyst.bridge.config.EndpointPoolConfig
+ */
+package io.catalyst.bridge.endpoint;
@@ -1,6 +1,7 @@
 package io.catalyst.bridge.enforcement;
 
 import io.catalyst.bridge.config.EnforcementConfig;
+import io.catalyst.bridge.jfr.CatalystEnforcement;
 import io.catalyst.bridge.licensing.License;
 import io.catalyst.bridge.licensing.LicenseLoader;
 import io.catalyst.bridge.logging.EnforcementLogger;
@@ -36,9 +37,11 @@ import java.util.Optional;
  * <pre>
  * EnforcementEngine engine = EnforcementEngine.create();
  * engine.enforce(); // Call on every execution
+ * engine.snapshot(); // Monitoring: latest state, without counting an execution
  * </pre>
  *
  * @see EnforcementStatus
+ * @see EnforcementSnapshot
  * @see CatalystDisabledException
  */
 public class EnforcementEngine {
@@ -59,6 +62,9 @@ public class EnforcementEngine {
     private volatile boolean licenseLoadAttempted;
     private volatile LimpMode lastLimpMode;
 
+    // State of the latest execution, for monitoring without the usage store
+    private volatile EnforcementSnapshot snapshot = EnforcementSnapshot.NONE;
+
     /**
      * Private constructor - use create() methods.
      */
@@ -148,6 +154,8 @@ public class EnforcementEngine {
      * @throws CatalystDisabledException if service is blocked
      */
     public EnforcementStatus enforce() throws CatalystDisabledException {
+        CatalystEnforcement event = new CatalystEnforcement();
+        event.begin();
         LocalDate today = LocalDate.now(clock);
 
         // Step 1: Load license (cached)
@@ -166,19 +174,73 @@ public class EnforcementEngine {
 
         // Step 4: Handle enforcement based on status
         if (status.isBlocked()) {
-            handleDisabled(status, usageData);
-            // This throws - we don't reach the code below
+            try {
+                handleDisabled(status, usageData);
+                // This throws - we don't reach the code below
+            } finally {
+                remember(status, runRate(status, license, usageData, today), usageData, today);
+                commit(event, status, usageData, 0);
+            }
         }
 
+        long delayNanos = 0;
+        RunRate runRate;
         if (status.isEnforced()) {
-            handleLimpMode(status, usageData);
+            // Remembered before the delay so that monitoring sees the limp mode while it applies
+            runRate = runRate(status, license, usageData, today);
+            remember(status, runRate, usageData, today);
+            delayNanos = handleLimpMode(status, usageData);
         } else {
-            handleNormalOperation(license, usageData, today);
+            runRate = handleNormalOperation(license, usageData, today);
+            remember(status, runRate, usageData, today);
         }
 
+        commit(event, status, usageData, delayNanos);
         return status;
     }
 
+    /**
+     * Returns the enforcement state of the latest execution.
+     *
+     * <p>Reads the state cached by {@link #enforce()}: it does not count an
+     * execution, read the usage file or wait for the lock that guards the
+     * counter, so dashboards and health checks may call it as often as they
+     * like.</p>
+     *
+     * @return the snapshot; not {@link EnforcementSnapshot#isAvailable() available}
+     *         before the first execution since the JVM started
+     */
+    public EnforcementSnapshot snapshot() {
+        return snapshot;
+    }
+
+    private void remember(EnforcementStatus status, RunRate runRate, UsageData usageData, LocalDate today) {
+        snapshot = new EnforcementSnapshot(status, runRate, usageData, today, clock.millis());
+    }
+
+    /**
+     * Returns the status's run rate, or projects one if the status has none.
+     */
+    private RunRate runRate(EnforcementStatus status, License license, UsageData usageData, LocalDate today) {
+        if (status.getRunRate() != null || license == null || usageData.getFirstExecution() == null) {
+            return status.getRunRate();
+        }
+        return runRateCalculator.calculate(usageData, license, today);
+    }
+
+    private static void commit(CatalystEnforcement event, EnforcementStatus status, UsageData usageData,
+                               long delayNanos) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.limpMode = String.valueOf(status.getLimpMode());
+            event.trigger = status.getTrigger() != null ? status.getTrigger().name() : null;
+            event.usageCount = usageData.getCount();
+            event.delay = delayNanos;
+            event.blocked = status.isBlocked();
+            event.commit();
+        }
+    }
+
     /**
      * Handles the disabled state - logs and throws exception.
      */
@@ -197,8 +259,10 @@ public class EnforcementEngine {
 
     /**
      * Handles limp mode - logs, updates state, and applies delay.
+     *
+     * @return the time spent in the delay, in nanoseconds
      */
-    private void handleLimpMode(EnforcementStatus status, UsageData usageData) {
+    private long handleLimpMode(EnforcementStatus status, UsageData usageData) {
         LimpMode currentMode = status.getLimpMode();
 
         // Check for step transition
@@ -223,6 +287,7 @@ public class EnforcementEngine {
         }
 
         // Apply delay
+        long delayStart = System.nanoTime();
         if (status.requiresDelay()) {
             try {
                 delayEnforcer.enforceDelay(currentMode);
@@ -231,14 +296,17 @@ public class EnforcementEngine {
                 LOGGER.warn("Enforcement delay was interrupted");
             }
         }
+        return System.nanoTime() - delayStart;
     }
 
     /**
      * Handles normal operation - check for pre-grace warnings.
+     *
+     * @return the run rate, or null if there is none
      */
-    private void handleNormalOperation(License license, UsageData usageData, LocalDate today) {
+    private RunRate handleNormalOperation(License license, UsageData usageData, LocalDate today) {
         if (license == null) {
-            return;
+            return null;
         }
 
         // Calculate run rate
@@ -292,6 +360,7 @@ public class EnforcementEngine {
             usageStore.save(cleared);
             lastLimpMode = LimpMode.NONE;
         }
+        return runRate;
     }
 
     /**
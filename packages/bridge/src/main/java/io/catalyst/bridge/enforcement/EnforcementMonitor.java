@@ -0,0 +1,133 @@
+package io.catalyst.bridge.enforcement;
+
+import io.catalyst.bridge.licensing.License;
+import io.catalyst.bridge.metrics.WebhookMetrics;
+import io.catalyst.bridge.usage.RunRate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Publishes an engine's {@link EnforcementSnapshot} as an MBean.
+ *
+ * <p>Each attribute read takes the engine's current snapshot, a volatile
+ * read, so monitoring tools can poll it as often as they like.</p>
+ *
+ * <p>Thread-safe.</p>
+ */
+public final class EnforcementMonitor implements EnforcementMonitorMXBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EnforcementMonitor.class);
+
+    private final EnforcementEngine engine;
+
+    /**
+     * Creates a monitor of an engine.
+     *
+     * @param engine the engine
+     */
+    public EnforcementMonitor(EnforcementEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Registers the monitor as {@code io.catalyst.bridge:type=Enforcement}.
+     *
+     * @param server the MBean server
+     */
+    public void registerMBean(MBeanServer server) {
+        try {
+            ObjectName name = new ObjectName(WebhookMetrics.JMX_DOMAIN + ":type=Enforcement");
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+        } catch (JMException e) {
+            LOGGER.warn("Could not register MBean for enforcement: {}", e.toString());
+        }
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return engine.snapshot().isAvailable();
+    }
+
+    @Override
+    public String getSnapshotTime() {
+        EnforcementSnapshot snapshot = engine.snapshot();
+        return snapshot.isAvailable() ? snapshot.getTakenAt().toString() : null;
+    }
+
+    @Override
+    public String getLimpMode() {
+        EnforcementStatus status = engine.snapshot().getStatus();
+        return status != null ? status.getLimpMode().name() : null;
+    }
+
+    @Override
+    public boolean isBlocked() {
+        EnforcementStatus status = engine.snapshot().getStatus();
+        return status != null && status.isBlocked();
+    }
+
+    @Override
+    public String getTrigger() {
+        EnforcementStatus status = engine.snapshot().getStatus();
+        return status != null && status.getTrigger() != null ? status.getTrigger().name() : null;
+    }
+
+    @Override
+    public int getGraceDaysRemaining() {
+        EnforcementStatus status = engine.snapshot().getStatus();
+        return status != null ? status.getGraceDaysRemaining() : 0;
+    }
+
+    @Override
+    public String getPreGraceAlert() {
+        EnforcementStatus status = engine.snapshot().getStatus();
+        return status != null && status.getPreGraceAlert() != null ? status.getPreGraceAlert().name() : null;
+    }
+
+    @Override
+    public int getExecutionsUsed() {
+        EnforcementSnapshot snapshot = engine.snapshot();
+        return snapshot.getUsageData() != null ? snapshot.getUsageData().getCount() : 0;
+    }
+
+    @Override
+    public int getAnnualLimit() {
+        License license = license();
+        return license != null ? license.getAnnualLimit() : 0;
+    }
+
+    @Override
+    public String getLicenseTier() {
+        License license = license();
+        return license != null ? license.getTier() : null;
+    }
+
+    @Override
+    public String getLicenseExpiryDate() {
+        License license = license();
+        return license != null ? license.getExpiryDate().toString() : null;
+    }
+
+    @Override
+    public int getProjectedAnnualTotal() {
+        RunRate runRate = engine.snapshot().getRunRate();
+        return runRate != null ? runRate.getProjectedAnnualTotal() : 0;
+    }
+
+    @Override
+    public int getProjectedPercent() {
+        RunRate runRate = engine.snapshot().getRunRate();
+        return runRate != null ? runRate.getProjectedPercent() : 0;
+    }
+
+    private License license() {
+        EnforcementStatus status = engine.snapshot().getStatus();
+        return status != null ? status.getLicense() : null;
+    }
+}
@@ -0,0 +1,38 @@
+package io.catalyst.bridge.enforcement;
+
+/**
+ * JMX view of the enforcement state, read from {@link EnforcementEngine#snapshot()}.
+ *
+ * <p>Registered as {@code io.catalyst.bridge:type=Enforcement}. Reading an
+ * attribute never counts an execution or touches the usage file. Until the
+ * first execution, {@code Available} is false, strings are null and numbers
+ * are 0.</p>
+ */
+public interface EnforcementMonitorMXBean {
+
+    boolean isAvailable();
+
+    String getSnapshotTime();
+
+    String getLimpMode();
+
+    boolean isBlocked();
+
+    String getTrigger();
+
+    int getGraceDaysRemaining();
+
+    String getPreGraceAlert();
+
+    int getExecutionsUsed();
+
+    int getAnnualLimit();
+
+    String getLicenseTier();
+
+    String getLicenseExpiryDate();
+
+    int getProjectedAnnualTotal();
+
+    int getProjectedPercent();
+}
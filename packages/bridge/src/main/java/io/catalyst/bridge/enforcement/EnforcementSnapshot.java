@@ -0,0 +1,161 @@
+package io.catalyst.bridge.enforcement;
+
+import io.catalyst.bridge.licensing.License;
+import io.catalyst.bridge.usage.RunRate;
+import io.catalyst.bridge.usage.UsageData;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable enforcement state as of the latest execution, for monitoring.
+ *
+ * <p>Returned by {@link EnforcementEngine#snapshot()}, which reads the state
+ * cached by {@link EnforcementEngine#enforce()}: taking a snapshot does not
+ * count an execution, read the usage file or wait for the usage lock. Before
+ * the first execution since the JVM started there is no state, and
+ * {@link #isAvailable()} returns false.</p>
+ *
+ * @see EnforcementMonitor
+ */
+public final class EnforcementSnapshot {
+
+    /** The snapshot before the first execution */
+    static final EnforcementSnapshot NONE = new EnforcementSnapshot(null, null, null, null, 0);
+
+    private final EnforcementStatus status;
+    private final RunRate runRate;
+    private final UsageData usageData;
+    private final LocalDate date;
+    private final long takenAtMillis;
+
+    EnforcementSnapshot(EnforcementStatus status, RunRate runRate, UsageData usageData, LocalDate date,
+                        long takenAtMillis) {
+        this.status = status;
+        this.runRate = runRate;
+        this.usageData = usageData;
+        this.date = date;
+        this.takenAtMillis = takenAtMillis;
+    }
+
+    /**
+     * Returns true if an execution has been enforced since the JVM started.
+     *
+     * @return true if the status and usage are known
+     */
+    public boolean isAvailable() {
+        return status != null;
+    }
+
+    /**
+     * Returns the snapshot as nested maps for JSON. The license key is
+     * masked; the customer is left out.
+     *
+     * @return {@code available}, {@code takenAt}, the status fields, and
+     *         {@code license}, {@code usage} and {@code runRate} maps (null if unknown)
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("available", isAvailable());
+        if (!isAvailable()) {
+            return map;
+        }
+        map.put("takenAt", Instant.ofEpochMilli(takenAtMillis).toString());
+        map.put("limpMode", status.getLimpMode().name());
+        map.put("blocked", status.isBlocked());
+        map.put("delayMillis", status.getDelayMillis());
+        map.put("trigger", status.getTrigger() != null ? status.getTrigger().name() : null);
+        map.put("graceDaysElapsed", status.getGraceDaysElapsed());
+        map.put("graceDaysRemaining", status.getGraceDaysRemaining());
+        map.put("preGraceAlert", status.getPreGraceAlert() != null ? status.getPreGraceAlert().name() : null);
+
+        License license = status.getLicense();
+        Map<String, Object> licenseMap = null;
+        if (license != null) {
+            licenseMap = new LinkedHashMap<>();
+            licenseMap.put("key", license.getMaskedKey());
+            licenseMap.put("tier", license.getTier());
+            licenseMap.put("annualLimit", license.getAnnualLimit());
+            licenseMap.put("expiryDate", string(license.getExpiryDate()));
+            licenseMap.put("daysUntilExpiry", license.daysUntilExpiry(date));
+        }
+        map.put("license", licenseMap);
+
+        Map<String, Object> usage = null;
+        if (usageData != null) {
+            usage = new LinkedHashMap<>();
+            usage.put("year", usageData.getYear());
+            usage.put("count", usageData.getCount());
+            usage.put("firstExecution", string(usageData.getFirstExecution()));
+            usage.put("lastExecution", string(usageData.getLastExecution()));
+            usage.put("triggerActivated", string(usageData.getTriggerActivated()));
+        }
+        map.put("usage", usage);
+
+        Map<String, Object> rate = null;
+        if (runRate != null) {
+            rate = new LinkedHashMap<>();
+            rate.put("currentRate", runRate.getCurrentRate());
+            rate.put("allowedRate", runRate.getAllowedRate());
+            rate.put("projectedAnnualTotal", runRate.getProjectedAnnualTotal());
+            rate.put("projectedPercent", runRate.getProjectedPercent());
+            rate.put("projectedLimitDate", string(runRate.getProjectedLimitDate()));
+            rate.put("daysUntilLimit", runRate.getDaysUntilLimit());
+            rate.put("sufficientData", runRate.isSufficientData());
+            rate.put("overPace", runRate.isOverPace());
+        }
+        map.put("runRate", rate);
+        return map;
+    }
+
+    private static String string(LocalDate date) {
+        return date != null ? date.toString() : null;
+    }
+
+    // ========== Getters ==========
+
+    /**
+     * Returns the status of the latest execution.
+     *
+     * @return the status, or null if not available
+     */
+    public EnforcementStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the run rate projection as of the latest execution.
+     *
+     * @return the run rate, or null without a license or usage history
+     */
+    public RunRate getRunRate() {
+        return runRate;
+    }
+
+    /**
+     * Returns the usage as counted by the latest execution.
+     *
+     * @return the usage data, or null if not available
+     */
+    public UsageData getUsageData() {
+        return usageData;
+    }
+
+    /**
+     * Returns when the latest execution was enforced.
+     *
+     * @return the time, or null if not available
+     */
+    public Instant getTakenAt() {
+        return isAvailable() ? Instant.ofEpochMilli(takenAtMillis) : null;
+    }
+
+    @Override
+    public String toString() {
+        return isAvailable()
+            ? "EnforcementSnapshot{" + status + ", usage=" + usageData.getCount() + ", takenAt=" + getTakenAt() + "}"
+            : "EnforcementSnapshot{not available}";
+    }
+}
@@ -5,6 +5,8 @@
  * <ul>
  *   <li>{@link io.catalyst.bridge.enforcement.EnforcementEngine} - Main orchestrator (entry point)</li>
  *   <li>{@link io.catalyst.bridge.enforcement.EnforcementStatus} - Current enforcement state</li>
+ *   <li>{@link io.catalyst.bridge.enforcement.EnforcementSnapshot} - Latest state for monitoring, without counting an execution</li>
+ *   <li>{@link io.catalyst.bridge.enforcement.EnforcementMonitor} - JMX view of the latest state</li>
  *   <li>{@link io.catalyst.bridge.enforcement.EnforcementTrigger} - Trigger conditions (NO_LICENSE, EXPIRED, LIMIT_EXCEEDED)</li>
  *   <li>{@link io.catalyst.bridge.enforcement.LimpMode} - Graduated enforcement levels with delays</li>
  *   <li>{@link io.catalyst.bridge.enforcement.AlertLevel} - Pre-grace warning levels</li>
@@ -0,0 +1,132 @@
+package io.catalyst.bridge.http;
+
+import io.catalyst.bridge.buffer.BufferPool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A binary response body spooled to a temporary file.
+ *
+ * <p>The body is copied from the connection through a fixed-size buffer, so
+ * heap use does not grow with the download size. The file is deleted by
+ * {@link #close()}; whoever takes the response owns it.</p>
+ *
+ * @see ResponseMode
+ */
+public final class BinaryBody implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Path file;
+    private final long size;
+    private final String contentType;
+    private final String filename;
+
+    private BinaryBody(Path file, long size, String contentType, String filename) {
+        this.file = file;
+        this.size = size;
+        this.contentType = contentType;
+        this.filename = filename;
+    }
+
+    /**
+     * Copies a body stream into a new temporary file.
+     *
+     * @param in the decoded body stream
+     * @param contentType the response content type, may be null
+     * @param filename the file name from {@code Content-Disposition}, may be null
+     * @param maxBytes maximum body size, 0 for unlimited
+     * @param url the request URL, for error messages
+     * @return the body
+     * @throws ResponseTooLargeException if the body exceeds maxBytes; the partial file is deleted
+     * @throws IOException if reading or writing fails
+     */
+    static BinaryBody spill(InputStream in, String contentType, String filename, long maxBytes, String url)
+            throws IOException {
+        Path file = Files.createTempFile("catalyst-response-", ".bin");
+        try {
+            long size = 0;
+            byte[] buffer = BufferPool.shared().acquire(BUFFER_SIZE);
+            try (OutputStream out = Files.newOutputStream(file)) {
+                int n;
+                while ((n = in.read(buffer)) >= 0) {
+                    size += n;
+                    if (maxBytes > 0 && size > maxBytes) {
+                        throw new ResponseTooLargeException(url, maxBytes);
+                    }
+                    out.write(buffer, 0, n);
+                }
+            } finally {
+                BufferPool.shared().release(buffer);
+            }
+            return new BinaryBody(file, size, contentType, filename);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the temporary file holding the body.
+     *
+     * @return the file, deleted on {@link #close()}
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the body size after content decoding.
+     *
+     * @return the size in bytes
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the response content type.
+     *
+     * @return the content type, or null if the response had none
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Returns the file name sent by the server.
+     *
+     * @return the file name from {@code Content-Disposition}, or null
+     */
+    public String getFilename() {
+        return filename;
+    }
+
+    /**
+     * Opens the body for reading.
+     *
+     * @return a new stream of the body
+     * @throws IOException if the file cannot be opened
+     */
+    public InputStream openStream() throws IOException {
+        return Files.newInputStream(file);
+    }
+
+    /**
+     * Deletes the temporary file. Safe to call more than once.
+     */
+    @Override
+    public void close() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryBody{size=" + size + ", contentType='" + contentType + "', filename='" + filename + "'}";
+    }
+}
@@ -0,0 +1,65 @@
+package io.catalyst.bridge.http;
+
+/**
+ * Allows another thread to abort an in-flight {@link WebhookClient} call.
+ *
+ * <p>Used by hedging to cancel the slower of two identical requests. Cancelling
+ * aborts the underlying HTTP exchange so the blocked caller fails fast with an
+ * {@link java.io.IOException}. Cancelling before the call starts aborts it as
+ * soon as it is bound.</p>
+ */
+public final class CancellationHandle {
+
+    private Runnable canceller;
+    private boolean cancelled;
+
+    /**
+     * Cancels the call this handle is bound to.
+     */
+    public void cancel() {
+        Runnable toRun;
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            toRun = canceller;
+        }
+        if (toRun != null) {
+            toRun.run();
+        }
+    }
+
+    /**
+     * Returns true if {@link #cancel()} was called.
+     *
+     * @return true if cancelled
+     */
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Binds the action that aborts the in-flight exchange.
+     *
+     * @param action the abort action; run immediately if already cancelled
+     */
+    void bind(Runnable action) {
+        boolean runNow;
+        synchronized (this) {
+            canceller = action;
+            runNow = cancelled;
+        }
+        if (runNow) {
+            action.run();
+        }
+    }
+
+    /**
+     * Detaches the abort action once the exchange has finished, so that a late
+     * {@link #cancel()} cannot affect a connection that has been reused.
+     */
+    synchronized void unbind() {
+        canceller = null;
+    }
+}
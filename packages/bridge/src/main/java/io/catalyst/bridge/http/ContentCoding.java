@@ -0,0 +1,237 @@
+package io.catalyst.bridge.http;
+
+import io.catalyst.bridge.buffer.PooledOutputStream;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.lang.reflect.Constructor;
+import java.util.Locale;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * HTTP content codings ({@code Content-Encoding}) supported by the bridge.
+ *
+ * <p>gzip and deflate use {@code java.util.zip}. zstd is used only if
+ * {@code com.github.luben:zstd-jni} is on the classpath; it is looked up
+ * reflectively so the bridge has no hard dependency on it.</p>
+ *
+ * <p>Decoding is streaming: callers wrap the response input stream and never
+ * hold the compressed and decompressed body at the same time.</p>
+ */
+public final class ContentCoding {
+
+    /** gzip coding */
+    public static final String GZIP = "gzip";
+
+    /** zlib-wrapped deflate coding */
+    public static final String DEFLATE = "deflate";
+
+    /** Zstandard coding (requires zstd-jni) */
+    public static final String ZSTD = "zstd";
+
+    /** No coding */
+    public static final String IDENTITY = "identity";
+
+    private static final Constructor<?> ZSTD_INPUT;
+    private static final Constructor<?> ZSTD_OUTPUT;
+
+    static {
+        Constructor<?> input = null;
+        Constructor<?> output = null;
+        try {
+            input = Class.forName("com.github.luben.zstd.ZstdInputStream").getConstructor(InputStream.class);
+            output = Class.forName("com.github.luben.zstd.ZstdOutputStream").getConstructor(OutputStream.class);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // zstd-jni not present
+        }
+        ZSTD_INPUT = input;
+        ZSTD_OUTPUT = output;
+    }
+
+    private ContentCoding() {
+        // Static utility class
+    }
+
+    /**
+     * Returns true if zstd-jni is available.
+     *
+     * @return true if zstd can be used
+     */
+    public static boolean isZstdAvailable() {
+        return ZSTD_INPUT != null && ZSTD_OUTPUT != null;
+    }
+
+    /**
+     * Returns true if the coding can be used for request bodies.
+     *
+     * @param coding the coding name
+     * @return true for gzip, deflate, and zstd when available
+     */
+    public static boolean isSupported(String coding) {
+        String normalized = coding.trim().toLowerCase(Locale.ROOT);
+        return GZIP.equals(normalized) || DEFLATE.equals(normalized)
+            || (ZSTD.equals(normalized) && isZstdAvailable());
+    }
+
+    /**
+     * Returns the {@code Accept-Encoding} value advertising all supported codings.
+     *
+     * @return e.g. {@code gzip, deflate}
+     */
+    public static String acceptEncoding() {
+        return isZstdAvailable() ? "gzip, deflate, zstd" : "gzip, deflate";
+    }
+
+    /**
+     * Compresses a body.
+     *
+     * @param coding gzip, deflate or zstd
+     * @param body the uncompressed body
+     * @return the compressed body
+     * @throws IOException if compression fails
+     * @throws IllegalArgumentException if the coding is not supported
+     */
+    public static byte[] encode(String coding, byte[] body) throws IOException {
+        try (PooledOutputStream buffer = new PooledOutputStream(body.length / 4)) {
+            // Closing the encoder finishes the stream but must not return the buffer to the pool yet
+            try (OutputStream out = encodingStream(coding, new FilterOutputStream(buffer) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            })) {
+                out.write(body);
+            }
+            return buffer.toByteArray();
+        }
+    }
+
+    private static OutputStream encodingStream(String coding, OutputStream out) throws IOException {
+        switch (coding.trim().toLowerCase(Locale.ROOT)) {
+            case GZIP:
+                return new GZIPOutputStream(out, 8192);
+            case DEFLATE:
+                return new DeflaterOutputStream(out);
+            case ZSTD:
+                if (isZstdAvailable()) {
+                    return (OutputStream) newInstance(ZSTD_OUTPUT, out);
+                }
+                break;
+            default:
+                break;
+        }
+        throw new IllegalArgumentException("Unsupported content coding: " + coding);
+    }
+
+    /**
+     * Wraps a response body stream with the decoders for its {@code Content-Encoding}.
+     *
+     * @param contentEncoding the header value, may be null or list several codings
+     * @param in the raw body stream
+     * @return a stream of the decoded body
+     * @throws IOException if a coding is unsupported or the stream header is invalid
+     */
+    public static InputStream decode(String contentEncoding, InputStream in) throws IOException {
+        if (contentEncoding == null || contentEncoding.trim().isEmpty()) {
+            return in;
+        }
+        // An empty body (e.g. 204 with a stray Content-Encoding) has no coding header to parse
+        PushbackInputStream pushback = new PushbackInputStream(in, 1);
+        int first = pushback.read();
+        if (first < 0) {
+            return pushback;
+        }
+        pushback.unread(first);
+
+        // Codings are listed in the order they were applied; undo them in reverse
+        String[] codings = contentEncoding.split(",");
+        InputStream decoded = pushback;
+        for (int i = codings.length - 1; i >= 0; i--) {
+            String coding = codings[i].trim().toLowerCase(Locale.ROOT);
+            switch (coding) {
+                case GZIP:
+                case "x-gzip":
+                    decoded = new GZIPInputStream(decoded, 8192);
+                    break;
+                case DEFLATE:
+                    decoded = new InflaterInputStream(decoded);
+                    break;
+                case ZSTD:
+                    if (!isZstdAvailable()) {
+                        throw new IOException("Response uses zstd but zstd-jni is not on the classpath");
+                    }
+                    decoded = (InputStream) newInstance(ZSTD_INPUT, decoded);
+                    break;
+                case IDENTITY:
+                case "":
+                    break;
+                default:
+                    throw new IOException("Unsupported Content-Encoding: " + contentEncoding);
+            }
+        }
+        return decoded;
+    }
+
+    private static Object newInstance(Constructor<?> constructor, Object stream) throws IOException {
+        try {
+            return constructor.newInstance(stream);
+        } catch (ReflectiveOperationException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Cannot create zstd stream", e);
+        }
+    }
+
+    /**
+     * Input stream that counts the bytes read through it.
+     */
+    static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,516 @@
+package io.catalyst.bridge.http;
+
+import io.catalyst.bridge.buffer.BufferPool;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Minimal HTTP/1.1 framing for transports that do not use Apache HttpClient.
+ *
+ * <p>Supports exactly what webhook calls need: a POST with a
+ * {@code Content-Length} or chunked body, and responses delimited by
+ * {@code Content-Length}, chunked transfer encoding or connection close.
+ * Also encodes responses and decodes requests so that
+ * {@link LoopbackTransport} can exercise both sides of the wire format.</p>
+ */
+final class Http1Codec {
+
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+    private static final int MAX_HEADERS = 256;
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final byte[] LAST_CHUNK = "0\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1);
+
+    private Http1Codec() {
+        // Static utility class
+    }
+
+    /**
+     * A decoded response plus whether the connection may be reused.
+     */
+    static final class Response {
+        final WebhookResponse response;
+        final boolean keepAlive;
+
+        Response(WebhookResponse response, boolean keepAlive) {
+            this.response = response;
+            this.keepAlive = keepAlive;
+        }
+    }
+
+    /**
+     * Writes a webhook POST request. Byte bodies are sent with
+     * {@code Content-Length}; streaming bodies of unknown length are sent
+     * with chunked transfer encoding.
+     *
+     * @param request the request
+     * @param keepAlive false to ask the server to close the connection afterwards
+     * @param out the connection output stream; flushed by the caller
+     * @throws IOException if writing or reading a streaming body source fails
+     * @throws IllegalArgumentException if a header name or value contains CR, LF or NUL
+     */
+    static void writeRequest(WebhookRequest request, boolean keepAlive, OutputStream out) throws IOException {
+        URI uri = URI.create(request.getUrl());
+        String target = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        if (uri.getRawQuery() != null) {
+            target += "?" + uri.getRawQuery();
+        }
+        String host = uri.getPort() >= 0 ? uri.getHost() + ":" + uri.getPort() : uri.getHost();
+        StreamingBody streamingBody = request.getStreamingBody();
+        byte[] body = request.getBody() != null ? request.getBody() : new byte[0];
+
+        // Default headers can be overridden by custom headers, like in HttpClientTransport
+        Map<String, String[]> headers = new LinkedHashMap<>();
+        putHeader(headers, "Host", host);
+        putHeader(headers, "Content-Type", request.getContentType());
+        putHeader(headers, "Accept", "application/json");
+        request.getHeaders().forEach((name, value) -> putHeader(headers, name, value));
+        boolean chunked = streamingBody != null && streamingBody.getContentLength() < 0;
+        if (chunked) {
+            putHeader(headers, "Transfer-Encoding", "chunked");
+        } else {
+            long length = streamingBody != null ? streamingBody.getContentLength() : body.length;
+            putHeader(headers, "Content-Length", Long.toString(length));
+        }
+        if (!keepAlive) {
+            putHeader(headers, "Connection", "close");
+        }
+
+        StringBuilder head = new StringBuilder(256)
+            .append("POST ").append(target).append(" HTTP/1.1\r\n");
+        for (String[] header : headers.values()) {
+            head.append(header[0]).append(": ").append(header[1]).append("\r\n");
+        }
+        head.append("\r\n");
+        out.write(head.toString().getBytes(StandardCharsets.ISO_8859_1));
+
+        if (streamingBody == null) {
+            out.write(body);
+        } else if (chunked) {
+            ChunkedOutputStream chunks = new ChunkedOutputStream(out);
+            streamingBody.writeTo(chunks);
+            chunks.finish();
+        } else {
+            streamingBody.writeTo(out);
+        }
+    }
+
+    /**
+     * Encodes a response with a {@code Content-Length} body. Text bodies are
+     * sent as UTF-8 JSON; binary bodies with their content type and file name.
+     *
+     * @param response the response
+     * @return the response bytes
+     * @throws IOException if a binary body cannot be read
+     */
+    static byte[] encodeResponse(WebhookResponse response) throws IOException {
+        StringBuilder head = new StringBuilder(128)
+            .append("HTTP/1.1 ").append(response.getStatusCode()).append(' ')
+            .append(reason(response.getStatusCode())).append("\r\n");
+        byte[] body;
+        BinaryBody binary = response.getBinaryBody();
+        if (binary != null) {
+            try (InputStream in = binary.openStream()) {
+                body = in.readAllBytes();
+            }
+            head.append("Content-Type: ").append(binary.getContentType() != null
+                ? binary.getContentType() : InputStreamBody.OCTET_STREAM).append("\r\n");
+            if (binary.getFilename() != null) {
+                head.append("Content-Disposition: attachment; filename=\"").append(binary.getFilename())
+                    .append("\"\r\n");
+            }
+        } else {
+            body = response.getBody().getBytes(StandardCharsets.UTF_8);
+            head.append("Content-Type: application/json; charset=utf-8\r\n");
+        }
+        head.append("Content-Length: ").append(body.length).append("\r\n\r\n");
+        return concat(head.toString().getBytes(StandardCharsets.ISO_8859_1), body);
+    }
+
+    /**
+     * Decodes a request written by {@link #writeRequest(WebhookRequest, boolean, OutputStream)}.
+     *
+     * @param in the input stream positioned at the request line
+     * @param scheme scheme used to rebuild the absolute URL
+     * @return the request
+     * @throws IOException if the request is malformed
+     */
+    static WebhookRequest decodeRequest(InputStream in, String scheme) throws IOException {
+        String requestLine = readLine(in);
+        String[] parts = requestLine.split(" ");
+        if (parts.length != 3 || !parts[2].startsWith("HTTP/1.")) {
+            throw new IOException("Malformed HTTP request line: " + requestLine);
+        }
+        Map<String, String> headers = readHeaders(in);
+        String host = headers.remove("host");
+        String contentType = headers.remove("content-type");
+        headers.remove("accept");
+        headers.remove("connection");
+        String length = headers.remove("content-length");
+        String transferEncoding = headers.remove("transfer-encoding");
+        byte[] body = transferEncoding != null && transferEncoding.toLowerCase(Locale.ROOT).contains("chunked")
+            ? readChunked(in)
+            : readFully(in, length != null ? Integer.parseInt(length.trim()) : 0);
+
+        WebhookRequest.Builder builder = WebhookRequest.builder()
+            .url(scheme + "://" + host + parts[1])
+            .body(body)
+            .headers(headers);
+        if (contentType != null) {
+            builder.contentType(contentType);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Decodes a response as text, skipping interim 1xx responses.
+     *
+     * @param in the input stream positioned at the status line
+     * @return the response and whether the connection may be reused
+     * @throws EOFException if the stream ends before a status line was read
+     * @throws IOException if the response is malformed
+     */
+    static Response decodeResponse(InputStream in) throws IOException {
+        return decodeResponse(in, null);
+    }
+
+    /**
+     * Decodes a response, skipping interim 1xx responses. The body is read
+     * as a stream according to the request's response mode and size limit.
+     *
+     * @param in the input stream positioned at the status line
+     * @param request the request the response belongs to, or null for a plain text read
+     * @return the response and whether the connection may be reused
+     * @throws EOFException if the stream ends before a status line was read
+     * @throws ResponseTooLargeException if the body exceeds the request's limit
+     * @throws IOException if the response is malformed
+     */
+    static Response decodeResponse(InputStream in, WebhookRequest request) throws IOException {
+        while (true) {
+            String statusLine = readLine(in);
+            String[] parts = statusLine.split(" ", 3);
+            if (parts.length < 2 || !parts[0].startsWith("HTTP/1.")) {
+                throw new IOException("Malformed HTTP status line: " + statusLine);
+            }
+            int status;
+            try {
+                status = Integer.parseInt(parts[1]);
+            } catch (NumberFormatException e) {
+                throw new IOException("Malformed HTTP status line: " + statusLine, e);
+            }
+            Map<String, String> headers = readHeaders(in);
+            if (status >= 100 && status < 200) {
+                continue;
+            }
+
+            boolean keepAlive = !"close".equalsIgnoreCase(headers.get("connection"))
+                && !parts[0].equals("HTTP/1.0");
+            BodyInputStream body;
+            long declaredLength = -1;
+            String transferEncoding = headers.get("transfer-encoding");
+            String contentLength = headers.get("content-length");
+            if (status == 204 || status == 304) {
+                body = new FixedLengthInputStream(in, 0);
+                declaredLength = 0;
+            } else if (transferEncoding != null && transferEncoding.toLowerCase(Locale.ROOT).contains("chunked")) {
+                body = new ChunkedInputStream(in);
+            } else if (contentLength != null) {
+                declaredLength = Long.parseLong(contentLength.trim());
+                body = new FixedLengthInputStream(in, declaredLength);
+            } else {
+                body = new FixedLengthInputStream(in, -1);
+                keepAlive = false;
+            }
+            String contentType = headers.get("content-type");
+            WebhookResponse response = ResponseReader.read(request, status, declaredLength, contentType,
+                charset(contentType), headers.get("content-encoding"), headers.get("content-disposition"), body);
+            // A decoder may stop before the end of the framing; skip the rest so the connection can be reused
+            if (keepAlive) {
+                body.drain();
+            }
+            return new Response(response, keepAlive);
+        }
+    }
+
+    private static void putHeader(Map<String, String[]> headers, String name, String value) {
+        // CR or LF would end the header early and let a value inject headers; NUL is rejected by servers
+        if (hasForbiddenChar(name) || value != null && hasForbiddenChar(value)) {
+            throw new IllegalArgumentException("Invalid character in header: " + name);
+        }
+        headers.put(name.toLowerCase(Locale.ROOT), new String[] {name, value});
+    }
+
+    private static boolean hasForbiddenChar(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\r' || c == '\n' || c == '\0') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, String> readHeaders(InputStream in) throws IOException {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (int i = 0; i <= MAX_HEADERS; i++) {
+            String line = readLine(in);
+            if (line.isEmpty()) {
+                return headers;
+            }
+            int colon = line.indexOf(':');
+            if (colon <= 0) {
+                throw new IOException("Malformed HTTP header: " + line);
+            }
+            headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+        }
+        throw new IOException("Too many HTTP headers");
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder(64);
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b < 0) {
+                throw new EOFException("Connection closed while reading HTTP headers");
+            }
+            if (line.length() >= MAX_LINE_LENGTH) {
+                throw new IOException("HTTP header line too long");
+            }
+            if (b != '\r') {
+                line.append((char) b);
+            }
+        }
+        return line.toString();
+    }
+
+    private static byte[] readChunked(InputStream in) throws IOException {
+        return new ChunkedInputStream(in).readAllBytes();
+    }
+
+    private static byte[] readFully(InputStream in, int length) throws IOException {
+        byte[] data = in.readNBytes(length);
+        if (data.length < length) {
+            throw new EOFException("Connection closed after " + data.length + " of " + length + " body bytes");
+        }
+        return data;
+    }
+
+    private static Charset charset(String contentType) {
+        if (contentType != null) {
+            for (String param : contentType.split(";")) {
+                String trimmed = param.trim();
+                if (trimmed.toLowerCase(Locale.ROOT).startsWith("charset=")) {
+                    try {
+                        return Charset.forName(trimmed.substring(8).replace("\"", "").trim());
+                    } catch (IllegalArgumentException e) {
+                        return StandardCharsets.UTF_8;
+                    }
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    /**
+     * Body of a message on a connection that stays open: closing it leaves
+     * the connection alone, {@link #drain()} skips to the end of the body.
+     */
+    private abstract static class BodyInputStream extends InputStream {
+        private final byte[] one = new byte[1];
+
+        @Override
+        public int read() throws IOException {
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        void drain() throws IOException {
+            byte[] skip = BufferPool.shared().acquire(BufferPool.MIN_BUFFER_SIZE);
+            try {
+                while (read(skip, 0, skip.length) >= 0) {
+                    // discard
+                }
+            } finally {
+                BufferPool.shared().release(skip);
+            }
+        }
+
+        @Override
+        public void close() {
+            // The connection is owned by the transport
+        }
+    }
+
+    /**
+     * Body delimited by {@code Content-Length}, or by connection close if the length is -1.
+     */
+    private static final class FixedLengthInputStream extends BodyInputStream {
+        private final InputStream in;
+        private final long length;
+        private long remaining;
+
+        FixedLengthInputStream(InputStream in, long length) {
+            this.in = in;
+            this.length = length;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (length < 0) {
+                return in.read(b, off, len);
+            }
+            if (remaining == 0) {
+                return -1;
+            }
+            int n = in.read(b, off, (int) Math.min(len, remaining));
+            if (n < 0) {
+                throw new EOFException("Connection closed after " + (length - remaining) + " of " + length
+                    + " body bytes");
+            }
+            remaining -= n;
+            return n;
+        }
+    }
+
+    /**
+     * Body with chunked transfer encoding; trailers are skipped.
+     */
+    private static final class ChunkedInputStream extends BodyInputStream {
+        private final InputStream in;
+        private int remaining;
+        private boolean started;
+        private boolean eof;
+
+        ChunkedInputStream(InputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!nextChunk()) {
+                return -1;
+            }
+            int n = in.read(b, off, Math.min(len, remaining));
+            if (n < 0) {
+                throw new EOFException("Connection closed inside a chunk");
+            }
+            remaining -= n;
+            return n;
+        }
+
+        private boolean nextChunk() throws IOException {
+            if (eof) {
+                return false;
+            }
+            if (remaining > 0) {
+                return true;
+            }
+            if (started) {
+                readLine(in);
+            }
+            started = true;
+            String sizeLine = readLine(in);
+            int extension = sizeLine.indexOf(';');
+            int size;
+            try {
+                size = Integer.parseInt((extension >= 0 ? sizeLine.substring(0, extension) : sizeLine).trim(), 16);
+            } catch (NumberFormatException e) {
+                throw new IOException("Malformed chunk size: " + sizeLine, e);
+            }
+            if (size == 0) {
+                // Skip trailers
+                while (!readLine(in).isEmpty()) {
+                    // ignore
+                }
+                eof = true;
+                return false;
+            }
+            remaining = size;
+            return true;
+        }
+    }
+
+    /**
+     * Frames everything written to it as chunks of at most the buffer size.
+     */
+    private static final class ChunkedOutputStream extends OutputStream {
+        private static final int CHUNK_SIZE = 8192;
+
+        private final OutputStream out;
+        private final byte[] buffer = new byte[CHUNK_SIZE];
+        private int count;
+
+        ChunkedOutputStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (count == buffer.length) {
+                flushChunk();
+            }
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (count == buffer.length) {
+                    flushChunk();
+                }
+                int n = Math.min(len, buffer.length - count);
+                System.arraycopy(b, off, buffer, count, n);
+                count += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        private void flushChunk() throws IOException {
+            if (count > 0) {
+                out.write((Integer.toHexString(count) + "\r\n").getBytes(StandardCharsets.ISO_8859_1));
+                out.write(buffer, 0, count);
+                out.write(CRLF);
+                count = 0;
+            }
+        }
+
+        /**
+         * Writes the remaining data and the last chunk. Does not close the connection stream.
+         */
+        void finish() throws IOException {
+            flushChunk();
+            out.write(LAST_CHUNK);
+        }
+    }
+
+    private static String reason(int status) {
+        if (status >= 200 && status < 300) {
+            return "OK";
+        }
+        return status >= 500 ? "Server Error" : "Error";
+    }
+
+    private static byte[] concat(byte[] head, byte[] body) {
+        byte[] result = new byte[head.length + body.length];
+        System.arraycopy(head, 0, result, 0, head.length);
+        System.arraycopy(body, 0, result, head.length, body.length);
+        return result;
+    }
+}
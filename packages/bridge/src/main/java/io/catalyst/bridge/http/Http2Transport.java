@@ -0,0 +1,248 @@
+package io.catalyst.bridge.http;
+
+import io.catalyst.bridge.config.TransportConfig;
+import io.catalyst.bridge.metrics.ExecutionTimings;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http2.config.H2Config;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * HTTP/2 transport using the Apache HttpClient async client.
+ *
+ * <p>Plain {@code http://} endpoints are spoken to with h2c prior knowledge,
+ * {@code https://} endpoints with h2 negotiated via ALPN. Concurrent calls to
+ * the same host are multiplexed as streams over one connection instead of
+ * one socket per in-flight call.</p>
+ *
+ * <p>Fallback is per route ({@code scheme://host:port}): before the first
+ * call to a route that has never answered over HTTP/2, an {@code OPTIONS *}
+ * request, which addresses the server rather than any webhook, checks that
+ * it speaks HTTP/2. If that fails for any reason other than a connect
+ * failure or timeout, the call is sent with the HTTP/1.1 fallback transport
+ * instead, and the route stays on HTTP/1.1 for
+ * {@link TransportConfig#getHttp1FallbackDuration()} before HTTP/2 is tried
+ * again. A failed webhook call itself is never retried over HTTP/1.1: once
+ * its request has been sent, n8n may have processed it.</p>
+ *
+ * <p>Requests with a {@link StreamingBody} always use the fallback transport,
+ * which writes them to the socket without buffering. Response bodies are
+ * buffered by the async client before they are decoded, so the response size
+ * limit applies but binary downloads are not memory-flat over HTTP/2.</p>
+ */
+public class Http2Transport implements WebhookTransport, Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Http2Transport.class);
+
+    private final CloseableHttpAsyncClient client;
+    private final WebhookTransport fallback;
+    private final long fallbackMillis;
+    private final Clock clock;
+    private final Map<String, RouteState> routes = new ConcurrentHashMap<>();
+
+    /**
+     * Per-route protocol knowledge.
+     */
+    private static final class RouteState {
+        private volatile boolean http2Confirmed;
+        private volatile long http1Until;
+    }
+
+    /**
+     * Creates an HTTP/2 transport.
+     *
+     * @param config HTTP/2 settings
+     * @param fallback the HTTP/1.1 transport used for routes that do not speak HTTP/2
+     * @param clock the clock for fallback expiry
+     */
+    public Http2Transport(TransportConfig config, WebhookTransport fallback, Clock clock) {
+        this.fallback = fallback;
+        this.fallbackMillis = config.getHttp1FallbackDuration().toMillis();
+        this.clock = clock;
+        this.client = HttpAsyncClients.customHttp2()
+            .setH2Config(H2Config.custom()
+                .setPushEnabled(false)
+                .setMaxConcurrentStreams(config.getHttp2MaxConcurrentStreams())
+                .setInitialWindowSize(config.getHttp2InitialWindowSize())
+                .setMaxFrameSize(config.getHttp2MaxFrameSize())
+                .build())
+            .setThreadFactory(runnable -> {
+                Thread thread = new Thread(runnable, "catalyst-h2-io");
+                thread.setDaemon(true);
+                return thread;
+            })
+            .build();
+        this.client.start();
+    }
+
+    @Override
+    public WebhookResponse send(WebhookRequest request, CancellationHandle cancellation) throws IOException {
+        String route = route(request.getUrl());
+        RouteState state = routes.computeIfAbsent(route, key -> new RouteState());
+        if (state.http1Until > clock.millis() || request.getStreamingBody() != null) {
+            return fallback.send(request, cancellation);
+        }
+
+        if (!state.http2Confirmed) {
+            try {
+                probe(request);
+                state.http2Confirmed = true;
+            } catch (IOException e) {
+                if (e instanceof InterruptedIOException || WebhookClient.isConnectFailure(e)) {
+                    throw e;
+                }
+                // The webhook request has not been sent, so it can go over HTTP/1.1
+                LOGGER.debug("HTTP/2 probe of {} failed ({}), trying HTTP/1.1", route, e.toString());
+                WebhookResponse response = fallback.send(request, cancellation);
+                state.http1Until = clock.millis() + fallbackMillis;
+                LOGGER.info("{} does not speak HTTP/2, using HTTP/1.1 for the next {}s", route, fallbackMillis / 1000);
+                return response;
+            }
+        }
+        return sendHttp2(request, cancellation);
+    }
+
+    /**
+     * Sends {@code OPTIONS *} to the request's server over HTTP/2. Any
+     * response, whatever its status, confirms that the server speaks HTTP/2.
+     */
+    private void probe(WebhookRequest request) throws IOException {
+        URI uri = URI.create(request.getUrl());
+        SimpleHttpRequest options = SimpleRequestBuilder.options()
+            .setHttpHost(new HttpHost(uri.getScheme(), uri.getHost(), uri.getPort()))
+            .setPath("*")
+            .build();
+        options.setConfig(RequestConfig.custom()
+            .setConnectTimeout(Timeout.of(request.getTimeoutSeconds(), TimeUnit.SECONDS))
+            .setResponseTimeout(Timeout.of(request.getTimeoutSeconds(), TimeUnit.SECONDS))
+            .build());
+        Future<SimpleHttpResponse> future = client.execute(options, null);
+        try {
+            future.get(2L * request.getTimeoutSeconds() + 1, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new SocketTimeoutException("Timed out probing " + uri.getHost() + " for HTTP/2");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while probing " + uri.getHost() + " for HTTP/2");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("HTTP/2 probe of " + uri.getHost() + " failed", e.getCause());
+        }
+    }
+
+    private WebhookResponse sendHttp2(WebhookRequest request, CancellationHandle cancellation) throws IOException {
+        SimpleRequestBuilder builder = SimpleRequestBuilder.post(request.getUrl())
+            .setHeader("Accept", "application/json");
+        if (request.getBody() != null) {
+            builder.setBody(request.getBody(), ContentType.parse(request.getContentType()));
+        }
+        request.getHeaders().forEach(builder::setHeader);
+        SimpleHttpRequest httpRequest = builder.build();
+        httpRequest.setConfig(RequestConfig.custom()
+            .setConnectTimeout(Timeout.of(request.getTimeoutSeconds(), TimeUnit.SECONDS))
+            .setResponseTimeout(Timeout.of(request.getTimeoutSeconds(), TimeUnit.SECONDS))
+            .build());
+
+        Future<SimpleHttpResponse> future = client.execute(httpRequest, null);
+        if (cancellation != null) {
+            cancellation.bind(() -> future.cancel(true));
+        }
+        try {
+            // Connect plus response timeout, enforced by the client; this is a safety net
+            SimpleHttpResponse response = future.get(2L * request.getTimeoutSeconds() + 1, TimeUnit.SECONDS);
+            byte[] body = response.getBodyBytes();
+            if (body == null) {
+                if (request.getTimings() != null) {
+                    request.getTimings().lap(ExecutionTimings.Phase.FIRST_BYTE);
+                }
+                return new WebhookResponse("", response.getCode(), 0, 0);
+            }
+            ContentType contentType = response.getContentType();
+            return ResponseReader.read(request, response.getCode(), body.length,
+                contentType != null ? contentType.toString() : null, charset(contentType),
+                headerValue(response, "Content-Encoding"), headerValue(response, "Content-Disposition"),
+                new ByteArrayInputStream(body));
+        } catch (CancellationException e) {
+            throw new InterruptedIOException("Request cancelled");
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new SocketTimeoutException("Timed out waiting for " + request.getUrl());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + request.getUrl());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("HTTP/2 call to " + request.getUrl() + " failed", e.getCause());
+        } finally {
+            if (cancellation != null) {
+                cancellation.unbind();
+            }
+        }
+    }
+
+    /**
+     * Returns true if the route is currently served over HTTP/1.1 after a fallback.
+     *
+     * @param url any URL of the route
+     * @return true if the route fell back to HTTP/1.1
+     */
+    public boolean isFallenBack(String url) {
+        RouteState state = routes.get(route(url));
+        return state != null && state.http1Until > clock.millis();
+    }
+
+    private static String route(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+    }
+
+    private static String headerValue(SimpleHttpResponse response, String name) {
+        Header header = response.getFirstHeader(name);
+        return header != null ? header.getValue() : null;
+    }
+
+    private static Charset charset(ContentType contentType) {
+        return contentType != null && contentType.getCharset() != null
+            ? contentType.getCharset()
+            : StandardCharsets.UTF_8;
+    }
+
+    @Override
+    public void close() {
+        client.close(CloseMode.GRACEFUL);
+    }
+}
@@ -0,0 +1,118 @@
+package io.catalyst.bridge.http;
+
+import io.catalyst.bridge.metrics.ExecutionTimings;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.ChainElement;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityTemplate;
+import org.apache.hc.core5.util.Timeout;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Default transport: HTTP/1.1 over TCP using Apache HttpClient.
+ *
+ * <p>A new HTTP client is created per request. Compressed responses are
+ * decoded by {@link ContentCoding} rather than by HttpClient so that the
+ * compressed size can be reported.</p>
+ *
+ * <p>For timed requests, an exec chain interceptor after the connect step
+ * laps the {@link ExecutionTimings.Phase#CONNECT} phase.</p>
+ */
+public class HttpClientTransport implements WebhookTransport {
+
+    @Override
+    public WebhookResponse send(WebhookRequest request, CancellationHandle cancellation) throws IOException {
+        RequestConfig requestConfig = RequestConfig.custom()
+            .setConnectTimeout(Timeout.of(request.getTimeoutSeconds(), TimeUnit.SECONDS))
+            .setResponseTimeout(Timeout.of(request.getTimeoutSeconds(), TimeUnit.SECONDS))
+            .build();
+
+        // Content decoding is done here so that compressed sizes can be reported
+        HttpClientBuilder clientBuilder = HttpClients.custom()
+            .setDefaultRequestConfig(requestConfig)
+            .disableContentCompression();
+        ExecutionTimings timings = request.getTimings();
+        if (timings != null) {
+            clientBuilder.addExecInterceptorAfter(ChainElement.CONNECT.name(), "catalyst-timings",
+                (httpRequest, scope, chain) -> {
+                    timings.lap(ExecutionTimings.Phase.CONNECT);
+                    return chain.proceed(httpRequest, scope);
+                });
+        }
+        try (CloseableHttpClient httpClient = clientBuilder.build()) {
+
+            HttpPost httpPost = new HttpPost(request.getUrl());
+            if (cancellation != null) {
+                cancellation.bind(httpPost::cancel);
+            }
+
+            try {
+                StreamingBody streamingBody = request.getStreamingBody();
+                if (streamingBody != null) {
+                    // Written straight to the socket, chunked when the length is unknown
+                    httpPost.setEntity(new EntityTemplate(streamingBody.getContentLength(),
+                        ContentType.parse(request.getContentType()), null, streamingBody::writeTo));
+                } else if (request.getBody() != null) {
+                    httpPost.setEntity(new ByteArrayEntity(request.getBody(),
+                        ContentType.parse(request.getContentType())));
+                }
+
+                // Set default headers (can be overridden by custom headers)
+                httpPost.setHeader("Content-Type", request.getContentType());
+                httpPost.setHeader("Accept", "application/json");
+                request.getHeaders().forEach(httpPost::setHeader);
+
+                try (CloseableHttpResponse response = httpClient.execute(httpPost)) {
+                    HttpEntity entity = response.getEntity();
+                    if (entity == null) {
+                        if (timings != null) {
+                            timings.lap(ExecutionTimings.Phase.FIRST_BYTE);
+                        }
+                        return new WebhookResponse("", response.getCode(), 0, 0);
+                    }
+                    Header disposition = response.getFirstHeader("Content-Disposition");
+                    return ResponseReader.read(request, response.getCode(), entity.getContentLength(),
+                        entity.getContentType(), charset(entity.getContentType()), entity.getContentEncoding(),
+                        disposition != null ? disposition.getValue() : null, entity.getContent());
+                }
+            } finally {
+                if (cancellation != null) {
+                    cancellation.unbind();
+                }
+            }
+        }
+    }
+
+    /**
+     * Resolves the body charset the same way {@code EntityUtils.toString} does:
+     * explicit charset, else the MIME type's default, else ISO-8859-1.
+     */
+    private static Charset charset(String contentType) {
+        if (contentType == null) {
+            return StandardCharsets.ISO_8859_1;
+        }
+        try {
+            ContentType parsed = ContentType.parse(contentType);
+            Charset charset = parsed.getCharset();
+            if (charset == null) {
+                ContentType defaults = ContentType.getByMimeType(parsed.getMimeType());
+                charset = defaults != null ? defaults.getCharset() : null;
+            }
+            return charset != null ? charset : StandardCharsets.ISO_8859_1;
+        } catch (RuntimeException e) {
+            return StandardCharsets.ISO_8859_1;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.catalyst.bridge.http;
+
+import io.catalyst.bridge.buffer.BufferPool;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Raw streaming body copied from a {@link StreamingBody.Source}.
+ *
+ * <p>Also describes file parts of a {@link MultipartBody}, which is why it
+ * carries an optional file name.</p>
+ */
+public final class InputStreamBody implements StreamingBody {
+
+    /** Content type used when a file has no MIME type */
+    public static final String OCTET_STREAM = "application/octet-stream";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Source source;
+    private final String contentType;
+    private final long contentLength;
+    private final String filename;
+
+    /**
+     * Creates a raw body.
+     *
+     * @param source opens the content
+     * @param contentType the content type, or null for application/octet-stream
+     * @param contentLength the length in bytes, or -1 if unknown
+     * @param filename the file name, or null
+     */
+    public InputStreamBody(Source source, String contentType, long contentLength, String filename) {
+        this.source = source;
+        this.contentType = contentType != null && !contentType.trim().isEmpty() ? contentType : OCTET_STREAM;
+        this.contentLength = contentLength;
+        this.filename = filename;
+    }
+
+    /**
+     * Creates a body of known bytes.
+     *
+     * @param content the content
+     * @param contentType the content type, or null for application/octet-stream
+     * @param filename the file name, or null
+     * @return the body
+     */
+    public static InputStreamBody of(byte[] content, String contentType, String filename) {
+        return new InputStreamBody(() -> new ByteArrayInputStream(content), contentType,
+            content.length, filename);
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    /**
+     * Returns the file name.
+     *
+     * @return the file name, or null
+     */
+    public String getFilename() {
+        return filename;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        try (InputStream in = source.open()) {
+            if (in == null) {
+                return;
+            }
+            byte[] buffer = BufferPool.shared().acquire(BUFFER_SIZE);
+            long written = 0;
+            try {
+                int n;
+                while ((n = in.read(buffer)) >= 0) {
+                    out.write(buffer, 0, n);
+                    written += n;
+                }
+            } finally {
+                BufferPool.shared().release(buffer);
+            }
+            if (contentLength >= 0 && written != contentLength) {
+                throw new IOException("Body source produced " + written + " bytes, expected " + contentLength);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.catalyst.bridge.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.function.Function;
+
+/**
+ * In-memory transport for tests and benchmarks.
+ *
+ * <p>The request is encoded to HTTP/1.1 bytes, decoded again and handed to
+ * the handler; the handler's response takes the same round trip back. This
+ * exercises the same framing code as {@link UnixSocketTransport} without any
+ * sockets or threads.</p>
+ */
+public class LoopbackTransport implements WebhookTransport {
+
+    private final Function<WebhookRequest, WebhookResponse> handler;
+
+    /**
+     * Creates a loopback transport.
+     *
+     * @param handler stands in for n8n; receives the decoded request
+     */
+    public LoopbackTransport(Function<WebhookRequest, WebhookResponse> handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public WebhookResponse send(WebhookRequest request, CancellationHandle cancellation) throws IOException {
+        if (cancellation != null && cancellation.isCancelled()) {
+            throw new InterruptedIOException("Request cancelled");
+        }
+        String scheme = URI.create(request.getUrl()).getScheme();
+        ByteArrayOutputStream wire = new ByteArrayOutputStream();
+        Http1Codec.writeRequest(request, true, wire);
+        WebhookRequest received = Http1Codec.decodeRequest(new ByteArrayInputStream(wire.toByteArray()), scheme);
+        WebhookResponse response = handler.apply(received);
+        return Http1Codec.decodeResponse(
+            new ByteArrayInputStream(Http1Codec.encodeResponse(response)), request).response;
+    }
+}
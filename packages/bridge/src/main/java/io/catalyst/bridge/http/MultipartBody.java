@@ -0,0 +1,147 @@
+package io.catalyst.bridge.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@code multipart/form-data} body whose parts are streamed one after the
+ * other.
+ *
+ * <p>Typically the JSON payload is one part and each file variable is
+ * another, so n8n receives the files as binary data next to the JSON
+ * fields. The length is known only if every part's length is known.</p>
+ */
+public final class MultipartBody implements StreamingBody {
+
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final byte[] DASHES = {'-', '-'};
+
+    private final String boundary;
+    private final List<Part> parts;
+    private final long contentLength;
+
+    /**
+     * A named part and its headers, pre-encoded.
+     */
+    private static final class Part {
+        private final byte[] header;
+        private final InputStreamBody body;
+
+        Part(byte[] header, InputStreamBody body) {
+            this.header = header;
+            this.body = body;
+        }
+    }
+
+    private MultipartBody(Builder builder) {
+        if (builder.parts.isEmpty()) {
+            throw new IllegalArgumentException("Multipart body needs at least one part");
+        }
+        this.boundary = builder.boundary;
+        this.parts = Collections.unmodifiableList(new ArrayList<>(builder.parts));
+
+        byte[] boundaryBytes = boundary.getBytes(StandardCharsets.US_ASCII);
+        long length = 0;
+        for (Part part : parts) {
+            if (part.body.getContentLength() < 0) {
+                length = -1;
+                break;
+            }
+            length += DASHES.length + boundaryBytes.length + CRLF.length
+                + part.header.length + part.body.getContentLength() + CRLF.length;
+        }
+        this.contentLength = length < 0 ? -1 : length + DASHES.length + boundaryBytes.length + DASHES.length
+            + CRLF.length;
+    }
+
+    /**
+     * Returns a new builder with a random boundary.
+     *
+     * @return a new Builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the part boundary.
+     *
+     * @return the boundary
+     */
+    public String getBoundary() {
+        return boundary;
+    }
+
+    @Override
+    public String getContentType() {
+        return "multipart/form-data; boundary=" + boundary;
+    }
+
+    @Override
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        byte[] boundaryBytes = boundary.getBytes(StandardCharsets.US_ASCII);
+        for (Part part : parts) {
+            out.write(DASHES);
+            out.write(boundaryBytes);
+            out.write(CRLF);
+            out.write(part.header);
+            part.body.writeTo(out);
+            out.write(CRLF);
+        }
+        out.write(DASHES);
+        out.write(boundaryBytes);
+        out.write(DASHES);
+        out.write(CRLF);
+    }
+
+    /**
+     * Encodes a name for a {@code Content-Disposition} parameter the way
+     * browsers do: quotes and line breaks are percent-encoded, everything
+     * else is sent as UTF-8.
+     */
+    private static String quote(String value) {
+        return '"' + value.replace("\"", "%22").replace("\r", "%0D").replace("\n", "%0A") + '"';
+    }
+
+    /**
+     * Builder for creating MultipartBody instances.
+     */
+    public static class Builder {
+        private String boundary = "catalyst-" + UUID.randomUUID().toString().replace("-", "");
+        private final List<Part> parts = new ArrayList<>();
+
+        public Builder boundary(String boundary) {
+            this.boundary = boundary;
+            return this;
+        }
+
+        public Builder part(String name, byte[] content, String contentType) {
+            return part(name, InputStreamBody.of(content, contentType, null));
+        }
+
+        public Builder part(String name, InputStreamBody body) {
+            StringBuilder header = new StringBuilder(128)
+                .append("Content-Disposition: form-data; name=").append(quote(name));
+            if (body.getFilename() != null) {
+                header.append("; filename=").append(quote(body.getFilename()));
+            }
+            header.append("\r\nContent-Type: ").append(body.getContentType()).append("\r\n\r\n");
+            parts.add(new Part(header.toString().getBytes(StandardCharsets.UTF_8), body));
+            return this;
+        }
+
+        public MultipartBody build() {
+            return new MultipartBody(this);
+        }
+    }
+}
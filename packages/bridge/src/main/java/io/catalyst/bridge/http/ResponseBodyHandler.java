@@ -0,0 +1,31 @@
+package io.catalyst.bridge.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Consumes a successful response body while it is being received, instead
+ * of the body being read into a string.
+ *
+ * <p>Used to process large responses incrementally. The handler is only
+ * called for 2xx responses; other responses are read as text so error
+ * bodies stay visible. A handler may be called concurrently for hedged
+ * requests and must therefore keep its state per call.</p>
+ *
+ * @see WebhookRequest#getResponseHandler()
+ * @see WebhookResponse#getHandledBody()
+ */
+@FunctionalInterface
+public interface ResponseBodyHandler {
+
+    /**
+     * Consumes the body.
+     *
+     * @param body the decoded body stream, limited to the request's maximum response size; closed by the caller
+     * @param contentType the response content type, may be null
+     * @return the result, available as {@link WebhookResponse#getHandledBody()};
+     *         if it is {@link java.io.Closeable} it is closed when the response is discarded
+     * @throws IOException if the body cannot be read or processed
+     */
+    Object handle(InputStream body, String contentType) throws IOException;
+}
@@ -0,0 +1,61 @@
+package io.catalyst.bridge.http;
+
+import java.util.Locale;
+
+/**
+ * How a webhook response body is read.
+ *
+ * @see WebhookRequest#getResponseMode()
+ * @see BinaryBody
+ */
+public enum ResponseMode {
+
+    /** Always read the body as a string */
+    TEXT,
+
+    /** Always stream the body into a {@link BinaryBody} */
+    BINARY,
+
+    /** Stream the body into a {@link BinaryBody} unless the content type is JSON, XML or text */
+    AUTO;
+
+    /**
+     * Returns true if a response with the given content type is read as binary.
+     *
+     * @param contentType the response content type, may be null
+     * @return true for binary responses
+     */
+    public boolean isBinary(String contentType) {
+        switch (this) {
+            case BINARY:
+                return true;
+            case AUTO:
+                return contentType != null && !isTextual(contentType);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Parses a template parameter value.
+     *
+     * @param value text, binary or auto (case-insensitive)
+     * @return the mode
+     * @throws IllegalArgumentException for other values
+     */
+    public static ResponseMode parse(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    private static boolean isTextual(String contentType) {
+        int semicolon = contentType.indexOf(';');
+        String mime = (semicolon >= 0 ? contentType.substring(0, semicolon) : contentType)
+            .trim().toLowerCase(Locale.ROOT);
+        return mime.isEmpty()
+            || mime.startsWith("text/")
+            || mime.contains("json")
+            || mime.endsWith("/xml") || mime.endsWith("+xml")
+            || mime.equals("application/javascript")
+            || mime.equals("application/x-www-form-urlencoded");
+    }
+}
@@ -0,0 +1,209 @@
+package io.catalyst.bridge.http;
+
+import io.catalyst.bridge.buffer.BufferPool;
+import io.catalyst.bridge.buffer.PooledOutputStream;
+import io.catalyst.bridge.metrics.ExecutionTimings;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads a response body the same way for every transport: content decoding,
+ * size limit, and text or binary handling according to the request's
+ * {@link ResponseMode}.
+ *
+ * <p>Being called once the response headers have arrived, it also laps the
+ * first byte and body read phases of the request's {@link ExecutionTimings}.</p>
+ */
+final class ResponseReader {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private ResponseReader() {
+        // Static utility class
+    }
+
+    /**
+     * Reads a response body.
+     *
+     * @param request the request, or null for a plain text read without limit
+     * @param statusCode the HTTP status code
+     * @param declaredLength the {@code Content-Length} of the body on the wire, or -1
+     * @param contentType the {@code Content-Type} header, may be null
+     * @param charset the charset for text bodies
+     * @param contentEncoding the {@code Content-Encoding} header, may be null
+     * @param contentDisposition the {@code Content-Disposition} header, may be null
+     * @param body the body as received; closed by this method
+     * @return the response
+     * @throws ResponseTooLargeException if the body exceeds the request's limit
+     * @throws IOException if the body cannot be read or decoded
+     */
+    static WebhookResponse read(WebhookRequest request, int statusCode, long declaredLength, String contentType,
+                                Charset charset, String contentEncoding, String contentDisposition,
+                                InputStream body) throws IOException {
+        ExecutionTimings timings = request != null ? request.getTimings() : null;
+        if (timings == null) {
+            return readBody(request, statusCode, declaredLength, contentType, charset, contentEncoding,
+                contentDisposition, body);
+        }
+        timings.lap(ExecutionTimings.Phase.FIRST_BYTE);
+        try {
+            return readBody(request, statusCode, declaredLength, contentType, charset, contentEncoding,
+                contentDisposition, body);
+        } finally {
+            timings.lap(ExecutionTimings.Phase.BODY_READ);
+        }
+    }
+
+    private static WebhookResponse readBody(WebhookRequest request, int statusCode, long declaredLength,
+                                            String contentType, Charset charset, String contentEncoding,
+                                            String contentDisposition, InputStream body) throws IOException {
+        ResponseMode mode = request != null ? request.getResponseMode() : ResponseMode.TEXT;
+        long limit = request != null ? request.getMaxResponseBytes() : 0;
+        String url = request != null ? request.getUrl() : null;
+        if (limit > 0 && declaredLength > limit) {
+            body.close();
+            throw new ResponseTooLargeException(url, limit);
+        }
+
+        ContentCoding.CountingInputStream wire = new ContentCoding.CountingInputStream(body);
+        try (InputStream decoded = ContentCoding.decode(contentEncoding, wire)) {
+            ResponseBodyHandler handler = request != null ? request.getResponseHandler() : null;
+            if (handler != null && statusCode >= 200 && statusCode < 300) {
+                LimitedInputStream limited = new LimitedInputStream(decoded, limit, url);
+                Object handled = handler.handle(limited, contentType);
+                return WebhookResponse.handled(handled, statusCode, limited.getCount(), wire.getCount());
+            }
+            if (declaredLength != 0 && mode.isBinary(contentType)) {
+                BinaryBody binary = BinaryBody.spill(decoded, contentType, filename(contentDisposition), limit, url);
+                return new WebhookResponse(binary, statusCode, binary.getSize(), wire.getCount());
+            }
+            // Read straight into a pooled buffer sized by Content-Length and decode from there
+            int expected = declaredLength > 0 && declaredLength < BufferPool.MAX_BUFFER_SIZE
+                ? (int) declaredLength : BUFFER_SIZE;
+            try (PooledOutputStream text = new PooledOutputStream(expected)) {
+                text.readFrom(new LimitedInputStream(decoded, limit, url));
+                return new WebhookResponse(text.toString(charset), statusCode, text.size(), wire.getCount());
+            }
+        }
+    }
+
+    /**
+     * Counts decoded bytes and fails once the limit is crossed.
+     */
+    private static final class LimitedInputStream extends ContentCoding.CountingInputStream {
+        private final long limit;
+        private final String url;
+
+        LimitedInputStream(InputStream in, long limit, String url) {
+            super(in);
+            this.limit = limit;
+            this.url = url;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            check();
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            check();
+            return n;
+        }
+
+        private void check() throws ResponseTooLargeException {
+            if (limit > 0 && getCount() > limit) {
+                throw new ResponseTooLargeException(url, limit);
+            }
+        }
+    }
+
+    /**
+     * Extracts the file name from a {@code Content-Disposition} header,
+     * preferring the RFC 5987 {@code filename*} form. Directory components
+     * are stripped.
+     *
+     * @param contentDisposition the header value, may be null
+     * @return the file name, or null if none is given
+     */
+    static String filename(String contentDisposition) {
+        if (contentDisposition == null) {
+            return null;
+        }
+        String plain = null;
+        String extended = null;
+        for (String param : splitParams(contentDisposition)) {
+            int equals = param.indexOf('=');
+            if (equals <= 0) {
+                continue;
+            }
+            String name = param.substring(0, equals).trim().toLowerCase(Locale.ROOT);
+            String value = param.substring(equals + 1).trim();
+            if (name.equals("filename*")) {
+                extended = decodeExtended(value);
+            } else if (name.equals("filename")) {
+                plain = unquote(value);
+            }
+        }
+        String filename = extended != null ? extended : plain;
+        if (filename == null) {
+            return null;
+        }
+        filename = filename.substring(Math.max(filename.lastIndexOf('/'), filename.lastIndexOf('\\')) + 1);
+        return filename.isEmpty() ? null : filename;
+    }
+
+    private static List<String> splitParams(String header) {
+        List<String> params = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < header.length(); i++) {
+            char c = header.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == '\\' && quoted && i + 1 < header.length()) {
+                current.append(c).append(header.charAt(++i));
+                continue;
+            }
+            if (c == ';' && !quoted) {
+                params.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        params.add(current.toString());
+        return params;
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1).replaceAll("\\\\(.)", "$1");
+        }
+        return value;
+    }
+
+    private static String decodeExtended(String value) {
+        // charset'language'percent-encoded-value
+        int first = value.indexOf('\'');
+        int second = first >= 0 ? value.indexOf('\'', first + 1) : -1;
+        if (second < 0) {
+            return null;
+        }
+        try {
+            return URLDecoder.decode(value.substring(second + 1).replace("+", "%2B"), value.substring(0, first));
+        } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.catalyst.bridge.http;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a response body exceeds {@link WebhookRequest#getMaxResponseBytes()}.
+ *
+ * <p>Raised as soon as the limit is crossed (or up front if the declared
+ * {@code Content-Length} is already too large), so oversized downloads are
+ * never buffered completely.</p>
+ */
+public class ResponseTooLargeException extends IOException {
+
+    private final long limit;
+
+    /**
+     * Creates the exception.
+     *
+     * @param url the request URL
+     * @param limit the configured limit in bytes
+     */
+    public ResponseTooLargeException(String url, long limit) {
+        super("Response from " + url + " exceeds the limit of " + limit + " bytes");
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the configured limit.
+     *
+     * @return the limit in bytes
+     */
+    public long getLimit() {
+        return limit;
+    }
+}
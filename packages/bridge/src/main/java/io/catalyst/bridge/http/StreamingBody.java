@@ -0,0 +1,61 @@
+package io.catalyst.bridge.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A request body that is written directly to the connection instead of being
+ * held as bytes.
+ *
+ * <p>Used to upload file and byte-array variables without base64-embedding
+ * them in the JSON payload. Transports write the body with
+ * {@code Content-Length} when the length is known and with chunked transfer
+ * encoding otherwise, so memory use does not depend on the body size.</p>
+ *
+ * <p>Implementations must be writable more than once (each write opens its
+ * sources again) so that a request can be retried or hedged. Streaming
+ * requests are never spooled, since their content is not captured.</p>
+ *
+ * @see MultipartBody
+ * @see InputStreamBody
+ */
+public interface StreamingBody {
+
+    /**
+     * Returns the content type of the body.
+     *
+     * @return the content type, including parameters such as the multipart boundary
+     */
+    String getContentType();
+
+    /**
+     * Returns the body length.
+     *
+     * @return the length in bytes, or -1 if unknown (sent chunked)
+     */
+    long getContentLength();
+
+    /**
+     * Writes the body.
+     *
+     * @param out the connection output stream; not closed by this method
+     * @throws IOException if a source cannot be read or the connection fails
+     */
+    void writeTo(OutputStream out) throws IOException;
+
+    /**
+     * Opens a fresh stream of some content, e.g. a Camunda file variable.
+     */
+    @FunctionalInterface
+    interface Source {
+
+        /**
+         * Opens the content.
+         *
+         * @return a new stream positioned at the start of the content
+         * @throws IOException if the content cannot be opened
+         */
+        InputStream open() throws IOException;
+    }
+}
@@ -0,0 +1,269 @@
+package io.catalyst.bridge.http;
+
+import io.catalyst.bridge.metrics.ExecutionTimings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.ConnectException;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.StandardProtocolFamily;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * HTTP/1.1 over a Unix domain socket, for an n8n (or a proxy in front of it)
+ * running on the same host.
+ *
+ * <p>Skips the TCP stack entirely. Connections are kept alive and reused;
+ * an idle connection is checked for a server-side close before reuse.
+ * The request URL keeps its {@code http://host:port} form - it is used for
+ * allowlisting and the {@code Host} header only.</p>
+ *
+ * <p>Requires Java 16+ ({@code UnixDomainSocketAddress}). The bridge targets
+ * Java 11, so the JDK APIs are looked up reflectively; use
+ * {@link #isSupported()} before constructing a transport.</p>
+ */
+public class UnixSocketTransport implements WebhookTransport, Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UnixSocketTransport.class);
+
+    private static final int MAX_IDLE_CONNECTIONS = 16;
+
+    private static final Method ADDRESS_OF;
+    private static final Method OPEN_CHANNEL;
+    private static final ProtocolFamily UNIX;
+
+    static {
+        Method addressOf = null;
+        Method openChannel = null;
+        ProtocolFamily unix = null;
+        try {
+            addressOf = Class.forName("java.net.UnixDomainSocketAddress").getMethod("of", Path.class);
+            openChannel = SocketChannel.class.getMethod("open", ProtocolFamily.class);
+            unix = StandardProtocolFamily.valueOf("UNIX");
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            // Java < 16
+        }
+        ADDRESS_OF = addressOf;
+        OPEN_CHANNEL = openChannel;
+        UNIX = unix;
+    }
+
+    private static final ScheduledExecutorService TIMEOUTS = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalyst-uds-timeout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path socketPath;
+    private final SocketAddress address;
+    private final Deque<Connection> idle = new ConcurrentLinkedDeque<>();
+
+    /**
+     * Creates a transport for the given socket.
+     *
+     * @param socketPath path of the Unix domain socket n8n listens on
+     * @throws UnsupportedOperationException if the JVM has no Unix domain socket support
+     */
+    public UnixSocketTransport(Path socketPath) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException(
+                "Unix domain sockets require Java 16 or later (running " + System.getProperty("java.version") + ")");
+        }
+        this.socketPath = socketPath;
+        this.address = address(socketPath);
+    }
+
+    /**
+     * Returns true if the running JVM supports Unix domain socket channels.
+     *
+     * @return true on Java 16+
+     */
+    public static boolean isSupported() {
+        return ADDRESS_OF != null && OPEN_CHANNEL != null && UNIX != null;
+    }
+
+    /**
+     * Returns the socket path.
+     *
+     * @return the path
+     */
+    public Path getSocketPath() {
+        return socketPath;
+    }
+
+    @Override
+    public WebhookResponse send(WebhookRequest request, CancellationHandle cancellation) throws IOException {
+        Connection connection = acquire();
+        if (request.getTimings() != null) {
+            request.getTimings().lap(ExecutionTimings.Phase.CONNECT);
+        }
+        AtomicBoolean timedOut = new AtomicBoolean();
+        ScheduledFuture<?> timeout = TIMEOUTS.schedule(() -> {
+            timedOut.set(true);
+            connection.close();
+        }, request.getTimeoutSeconds(), TimeUnit.SECONDS);
+        if (cancellation != null) {
+            cancellation.bind(connection::close);
+        }
+
+        boolean reusable = false;
+        try {
+            Http1Codec.writeRequest(request, true, connection.out);
+            connection.out.flush();
+            Http1Codec.Response response = Http1Codec.decodeResponse(connection.in, request);
+            reusable = response.keepAlive;
+            return response.response;
+        } catch (IOException e) {
+            if (timedOut.get()) {
+                throw new SocketTimeoutException("Timed out after " + request.getTimeoutSeconds()
+                    + "s waiting for " + request.getUrl() + " via " + socketPath);
+            }
+            if (cancellation != null && cancellation.isCancelled()) {
+                throw new InterruptedIOException("Request cancelled");
+            }
+            throw e;
+        } finally {
+            timeout.cancel(false);
+            if (cancellation != null) {
+                cancellation.unbind();
+            }
+            if (reusable && !timedOut.get() && idle.size() < MAX_IDLE_CONNECTIONS) {
+                idle.offerFirst(connection);
+            } else {
+                connection.close();
+            }
+        }
+    }
+
+    private Connection acquire() throws IOException {
+        Connection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            if (connection.isReusable()) {
+                return connection;
+            }
+            connection.close();
+        }
+        return new Connection(open());
+    }
+
+    private SocketChannel open() throws IOException {
+        try {
+            SocketChannel channel = (SocketChannel) OPEN_CHANNEL.invoke(null, UNIX);
+            try {
+                channel.connect(address);
+            } catch (IOException e) {
+                channel.close();
+                ConnectException failure = new ConnectException("Cannot connect to Unix socket " + socketPath
+                    + ": " + e.getMessage());
+                failure.initCause(e);
+                throw failure;
+            }
+            LOGGER.debug("Opened Unix socket connection to {}", socketPath);
+            return channel;
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Creates a {@code UnixDomainSocketAddress} for the path.
+     *
+     * @param path the socket path
+     * @return the socket address
+     */
+    static SocketAddress address(Path path) {
+        try {
+            return (SocketAddress) ADDRESS_OF.invoke(null, path);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create Unix socket address for " + path, e);
+        }
+    }
+
+    /**
+     * Returns {@code StandardProtocolFamily.UNIX}.
+     *
+     * @return the protocol family, or null before Java 16
+     */
+    static ProtocolFamily unixProtocolFamily() {
+        return UNIX;
+    }
+
+    @Override
+    public void close() {
+        Connection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            connection.close();
+        }
+    }
+
+    /**
+     * One keep-alive connection with buffered streams.
+     */
+    private static final class Connection {
+        private final SocketChannel channel;
+        private final InputStream in;
+        private final OutputStream out;
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+            this.in = new BufferedInputStream(Channels.newInputStream(channel), 8192);
+            this.out = new BufferedOutputStream(Channels.newOutputStream(channel), 8192);
+        }
+
+        /**
+         * Checks that the server has not closed the idle connection and that no
+         * unexpected bytes are pending.
+         */
+        boolean isReusable() {
+            try {
+                if (!channel.isOpen() || in.available() > 0) {
+                    return false;
+                }
+                synchronized (channel.blockingLock()) {
+                    channel.configureBlocking(false);
+                    try {
+                        return channel.read(ByteBuffer.allocate(1)) == 0;
+                    } finally {
+                        channel.configureBlocking(true);
+                    }
+                }
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOGGER.debug("Error closing Unix socket connection: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.catalyst.bridge.http;
+
+import java.io.IOException;
+
+/**
+ * Sends a {@link WebhookRequest} and returns the response of n8n.
+ *
+ * <p>Implemented by {@link WebhookClient}, which talks to a single URL, and
+ * by clients that decorate it, such as
+ * {@link io.catalyst.bridge.endpoint.PoolingWebhookClient}. Callers that only
+ * send requests, like the spool replayer, depend on this interface.</p>
+ */
+public interface WebhookCaller {
+
+    /**
+     * Sends the request and reads the full response.
+     *
+     * @param request the request to send
+     * @return the response
+     * @throws IOException if n8n cannot be reached or the connection fails
+     */
+    WebhookResponse execute(WebhookRequest request) throws IOException;
+
+    /**
+     * Sends the request and reads the full response, allowing it to be
+     * aborted from another thread.
+     *
+     * @param request the request to send
+     * @param cancellation handle to abort the exchange, or null
+     * @return the response
+     * @throws IOException if n8n cannot be reached, the connection fails or the call is cancelled
+     */
+    WebhookResponse execute(WebhookRequest request, CancellationHandle cancellation) throws IOException;
+}
@@ -0,0 +1,417 @@
+package io.catalyst.bridge.http;
+
+import io.catalyst.bridge.config.CompressionConfig;
+import io.catalyst.bridge.config.TransportConfig;
+import io.catalyst.bridge.jfr.CatalystWebhookCall;
+import io.catalyst.bridge.metrics.CallOutcome;
+import io.catalyst.bridge.metrics.CompressionStats;
+import io.catalyst.bridge.metrics.ExecutionTimings;
+import io.catalyst.bridge.metrics.WebhookMetrics;
+import io.catalyst.bridge.stats.BridgeStats;
+import io.catalyst.bridge.tracing.Span;
+import io.catalyst.bridge.tracing.SpanKind;
+import io.catalyst.bridge.tracing.TraceContext;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sends {@link WebhookRequest}s to n8n.
+ *
+ * <p>Extracted from {@code CatalystBridge} so that the same code path is used
+ * for live executions and for replaying spooled requests. URL allowlisting is
+ * the caller's responsibility.</p>
+ *
+ * <p>The transport is chosen per endpoint: requests whose URL starts with a
+ * configured base URL use that endpoint's transport (e.g. a Unix domain
+ * socket or HTTP/2), all others use the default transport.</p>
+ *
+ * <p>Request bodies at or above the configured threshold are compressed and
+ * {@code Accept-Encoding} is advertised according to
+ * {@link CompressionConfig}; transports decode compressed responses and
+ * report wire sizes, which are tracked per route in {@link CompressionStats}.</p>
+ *
+ * <p>Every call's latency, outcome and body sizes are recorded in
+ * {@link WebhookMetrics} and, during a flight recording, as a
+ * {@link CatalystWebhookCall} event. Compression of a timed request counts
+ * towards its {@link ExecutionTimings.Phase#SERIALIZATION} phase.</p>
+ *
+ * <p>A call whose request carries a parent span is traced as a child
+ * {@link SpanKind#CLIENT} span, and that span's context is sent in the
+ * {@code traceparent} and {@code tracestate} headers unless the request sets
+ * them itself.</p>
+ *
+ * <p>Thread-safe.</p>
+ *
+ * @see WebhookRequest
+ * @see WebhookResponse
+ * @see WebhookTransport
+ */
+public class WebhookClient implements WebhookCaller {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebhookClient.class);
+
+    private final WebhookTransport defaultTransport;
+    private final Map<String, WebhookTransport> endpointTransports;
+    private final CompressionConfig compression;
+    private final CompressionStats compressionStats;
+    private final WebhookMetrics metrics;
+
+    /**
+     * Creates a client that sends everything over TCP.
+     */
+    public WebhookClient() {
+        this(new HttpClientTransport(), Collections.emptyMap());
+    }
+
+    /**
+     * Creates a client with per-endpoint transports.
+     *
+     * @param defaultTransport transport for URLs without a specific one
+     * @param endpointTransports transports keyed by base URL prefix
+     */
+    public WebhookClient(WebhookTransport defaultTransport, Map<String, WebhookTransport> endpointTransports) {
+        this(defaultTransport, endpointTransports, CompressionConfig.builder().build());
+    }
+
+    /**
+     * Creates a client with per-endpoint transports and compression settings.
+     *
+     * @param defaultTransport transport for URLs without a specific one
+     * @param endpointTransports transports keyed by base URL prefix
+     * @param compression request and response compression settings
+     */
+    public WebhookClient(WebhookTransport defaultTransport, Map<String, WebhookTransport> endpointTransports,
+                         CompressionConfig compression) {
+        this(defaultTransport, endpointTransports, compression, CompressionStats.shared(), WebhookMetrics.shared());
+    }
+
+    /**
+     * Creates a client with per-endpoint transports, compression settings and
+     * the statistics compression is recorded in.
+     *
+     * @param defaultTransport transport for URLs without a specific one
+     * @param endpointTransports transports keyed by base URL prefix
+     * @param compression request and response compression settings
+     * @param compressionStats the per-route compression statistics
+     */
+    public WebhookClient(WebhookTransport defaultTransport, Map<String, WebhookTransport> endpointTransports,
+                         CompressionConfig compression, CompressionStats compressionStats) {
+        this(defaultTransport, endpointTransports, compression, compressionStats, WebhookMetrics.shared());
+    }
+
+    /**
+     * Creates a client with per-endpoint transports, compression settings and
+     * the metrics calls are recorded in.
+     *
+     * @param defaultTransport transport for URLs without a specific one
+     * @param endpointTransports transports keyed by base URL prefix
+     * @param compression request and response compression settings
+     * @param metrics the call metrics
+     */
+    public WebhookClient(WebhookTransport defaultTransport, Map<String, WebhookTransport> endpointTransports,
+                         CompressionConfig compression, WebhookMetrics metrics) {
+        this(defaultTransport, endpointTransports, compression, CompressionStats.shared(), metrics);
+    }
+
+    /**
+     * Creates a client with per-endpoint transports, compression settings and
+     * the statistics and metrics calls are recorded in.
+     *
+     * @param defaultTransport transport for URLs without a specific one
+     * @param endpointTransports transports keyed by base URL prefix
+     * @param compression request and response compression settings
+     * @param compressionStats the per-route compression statistics
+     * @param metrics the call metrics
+     */
+    public WebhookClient(WebhookTransport defaultTransport, Map<String, WebhookTransport> endpointTransports,
+                         CompressionConfig compression, CompressionStats compressionStats, WebhookMetrics metrics) {
+        this.compressionStats = compressionStats;
+        this.metrics = metrics;
+        this.defaultTransport = defaultTransport;
+        this.endpointTransports = Collections.unmodifiableMap(new LinkedHashMap<>(endpointTransports));
+        this.compression = compression;
+        if (compression.isRequestCompressionEnabled() && !ContentCoding.isSupported(compression.getRequestCoding())) {
+            LOGGER.warn("Request compression '{}' is not available, request bodies will be sent uncompressed",
+                compression.getRequestCoding());
+        }
+    }
+
+    /**
+     * Returns true if a call failed before its request could reach n8n: the
+     * host is unknown or unreachable, or connecting was refused or timed
+     * out. Only such calls can be sent again without risking that n8n runs
+     * the webhook twice; after a read timeout or a reset connection n8n may
+     * already have processed the request.
+     *
+     * @param failure the exception the call failed with
+     * @return true for connect-level failures
+     */
+    public static boolean isConnectFailure(IOException failure) {
+        return failure instanceof ConnectException
+            || failure instanceof ConnectTimeoutException
+            || failure instanceof NoRouteToHostException
+            || failure instanceof UnknownHostException;
+    }
+
+    /**
+     * Creates a client from transport configuration. Unix socket endpoints
+     * fall back to TCP when the JVM does not support Unix domain sockets;
+     * a Unix socket mapping takes precedence over HTTP/2 for the same endpoint.
+     *
+     * @param config the transport configuration
+     * @return the client
+     */
+    public static WebhookClient fromConfig(TransportConfig config) {
+        return fromConfig(config, CompressionConfig.builder().build());
+    }
+
+    /**
+     * Creates a client from transport and compression configuration.
+     *
+     * @param config the transport configuration
+     * @param compression the compression configuration
+     * @return the client
+     * @see #fromConfig(TransportConfig)
+     */
+    public static WebhookClient fromConfig(TransportConfig config, CompressionConfig compression) {
+        WebhookTransport defaultTransport = new HttpClientTransport();
+        Map<String, WebhookTransport> transports = new LinkedHashMap<>();
+
+        if (!config.getHttp2Endpoints().isEmpty()) {
+            Http2Transport http2 = new Http2Transport(config, defaultTransport, Clock.systemUTC());
+            for (String endpoint : config.getHttp2Endpoints()) {
+                if (TransportConfig.ALL_ENDPOINTS.equals(endpoint)) {
+                    LOGGER.info("Webhook calls use HTTP/2 by default");
+                    defaultTransport = http2;
+                } else {
+                    LOGGER.info("Webhook calls to {} use HTTP/2", endpoint);
+                    transports.put(endpoint, http2);
+                }
+            }
+        }
+
+        for (Map.Entry<String, Path> socket : config.getUnixSockets().entrySet()) {
+            if (!UnixSocketTransport.isSupported()) {
+                LOGGER.warn("Unix domain sockets require Java 16+; {} will use TCP instead of {}",
+                    socket.getKey(), socket.getValue());
+                continue;
+            }
+            LOGGER.info("Webhook calls to {} use Unix socket {}", socket.getKey(), socket.getValue());
+            transports.put(socket.getKey(), new UnixSocketTransport(socket.getValue()));
+        }
+        return new WebhookClient(defaultTransport, transports, compression);
+    }
+
+    /**
+     * Sends the request and reads the full response.
+     *
+     * @param request the request to send
+     * @return the response
+     * @throws IOException if n8n cannot be reached or the connection fails
+     */
+    @Override
+    public WebhookResponse execute(WebhookRequest request) throws IOException {
+        return execute(request, null);
+    }
+
+    /**
+     * Sends the request and reads the full response, allowing it to be
+     * aborted from another thread.
+     *
+     * @param request the request to send
+     * @param cancellation handle to abort the exchange, or null
+     * @return the response
+     * @throws IOException if n8n cannot be reached, the connection fails or the call is cancelled
+     */
+    @Override
+    public WebhookResponse execute(WebhookRequest request, CancellationHandle cancellation) throws IOException {
+        if (request.getBody() != null) {
+            LOGGER.debug("Request payload: {}", request.getBodyAsString());
+        }
+        LOGGER.info("Sending POST request to: {}", request.getUrl());
+
+        Span span = request.getParentSpan() != null
+            ? request.getParentSpan().startChild("POST " + WebhookMetrics.routeOf(request.getUrl()), SpanKind.CLIENT)
+            : null;
+        CatalystWebhookCall event = new CatalystWebhookCall();
+        event.begin();
+        long start = System.nanoTime();
+        WebhookRequest wireRequest = request;
+        WebhookResponse result;
+        try {
+            wireRequest = withTraceContext(compress(request), span);
+            if (request.getTimings() != null) {
+                request.getTimings().lap(ExecutionTimings.Phase.SERIALIZATION);
+            }
+            result = transportFor(request.getUrl()).send(wireRequest, cancellation);
+        } catch (IOException | RuntimeException e) {
+            CallOutcome outcome = cancellation != null && cancellation.isCancelled()
+                ? CallOutcome.CANCELLED : CallOutcome.of(e);
+            record(request.getUrl(), event, span, start, 0, outcome, bodyLength(wireRequest), -1, e.toString());
+            throw e;
+        }
+        record(request.getUrl(), event, span, start, result.getStatusCode(), CallOutcome.of(result.getStatusCode()),
+            bodyLength(wireRequest), result.getWireLength() >= 0 ? result.getWireLength() : result.getDecodedLength(),
+            null);
+        compressionStats.recordResponse(request.getUrl(), result.getWireLength(), result.getDecodedLength());
+
+        LOGGER.info("Received response with status code: {}", result.getStatusCode());
+        LOGGER.debug("Response body: {}", result.getBody());
+        if (!result.isSuccess()) {
+            // Logged per execution by the bridge, throttled during outages
+            LOGGER.debug("N8N webhook returned non-success status code: {}", result.getStatusCode());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the per-route compression statistics.
+     *
+     * @return the statistics
+     */
+    public CompressionStats getCompressionStats() {
+        return compressionStats;
+    }
+
+    /**
+     * Returns the metrics calls are recorded in.
+     *
+     * @return the metrics
+     */
+    public WebhookMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Applies request compression and {@code Accept-Encoding}. Headers set
+     * explicitly on the request take precedence.
+     */
+    private WebhookRequest compress(WebhookRequest request) throws IOException {
+        boolean acceptEncoding = compression.isResponseCompression() && !hasHeader(request, "Accept-Encoding");
+        byte[] body = request.getBody();
+        boolean compressBody = body != null
+            && body.length >= compression.getThresholdBytes()
+            && compression.isRequestCompressionEnabled()
+            && ContentCoding.isSupported(compression.getRequestCoding())
+            && !hasHeader(request, "Content-Encoding");
+        if (!acceptEncoding && !compressBody) {
+            if (body != null) {
+                compressionStats.recordRequest(request.getUrl(), body.length, body.length);
+            }
+            return request;
+        }
+
+        WebhookRequest.Builder builder = request.toBuilder();
+        if (acceptEncoding) {
+            builder.header("Accept-Encoding", ContentCoding.acceptEncoding());
+        }
+        if (compressBody) {
+            byte[] encoded = ContentCoding.encode(compression.getRequestCoding(), body);
+            builder.body(encoded).header("Content-Encoding", compression.getRequestCoding());
+            compressionStats.recordRequest(request.getUrl(), body.length, encoded.length);
+            LOGGER.debug("Compressed request body with {}: {} -> {} bytes",
+                compression.getRequestCoding(), body.length, encoded.length);
+        } else if (body != null) {
+            compressionStats.recordRequest(request.getUrl(), body.length, body.length);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Adds the span's context as {@code traceparent} and {@code tracestate}
+     * headers. A trace parent set explicitly on the request takes precedence.
+     */
+    private static WebhookRequest withTraceContext(WebhookRequest request, Span span) {
+        if (span == null || hasHeader(request, TraceContext.TRACEPARENT)) {
+            return request;
+        }
+        TraceContext context = span.getContext();
+        WebhookRequest.Builder builder = request.toBuilder().header(TraceContext.TRACEPARENT, context.toTraceparent());
+        if (context.getTraceState() != null && !hasHeader(request, TraceContext.TRACESTATE)) {
+            builder.header(TraceContext.TRACESTATE, context.getTraceState());
+        }
+        return builder.build();
+    }
+
+    private static boolean hasHeader(WebhookRequest request, String name) {
+        for (String header : request.getHeaders().keySet()) {
+            if (header.equalsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void record(String url, CatalystWebhookCall event, Span span, long start, int statusCode,
+                        CallOutcome outcome, long requestBytes, long responseBytes, String error) {
+        long nanos = System.nanoTime() - start;
+        metrics.record(url, statusCode, outcome, nanos, requestBytes, responseBytes);
+        BridgeStats.shared().recordCall(url, outcome, nanos);
+        if (span != null) {
+            span.setAttribute("http.request.method", "POST")
+                .setAttribute("url.path", WebhookMetrics.routeOf(url))
+                .setAttribute("catalyst.outcome", outcome.getTag())
+                .setAttribute("http.request.body.size", requestBytes);
+            if (statusCode > 0) {
+                span.setAttribute("http.response.status_code", (long) statusCode);
+            }
+            if (responseBytes >= 0) {
+                span.setAttribute("http.response.body.size", responseBytes);
+            }
+            if (error != null) {
+                span.setError(error);
+            } else if (statusCode >= 400) {
+                span.setError("HTTP " + statusCode);
+            }
+            span.end();
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.route = WebhookMetrics.routeOf(url);
+            event.statusCode = statusCode;
+            event.outcome = outcome.getTag();
+            event.requestBytes = requestBytes;
+            event.responseBytes = responseBytes;
+            event.commit();
+        }
+    }
+
+    private static long bodyLength(WebhookRequest request) {
+        if (request.getBody() != null) {
+            return request.getBody().length;
+        }
+        return request.getStreamingBody() != null ? request.getStreamingBody().getContentLength() : 0;
+    }
+
+    /**
+     * Returns the transport for a URL: the longest matching endpoint prefix,
+     * or the default transport.
+     *
+     * @param url the request URL
+     * @return the transport
+     */
+    WebhookTransport transportFor(String url) {
+        WebhookTransport selected = defaultTransport;
+        int matchLength = -1;
+        for (Map.Entry<String, WebhookTransport> endpoint : endpointTransports.entrySet()) {
+            String prefix = endpoint.getKey();
+            if (prefix.length() > matchLength && url.startsWith(prefix)
+                    && (url.length() == prefix.length() || "/?#".indexOf(url.charAt(prefix.length())) >= 0)) {
+                selected = endpoint.getValue();
+                matchLength = prefix.length();
+            }
+        }
+        return selected;
+    }
+}
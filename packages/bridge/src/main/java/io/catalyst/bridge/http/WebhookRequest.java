@@ -0,0 +1,326 @@
+package io.catalyst.bridge.http;
+
+import io.catalyst.bridge.metrics.ExecutionTimings;
+import io.catalyst.bridge.tracing.Span;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable description of a single webhook POST request.
+ *
+ * <p>Captures everything needed to (re-)send a call to n8n: the target URL,
+ * the already-serialized body, the headers and the timeout. Because the body
+ * is held as bytes, a request can be persisted and replayed later without
+ * access to the original process variables.</p>
+ *
+ * <p>Alternatively a request can carry a {@link StreamingBody} that is written
+ * straight to the connection, e.g. to upload file variables. Such requests
+ * cannot be persisted.</p>
+ *
+ * <p>The {@link ExecutionTimings} and trace {@link Span} of the execution
+ * sending the request, if any, ride along so that transports can time their
+ * phases and calls can be traced. They are not part of the request's
+ * identity and are not persisted.</p>
+ *
+ * @see WebhookClient
+ * @see WebhookResponse
+ */
+public final class WebhookRequest {
+
+    /** Default content type for webhook bodies */
+    public static final String DEFAULT_CONTENT_TYPE = "application/json";
+
+    private final String url;
+    private final byte[] body;
+    private final StreamingBody streamingBody;
+    private final String contentType;
+    private final Map<String, String> headers;
+    private final int timeoutSeconds;
+    private final boolean idempotent;
+    private final ResponseMode responseMode;
+    private final long maxResponseBytes;
+    private final ResponseBodyHandler responseHandler;
+    private final ExecutionTimings timings;
+    private final Span parentSpan;
+
+    private WebhookRequest(Builder builder) {
+        this.url = Objects.requireNonNull(builder.url, "url");
+        this.body = builder.body;
+        this.streamingBody = builder.streamingBody;
+        if (body != null && streamingBody != null) {
+            throw new IllegalArgumentException("A request has either a body or a streaming body, not both");
+        }
+        this.contentType = builder.contentType;
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(builder.headers));
+        this.timeoutSeconds = builder.timeoutSeconds;
+        this.idempotent = builder.idempotent;
+        this.responseMode = builder.responseMode;
+        this.maxResponseBytes = builder.maxResponseBytes;
+        this.responseHandler = builder.responseHandler;
+        this.timings = builder.timings;
+        this.parentSpan = builder.parentSpan;
+    }
+
+    /**
+     * Returns the target webhook URL.
+     *
+     * @return the URL
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Returns the serialized request body.
+     *
+     * @return the body bytes, or null if the request has no body
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Returns the streaming body.
+     *
+     * @return the streaming body, or null if the body is held as bytes
+     */
+    public StreamingBody getStreamingBody() {
+        return streamingBody;
+    }
+
+    /**
+     * Returns the body decoded as UTF-8, for logging.
+     * Streaming bodies are not included.
+     *
+     * @return the body as string, or null if the request has no body
+     */
+    public String getBodyAsString() {
+        return body != null ? new String(body, StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * Returns the content type of the body.
+     *
+     * @return the content type
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Returns the custom headers sent in addition to the defaults.
+     *
+     * @return unmodifiable header map
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Returns the connect and response timeout in seconds.
+     *
+     * @return the timeout
+     */
+    public int getTimeoutSeconds() {
+        return timeoutSeconds;
+    }
+
+    /**
+     * Returns true if the request may safely be sent more than once.
+     *
+     * <p>Only idempotent requests are eligible for hedging.</p>
+     *
+     * @return true if idempotent
+     */
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+
+    /**
+     * Returns how the response body is read.
+     *
+     * @return the response mode, {@link ResponseMode#TEXT} by default
+     */
+    public ResponseMode getResponseMode() {
+        return responseMode;
+    }
+
+    /**
+     * Returns the maximum response body size after decoding. Reading stops
+     * with a {@link ResponseTooLargeException} once it is exceeded.
+     *
+     * @return the limit in bytes, 0 for unlimited
+     */
+    public long getMaxResponseBytes() {
+        return maxResponseBytes;
+    }
+
+    /**
+     * Returns the handler that consumes successful response bodies as a stream.
+     * Takes precedence over the response mode for 2xx responses.
+     *
+     * @return the handler, or null to read the body as text or binary
+     */
+    public ResponseBodyHandler getResponseHandler() {
+        return responseHandler;
+    }
+
+    /**
+     * Returns the timings that transports lap their phases on.
+     *
+     * @return the timings, or null if the execution is not timed
+     */
+    public ExecutionTimings getTimings() {
+        return timings;
+    }
+
+    /**
+     * Returns the span that the call's span is a child of.
+     *
+     * @return the execution's span, or null if the call is not traced
+     */
+    public Span getParentSpan() {
+        return parentSpan;
+    }
+
+    /**
+     * Returns a builder pre-populated with this request's values.
+     *
+     * @return a new Builder with current values
+     */
+    public Builder toBuilder() {
+        return new Builder()
+            .url(url)
+            .body(body)
+            .streamingBody(streamingBody)
+            .contentType(contentType)
+            .headers(headers)
+            .timeoutSeconds(timeoutSeconds)
+            .idempotent(idempotent)
+            .responseMode(responseMode)
+            .maxResponseBytes(maxResponseBytes)
+            .responseHandler(responseHandler)
+            .timings(timings)
+            .parentSpan(parentSpan);
+    }
+
+    /**
+     * Returns a new builder.
+     *
+     * @return a new Builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return "WebhookRequest{" +
+            "url='" + url + '\'' +
+            ", bodyBytes=" + (body != null ? body.length
+                : streamingBody != null ? streamingBody.getContentLength() : 0) +
+            ", timeoutSeconds=" + timeoutSeconds +
+            '}';
+    }
+
+    /**
+     * Builder for creating WebhookRequest instances.
+     */
+    public static class Builder {
+        private String url;
+        private byte[] body;
+        private StreamingBody streamingBody;
+        private String contentType = DEFAULT_CONTENT_TYPE;
+        private final Map<String, String> headers = new LinkedHashMap<>();
+        private int timeoutSeconds = 30;
+        private boolean idempotent;
+        private ResponseMode responseMode = ResponseMode.TEXT;
+        private long maxResponseBytes;
+        private ResponseBodyHandler responseHandler;
+        private ExecutionTimings timings;
+        private Span parentSpan;
+
+        public Builder url(String url) {
+            this.url = url;
+            return this;
+        }
+
+        public Builder body(byte[] body) {
+            this.body = body;
+            return this;
+        }
+
+        public Builder body(String body) {
+            this.body = body != null ? body.getBytes(StandardCharsets.UTF_8) : null;
+            return this;
+        }
+
+        public Builder streamingBody(StreamingBody streamingBody) {
+            this.streamingBody = streamingBody;
+            if (streamingBody != null) {
+                this.contentType = streamingBody.getContentType();
+            }
+            return this;
+        }
+
+        public Builder contentType(String contentType) {
+            this.contentType = contentType;
+            return this;
+        }
+
+        public Builder header(String name, String value) {
+            this.headers.put(name, value);
+            return this;
+        }
+
+        public Builder headers(Map<String, String> headers) {
+            if (headers != null) {
+                this.headers.putAll(headers);
+            }
+            return this;
+        }
+
+        public Builder timeoutSeconds(int timeoutSeconds) {
+            this.timeoutSeconds = timeoutSeconds;
+            return this;
+        }
+
+        public Builder idempotent(boolean idempotent) {
+            this.idempotent = idempotent;
+            return this;
+        }
+
+        public Builder responseMode(ResponseMode responseMode) {
+            this.responseMode = responseMode;
+            return this;
+        }
+
+        public Builder maxResponseBytes(long maxResponseBytes) {
+            this.maxResponseBytes = maxResponseBytes;
+            return this;
+        }
+
+        public Builder responseHandler(ResponseBodyHandler responseHandler) {
+            this.responseHandler = responseHandler;
+            return this;
+        }
+
+        public Builder timings(ExecutionTimings timings) {
+            this.timings = timings;
+            return this;
+        }
+
+        public Builder parentSpan(Span parentSpan) {
+            this.parentSpan = parentSpan;
+            return this;
+        }
+
+        public WebhookRequest build() {
+            return new WebhookRequest(this);
+        }
+    }
+}
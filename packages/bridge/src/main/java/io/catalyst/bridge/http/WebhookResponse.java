@@ -0,0 +1,196 @@
+package io.catalyst.bridge.http;
+
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Immutable result of a webhook HTTP call.
+ *
+ * <p>Success is defined as a 2xx status code, matching the
+ * {@code n8nSuccess} output variable of the bridge.</p>
+ *
+ * @see WebhookClient
+ */
+public final class WebhookResponse {
+
+    private final String body;
+    private final BinaryBody binaryBody;
+    private final Object handledBody;
+    private final int statusCode;
+    private final long decodedLength;
+    private final long wireLength;
+
+    /**
+     * Creates a response.
+     *
+     * @param body the response body (empty string if none)
+     * @param statusCode the HTTP status code
+     */
+    public WebhookResponse(String body, int statusCode) {
+        this(body, statusCode, -1, -1);
+    }
+
+    /**
+     * Creates a response with transfer sizes.
+     *
+     * @param body the response body (empty string if none)
+     * @param statusCode the HTTP status code
+     * @param decodedLength body size in bytes after content decoding, or -1 if unknown
+     * @param wireLength body size in bytes as received (possibly compressed), or -1 if unknown
+     */
+    public WebhookResponse(String body, int statusCode, long decodedLength, long wireLength) {
+        this.body = body;
+        this.binaryBody = null;
+        this.handledBody = null;
+        this.statusCode = statusCode;
+        this.decodedLength = decodedLength;
+        this.wireLength = wireLength;
+    }
+
+    /**
+     * Creates a response whose body was streamed to a file.
+     *
+     * @param binaryBody the body
+     * @param statusCode the HTTP status code
+     * @param decodedLength body size in bytes after content decoding
+     * @param wireLength body size in bytes as received (possibly compressed)
+     */
+    public WebhookResponse(BinaryBody binaryBody, int statusCode, long decodedLength, long wireLength) {
+        this.body = "";
+        this.binaryBody = binaryBody;
+        this.handledBody = null;
+        this.statusCode = statusCode;
+        this.decodedLength = decodedLength;
+        this.wireLength = wireLength;
+    }
+
+    private WebhookResponse(Object handledBody, int statusCode, long decodedLength, long wireLength) {
+        this.body = "";
+        this.binaryBody = null;
+        this.handledBody = handledBody;
+        this.statusCode = statusCode;
+        this.decodedLength = decodedLength;
+        this.wireLength = wireLength;
+    }
+
+    /**
+     * Creates a response whose body was consumed by a {@link ResponseBodyHandler}.
+     *
+     * @param handledBody the handler's result
+     * @param statusCode the HTTP status code
+     * @param decodedLength body size in bytes after content decoding
+     * @param wireLength body size in bytes as received (possibly compressed)
+     * @return the response
+     */
+    public static WebhookResponse handled(Object handledBody, int statusCode, long decodedLength, long wireLength) {
+        return new WebhookResponse(handledBody, statusCode, decodedLength, wireLength);
+    }
+
+    /**
+     * Returns the response body.
+     *
+     * @return the body, never null; empty for binary responses
+     */
+    public String getBody() {
+        return body != null ? body : "";
+    }
+
+    /**
+     * Returns the binary body. The caller that consumes the response must
+     * close it to delete its temporary file.
+     *
+     * @return the binary body, or null for text responses
+     */
+    public BinaryBody getBinaryBody() {
+        return binaryBody;
+    }
+
+    /**
+     * Returns the result of the request's {@link ResponseBodyHandler}.
+     *
+     * @return the result, or null if no handler consumed the body
+     */
+    public Object getHandledBody() {
+        return handledBody;
+    }
+
+    /**
+     * Releases temporary resources of a binary or handled body. Call this
+     * once the response has been consumed or will not be used.
+     */
+    public void discard() {
+        try {
+            if (binaryBody != null) {
+                binaryBody.close();
+            }
+            if (handledBody instanceof Closeable) {
+                ((Closeable) handledBody).close();
+            }
+        } catch (IOException e) {
+            LoggerFactory.getLogger(WebhookResponse.class).debug("Cannot release response body: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns true if the body was streamed to a file.
+     *
+     * @return true for binary responses
+     */
+    public boolean isBinary() {
+        return binaryBody != null;
+    }
+
+    /**
+     * Returns the HTTP status code.
+     *
+     * @return the status code
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Returns the body size after content decoding.
+     *
+     * @return the size in bytes, or -1 if the transport did not report it
+     */
+    public long getDecodedLength() {
+        return decodedLength;
+    }
+
+    /**
+     * Returns the body size as received on the wire, before content decoding.
+     *
+     * @return the size in bytes, or -1 if the transport did not report it
+     */
+    public long getWireLength() {
+        return wireLength;
+    }
+
+    /**
+     * Returns true if the status code is 2xx.
+     *
+     * @return true if successful
+     */
+    public boolean isSuccess() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    /**
+     * Returns true if the status indicates n8n is temporarily unavailable
+     * (502, 503 or 504 - typically nginx in front of a restarting n8n).
+     *
+     * @return true if the call is worth retrying later
+     */
+    public boolean isUnavailable() {
+        return statusCode == 502 || statusCode == 503 || statusCode == 504;
+    }
+
+    @Override
+    public String toString() {
+        return "WebhookResponse{statusCode=" + statusCode + ", " +
+            (binaryBody != null ? binaryBody.toString() : "bodyLength=" + getBody().length()) + "}";
+    }
+}
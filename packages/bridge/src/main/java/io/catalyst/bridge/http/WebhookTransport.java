@@ -0,0 +1,28 @@
+package io.catalyst.bridge.http;
+
+import java.io.IOException;
+
+/**
+ * Moves a {@link WebhookRequest} to n8n and its response back.
+ *
+ * <p>A transport only decides how bytes travel (TCP via Apache HttpClient,
+ * a Unix domain socket, in memory). The request URL is still the logical
+ * {@code http://} URL that was allowlisted; {@link WebhookClient} picks the
+ * transport per endpoint.</p>
+ *
+ * @see HttpClientTransport
+ * @see UnixSocketTransport
+ * @see LoopbackTransport
+ */
+public interface WebhookTransport {
+
+    /**
+     * Sends the request and reads the full response.
+     *
+     * @param request the request to send
+     * @param cancellation handle to abort the exchange, or null
+     * @return the response
+     * @throws IOException if the exchange fails or is cancelled
+     */
+    WebhookResponse send(WebhookRequest request, CancellationHandle cancellation) throws IOException;
+}
@@ -0,0 +1,34 @@
+/**
+ * HTTP layer used by Catalyst Bridge to call n8n webhooks.
+ *
+ * <p>This package contains the transport-level request and response model:</p>
+ * <ul>
+ *   <li>{@link io.catalyst.bridge.http.WebhookRequest} - Immutable, replayable request</li>
+ *   <li>{@link io.catalyst.bridge.http.WebhookResponse} - Status code and body of a call</li>
+ *   <li>{@link io.catalyst.bridge.http.WebhookCaller} - Sends a request; implemented by all clients</li>
+ *   <li>{@link io.catalyst.bridge.http.WebhookClient} - Sends requests, choosing the transport per endpoint</li>
+ *   <li>{@link io.catalyst.bridge.http.CancellationHandle} - Aborts an in-flight call</li>
+ *   <li>{@link io.catalyst.bridge.http.ContentCoding} - gzip, deflate and optional zstd body codings</li>
+ *   <li>{@link io.catalyst.bridge.http.StreamingBody} - Body written straight to the connection</li>
+ *   <li>{@link io.catalyst.bridge.http.MultipartBody} - Streamed multipart/form-data upload</li>
+ *   <li>{@link io.catalyst.bridge.http.InputStreamBody} - Raw body or file part from an input stream</li>
+ *   <li>{@link io.catalyst.bridge.http.ResponseMode} - Text, binary or content-type based response reading</li>
+ *   <li>{@link io.catalyst.bridge.http.BinaryBody} - Binary response body spooled to a temporary file</li>
+ *   <li>{@link io.catalyst.bridge.http.ResponseTooLargeException} - Response exceeded the size limit</li>
+ *   <li>{@link io.catalyst.bridge.http.ResponseBodyHandler} - Consumes a successful response body as a stream</li>
+ * </ul>
+ *
+ * <p>Transports:</p>
+ * <ul>
+ *   <li>{@link io.catalyst.bridge.http.HttpClientTransport} - HTTP/1.1 over TCP via Apache HttpClient (default)</li>
+ *   <li>{@link io.catalyst.bridge.http.Http2Transport} - Multiplexed HTTP/2 (h2c or h2) with per-route HTTP/1.1 fallback</li>
+ *   <li>{@link io.catalyst.bridge.http.UnixSocketTransport} - HTTP/1.1 over a Unix domain socket (Java 16+)</li>
+ *   <li>{@link io.catalyst.bridge.http.LoopbackTransport} - In-memory round trip for tests and benchmarks</li>
+ * </ul>
+ *
+ * <p>Requests carry an already-serialized body so they can be persisted
+ * (see {@link io.catalyst.bridge.spool}) and replayed without process context.</p>
+ *
+ * @see io.catalyst.bridge.CatalystBridge
+ */
+package io.catalyst.bridge.http;
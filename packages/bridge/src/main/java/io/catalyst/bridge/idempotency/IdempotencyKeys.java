@@ -0,0 +1,74 @@
+package io.catalyst.bridge.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Derives {@code Idempotency-Key} header values for webhook calls.
+ *
+ * <p>A key identifies one execution of one service task: the process
+ * instance, the activity within it, and a key defined by the template, such
+ * as an order id or a loop counter. The same inputs always give the same
+ * key, so a job that Camunda retries after a failure sends the same key as
+ * the first attempt and n8n (or the local store) can recognize the
+ * duplicate.</p>
+ *
+ * <p>Keys are a truncated SHA-256 of the inputs, so they have a fixed length
+ * and do not expose process data in request logs.</p>
+ */
+public final class IdempotencyKeys {
+
+    /** Name of the request header carrying the key. */
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final String PREFIX = "catalyst-";
+    private static final int KEY_BYTES = 16;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private IdempotencyKeys() {
+        // Static utility class
+    }
+
+    /**
+     * Derives the key of a service task execution.
+     *
+     * @param processInstanceId the process instance id
+     * @param activity identifies the activity within the instance
+     * @param templateKey the key defined by the template, may be empty
+     * @return the header value
+     */
+    public static String derive(String processInstanceId, String activity, String templateKey) {
+        MessageDigest digest = sha256();
+        update(digest, processInstanceId);
+        update(digest, activity);
+        update(digest, templateKey);
+        byte[] hash = digest.digest();
+
+        char[] key = new char[PREFIX.length() + KEY_BYTES * 2];
+        PREFIX.getChars(0, PREFIX.length(), key, 0);
+        for (int i = 0; i < KEY_BYTES; i++) {
+            key[PREFIX.length() + i * 2] = HEX[(hash[i] >> 4) & 0xF];
+            key[PREFIX.length() + i * 2 + 1] = HEX[hash[i] & 0xF];
+        }
+        return new String(key);
+    }
+
+    private static void update(MessageDigest digest, String part) {
+        byte[] bytes = (part == null ? "" : part).getBytes(StandardCharsets.UTF_8);
+        // Length-prefixed so that ("ab", "c") and ("a", "bc") differ
+        digest.update((byte) (bytes.length >>> 24));
+        digest.update((byte) (bytes.length >>> 16));
+        digest.update((byte) (bytes.length >>> 8));
+        digest.update((byte) bytes.length);
+        digest.update(bytes);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
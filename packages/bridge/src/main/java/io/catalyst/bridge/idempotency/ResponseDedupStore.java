@@ -0,0 +1,157 @@
+package io.catalyst.bridge.idempotency;
+
+import io.catalyst.bridge.config.IdempotencyConfig;
+import io.catalyst.bridge.http.WebhookResponse;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded in-memory store of recent successful webhook responses by
+ * idempotency key.
+ *
+ * <p>When Camunda retries a job whose webhook call succeeded but whose
+ * transaction then failed, the retry finds the response here and is
+ * answered without calling n8n a second time. Only successful text
+ * responses up to a size limit are kept; binary and item-streamed responses
+ * live in temporary files that do not outlive the call.</p>
+ *
+ * <p>Entries expire after a fixed time and the oldest entries are evicted
+ * when the store is full. The store is local to the JVM: a retry picked up
+ * by another node calls n8n again, with the same {@code Idempotency-Key}
+ * header.</p>
+ *
+ * <p>Thread-safe.</p>
+ */
+public final class ResponseDedupStore {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final long maxBodyBytes;
+    private final Clock clock;
+    private final Map<String, StoredResponse> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates an empty store.
+     *
+     * @param config the store limits
+     * @param clock the clock for entry expiry
+     */
+    public ResponseDedupStore(IdempotencyConfig config, Clock clock) {
+        this.maxEntries = config.getMaxEntries();
+        this.ttlMillis = config.getTtl().toMillis();
+        this.maxBodyBytes = config.getMaxBodyBytes();
+        this.clock = clock;
+        // Insertion order equals expiry order, since all entries live equally long
+        this.entries = new LinkedHashMap<String, StoredResponse>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the stored response for a key.
+     *
+     * @param key the idempotency key
+     * @param url the webhook URL of the call; a response stored for another URL is not returned
+     * @return the response, or null if none is stored or it has expired
+     */
+    public WebhookResponse get(String key, String url) {
+        long now = clock.millis();
+        StoredResponse entry;
+        synchronized (entries) {
+            expire(now);
+            entry = entries.get(key);
+        }
+        if (entry == null || !entry.url.equals(url)) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.response;
+    }
+
+    /**
+     * Stores a response if it can be replayed.
+     *
+     * @param key the idempotency key
+     * @param url the webhook URL of the call
+     * @param response the response
+     * @return true if the response was stored; false if it was not successful,
+     *         not a text response, or too large
+     */
+    public boolean put(String key, String url, WebhookResponse response) {
+        if (!response.isSuccess() || response.isBinary() || response.getHandledBody() != null) {
+            return false;
+        }
+        long size = response.getDecodedLength() >= 0 ? response.getDecodedLength() : response.getBody().length();
+        if (size > maxBodyBytes) {
+            return false;
+        }
+        // Keep only what is replayed, not a reference to anything tied to the connection
+        WebhookResponse copy = new WebhookResponse(response.getBody(), response.getStatusCode(),
+            response.getDecodedLength(), response.getWireLength());
+        long now = clock.millis();
+        synchronized (entries) {
+            expire(now);
+            entries.remove(key);
+            entries.put(key, new StoredResponse(url, copy, now + ttlMillis));
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of stored responses, including expired ones not yet removed.
+     *
+     * @return the size
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Returns how many lookups found a response.
+     *
+     * @return the hit count
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns how many lookups found no response.
+     *
+     * @return the miss count
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private void expire(long now) {
+        Iterator<StoredResponse> it = entries.values().iterator();
+        while (it.hasNext() && it.next().expiresAt <= now) {
+            it.remove();
+        }
+    }
+
+    private static final class StoredResponse {
+        final String url;
+        final WebhookResponse response;
+        final long expiresAt;
+
+        StoredResponse(String url, WebhookResponse response, long expiresAt) {
+            this.url = url;
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+/**
+ * Idempotency keys and local deduplication of retried webhook calls.
+ *
+ * <p>When a Camunda job is retried after its webhook call already succeeded,
+ * the call must not have its effect twice:</p>
+ * <ul>
+ *   <li>{@link io.catalyst.bridge.idempotency.IdempotencyKeys} - Stable {@code Idempotency-Key} header values</li>
+ *   <li>{@link io.catalyst.bridge.idempotency.ResponseDedupStore} - Recent successful responses by key</li>
+ * </ul>
+ *
+ * <p>See {@link io.catalyst.bridge.config.IdempotencyConfig} for the store limits.</p>
+ *
+ * @see io.catalyst.bridge.CatalystBridge
+ */
+package io.catalyst.bridge.idempotency;
@@ -0,0 +1,46 @@
+package io.catalyst.bridge.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for one license enforcement check, including the usage file
+ * update and any limp mode delay.
+ *
+ * <p>The usage file I/O inside the check is also reported on its own as
+ * {@link CatalystUsagePersist}.</p>
+ */
+@Name(CatalystEnforcement.NAME)
+@Label("Enforcement")
+@Category({"Catalyst", "Bridge"})
+@Description("License enforcement check before a webhook call")
+@StackTrace(false)
+public final class CatalystEnforcement extends jdk.jfr.Event {
+
+    /** Event type name */
+    public static final String NAME = "io.catalyst.CatalystEnforcement";
+
+    @Label("Limp Mode")
+    public String limpMode;
+
+    @Label("Trigger")
+    @Description("Why limp mode is active, null in normal operation")
+    public String trigger;
+
+    @Label("Usage Count")
+    @Description("Executions this year, including this one")
+    public int usageCount;
+
+    @Label("Delay")
+    @Description("Time spent in the limp mode delay")
+    @Timespan(Timespan.NANOSECONDS)
+    public long delay;
+
+    @Label("Blocked")
+    @Description("The execution was refused")
+    public boolean blocked;
+}
@@ -0,0 +1,36 @@
+package io.catalyst.bridge.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for applying {@code outputMapping} to a response: parsing it
+ * and setting the mapped process variables.
+ */
+@Name(CatalystOutputMapping.NAME)
+@Label("Output Mapping")
+@Category({"Catalyst", "Bridge"})
+@Description("Extraction of process variables from an n8n response")
+@StackTrace(false)
+public final class CatalystOutputMapping extends jdk.jfr.Event {
+
+    /** Event type name */
+    public static final String NAME = "io.catalyst.CatalystOutputMapping";
+
+    @Label("Activity")
+    public String activityId;
+
+    @Label("Mappings")
+    public int mappings;
+
+    @Label("Failed Mappings")
+    @Description("Paths that could not be extracted and were set to null")
+    public int failedMappings;
+
+    @Label("Response Length")
+    @Description("Response body length in characters")
+    public long responseLength;
+}
@@ -0,0 +1,38 @@
+package io.catalyst.bridge.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for reading and writing the usage file, including the wait for
+ * the store's lock.
+ */
+@Name(CatalystUsagePersist.NAME)
+@Label("Usage Persist")
+@Category({"Catalyst", "Bridge"})
+@Description("Usage counter file update")
+@StackTrace(false)
+public final class CatalystUsagePersist extends jdk.jfr.Event {
+
+    /** Event type name */
+    public static final String NAME = "io.catalyst.CatalystUsagePersist";
+
+    @Label("Operation")
+    @Description("incrementAndGet (read and write) or save (write)")
+    public String operation;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Usage Count")
+    public int usageCount;
+
+    @Label("Lock Wait")
+    @Description("Time waiting for other threads updating the file")
+    @Timespan(Timespan.NANOSECONDS)
+    public long lockWait;
+}
@@ -0,0 +1,47 @@
+package io.catalyst.bridge.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one webhook call, from compressing the request to reading
+ * the response.
+ *
+ * <p>Emitted by {@link io.catalyst.bridge.http.WebhookClient} for every
+ * attempt, so pool members, hedged requests, spool replays and pagination
+ * pages each produce their own event.</p>
+ */
+@Name(CatalystWebhookCall.NAME)
+@Label("Webhook Call")
+@Category({"Catalyst", "Bridge"})
+@Description("HTTP call from the Catalyst Bridge to an n8n webhook")
+@StackTrace(false)
+public final class CatalystWebhookCall extends jdk.jfr.Event {
+
+    /** Event type name */
+    public static final String NAME = "io.catalyst.CatalystWebhookCall";
+
+    @Label("Route")
+    @Description("Webhook path without host and query")
+    public String route;
+
+    @Label("Status Code")
+    @Description("HTTP status, 0 if there was no response")
+    public int statusCode;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Request Bytes")
+    @DataAmount
+    public long requestBytes;
+
+    @Label("Response Bytes")
+    @Description("Response body as received, -1 if unknown")
+    @DataAmount
+    public long responseBytes;
+}
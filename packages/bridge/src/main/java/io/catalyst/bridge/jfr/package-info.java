@@ -0,0 +1,15 @@
+/**
+ * Java Flight Recorder events for the phases of a bridge execution.
+ *
+ * <ul>
+ *   <li>{@link io.catalyst.bridge.jfr.CatalystEnforcement} - License enforcement check and limp mode delay</li>
+ *   <li>{@link io.catalyst.bridge.jfr.CatalystUsagePersist} - Usage file read and write</li>
+ *   <li>{@link io.catalyst.bridge.jfr.CatalystWebhookCall} - HTTP call to n8n</li>
+ *   <li>{@link io.catalyst.bridge.jfr.CatalystOutputMapping} - Output mapping</li>
+ * </ul>
+ *
+ * <p>The events are only written while a recording that enables them is
+ * running, e.g. {@code jcmd <pid> JFR.start settings=profile}; otherwise
+ * they cost a check of a flag.</p>
+ */
+package io.catalyst.bridge.jfr;
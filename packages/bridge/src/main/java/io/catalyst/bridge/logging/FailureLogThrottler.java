@@ -0,0 +1,257 @@
+package io.catalyst.bridge.logging;
+
+import io.catalyst.bridge.config.LogThrottleConfig;
+import io.catalyst.bridge.metrics.ExecutionFailures;
+import io.catalyst.bridge.metrics.FailureCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Prevents log floods from failing executions by logging the first failures
+ * of each route and error in full and summarizing the rest.
+ *
+ * <p>Where {@link LogThrottler} limits enforcement warnings to one per day or
+ * week, this throttler limits failures per interval: the first
+ * {@link LogThrottleConfig#getFirst()} failures of a route and error, e.g.
+ * {@code ConnectTimeoutException} to {@code /webhook/orders}, are logged in
+ * full. Further ones in the same interval are only counted, and when the
+ * interval is over one line summarizes them:</p>
+ * <pre>
+ * [CATALYST] 1,243 ConnectTimeoutException to /webhook/orders in last 60s (5 logged in full)
+ * </pre>
+ *
+ * <p>Every failure is counted in {@link ExecutionFailures} whether or not it
+ * is logged, so metrics stay exact. Summaries are written by the next
+ * execution, failed or not, after the interval; while any are pending,
+ * {@link #isBannerQuiet()} tells the bridge to log its execution banner at
+ * DEBUG.</p>
+ *
+ * <p>Thread-safe. Deciding whether to log a failure takes a map lookup and a
+ * short lock per route and error.</p>
+ *
+ * @see io.catalyst.bridge.CatalystBridge
+ */
+public final class FailureLogThrottler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FailureLogThrottler.class);
+
+    private static final String SUPPRESSING =
+        LogMessages.PREFIX + " More than %d %s to %s in %ds; further ones are counted and summarized";
+
+    private static final String SUMMARY =
+        LogMessages.PREFIX + " %,d %s to %s in last %ds (%d logged in full)";
+
+    private static volatile FailureLogThrottler shared;
+    private static final Object SHARED_LOCK = new Object();
+
+    private final LogThrottleConfig config;
+    private final ExecutionFailures failures;
+    private final Clock clock;
+    private final Consumer<String> log;
+    private final long intervalMillis;
+    private final Map<FailureCount, Window> windows = new ConcurrentHashMap<>();
+    private final AtomicLong nextSummaryAt = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong suppressedCount = new AtomicLong();
+
+    /**
+     * Creates a throttler with the system clock.
+     *
+     * @param config the throttling limits
+     * @param failures the counts every failure is recorded in
+     */
+    public FailureLogThrottler(LogThrottleConfig config, ExecutionFailures failures) {
+        this(config, failures, Clock.systemUTC(), LOGGER::warn);
+    }
+
+    /**
+     * Creates a throttler with a custom clock and log.
+     * Primarily used for testing.
+     *
+     * @param config the throttling limits
+     * @param failures the counts every failure is recorded in
+     * @param clock the clock intervals are measured with
+     * @param log receives the throttling notices and summaries
+     */
+    FailureLogThrottler(LogThrottleConfig config, ExecutionFailures failures, Clock clock, Consumer<String> log) {
+        this.config = config;
+        this.failures = failures;
+        this.clock = clock;
+        this.log = log;
+        this.intervalMillis = Math.max(1, config.getInterval().toMillis());
+    }
+
+    /**
+     * Returns the throttler shared by all executions, configured by the
+     * environment.
+     *
+     * @return the shared throttler
+     */
+    public static FailureLogThrottler shared() {
+        if (shared == null) {
+            synchronized (SHARED_LOCK) {
+                if (shared == null) {
+                    shared = new FailureLogThrottler(LogThrottleConfig.fromEnvironment(), ExecutionFailures.shared());
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Returns the short name failures with an exception are grouped by.
+     *
+     * @param error the exception
+     * @return its simple class name
+     */
+    public static String errorName(Throwable error) {
+        if (error == null) {
+            return "Unknown";
+        }
+        String name = error.getClass().getSimpleName();
+        return name.isEmpty() ? error.getClass().getName() : name;
+    }
+
+    /**
+     * Counts a failed execution and decides whether to log it in full.
+     *
+     * @param url the webhook URL, whose path is the route
+     * @param error the exception the execution failed with
+     * @return true if the caller should log the failure
+     */
+    public boolean recordFailure(String url, Throwable error) {
+        return recordFailure(url, errorName(error));
+    }
+
+    /**
+     * Counts a failed execution and decides whether to log it in full.
+     *
+     * @param url the webhook URL, whose path is the route
+     * @param error the error, e.g. {@code ConnectTimeoutException} or {@code HTTP 503}
+     * @return true if the caller should log the failure
+     */
+    public boolean recordFailure(String url, String error) {
+        long now = clock.millis();
+        FailureCount count = failures.record(url, error, now);
+        if (!config.isEnabled()) {
+            return true;
+        }
+        summarizeDue(now);
+        Window window = windows.get(count);
+        if (window == null) {
+            window = windows.computeIfAbsent(count, c -> new Window(c, now));
+        }
+        return window.occur(now);
+    }
+
+    /**
+     * Writes the summaries of intervals that are over. Cheap when none are
+     * pending; called on every execution so summaries are not held back
+     * until the next failure.
+     */
+    public void summarizeDue() {
+        if (nextSummaryAt.get() != Long.MAX_VALUE) {
+            summarizeDue(clock.millis());
+        }
+    }
+
+    private void summarizeDue(long now) {
+        long due = nextSummaryAt.get();
+        if (now < due || !nextSummaryAt.compareAndSet(due, Long.MAX_VALUE)) {
+            return;
+        }
+        for (Window window : windows.values()) {
+            window.rollIfOver(now);
+            long next = window.summaryDueAt();
+            if (next != Long.MAX_VALUE) {
+                nextSummaryAt.accumulateAndGet(next, Math::min);
+            }
+        }
+    }
+
+    /**
+     * Returns true if failures are being summarized, after writing any
+     * summaries that are due.
+     *
+     * @return true if some route and error has exceeded its limit in its current interval
+     */
+    public boolean isSuppressing() {
+        summarizeDue();
+        return nextSummaryAt.get() != Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns true if the execution banner should be logged at DEBUG.
+     *
+     * @return true if the banner is quieted and failures are being summarized
+     */
+    public boolean isBannerQuiet() {
+        return config.isEnabled() && config.isQuietBanner() && isSuppressing();
+    }
+
+    /**
+     * Returns the number of failures not logged in full since the JVM started.
+     *
+     * @return the suppressed failures
+     */
+    public long getSuppressedCount() {
+        return suppressedCount.get();
+    }
+
+    /**
+     * Failures of one route and error in the current interval.
+     */
+    private final class Window {
+
+        private final FailureCount count;
+        private long start;
+        private long end;
+        private long occurrences;
+        private long suppressed;
+
+        Window(FailureCount count, long now) {
+            this.count = count;
+            this.start = now;
+            this.end = now + intervalMillis;
+        }
+
+        synchronized boolean occur(long now) {
+            rollIfOver(now);
+            occurrences++;
+            if (occurrences <= config.getFirst()) {
+                return true;
+            }
+            if (suppressed++ == 0) {
+                log.accept(String.format(Locale.ROOT, SUPPRESSING, config.getFirst(), count.getError(),
+                    count.getRoute(), intervalMillis / 1000));
+            }
+            suppressedCount.incrementAndGet();
+            nextSummaryAt.accumulateAndGet(end, Math::min);
+            return false;
+        }
+
+        synchronized void rollIfOver(long now) {
+            if (now < end) {
+                return;
+            }
+            if (suppressed > 0) {
+                log.accept(String.format(Locale.ROOT, SUMMARY, occurrences, count.getError(), count.getRoute(),
+                    (end - start) / 1000, occurrences - suppressed));
+            }
+            start = now;
+            end = now + intervalMillis;
+            occurrences = 0;
+            suppressed = 0;
+        }
+
+        synchronized long summaryDueAt() {
+            return suppressed > 0 ? end : Long.MAX_VALUE;
+        }
+    }
+}
@@ -5,6 +5,7 @@
  * <ul>
  *   <li>{@link io.catalyst.bridge.logging.EnforcementLogger} - Formats and logs enforcement messages</li>
  *   <li>{@link io.catalyst.bridge.logging.LogThrottler} - Prevents log spam with daily/weekly limits</li>
+ *   <li>{@link io.catalyst.bridge.logging.FailureLogThrottler} - Logs the first failures per route and error, summarizes the rest</li>
  *   <li>{@link io.catalyst.bridge.logging.LogMessages} - Message templates and constants</li>
  * </ul>
  *
@@ -18,6 +19,9 @@
  *   <li>Recovery - box message when service is restored</li>
  * </ul>
  *
+ * <p>Failures of executions are logged in full up to a limit per route, error
+ * and interval, then summarized once per interval.</p>
+ *
  * <p>Box messages use the ━ character for visual prominence in log streams.</p>
  *
  * @see io.catalyst.bridge.enforcement.EnforcementEngine
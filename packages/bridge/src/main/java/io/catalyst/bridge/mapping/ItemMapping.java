@@ -0,0 +1,78 @@
+package io.catalyst.bridge.mapping;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reduces a JSON item to selected fields, each given by a JSON path
+ * relative to the item (the same paths as {@code outputMapping}).
+ *
+ * <p>An empty mapping keeps items unchanged. Immutable and thread-safe.</p>
+ */
+public final class ItemMapping {
+
+    private final Map<String, String> fields;
+
+    /**
+     * Creates a mapping.
+     *
+     * @param fields field name to JSON path; null or empty keeps items unchanged
+     */
+    public ItemMapping(Map<String, String> fields) {
+        this.fields = fields == null
+            ? Collections.emptyMap()
+            : Collections.unmodifiableMap(new LinkedHashMap<>(fields));
+    }
+
+    /**
+     * Returns true if items are kept unchanged.
+     *
+     * @return true if no fields are mapped
+     */
+    public boolean isEmpty() {
+        return fields.isEmpty();
+    }
+
+    /**
+     * Maps an item to the Java value stored in process variables: a map of
+     * the mapped fields, or the whole item converted by
+     * {@link JsonPathExtractor#toValue}.
+     *
+     * @param item the item
+     * @return the mapped value
+     */
+    public Object apply(JsonNode item) {
+        if (fields.isEmpty()) {
+            return JsonPathExtractor.toValue(item);
+        }
+        Map<String, Object> value = new LinkedHashMap<>();
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            value.put(field.getKey(), JsonPathExtractor.extract(item, field.getValue()));
+        }
+        return value;
+    }
+
+    /**
+     * Maps an item to a JSON tree, keeping nested objects as JSON.
+     *
+     * @param item the item
+     * @return an object with the mapped fields, or the item itself if the mapping is empty
+     */
+    public JsonNode applyTree(JsonNode item) {
+        if (fields.isEmpty()) {
+            return item;
+        }
+        ObjectNode mapped = JsonNodeFactory.instance.objectNode();
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            JsonNode value = JsonPathExtractor.find(item, field.getValue());
+            mapped.set(field.getKey(), value != null ? value : NullNode.getInstance());
+        }
+        return mapped;
+    }
+}
@@ -0,0 +1,177 @@
+package io.catalyst.bridge.mapping;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import io.catalyst.bridge.http.ResponseBodyHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads a response made of many JSON items one item at a time.
+ *
+ * <p>A body whose first token opens an array is read element by element;
+ * any other body is read as a sequence of root values, which covers
+ * newline-delimited JSON (NDJSON). Only the current item is held as a tree,
+ * so memory does not grow with the number of items.</p>
+ *
+ * <p>Each item is optionally reduced with a per-item mapping of field name
+ * to JSON path (the same paths as {@code outputMapping}). Mapped items are
+ * collected in a list until their JSON size crosses the spill threshold;
+ * from then on they are written to a temporary file as a JSON array and the
+ * list is dropped. Objects stay nested JSON in the file, while the in-memory
+ * list holds them as JSON strings like {@link JsonPathExtractor#toValue}.</p>
+ *
+ * <p>Instances are immutable and can be shared; each call keeps its own state.</p>
+ */
+public final class ItemStreamProcessor implements ResponseBodyHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ItemStreamProcessor.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final ItemMapping mapping;
+    private final long spillThresholdBytes;
+
+    /**
+     * Creates a processor.
+     *
+     * @param mapping field name to JSON path for each item; null or empty keeps items unchanged
+     * @param spillThresholdBytes JSON size above which items are written to a file instead of a list
+     */
+    public ItemStreamProcessor(Map<String, String> mapping, long spillThresholdBytes) {
+        this.mapping = new ItemMapping(mapping);
+        this.spillThresholdBytes = spillThresholdBytes;
+    }
+
+    @Override
+    public ItemStreamResult handle(InputStream body, String contentType) throws IOException {
+        SpillingOutputStream out = new SpillingOutputStream(spillThresholdBytes);
+        List<Object> items = new ArrayList<>();
+        long count = 0;
+        try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(body);
+             JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartArray();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                token = parser.nextToken();
+            }
+            while (token != null && token != JsonToken.END_ARRAY) {
+                JsonNode item = parser.readValueAsTree();
+                if (item == null) {
+                    item = NullNode.getInstance();
+                }
+                generator.writeTree(mapping.applyTree(item));
+                // Flush so the spill threshold sees the bytes of this item
+                generator.flush();
+                if (!out.isSpilled()) {
+                    items.add(mapping.apply(item));
+                } else if (items != null) {
+                    LOGGER.debug("Item stream spilled to {} after {} items", out.getFile(), count);
+                    items = null;
+                }
+                count++;
+                token = parser.nextToken();
+            }
+            generator.writeEndArray();
+        } catch (IOException | RuntimeException e) {
+            out.discard();
+            throw e;
+        }
+        if (out.isSpilled()) {
+            return new ItemStreamResult(null, out.getFile(), count, out.getSize());
+        }
+        return new ItemStreamResult(items, null, count, out.getSize());
+    }
+
+    /**
+     * Buffers in memory up to a threshold, then moves everything to a
+     * temporary file and keeps writing there.
+     */
+    private static final class SpillingOutputStream extends OutputStream {
+        private final long threshold;
+        private ByteArrayOutputStream memory = new ByteArrayOutputStream();
+        private OutputStream fileOut;
+        private Path file;
+        private long size;
+
+        SpillingOutputStream(long threshold) {
+            this.threshold = threshold;
+        }
+
+        boolean isSpilled() {
+            return file != null;
+        }
+
+        Path getFile() {
+            return file;
+        }
+
+        long getSize() {
+            return size;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (file == null && size + len > threshold) {
+                spill();
+            }
+            if (file == null) {
+                memory.write(b, off, len);
+            } else {
+                fileOut.write(b, off, len);
+            }
+            size += len;
+        }
+
+        private void spill() throws IOException {
+            file = Files.createTempFile("catalyst-items-", ".json");
+            fileOut = Files.newOutputStream(file);
+            memory.writeTo(fileOut);
+            memory = null;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (fileOut != null) {
+                fileOut.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (fileOut != null) {
+                fileOut.close();
+            }
+        }
+
+        void discard() {
+            try {
+                close();
+                if (file != null) {
+                    Files.deleteIfExists(file);
+                }
+            } catch (IOException e) {
+                LOGGER.debug("Cannot delete item spill file {}: {}", file, e.getMessage());
+            }
+        }
+    }
+}
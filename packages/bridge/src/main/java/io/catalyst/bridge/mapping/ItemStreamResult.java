@@ -0,0 +1,89 @@
+package io.catalyst.bridge.mapping;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Items produced by an {@link ItemStreamProcessor}.
+ *
+ * <p>Small results are kept as a list of mapped values. Results larger than
+ * the spill threshold are only available as a temporary file holding a JSON
+ * array; the file is deleted by {@link #close()}.</p>
+ */
+public final class ItemStreamResult implements Closeable {
+
+    private final List<Object> items;
+    private final Path file;
+    private final long count;
+    private final long size;
+
+    ItemStreamResult(List<Object> items, Path file, long count, long size) {
+        this.items = items;
+        this.file = file;
+        this.count = count;
+        this.size = size;
+    }
+
+    /**
+     * Returns the mapped items.
+     *
+     * @return the items, or null if the result was spilled to a file
+     */
+    public List<Object> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns the temporary file holding the items as a JSON array.
+     *
+     * @return the file, or null if the result is held in memory
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns true if the result was spilled to a file.
+     *
+     * @return true if {@link #getFile()} holds the items
+     */
+    public boolean isSpilled() {
+        return file != null;
+    }
+
+    /**
+     * Returns the number of items read from the response.
+     *
+     * @return the item count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the size of the mapped items serialized as a JSON array.
+     *
+     * @return the size in bytes
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Deletes the temporary file, if any. Safe to call more than once.
+     */
+    @Override
+    public void close() throws IOException {
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ItemStreamResult{count=" + count + ", size=" + size + ", spilled=" + isSpilled() + "}";
+    }
+}
@@ -0,0 +1,176 @@
+package io.catalyst.bridge.mapping;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Simple JSON path evaluation used by {@code outputMapping} and per-item mappings.
+ *
+ * <p>Supports dot-separated field names with optional array indices, e.g.
+ * {@code $.output[0].content[0].text}. Values are converted to the Java types
+ * stored in process variables: strings, numbers, booleans, lists, and
+ * objects as JSON strings.</p>
+ */
+public final class JsonPathExtractor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JsonPathExtractor.class);
+
+    private JsonPathExtractor() {
+        // Static utility class
+    }
+
+    /**
+     * Extracts a value from a JSON node using a simple JSON path.
+     * Supports paths like "$.field", "$.parent.child.field", and "$.array[0].field[1]".
+     *
+     * @param rootNode The root JSON node
+     * @param jsonPath The JSON path (e.g., "$.field", "$.parent.child", "$.output[0].content[0].text")
+     * @return The extracted value, or null if path doesn't exist
+     */
+    public static Object extract(JsonNode rootNode, String jsonPath) {
+        return toValue(find(rootNode, jsonPath));
+    }
+
+    /**
+     * Navigates to the node at a simple JSON path. {@code $} alone is the root.
+     *
+     * @param rootNode The root JSON node
+     * @param jsonPath The JSON path
+     * @return The node, or null if the path doesn't exist
+     */
+    public static JsonNode find(JsonNode rootNode, String jsonPath) {
+        if ("$".equals(jsonPath)) {
+            return rootNode;
+        }
+
+        // Remove leading "$." if present
+        String path = jsonPath.startsWith("$.") ? jsonPath.substring(2) : jsonPath;
+
+        // Split path into segments
+        String[] segments = path.split("\\.");
+
+        // Navigate through the JSON structure
+        JsonNode currentNode = rootNode;
+        for (String segment : segments) {
+            if (currentNode == null || currentNode.isNull()) {
+                LOGGER.warn("Node is null at segment: '{}' in path: '{}'", segment, jsonPath);
+                return null;
+            }
+
+            // Check if segment contains array index notation like "field[0]"
+            if (segment.contains("[") && segment.contains("]")) {
+                currentNode = processArraySegment(currentNode, segment);
+            } else {
+                currentNode = currentNode.get(segment);
+            }
+
+            if (currentNode == null) {
+                LOGGER.warn("Failed to navigate to segment: '{}' in path: '{}'", segment, jsonPath);
+                return null;
+            }
+        }
+
+        return currentNode;
+    }
+
+    /**
+     * Processes a segment containing array index notation like "field[0]" or "arr[1][2]".
+     *
+     * @param node The current JSON node
+     * @param segment The segment containing field and array indices (e.g., "output[0]" or "data[1][2]")
+     * @return The node after navigating through field and array indices, or null if navigation fails
+     */
+    private static JsonNode processArraySegment(JsonNode node, String segment) {
+
+        // Extract field name (everything before first '[')
+        int firstBracket = segment.indexOf('[');
+        String fieldName = segment.substring(0, firstBracket);
+
+        // Get the field first
+        JsonNode currentNode = node.get(fieldName);
+
+        if (currentNode == null) {
+            LOGGER.warn("Field '{}' not found in segment '{}'", fieldName, segment);
+            return null;
+        }
+
+        // Extract all array indices from the segment (e.g., "[0][1]" -> [0, 1])
+        String indicesString = segment.substring(firstBracket);
+        String[] indexParts = indicesString.split("\\[");
+
+        // Process each array index
+        for (String indexPart : indexParts) {
+            if (indexPart.isEmpty()) {
+                continue;
+            }
+
+            String indexStr = indexPart.replace("]", "").trim();
+
+            try {
+                int index = Integer.parseInt(indexStr);
+
+                if (!currentNode.isArray()) {
+                    LOGGER.warn("Node is not an array in segment '{}', cannot access index {}", segment, index);
+                    return null;
+                }
+
+                if (index < 0 || index >= currentNode.size()) {
+                    LOGGER.warn("Array index {} out of bounds (size: {}) in segment '{}'",
+                        index, currentNode.size(), segment);
+                    return null;
+                }
+
+                currentNode = currentNode.get(index);
+
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Invalid array index '{}' in segment '{}'", indexStr, segment);
+                return null;
+            }
+
+            if (currentNode == null) {
+                LOGGER.warn("Array access returned null in segment '{}'", segment);
+                return null;
+            }
+        }
+
+        return currentNode;
+    }
+
+    /**
+     * Converts a JsonNode to an appropriate Java value.
+     *
+     * @param node The JSON node to convert
+     * @return The converted value
+     */
+    public static Object toValue(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return null;
+        } else if (node.isTextual()) {
+            return node.asText();
+        } else if (node.isInt()) {
+            return node.asInt();
+        } else if (node.isLong()) {
+            return node.asLong();
+        } else if (node.isDouble() || node.isFloat()) {
+            return node.asDouble();
+        } else if (node.isBoolean()) {
+            return node.asBoolean();
+        } else if (node.isArray()) {
+            // Convert JSON array to Java List
+            List<Object> list = new ArrayList<>();
+            for (JsonNode element : node) {
+                list.add(toValue(element)); // Recursively convert elements
+            }
+            return list;
+        } else if (node.isObject()) {
+            // For complex objects, return as JSON string
+            return node.toString();
+        } else {
+            return node.asText();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+/**
+ * Mapping of n8n responses to process variables.
+ *
+ * <ul>
+ *   <li>{@link io.catalyst.bridge.mapping.JsonPathExtractor} - Simple JSON paths used by {@code outputMapping}</li>
+ *   <li>{@link io.catalyst.bridge.mapping.ItemMapping} - Per-item field selection by JSON path</li>
+ *   <li>{@link io.catalyst.bridge.mapping.ItemStreamProcessor} - Item-by-item reading of NDJSON and array responses</li>
+ *   <li>{@link io.catalyst.bridge.mapping.ItemStreamResult} - Mapped items, in memory or spilled to a file</li>
+ * </ul>
+ *
+ * @see io.catalyst.bridge.CatalystBridge
+ */
+package io.catalyst.bridge.mapping;
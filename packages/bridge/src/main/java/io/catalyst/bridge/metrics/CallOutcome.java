@@ -0,0 +1,72 @@
+package io.catalyst.bridge.metrics;
+
+import io.catalyst.bridge.http.ResponseTooLargeException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+/**
+ * How a webhook call ended.
+ */
+public enum CallOutcome {
+
+    /** n8n answered with a 2xx status */
+    SUCCESS("success"),
+
+    /** n8n answered with any other status */
+    NON_2XX("non_2xx"),
+
+    /** Connecting or reading timed out */
+    TIMEOUT("timeout"),
+
+    /** n8n could not be reached or the connection failed */
+    CONNECTION_ERROR("connection_error"),
+
+    /** Aborted by the bridge, e.g. the slower of two hedged requests */
+    CANCELLED("cancelled"),
+
+    /** Any other failure, e.g. a response over the size limit */
+    ERROR("error");
+
+    private final String tag;
+
+    CallOutcome(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * Returns the name used in MBean names and meter tags.
+     *
+     * @return the lower-case name
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * Returns the outcome of a call that returned a response.
+     *
+     * @param statusCode the HTTP status
+     * @return {@link #SUCCESS} or {@link #NON_2XX}
+     */
+    public static CallOutcome of(int statusCode) {
+        return statusCode >= 200 && statusCode < 300 ? SUCCESS : NON_2XX;
+    }
+
+    /**
+     * Returns the outcome of a call that failed with an exception.
+     *
+     * @param failure the exception
+     * @return {@link #TIMEOUT}, {@link #CONNECTION_ERROR} or {@link #ERROR}
+     */
+    public static CallOutcome of(Throwable failure) {
+        // Socket and connect timeouts of all transports are InterruptedIOExceptions
+        if (failure instanceof InterruptedIOException) {
+            return TIMEOUT;
+        }
+        if (failure instanceof IOException && !(failure instanceof ResponseTooLargeException)) {
+            return CONNECTION_ERROR;
+        }
+        return ERROR;
+    }
+}
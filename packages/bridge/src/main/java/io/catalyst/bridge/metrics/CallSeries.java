@@ -0,0 +1,144 @@
+package io.catalyst.bridge.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and byte counters of the webhook calls of one route that
+ * ended with the same outcome and status class.
+ *
+ * <p>{@link #record(long, long, long)} is lock-free and does not allocate.</p>
+ *
+ * @see WebhookMetrics
+ */
+public final class CallSeries implements CallSeriesMXBean {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final String route;
+    private final CallOutcome outcome;
+    private final String statusClass;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final LongAccumulator requestBytesMax = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator responseBytesMax = new LongAccumulator(Math::max, 0);
+
+    CallSeries(String route, CallOutcome outcome, String statusClass) {
+        this.route = route;
+        this.outcome = outcome;
+        this.statusClass = statusClass;
+    }
+
+    /**
+     * Records a call.
+     *
+     * @param nanos the call latency in nanoseconds
+     * @param requestBytes request body size as sent, or -1 if unknown
+     * @param responseBytes response body size as received, or -1 if unknown
+     */
+    void record(long nanos, long requestBytes, long responseBytes) {
+        latencies.record(nanos);
+        if (requestBytes >= 0) {
+            this.requestBytes.add(requestBytes);
+            requestBytesMax.accumulate(requestBytes);
+        }
+        if (responseBytes >= 0) {
+            this.responseBytes.add(responseBytes);
+            responseBytesMax.accumulate(responseBytes);
+        }
+    }
+
+    /**
+     * Returns the latency histogram.
+     *
+     * @return the histogram, in nanoseconds
+     */
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * Returns the outcome of the calls in this series.
+     *
+     * @return the outcome
+     */
+    public CallOutcome getCallOutcome() {
+        return outcome;
+    }
+
+    @Override
+    public String getRoute() {
+        return route;
+    }
+
+    @Override
+    public String getOutcome() {
+        return outcome.getTag();
+    }
+
+    @Override
+    public String getStatusClass() {
+        return statusClass;
+    }
+
+    @Override
+    public long getCount() {
+        return latencies.getCount();
+    }
+
+    @Override
+    public double getLatencyMeanMillis() {
+        return latencies.getMean() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getLatencyP50Millis() {
+        return latencies.valueAtPercentile(50) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getLatencyP90Millis() {
+        return latencies.valueAtPercentile(90) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getLatencyP99Millis() {
+        return latencies.valueAtPercentile(99) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getLatencyP999Millis() {
+        return latencies.valueAtPercentile(99.9) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getLatencyMaxMillis() {
+        return latencies.getMax() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public long getRequestBytes() {
+        return requestBytes.sum();
+    }
+
+    @Override
+    public long getRequestBytesMax() {
+        return requestBytesMax.get();
+    }
+
+    @Override
+    public long getResponseBytes() {
+        return responseBytes.sum();
+    }
+
+    @Override
+    public long getResponseBytesMax() {
+        return responseBytesMax.get();
+    }
+
+    @Override
+    public String toString() {
+        return route + " " + outcome.getTag() + " " + statusClass + ": " + getCount() + " calls";
+    }
+}
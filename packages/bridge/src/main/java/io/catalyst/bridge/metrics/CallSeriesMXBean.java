@@ -0,0 +1,40 @@
+package io.catalyst.bridge.metrics;
+
+/**
+ * JMX view of one {@link CallSeries}: the webhook calls of one route that
+ * ended with the same outcome and status class.
+ *
+ * <p>Registered as
+ * {@code io.catalyst.bridge:type=WebhookCalls,route="/webhook/...",outcome=...,status=...}.
+ * Latencies are in milliseconds and cover the process lifetime.</p>
+ */
+public interface CallSeriesMXBean {
+
+    String getRoute();
+
+    String getOutcome();
+
+    String getStatusClass();
+
+    long getCount();
+
+    double getLatencyMeanMillis();
+
+    double getLatencyP50Millis();
+
+    double getLatencyP90Millis();
+
+    double getLatencyP99Millis();
+
+    double getLatencyP999Millis();
+
+    double getLatencyMaxMillis();
+
+    long getRequestBytes();
+
+    long getRequestBytesMax();
+
+    long getResponseBytes();
+
+    long getResponseBytesMax();
+}
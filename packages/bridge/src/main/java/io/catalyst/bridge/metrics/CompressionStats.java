@@ -0,0 +1,202 @@
+package io.catalyst.bridge.metrics;
+
+import io.catalyst.bridge.config.MetricsConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Per-route byte counters for compressed webhook traffic.
+ *
+ * <p>Tracks request bodies before and after compression and response bodies
+ * as received and after decoding, so the effectiveness of compression can be
+ * judged per route. Ratios are wire bytes divided by uncompressed bytes; 1.0
+ * means no saving.</p>
+ *
+ * <p>Routes are the webhook paths of {@link RouteKeys#routeOf(String)}.
+ * Routes beyond the limit are counted together as
+ * {@link RouteKeys#OTHER_ROUTE}.</p>
+ *
+ * <p>Each route's counters are published through listeners, which see every
+ * existing and future route: {@link #registerMBeans(MBeanServer)} registers
+ * them with JMX and {@link MicrometerBinder} binds them to a Micrometer
+ * registry.</p>
+ *
+ * <p>Thread-safe.</p>
+ */
+public class CompressionStats {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompressionStats.class);
+
+    private static volatile CompressionStats shared;
+    private static final Object SHARED_LOCK = new Object();
+
+    private final RouteKeys<RouteCompression> routes;
+    private final List<Consumer<RouteCompression>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates counters with the default route limit.
+     */
+    public CompressionStats() {
+        this(MetricsConfig.DEFAULT_MAX_ROUTES);
+    }
+
+    /**
+     * Creates counters.
+     *
+     * @param maxRoutes routes counted separately
+     */
+    public CompressionStats(int maxRoutes) {
+        this.routes = new RouteKeys<>(maxRoutes, RouteCompression::new, this::created);
+    }
+
+    /**
+     * Returns the counters shared by all webhook clients, published to JMX
+     * and Micrometer as configured by the environment.
+     *
+     * @return the shared counters
+     */
+    public static CompressionStats shared() {
+        if (shared == null) {
+            synchronized (SHARED_LOCK) {
+                if (shared == null) {
+                    MetricsConfig config = MetricsConfig.fromEnvironment();
+                    CompressionStats stats = new CompressionStats(config.getMaxRoutes());
+                    if (config.isJmxEnabled()) {
+                        stats.registerMBeans(ManagementFactory.getPlatformMBeanServer());
+                    }
+                    if (config.isMicrometerEnabled() && WebhookMetrics.isMicrometerPresent()) {
+                        MicrometerBinder.bindGlobal(stats);
+                        LOGGER.info("Webhook compression statistics bound to Micrometer's global registry");
+                    }
+                    shared = stats;
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Records a request body.
+     *
+     * @param url the request URL
+     * @param rawBytes body size before compression
+     * @param wireBytes body size as sent
+     */
+    public void recordRequest(String url, long rawBytes, long wireBytes) {
+        routes.get(url).recordRequest(rawBytes, wireBytes);
+    }
+
+    /**
+     * Records a response body. Responses without known sizes are ignored.
+     *
+     * @param url the request URL
+     * @param wireBytes body size as received, or -1
+     * @param decodedBytes body size after decoding, or -1
+     */
+    public void recordResponse(String url, long wireBytes, long decodedBytes) {
+        if (wireBytes < 0 || decodedBytes < 0) {
+            return;
+        }
+        routes.get(url).recordResponse(wireBytes, decodedBytes);
+    }
+
+    /**
+     * Returns the request compression ratio of a route.
+     *
+     * @param url a URL of the route, or the route itself
+     * @return wire bytes / raw bytes, or 1.0 if nothing was sent
+     */
+    public double getRequestRatio(String url) {
+        RouteCompression route = find(url);
+        return route != null ? route.getRequestRatio() : 1.0;
+    }
+
+    /**
+     * Returns the response compression ratio of a route.
+     *
+     * @param url a URL of the route, or the route itself
+     * @return wire bytes / decoded bytes, or 1.0 if nothing was received
+     */
+    public double getResponseRatio(String url) {
+        RouteCompression route = find(url);
+        return route != null ? route.getResponseRatio() : 1.0;
+    }
+
+    /**
+     * Returns the request and response ratios of all routes.
+     *
+     * @return route to {@code [requestRatio, responseRatio]}, sorted by route
+     */
+    public Map<String, double[]> snapshot() {
+        Map<String, double[]> result = new TreeMap<>();
+        for (RouteCompression route : routes.values()) {
+            result.put(route.getRoute(), new double[] {route.getRequestRatio(), route.getResponseRatio()});
+        }
+        return result;
+    }
+
+    /**
+     * Returns the counters of all routes recorded so far.
+     *
+     * @return the counters, in no particular order
+     */
+    public List<RouteCompression> getRoutes() {
+        return new ArrayList<>(routes.values());
+    }
+
+    /**
+     * Adds a listener that is called with every existing route's counters
+     * and then with each new route's as it is created, on the recording
+     * thread.
+     *
+     * @param listener the listener
+     */
+    public void addListener(Consumer<RouteCompression> listener) {
+        synchronized (listeners) {
+            listeners.add(listener);
+            getRoutes().forEach(listener);
+        }
+    }
+
+    /**
+     * Registers every route's counters as an MBean, now and as they are created.
+     *
+     * @param server the MBean server
+     */
+    public void registerMBeans(MBeanServer server) {
+        addListener(route -> {
+            try {
+                ObjectName name = new ObjectName("io.catalyst.bridge:type=Compression,route="
+                    + ObjectName.quote(route.getRoute()));
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(route, name);
+                }
+            } catch (JMException e) {
+                LOGGER.warn("Could not register MBean for compression of {}: {}", route, e.toString());
+            }
+        });
+    }
+
+    private void created(RouteCompression route) {
+        synchronized (listeners) {
+            for (Consumer<RouteCompression> listener : listeners) {
+                listener.accept(route);
+            }
+        }
+    }
+
+    private RouteCompression find(String url) {
+        return routes.getRoute(RouteKeys.OTHER_ROUTE.equals(url) ? url : RouteKeys.routeOf(url));
+    }
+}
@@ -0,0 +1,120 @@
+package io.catalyst.bridge.metrics;
+
+/**
+ * Histograms of the heap bytes allocated and the CPU time used by the
+ * connector executions of one route.
+ *
+ * <p>{@link #record(long, long)} is lock-free and does not allocate.</p>
+ *
+ * @see ExecutionCosts
+ */
+public final class ExecutionCost implements ExecutionCostMXBean {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final String route;
+    private final LatencyHistogram allocatedBytes = new LatencyHistogram();
+    private final LatencyHistogram cpuNanos = new LatencyHistogram();
+
+    ExecutionCost(String route) {
+        this.route = route;
+    }
+
+    /**
+     * Records an execution.
+     *
+     * @param allocated bytes allocated by the executing thread, or -1 if unknown
+     * @param cpu CPU time of the executing thread in nanoseconds, or -1 if unknown
+     */
+    void record(long allocated, long cpu) {
+        if (allocated >= 0) {
+            allocatedBytes.record(allocated);
+        }
+        if (cpu >= 0) {
+            cpuNanos.record(cpu);
+        }
+    }
+
+    /**
+     * Returns the allocation histogram.
+     *
+     * @return the histogram, in bytes
+     */
+    public LatencyHistogram getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Returns the CPU time histogram.
+     *
+     * @return the histogram, in nanoseconds
+     */
+    public LatencyHistogram getCpuNanos() {
+        return cpuNanos;
+    }
+
+    @Override
+    public String getRoute() {
+        return route;
+    }
+
+    @Override
+    public long getCount() {
+        return Math.max(allocatedBytes.getCount(), cpuNanos.getCount());
+    }
+
+    @Override
+    public double getAllocatedBytesMean() {
+        return allocatedBytes.getMean();
+    }
+
+    @Override
+    public long getAllocatedBytesP50() {
+        return allocatedBytes.valueAtPercentile(50);
+    }
+
+    @Override
+    public long getAllocatedBytesP90() {
+        return allocatedBytes.valueAtPercentile(90);
+    }
+
+    @Override
+    public long getAllocatedBytesP99() {
+        return allocatedBytes.valueAtPercentile(99);
+    }
+
+    @Override
+    public long getAllocatedBytesMax() {
+        return allocatedBytes.getMax();
+    }
+
+    @Override
+    public double getCpuMeanMillis() {
+        return cpuNanos.getMean() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getCpuP50Millis() {
+        return cpuNanos.valueAtPercentile(50) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getCpuP90Millis() {
+        return cpuNanos.valueAtPercentile(90) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getCpuP99Millis() {
+        return cpuNanos.valueAtPercentile(99) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getCpuMaxMillis() {
+        return cpuNanos.getMax() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutionCost{route='" + route + "', count=" + getCount() + '}';
+    }
+}
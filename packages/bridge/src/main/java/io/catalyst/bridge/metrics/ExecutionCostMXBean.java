@@ -0,0 +1,35 @@
+package io.catalyst.bridge.metrics;
+
+/**
+ * JMX view of one {@link ExecutionCost}: the heap allocation and CPU time of
+ * connector executions for one route.
+ *
+ * <p>Registered as {@code io.catalyst.bridge:type=ExecutionCost,route="/webhook/..."}.
+ * Values cover the process lifetime.</p>
+ */
+public interface ExecutionCostMXBean {
+
+    String getRoute();
+
+    long getCount();
+
+    double getAllocatedBytesMean();
+
+    long getAllocatedBytesP50();
+
+    long getAllocatedBytesP90();
+
+    long getAllocatedBytesP99();
+
+    long getAllocatedBytesMax();
+
+    double getCpuMeanMillis();
+
+    double getCpuP50Millis();
+
+    double getCpuP90Millis();
+
+    double getCpuP99Millis();
+
+    double getCpuMaxMillis();
+}
@@ -0,0 +1,216 @@
+package io.catalyst.bridge.metrics;
+
+import io.catalyst.bridge.config.MetricsConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Heap allocation and CPU time of connector executions, per route.
+ *
+ * <p>The executing thread's allocated bytes and CPU time are read from the
+ * {@link ThreadMXBean} before and after an execution; the differences are
+ * recorded in per-route histograms, next to the call latencies in
+ * {@link WebhookMetrics}. Work done on other threads, such as hedged
+ * requests, page prefetches and span export, is not included.</p>
+ *
+ * <p>Reading the counters costs in the order of a microsecond per execution,
+ * so the instrumentation is off unless enabled with
+ * {@code CATALYST_METRICS_RESOURCES}. It is also off when the JVM does not
+ * support per-thread allocation or CPU time measurement.</p>
+ *
+ * <p>Thread-safe.</p>
+ */
+public final class ExecutionCosts {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionCosts.class);
+
+    private static volatile ExecutionCosts shared;
+    private static final Object SHARED_LOCK = new Object();
+
+    private final boolean enabled;
+    private final ThreadMXBean threads;
+    private final com.sun.management.ThreadMXBean allocations;
+    private final RouteKeys<ExecutionCost> costs;
+    private final List<Consumer<ExecutionCost>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates costs that are not published anywhere.
+     *
+     * @param config whether resource metrics are enabled, and the route limit
+     */
+    public ExecutionCosts(MetricsConfig config) {
+        this.costs = new RouteKeys<>(config.getMaxRoutes(), ExecutionCost::new, this::created);
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocationBean = null;
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        }
+        boolean supported = config.isResourcesEnabled() && enable(threadBean, allocationBean);
+        this.enabled = supported;
+        this.threads = supported ? threadBean : null;
+        this.allocations = supported ? allocationBean : null;
+    }
+
+    /**
+     * Returns the costs shared by all executions, published to JMX and
+     * Micrometer like {@link WebhookMetrics#shared()}.
+     *
+     * @return the shared costs
+     */
+    public static ExecutionCosts shared() {
+        if (shared == null) {
+            synchronized (SHARED_LOCK) {
+                if (shared == null) {
+                    MetricsConfig config = MetricsConfig.fromEnvironment();
+                    ExecutionCosts costs = new ExecutionCosts(config);
+                    if (costs.isEnabled()) {
+                        if (config.isJmxEnabled()) {
+                            costs.registerMBeans(ManagementFactory.getPlatformMBeanServer());
+                        }
+                        if (config.isMicrometerEnabled() && WebhookMetrics.isMicrometerPresent()) {
+                            MicrometerBinder.bindGlobal(costs);
+                        }
+                        LOGGER.info("Recording allocation and CPU time of connector executions");
+                    }
+                    shared = costs;
+                }
+            }
+        }
+        return shared;
+    }
+
+    private static boolean enable(ThreadMXBean threads, com.sun.management.ThreadMXBean allocations) {
+        if (allocations == null || !allocations.isThreadAllocatedMemorySupported()
+                || !threads.isCurrentThreadCpuTimeSupported()) {
+            LOGGER.warn("Resource metrics are enabled but this JVM cannot measure per-thread "
+                + "allocation and CPU time; they will not be recorded");
+            return false;
+        }
+        try {
+            if (!allocations.isThreadAllocatedMemoryEnabled()) {
+                allocations.setThreadAllocatedMemoryEnabled(true);
+            }
+            if (!threads.isThreadCpuTimeEnabled()) {
+                threads.setThreadCpuTimeEnabled(true);
+            }
+            return true;
+        } catch (UnsupportedOperationException | SecurityException e) {
+            LOGGER.warn("Cannot enable per-thread allocation and CPU time measurement: {}", e.toString());
+            return false;
+        }
+    }
+
+    /**
+     * Returns true if executions are measured.
+     *
+     * @return true if enabled and supported by the JVM
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the bytes allocated by the current thread so far.
+     *
+     * @return the allocated bytes, or -1 if not measured
+     */
+    @SuppressWarnings("deprecation")
+    public long threadAllocatedBytes() {
+        return enabled ? allocations.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+    }
+
+    /**
+     * Returns the CPU time of the current thread so far.
+     *
+     * @return nanoseconds, or -1 if not measured
+     */
+    public long threadCpuNanos() {
+        return enabled ? threads.getCurrentThreadCpuTime() : -1;
+    }
+
+    /**
+     * Records an execution from counter values read before it started.
+     *
+     * @param url the webhook URL, whose path is the route
+     * @param allocatedBefore {@link #threadAllocatedBytes()} before the execution
+     * @param cpuBefore {@link #threadCpuNanos()} before the execution
+     */
+    public void recordSince(String url, long allocatedBefore, long cpuBefore) {
+        if (!enabled) {
+            return;
+        }
+        long allocated = threadAllocatedBytes() - allocatedBefore;
+        long cpu = threadCpuNanos() - cpuBefore;
+        record(url, allocatedBefore >= 0 ? allocated : -1, cpuBefore >= 0 ? cpu : -1);
+    }
+
+    /**
+     * Records an execution.
+     *
+     * @param url the webhook URL, whose path is the route
+     * @param allocatedBytes bytes allocated by the execution, or -1 if unknown
+     * @param cpuNanos CPU time of the execution in nanoseconds, or -1 if unknown
+     */
+    public void record(String url, long allocatedBytes, long cpuNanos) {
+        costs.get(url).record(allocatedBytes, cpuNanos);
+    }
+
+    /**
+     * Returns the costs of all routes recorded so far.
+     *
+     * @return the costs, in no particular order
+     */
+    public List<ExecutionCost> getCosts() {
+        return new ArrayList<>(costs.values());
+    }
+
+    /**
+     * Adds a listener that is called with every existing route's costs and
+     * then with each new route's as it is created, on the recording thread.
+     *
+     * @param listener the listener
+     */
+    public void addListener(Consumer<ExecutionCost> listener) {
+        synchronized (listeners) {
+            listeners.add(listener);
+            getCosts().forEach(listener);
+        }
+    }
+
+    /**
+     * Registers every route's costs as an MBean, now and as they are created.
+     *
+     * @param server the MBean server
+     */
+    public void registerMBeans(MBeanServer server) {
+        addListener(cost -> {
+            try {
+                ObjectName name = new ObjectName(WebhookMetrics.JMX_DOMAIN + ":type=ExecutionCost,route="
+                    + ObjectName.quote(cost.getRoute()));
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(cost, name);
+                }
+            } catch (JMException e) {
+                LOGGER.warn("Could not register MBean for execution cost {}: {}", cost, e.toString());
+            }
+        });
+    }
+
+    private void created(ExecutionCost cost) {
+        synchronized (listeners) {
+            for (Consumer<ExecutionCost> listener : listeners) {
+                listener.accept(cost);
+            }
+        }
+    }
+}
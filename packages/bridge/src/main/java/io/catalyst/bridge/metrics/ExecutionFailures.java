@@ -0,0 +1,146 @@
+package io.catalyst.bridge.metrics;
+
+import io.catalyst.bridge.config.MetricsConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Exact counts of failed connector executions, per route and error.
+ *
+ * <p>The error is a short name such as the exception class or
+ * {@code HTTP 503}. Every failure is counted, including those whose log
+ * lines {@link io.catalyst.bridge.logging.FailureLogThrottler} suppresses,
+ * so dashboards and alerts do not depend on the log volume. Routes beyond
+ * the configured limit are counted together as {@link WebhookMetrics#OTHER_ROUTE}.</p>
+ *
+ * <p>Thread-safe.</p>
+ */
+public final class ExecutionFailures {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionFailures.class);
+
+    private static volatile ExecutionFailures shared;
+    private static final Object SHARED_LOCK = new Object();
+
+    private final RouteKeys<String> routes;
+    private final Map<String, FailureCount> countsByKey = new ConcurrentHashMap<>();
+    private final List<Consumer<FailureCount>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates counts that are not published anywhere.
+     *
+     * @param config the route limit
+     */
+    public ExecutionFailures(MetricsConfig config) {
+        this.routes = new RouteKeys<>(config.getMaxRoutes(), route -> route);
+    }
+
+    /**
+     * Returns the counts shared by all executions, published to JMX and
+     * Micrometer like {@link WebhookMetrics#shared()}.
+     *
+     * @return the shared counts
+     */
+    public static ExecutionFailures shared() {
+        if (shared == null) {
+            synchronized (SHARED_LOCK) {
+                if (shared == null) {
+                    MetricsConfig config = MetricsConfig.fromEnvironment();
+                    ExecutionFailures failures = new ExecutionFailures(config);
+                    if (config.isJmxEnabled()) {
+                        failures.registerMBeans(ManagementFactory.getPlatformMBeanServer());
+                    }
+                    if (config.isMicrometerEnabled() && WebhookMetrics.isMicrometerPresent()) {
+                        MicrometerBinder.bindGlobal(failures);
+                    }
+                    shared = failures;
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Counts a failure.
+     *
+     * @param url the webhook URL, whose path is the route
+     * @param error the error, e.g. {@code ConnectTimeoutException} or {@code HTTP 503}
+     * @param nowMillis the time of the failure
+     * @return the count of the route and error, already incremented
+     */
+    public FailureCount record(String url, String error, long nowMillis) {
+        String route = routes.get(url);
+        FailureCount count = countsByKey.get(route + ' ' + error);
+        if (count == null) {
+            count = createCount(route, error);
+        }
+        count.record(nowMillis);
+        return count;
+    }
+
+    /**
+     * Returns the counts of all routes and errors recorded so far.
+     *
+     * @return the counts, in no particular order
+     */
+    public List<FailureCount> getCounts() {
+        return new ArrayList<>(countsByKey.values());
+    }
+
+    /**
+     * Adds a listener that is called with every existing count and then
+     * with each new one as it is created, on the recording thread.
+     *
+     * @param listener the listener
+     */
+    public void addListener(Consumer<FailureCount> listener) {
+        synchronized (listeners) {
+            listeners.add(listener);
+            getCounts().forEach(listener);
+        }
+    }
+
+    /**
+     * Registers every count as an MBean, now and as they are created.
+     *
+     * @param server the MBean server
+     */
+    public void registerMBeans(MBeanServer server) {
+        addListener(count -> {
+            try {
+                ObjectName name = new ObjectName(WebhookMetrics.JMX_DOMAIN + ":type=Failures,route="
+                    + ObjectName.quote(count.getRoute()) + ",error=" + ObjectName.quote(count.getError()));
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(count, name);
+                }
+            } catch (JMException e) {
+                LOGGER.warn("Could not register MBean for failure count {}: {}", count, e.toString());
+            }
+        });
+    }
+
+    private FailureCount createCount(String route, String error) {
+        FailureCount created = new FailureCount(route, error);
+        FailureCount existing = countsByKey.putIfAbsent(route + ' ' + error, created);
+        if (existing != null) {
+            return existing;
+        }
+        synchronized (listeners) {
+            for (Consumer<FailureCount> listener : listeners) {
+                listener.accept(created);
+            }
+        }
+        return created;
+    }
+}
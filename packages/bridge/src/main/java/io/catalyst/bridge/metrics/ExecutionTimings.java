@@ -0,0 +1,228 @@
+package io.catalyst.bridge.metrics;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Where the time of one connector execution went, phase by phase.
+ *
+ * <p>Timing works like a stopwatch with laps: {@link #lap(Phase)} adds the
+ * time since the previous lap to a phase. Every nanosecond between
+ * {@link #start} and {@link #finish(boolean)} is therefore attributed to
+ * exactly one phase, and a phase that occurs several times, such as the
+ * transport phases of a paginated call, accumulates. Laps are monotonic
+ * {@link System#nanoTime()} deltas added to a preallocated array; they do not
+ * allocate.</p>
+ *
+ * <p>The record travels with the {@code WebhookRequest} so that transports can
+ * lap the connect, first byte and body read phases. Transports that cannot
+ * observe the connection being established (HTTP/2) count it as part of the
+ * time to first byte.</p>
+ *
+ * <p>Not thread-safe: laps are taken by one thread at a time, which for
+ * hedged calls is the thread of the primary attempt.</p>
+ *
+ * @see SlowExecutionLog
+ */
+public final class ExecutionTimings {
+
+    /**
+     * The phases of an execution, in the order they occur.
+     */
+    public enum Phase {
+        /** License enforcement, including limp mode delays */
+        ENFORCEMENT("enforcement"),
+        /** Reading parameters and building and compressing the request body */
+        SERIALIZATION("serialization"),
+        /** Obtaining a connection, including the TCP connect for new ones */
+        CONNECT("connect"),
+        /** Sending the request until the response headers arrive */
+        FIRST_BYTE("firstByte"),
+        /** Reading and decoding the response body */
+        BODY_READ("bodyRead"),
+        /** Output mapping */
+        MAPPING("mapping"),
+        /** Writing process variables */
+        VARIABLE_WRITES("variableWrites");
+
+        private final String key;
+
+        Phase(String key) {
+            this.key = key;
+        }
+
+        /**
+         * Returns the name of the phase in variables and logs.
+         *
+         * @return the key
+         */
+        public String getKey() {
+            return key;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private final String activityId;
+    private final String processInstanceId;
+    private final long[] nanos = new long[PHASES.length];
+    private final long startNanos;
+    private long cursor;
+    private long totalNanos = -1;
+    private long completedAtMillis;
+    private boolean success;
+    private String route;
+
+    private ExecutionTimings(String activityId, String processInstanceId) {
+        this.activityId = activityId;
+        this.processInstanceId = processInstanceId;
+        this.startNanos = System.nanoTime();
+        this.cursor = startNanos;
+    }
+
+    /**
+     * Starts timing an execution.
+     *
+     * @param activityId the activity being executed
+     * @param processInstanceId the process instance
+     * @return the running timings
+     */
+    public static ExecutionTimings start(String activityId, String processInstanceId) {
+        return new ExecutionTimings(activityId, processInstanceId);
+    }
+
+    /**
+     * Adds the time since the previous lap to a phase.
+     *
+     * @param phase the phase that just ended
+     */
+    public void lap(Phase phase) {
+        long now = System.nanoTime();
+        nanos[phase.ordinal()] += now - cursor;
+        cursor = now;
+    }
+
+    /**
+     * Stops timing. Time since the last lap is not attributed to any phase.
+     *
+     * @param success true if the execution completed without an exception
+     */
+    public void finish(boolean success) {
+        this.totalNanos = System.nanoTime() - startNanos;
+        this.completedAtMillis = System.currentTimeMillis();
+        this.success = success;
+    }
+
+    /**
+     * Sets the webhook route, once it is known.
+     *
+     * @param route the webhook path
+     */
+    public void setRoute(String route) {
+        this.route = route;
+    }
+
+    /**
+     * Returns the time spent in a phase.
+     *
+     * @param phase the phase
+     * @return nanoseconds
+     */
+    public long getNanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    /**
+     * Returns the total time, 0 while running.
+     *
+     * @return nanoseconds
+     */
+    long totalNanos() {
+        return Math.max(totalNanos, 0);
+    }
+
+    /**
+     * Returns the phases and the total in microseconds, for a process variable.
+     *
+     * @return phase keys and {@code total} mapped to microseconds, in phase order
+     */
+    public Map<String, Long> toMap() {
+        Map<String, Long> map = new LinkedHashMap<>();
+        for (Phase phase : PHASES) {
+            map.put(phase.getKey(), nanos[phase.ordinal()] / 1000);
+        }
+        map.put("total", totalNanos() / 1000);
+        return map;
+    }
+
+    // ========== Getters (also the JMX composite view) ==========
+
+    public String getActivityId() {
+        return activityId;
+    }
+
+    public String getProcessInstanceId() {
+        return processInstanceId;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public String getCompletedAt() {
+        return completedAtMillis > 0 ? Instant.ofEpochMilli(completedAtMillis).toString() : null;
+    }
+
+    public double getTotalMillis() {
+        return totalNanos() / NANOS_PER_MILLI;
+    }
+
+    public double getEnforcementMillis() {
+        return millis(Phase.ENFORCEMENT);
+    }
+
+    public double getSerializationMillis() {
+        return millis(Phase.SERIALIZATION);
+    }
+
+    public double getConnectMillis() {
+        return millis(Phase.CONNECT);
+    }
+
+    public double getFirstByteMillis() {
+        return millis(Phase.FIRST_BYTE);
+    }
+
+    public double getBodyReadMillis() {
+        return millis(Phase.BODY_READ);
+    }
+
+    public double getMappingMillis() {
+        return millis(Phase.MAPPING);
+    }
+
+    public double getVariableWritesMillis() {
+        return millis(Phase.VARIABLE_WRITES);
+    }
+
+    private double millis(Phase phase) {
+        return nanos[phase.ordinal()] / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("ExecutionTimings{activity=").append(activityId)
+            .append(", total=").append(String.format("%.3f", getTotalMillis())).append("ms");
+        for (Phase phase : PHASES) {
+            sb.append(", ").append(phase.getKey()).append('=')
+                .append(String.format("%.3f", millis(phase))).append("ms");
+        }
+        return sb.append('}').toString();
+    }
+}
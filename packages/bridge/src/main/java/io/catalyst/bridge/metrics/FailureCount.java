@@ -0,0 +1,61 @@
+package io.catalyst.bridge.metrics;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Exact count of the failed connector executions of one route with one
+ * error, such as an exception class or {@code HTTP 503}.
+ *
+ * <p>{@link #record(long)} is lock-free and does not allocate.</p>
+ *
+ * @see ExecutionFailures
+ */
+public final class FailureCount implements FailureCountMXBean {
+
+    private final String route;
+    private final String error;
+    private final AtomicLong count = new AtomicLong();
+    private volatile long lastFailureMillis;
+
+    FailureCount(String route, String error) {
+        this.route = route;
+        this.error = error;
+    }
+
+    /**
+     * Counts a failure.
+     *
+     * @param nowMillis the time of the failure
+     */
+    void record(long nowMillis) {
+        count.incrementAndGet();
+        lastFailureMillis = nowMillis;
+    }
+
+    @Override
+    public String getRoute() {
+        return route;
+    }
+
+    @Override
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public long getCount() {
+        return count.get();
+    }
+
+    @Override
+    public String getLastFailureAt() {
+        long last = lastFailureMillis;
+        return last > 0 ? Instant.ofEpochMilli(last).toString() : null;
+    }
+
+    @Override
+    public String toString() {
+        return "FailureCount{route='" + route + "', error='" + error + "', count=" + getCount() + '}';
+    }
+}
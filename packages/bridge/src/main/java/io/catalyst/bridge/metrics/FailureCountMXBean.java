@@ -0,0 +1,20 @@
+package io.catalyst.bridge.metrics;
+
+/**
+ * JMX view of one {@link FailureCount}: the failed connector executions of
+ * one route with one error.
+ *
+ * <p>Registered as {@code io.catalyst.bridge:type=Failures,route="/webhook/...",error="..."}.
+ * Values cover the process lifetime and are exact, however the failures
+ * were logged.</p>
+ */
+public interface FailureCountMXBean {
+
+    String getRoute();
+
+    String getError();
+
+    long getCount();
+
+    String getLastFailureAt();
+}
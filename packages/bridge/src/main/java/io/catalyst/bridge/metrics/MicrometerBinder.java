@@ -0,0 +1,290 @@
+package io.catalyst.bridge.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binds {@link WebhookMetrics}, {@link CompressionStats}, {@link ExecutionCosts}
+ * and {@link ExecutionFailures} to a Micrometer registry.
+ *
+ * <p>Each series becomes meters tagged with {@code route}, {@code outcome}
+ * and {@code status}:</p>
+ * <ul>
+ *   <li>{@code catalyst.webhook.calls} - function timer (count, total time)</li>
+ *   <li>{@code catalyst.webhook.calls.latency} - gauges with a {@code quantile} tag (0.5, 0.9, 0.99, 0.999), seconds</li>
+ *   <li>{@code catalyst.webhook.calls.latency.max} - gauge, seconds</li>
+ *   <li>{@code catalyst.webhook.request.bytes} / {@code catalyst.webhook.response.bytes} - function counters</li>
+ * </ul>
+ *
+ * <p>Each route's compression counters become meters tagged with
+ * {@code route}:</p>
+ * <ul>
+ *   <li>{@code catalyst.webhook.compression.request.raw.bytes} / {@code ...request.wire.bytes} - function counters</li>
+ *   <li>{@code catalyst.webhook.compression.response.wire.bytes} / {@code ...response.decoded.bytes} - function counters</li>
+ *   <li>{@code catalyst.webhook.compression.request.ratio} / {@code ...response.ratio} - gauges, wire / uncompressed</li>
+ * </ul>
+ *
+ * <p>When {@link ExecutionCosts} are recorded, each route's costs become
+ * meters tagged with {@code route}:</p>
+ * <ul>
+ *   <li>{@code catalyst.execution.cpu} - function timer (count, total CPU time)</li>
+ *   <li>{@code catalyst.execution.cpu.quantile} - gauges with a {@code quantile} tag, seconds</li>
+ *   <li>{@code catalyst.execution.allocated.bytes} - function counter of the bytes allocated</li>
+ *   <li>{@code catalyst.execution.allocated.bytes.quantile} - gauges with a {@code quantile} tag, bytes</li>
+ * </ul>
+ *
+ * <p>{@link ExecutionFailures} become a {@code catalyst.execution.failures}
+ * function counter tagged with {@code route} and {@code error}.</p>
+ *
+ * <p>Micrometer is optional: this class is only loaded when it is on the
+ * classpath. {@link WebhookMetrics#shared()} binds to Micrometer's global
+ * registry, as does {@link CompressionStats#shared()}, which Spring Boot
+ * includes its registries in; declare a bean of this class to bind to a
+ * specific registry instead.</p>
+ */
+public final class MicrometerBinder implements MeterBinder {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final WebhookMetrics metrics;
+    private final CompressionStats compression;
+    private final ExecutionCosts costs;
+    private final ExecutionFailures failures;
+
+    /**
+     * Creates a binder for the shared webhook metrics, compression statistics,
+     * execution costs and execution failures.
+     */
+    public MicrometerBinder() {
+        this(WebhookMetrics.shared(), CompressionStats.shared(), ExecutionCosts.shared(), ExecutionFailures.shared());
+    }
+
+    /**
+     * Creates a binder for call metrics only.
+     *
+     * @param metrics the metrics to bind
+     */
+    public MicrometerBinder(WebhookMetrics metrics) {
+        this(metrics, null, null, null);
+    }
+
+    /**
+     * Creates a binder.
+     *
+     * @param metrics the metrics to bind, or null
+     * @param compression the compression statistics to bind, or null
+     */
+    public MicrometerBinder(WebhookMetrics metrics, CompressionStats compression) {
+        this(metrics, compression, null, null);
+    }
+
+    /**
+     * Creates a binder for call metrics and execution costs.
+     *
+     * @param metrics the metrics to bind, or null
+     * @param costs the execution costs to bind, or null
+     */
+    public MicrometerBinder(WebhookMetrics metrics, ExecutionCosts costs) {
+        this(metrics, null, costs, null);
+    }
+
+    /**
+     * Creates a binder for call metrics, execution costs and execution failures.
+     *
+     * @param metrics the metrics to bind, or null
+     * @param costs the execution costs to bind, or null
+     * @param failures the execution failures to bind, or null
+     */
+    public MicrometerBinder(WebhookMetrics metrics, ExecutionCosts costs, ExecutionFailures failures) {
+        this(metrics, null, costs, failures);
+    }
+
+    /**
+     * Creates a binder.
+     *
+     * @param metrics the metrics to bind, or null
+     * @param compression the compression statistics to bind, or null
+     * @param costs the execution costs to bind, or null
+     * @param failures the execution failures to bind, or null
+     */
+    public MicrometerBinder(WebhookMetrics metrics, CompressionStats compression, ExecutionCosts costs,
+                            ExecutionFailures failures) {
+        this.metrics = metrics;
+        this.compression = compression;
+        this.costs = costs;
+        this.failures = failures;
+    }
+
+    /**
+     * Binds the metrics to Micrometer's global registry.
+     *
+     * @param metrics the metrics to bind
+     */
+    static void bindGlobal(WebhookMetrics metrics) {
+        new MicrometerBinder(metrics, null, null, null).bindTo(Metrics.globalRegistry);
+    }
+
+    /**
+     * Binds the compression statistics to Micrometer's global registry.
+     *
+     * @param compression the statistics to bind
+     */
+    static void bindGlobal(CompressionStats compression) {
+        new MicrometerBinder(null, compression, null, null).bindTo(Metrics.globalRegistry);
+    }
+
+    /**
+     * Binds the execution costs to Micrometer's global registry.
+     *
+     * @param costs the costs to bind
+     */
+    static void bindGlobal(ExecutionCosts costs) {
+        new MicrometerBinder(null, null, costs, null).bindTo(Metrics.globalRegistry);
+    }
+
+    /**
+     * Binds the execution failures to Micrometer's global registry.
+     *
+     * @param failures the failures to bind
+     */
+    static void bindGlobal(ExecutionFailures failures) {
+        new MicrometerBinder(null, null, null, failures).bindTo(Metrics.globalRegistry);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (metrics != null) {
+            metrics.addListener(series -> register(registry, series));
+        }
+        if (compression != null) {
+            compression.addListener(route -> register(registry, route));
+        }
+        if (costs != null && costs.isEnabled()) {
+            costs.addListener(cost -> register(registry, cost));
+        }
+        if (failures != null) {
+            failures.addListener(count -> register(registry, count));
+        }
+    }
+
+    private static void register(MeterRegistry registry, CallSeries series) {
+        Tags tags = Tags.of("route", series.getRoute(), "outcome", series.getOutcome(),
+            "status", series.getStatusClass());
+        LatencyHistogram latencies = series.getLatencies();
+
+        FunctionTimer.builder("catalyst.webhook.calls", latencies,
+                LatencyHistogram::getCount, LatencyHistogram::getSum, TimeUnit.NANOSECONDS)
+            .description("Webhook calls to n8n")
+            .tags(tags)
+            .register(registry);
+        for (double quantile : QUANTILES) {
+            Gauge.builder("catalyst.webhook.calls.latency", latencies,
+                    h -> h.valueAtPercentile(quantile * 100) / NANOS_PER_SECOND)
+                .description("Webhook call latency percentile since start")
+                .baseUnit("seconds")
+                .tags(tags)
+                .tag("quantile", Double.toString(quantile))
+                .register(registry);
+        }
+        Gauge.builder("catalyst.webhook.calls.latency.max", latencies, h -> h.getMax() / NANOS_PER_SECOND)
+            .description("Slowest webhook call since start")
+            .baseUnit("seconds")
+            .tags(tags)
+            .register(registry);
+        FunctionCounter.builder("catalyst.webhook.request.bytes", series, CallSeries::getRequestBytes)
+            .description("Request body bytes sent")
+            .baseUnit("bytes")
+            .tags(tags)
+            .register(registry);
+        FunctionCounter.builder("catalyst.webhook.response.bytes", series, CallSeries::getResponseBytes)
+            .description("Response body bytes received")
+            .baseUnit("bytes")
+            .tags(tags)
+            .register(registry);
+    }
+
+    private static void register(MeterRegistry registry, RouteCompression route) {
+        Tags tags = Tags.of("route", route.getRoute());
+
+        FunctionCounter.builder("catalyst.webhook.compression.request.raw.bytes", route,
+                RouteCompression::getRequestRawBytes)
+            .description("Request body bytes before compression")
+            .baseUnit("bytes")
+            .tags(tags)
+            .register(registry);
+        FunctionCounter.builder("catalyst.webhook.compression.request.wire.bytes", route,
+                RouteCompression::getRequestWireBytes)
+            .description("Request body bytes as sent")
+            .baseUnit("bytes")
+            .tags(tags)
+            .register(registry);
+        FunctionCounter.builder("catalyst.webhook.compression.response.wire.bytes", route,
+                RouteCompression::getResponseWireBytes)
+            .description("Response body bytes as received")
+            .baseUnit("bytes")
+            .tags(tags)
+            .register(registry);
+        FunctionCounter.builder("catalyst.webhook.compression.response.decoded.bytes", route,
+                RouteCompression::getResponseDecodedBytes)
+            .description("Response body bytes after decoding")
+            .baseUnit("bytes")
+            .tags(tags)
+            .register(registry);
+        Gauge.builder("catalyst.webhook.compression.request.ratio", route, RouteCompression::getRequestRatio)
+            .description("Request wire bytes per uncompressed byte")
+            .tags(tags)
+            .register(registry);
+        Gauge.builder("catalyst.webhook.compression.response.ratio", route, RouteCompression::getResponseRatio)
+            .description("Response wire bytes per decoded byte")
+            .tags(tags)
+            .register(registry);
+    }
+
+    private static void register(MeterRegistry registry, ExecutionCost cost) {
+        Tags tags = Tags.of("route", cost.getRoute());
+        LatencyHistogram cpu = cost.getCpuNanos();
+        LatencyHistogram allocated = cost.getAllocatedBytes();
+
+        FunctionTimer.builder("catalyst.execution.cpu", cpu,
+                LatencyHistogram::getCount, LatencyHistogram::getSum, TimeUnit.NANOSECONDS)
+            .description("CPU time of connector executions on the executing thread")
+            .tags(tags)
+            .register(registry);
+        FunctionCounter.builder("catalyst.execution.allocated.bytes", allocated, LatencyHistogram::getSum)
+            .description("Heap bytes allocated by connector executions on the executing thread")
+            .baseUnit("bytes")
+            .tags(tags)
+            .register(registry);
+        for (double quantile : QUANTILES) {
+            Gauge.builder("catalyst.execution.cpu.quantile", cpu,
+                    h -> h.valueAtPercentile(quantile * 100) / NANOS_PER_SECOND)
+                .description("Execution CPU time percentile since start")
+                .baseUnit("seconds")
+                .tags(tags)
+                .tag("quantile", Double.toString(quantile))
+                .register(registry);
+            Gauge.builder("catalyst.execution.allocated.bytes.quantile", allocated,
+                    h -> h.valueAtPercentile(quantile * 100))
+                .description("Execution allocation percentile since start")
+                .baseUnit("bytes")
+                .tags(tags)
+                .tag("quantile", Double.toString(quantile))
+                .register(registry);
+        }
+    }
+
+    private static void register(MeterRegistry registry, FailureCount count) {
+        FunctionCounter.builder("catalyst.execution.failures", count, FailureCount::getCount)
+            .description("Failed connector executions")
+            .tags("route", count.getRoute(), "error", count.getError())
+            .register(registry);
+    }
+}
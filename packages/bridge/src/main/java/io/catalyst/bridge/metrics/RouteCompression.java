@@ -0,0 +1,77 @@
+package io.catalyst.bridge.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Byte counters of the compressed request and response bodies of one route.
+ *
+ * <p>Recording is lock-free and does not allocate.</p>
+ *
+ * @see CompressionStats
+ */
+public final class RouteCompression implements RouteCompressionMXBean {
+
+    private final String route;
+    private final LongAdder requestRaw = new LongAdder();
+    private final LongAdder requestWire = new LongAdder();
+    private final LongAdder responseWire = new LongAdder();
+    private final LongAdder responseDecoded = new LongAdder();
+
+    RouteCompression(String route) {
+        this.route = route;
+    }
+
+    void recordRequest(long rawBytes, long wireBytes) {
+        requestRaw.add(rawBytes);
+        requestWire.add(wireBytes);
+    }
+
+    void recordResponse(long wireBytes, long decodedBytes) {
+        responseWire.add(wireBytes);
+        responseDecoded.add(decodedBytes);
+    }
+
+    @Override
+    public String getRoute() {
+        return route;
+    }
+
+    @Override
+    public long getRequestRawBytes() {
+        return requestRaw.sum();
+    }
+
+    @Override
+    public long getRequestWireBytes() {
+        return requestWire.sum();
+    }
+
+    @Override
+    public long getResponseWireBytes() {
+        return responseWire.sum();
+    }
+
+    @Override
+    public long getResponseDecodedBytes() {
+        return responseDecoded.sum();
+    }
+
+    @Override
+    public double getRequestRatio() {
+        return ratio(requestWire.sum(), requestRaw.sum());
+    }
+
+    @Override
+    public double getResponseRatio() {
+        return ratio(responseWire.sum(), responseDecoded.sum());
+    }
+
+    @Override
+    public String toString() {
+        return route;
+    }
+
+    private static double ratio(long wire, long raw) {
+        return raw > 0 ? (double) wire / raw : 1.0;
+    }
+}
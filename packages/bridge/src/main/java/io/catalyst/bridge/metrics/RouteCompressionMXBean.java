@@ -0,0 +1,25 @@
+package io.catalyst.bridge.metrics;
+
+/**
+ * JMX view of the compression counters of one route.
+ *
+ * <p>Registered as {@code io.catalyst.bridge:type=Compression,route="/webhook/..."}.
+ * Byte counts cover the process lifetime; ratios are wire bytes divided by
+ * uncompressed bytes, 1.0 meaning no saving.</p>
+ */
+public interface RouteCompressionMXBean {
+
+    String getRoute();
+
+    long getRequestRawBytes();
+
+    long getRequestWireBytes();
+
+    long getResponseWireBytes();
+
+    long getResponseDecodedBytes();
+
+    double getRequestRatio();
+
+    double getResponseRatio();
+}
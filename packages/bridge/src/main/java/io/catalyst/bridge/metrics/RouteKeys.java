@@ -0,0 +1,155 @@
+package io.catalyst.bridge.metrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Per-route values of a statistic, looked up by request URL, with a bounded
+ * number of routes.
+ *
+ * <p>The route of a URL is {@link #routeOf(String)}, so every per-route
+ * statistic uses the same keys and they can be joined. Once the limit is
+ * reached, further routes share the value of {@link #OTHER_ROUTE}. URLs of
+ * known routes are cached up to four times the route limit; beyond that the
+ * route is derived per lookup, so URLs with per-instance path or query
+ * values do not grow memory.</p>
+ *
+ * <p>A lookup of a cached URL is one map read and does not allocate.</p>
+ *
+ * <p>Thread-safe.</p>
+ *
+ * @param <V> the per-route value
+ */
+public final class RouteKeys<V> {
+
+    /** Route of URLs beyond the route limit */
+    public static final String OTHER_ROUTE = "other";
+
+    private final int maxRoutes;
+    private final Function<String, String> routeOf;
+    private final Function<String, V> factory;
+    private final Consumer<V> onCreated;
+    private final Map<String, V> byRoute = new ConcurrentHashMap<>();
+    private final Map<String, V> byUrl = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the keys.
+     *
+     * @param maxRoutes routes kept separately, at least 1
+     * @param factory creates the value of a route, called once per route
+     */
+    public RouteKeys(int maxRoutes, Function<String, V> factory) {
+        this(maxRoutes, factory, null);
+    }
+
+    /**
+     * Creates the keys with a callback for new routes.
+     *
+     * @param maxRoutes routes kept separately, at least 1
+     * @param factory creates the value of a route, called once per route
+     * @param onCreated called with each new value after it is added, or null
+     */
+    public RouteKeys(int maxRoutes, Function<String, V> factory, Consumer<V> onCreated) {
+        this(maxRoutes, RouteKeys::routeOf, factory, onCreated);
+    }
+
+    /**
+     * Creates keys whose routes are derived from URLs by another function.
+     *
+     * @param maxRoutes routes kept separately, at least 1
+     * @param routeOf derives the route of a URL
+     * @param factory creates the value of a route, called once per route
+     * @param onCreated called with each new value after it is added, or null
+     */
+    RouteKeys(int maxRoutes, Function<String, String> routeOf, Function<String, V> factory, Consumer<V> onCreated) {
+        this.maxRoutes = Math.max(1, maxRoutes);
+        this.routeOf = routeOf;
+        this.factory = factory;
+        this.onCreated = onCreated;
+    }
+
+    /**
+     * Returns the value of a URL's route, creating it if needed.
+     *
+     * @param url the request URL, or null for {@link #OTHER_ROUTE}
+     * @return the value
+     */
+    public V get(String url) {
+        if (url == null) {
+            return route(OTHER_ROUTE);
+        }
+        V value = byUrl.get(url);
+        return value != null ? value : resolve(url);
+    }
+
+    /**
+     * Returns the value of a route without creating it.
+     *
+     * @param route the route
+     * @return the value, or null if the route has not been seen
+     */
+    public V getRoute(String route) {
+        return byRoute.get(route);
+    }
+
+    /**
+     * Returns the values of all routes seen so far.
+     *
+     * @return an unmodifiable live view, in no particular order
+     */
+    public Collection<V> values() {
+        return Collections.unmodifiableCollection(byRoute.values());
+    }
+
+    /**
+     * Returns the route of a URL: its path without query or fragment.
+     *
+     * @param url the request URL
+     * @return the path, {@code /} if it has none
+     */
+    public static String routeOf(String url) {
+        int start = url.indexOf("://");
+        start = start >= 0 ? url.indexOf('/', start + 3) : url.indexOf('/');
+        if (start < 0) {
+            return "/";
+        }
+        int end = start;
+        while (end < url.length() && url.charAt(end) != '?' && url.charAt(end) != '#') {
+            end++;
+        }
+        return url.substring(start, end);
+    }
+
+    private V resolve(String url) {
+        String route = routeOf.apply(url);
+        V value = byRoute.get(route);
+        if (value == null) {
+            value = route(byRoute.size() >= maxRoutes ? OTHER_ROUTE : route);
+        }
+        // URLs of known routes are cached up to a bound, beyond it the route is derived per call
+        if (byUrl.size() < maxRoutes * 4) {
+            byUrl.put(url, value);
+        }
+        return value;
+    }
+
+    private V route(String route) {
+        V value = byRoute.get(route);
+        if (value != null) {
+            return value;
+        }
+        boolean[] created = new boolean[1];
+        value = byRoute.computeIfAbsent(route, r -> {
+            created[0] = true;
+            return factory.apply(r);
+        });
+        if (created[0] && onCreated != null) {
+            onCreated.accept(value);
+        }
+        return value;
+    }
+}
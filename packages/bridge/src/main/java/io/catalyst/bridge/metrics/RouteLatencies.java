@@ -0,0 +1,131 @@
+package io.catalyst.bridge.metrics;
+
+import io.catalyst.bridge.config.MetricsConfig;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Recent latency distribution per route.
+ *
+ * <p>Each route keeps two {@link LatencyHistogram}s: the current window and
+ * the previous one. Percentiles are computed over both, so estimates follow
+ * the route's behaviour over the last one to two windows instead of its
+ * whole lifetime. Histograms are reused on rotation; recording never
+ * allocates once a route is known.</p>
+ *
+ * <p>The route of a URL is the URL without query and fragment, so
+ * {@code pool://orders/webhook/a} and {@code pool://billing/webhook/a} are
+ * kept apart. Each route holds about 15 KB of histograms, so only a bounded
+ * number of routes is tracked; further ones share
+ * {@link RouteKeys#OTHER_ROUTE}.</p>
+ */
+public class RouteLatencies {
+
+    private final RouteKeys<Window> routes;
+    private final long windowMillis;
+    private final Clock clock;
+
+    /**
+     * Creates a route latency tracker with the default route limit.
+     *
+     * @param window the rotation window
+     * @param clock the clock used for rotation
+     */
+    public RouteLatencies(Duration window, Clock clock) {
+        this(window, MetricsConfig.DEFAULT_MAX_ROUTES, clock);
+    }
+
+    /**
+     * Creates a route latency tracker.
+     *
+     * @param window the rotation window
+     * @param maxRoutes routes tracked separately
+     * @param clock the clock used for rotation
+     */
+    public RouteLatencies(Duration window, int maxRoutes, Clock clock) {
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+        this.routes = new RouteKeys<>(maxRoutes, RouteLatencies::routeOf, route -> new Window(clock.millis()), null);
+    }
+
+    /**
+     * Records a call latency for a route.
+     *
+     * @param route the URL of the route
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(String route, long nanos) {
+        window(route).current().record(nanos);
+    }
+
+    /**
+     * Returns a latency percentile for a route.
+     *
+     * @param route the URL of the route
+     * @param percentile the percentile (0-100)
+     * @param minSamples samples required for a meaningful estimate
+     * @return the latency in nanoseconds, or -1 if fewer than {@code minSamples} were recorded
+     */
+    public long percentile(String route, double percentile, int minSamples) {
+        Window window = routes.get(route);
+        window.rotateIfDue(clock.millis(), windowMillis);
+        LatencyHistogram current = window.current;
+        LatencyHistogram previous = window.previous;
+        if (current.getCount() + previous.getCount() < minSamples) {
+            return -1;
+        }
+        return LatencyHistogram.valueAtPercentile(percentile, current, previous);
+    }
+
+    private Window window(String route) {
+        Window window = routes.get(route);
+        window.rotateIfDue(clock.millis(), windowMillis);
+        return window;
+    }
+
+    private static String routeOf(String url) {
+        int end = 0;
+        while (end < url.length() && url.charAt(end) != '?' && url.charAt(end) != '#') {
+            end++;
+        }
+        return url.substring(0, end);
+    }
+
+    /**
+     * Current and previous histogram of one route.
+     */
+    private static final class Window {
+        private volatile LatencyHistogram current = new LatencyHistogram();
+        private volatile LatencyHistogram previous = new LatencyHistogram();
+        private volatile long startedAt;
+
+        Window(long now) {
+            this.startedAt = now;
+        }
+
+        LatencyHistogram current() {
+            return current;
+        }
+
+        void rotateIfDue(long now, long windowMillis) {
+            if (now - startedAt < windowMillis) {
+                return;
+            }
+            synchronized (this) {
+                if (now - startedAt < windowMillis) {
+                    return;
+                }
+                LatencyHistogram recycled = previous;
+                recycled.reset();
+                if (now - startedAt >= 2 * windowMillis) {
+                    // Idle for more than a full window: the old data is stale too
+                    current.reset();
+                }
+                previous = current;
+                current = recycled;
+                startedAt = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package io.catalyst.bridge.metrics;
+
+import io.catalyst.bridge.config.MetricsConfig;
+import io.catalyst.bridge.config.TimingConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Ring buffer of the most recent slow executions and their phase timings.
+ *
+ * <p>Recording a fast execution is a single comparison; a slow one claims a
+ * slot with one atomic increment and overwrites the oldest entry. Entries
+ * are the finished {@link ExecutionTimings} themselves, so keeping them does
+ * not copy.</p>
+ *
+ * <p>Thread-safe.</p>
+ */
+public final class SlowExecutionLog implements SlowExecutionLogMXBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SlowExecutionLog.class);
+
+    private static volatile SlowExecutionLog shared;
+    private static final Object SHARED_LOCK = new Object();
+
+    private final long thresholdNanos;
+    private final AtomicReferenceArray<ExecutionTimings> entries;
+    private final AtomicLong slowCount = new AtomicLong();
+
+    /**
+     * Creates a log that is not published anywhere.
+     *
+     * @param config the threshold and capacity
+     */
+    public SlowExecutionLog(TimingConfig config) {
+        this.thresholdNanos = config.getSlowThreshold().toNanos();
+        this.entries = new AtomicReferenceArray<>(Math.max(0, config.getSlowLogSize()));
+    }
+
+    /**
+     * Returns the log shared by all executions, configured by the environment
+     * and registered with the platform MBean server unless JMX metrics are
+     * disabled.
+     *
+     * @return the shared log
+     */
+    public static SlowExecutionLog shared() {
+        if (shared == null) {
+            synchronized (SHARED_LOCK) {
+                if (shared == null) {
+                    SlowExecutionLog log = new SlowExecutionLog(TimingConfig.fromEnvironment());
+                    if (log.isEnabled() && MetricsConfig.fromEnvironment().isJmxEnabled()) {
+                        log.registerMBean(ManagementFactory.getPlatformMBeanServer());
+                    }
+                    shared = log;
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Returns true if the log keeps any executions.
+     *
+     * @return true if the capacity is positive
+     */
+    public boolean isEnabled() {
+        return entries.length() > 0;
+    }
+
+    /**
+     * Keeps a finished execution if it took at least the threshold.
+     *
+     * @param timings the finished timings
+     * @return true if the execution was kept
+     */
+    public boolean record(ExecutionTimings timings) {
+        if (entries.length() == 0 || timings.totalNanos() < thresholdNanos) {
+            return false;
+        }
+        long slot = slowCount.getAndIncrement();
+        entries.set((int) (slot % entries.length()), timings);
+        return true;
+    }
+
+    @Override
+    public long getThresholdMillis() {
+        return thresholdNanos / 1_000_000;
+    }
+
+    @Override
+    public int getCapacity() {
+        return entries.length();
+    }
+
+    @Override
+    public long getSlowCount() {
+        return slowCount.get();
+    }
+
+    /**
+     * Returns the kept executions, most recent first.
+     *
+     * @return up to {@link #getCapacity()} executions
+     */
+    @Override
+    public List<ExecutionTimings> getSlowExecutions() {
+        int capacity = entries.length();
+        List<ExecutionTimings> result = new ArrayList<>(capacity);
+        long next = slowCount.get();
+        for (long slot = next - 1; slot >= 0 && slot >= next - capacity; slot--) {
+            ExecutionTimings timings = entries.get((int) (slot % capacity));
+            if (timings != null) {
+                result.add(timings);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Registers the log as an MBean.
+     *
+     * @param server the MBean server
+     */
+    public void registerMBean(MBeanServer server) {
+        try {
+            ObjectName name = new ObjectName(WebhookMetrics.JMX_DOMAIN + ":type=SlowExecutions");
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+        } catch (JMException e) {
+            LOGGER.warn("Could not register MBean for slow executions: {}", e.toString());
+        }
+    }
+}
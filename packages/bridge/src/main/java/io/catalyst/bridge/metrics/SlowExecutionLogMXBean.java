@@ -0,0 +1,21 @@
+package io.catalyst.bridge.metrics;
+
+import java.util.List;
+
+/**
+ * JMX view of the {@link SlowExecutionLog}.
+ *
+ * <p>Registered as {@code io.catalyst.bridge:type=SlowExecutions}. Each slow
+ * execution is a composite of its activity, route, completion time and phase
+ * durations in milliseconds.</p>
+ */
+public interface SlowExecutionLogMXBean {
+
+    long getThresholdMillis();
+
+    int getCapacity();
+
+    long getSlowCount();
+
+    List<ExecutionTimings> getSlowExecutions();
+}
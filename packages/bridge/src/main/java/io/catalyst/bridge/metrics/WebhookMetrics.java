@@ -0,0 +1,224 @@
+package io.catalyst.bridge.metrics;
+
+import io.catalyst.bridge.config.MetricsConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Latency histograms and byte counters of every webhook call, per route,
+ * outcome and status class.
+ *
+ * <p>The route is the webhook path without query, so calls to several pool
+ * members of the same workflow share a route. A {@link CallSeries} is
+ * created the first time a combination occurs; after that, recording looks
+ * up the route by URL and the series by index and neither locks nor
+ * allocates. The number of routes is bounded; calls to further paths are
+ * recorded under {@link #OTHER_ROUTE}.</p>
+ *
+ * <p>Series are published through listeners, which see every existing
+ * and future series: {@link #registerMBeans(MBeanServer)} registers them
+ * with JMX and {@link MicrometerBinder} binds them to a Micrometer
+ * registry.</p>
+ *
+ * <p>Thread-safe.</p>
+ */
+public final class WebhookMetrics {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebhookMetrics.class);
+
+    /** Route of calls to paths beyond the route limit */
+    public static final String OTHER_ROUTE = RouteKeys.OTHER_ROUTE;
+
+    /** JMX domain of the call series MBeans */
+    public static final String JMX_DOMAIN = "io.catalyst.bridge";
+
+    private static final String MICROMETER_CLASS = "io.micrometer.core.instrument.Metrics";
+
+    /** Status classes: no response, then 1xx to 5xx */
+    private static final int STATUS_CLASSES = 6;
+    private static final String[] STATUS_CLASS_NAMES = {"none", "1xx", "2xx", "3xx", "4xx", "5xx"};
+    private static final CallOutcome[] OUTCOMES = CallOutcome.values();
+
+    private static volatile WebhookMetrics shared;
+    private static final Object SHARED_LOCK = new Object();
+
+    private final RouteKeys<Route> routes;
+    private final List<Consumer<CallSeries>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates metrics that are not published anywhere.
+     *
+     * @param config the route limit
+     */
+    public WebhookMetrics(MetricsConfig config) {
+        this.routes = new RouteKeys<>(config.getMaxRoutes(), Route::new);
+    }
+
+    /**
+     * Returns the metrics shared by all webhook clients, published to JMX
+     * and Micrometer as configured by the environment.
+     *
+     * @return the shared metrics
+     */
+    public static WebhookMetrics shared() {
+        if (shared == null) {
+            synchronized (SHARED_LOCK) {
+                if (shared == null) {
+                    MetricsConfig config = MetricsConfig.fromEnvironment();
+                    WebhookMetrics metrics = new WebhookMetrics(config);
+                    if (config.isJmxEnabled()) {
+                        metrics.registerMBeans(ManagementFactory.getPlatformMBeanServer());
+                    }
+                    if (config.isMicrometerEnabled() && isMicrometerPresent()) {
+                        MicrometerBinder.bindGlobal(metrics);
+                        LOGGER.info("Webhook call metrics bound to Micrometer's global registry");
+                    }
+                    shared = metrics;
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Records a webhook call.
+     *
+     * @param url the request URL
+     * @param statusCode the response status, or 0 if there was no response
+     * @param outcome how the call ended
+     * @param nanos the call latency in nanoseconds
+     * @param requestBytes request body size as sent, or -1 if unknown
+     * @param responseBytes response body size as received, or -1 if unknown
+     */
+    public void record(String url, int statusCode, CallOutcome outcome, long nanos,
+                       long requestBytes, long responseBytes) {
+        Route route = routes.get(url);
+        int index = outcome.ordinal() * STATUS_CLASSES + statusClass(statusCode);
+        CallSeries series = route.series.get(index);
+        if (series == null) {
+            series = createSeries(route, index);
+        }
+        series.record(nanos, requestBytes, responseBytes);
+    }
+
+    /**
+     * Returns all series recorded so far.
+     *
+     * @return the series, in no particular order
+     */
+    public List<CallSeries> getSeries() {
+        List<CallSeries> result = new ArrayList<>();
+        for (Route route : routes.values()) {
+            for (int i = 0; i < route.series.length(); i++) {
+                CallSeries series = route.series.get(i);
+                if (series != null) {
+                    result.add(series);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds a listener that is called with every existing series and then with
+     * each new series as it is created, on the recording thread.
+     *
+     * @param listener the listener
+     */
+    public void addListener(Consumer<CallSeries> listener) {
+        synchronized (listeners) {
+            listeners.add(listener);
+            getSeries().forEach(listener);
+        }
+    }
+
+    /**
+     * Registers every series as an MBean, now and as they are created.
+     *
+     * @param server the MBean server
+     */
+    public void registerMBeans(MBeanServer server) {
+        addListener(series -> {
+            try {
+                ObjectName name = objectName(series);
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(series, name);
+                }
+            } catch (JMException e) {
+                LOGGER.warn("Could not register MBean for webhook calls {}: {}", series, e.toString());
+            }
+        });
+    }
+
+    /**
+     * Returns the MBean name of a series.
+     *
+     * @param series the series
+     * @return {@code io.catalyst.bridge:type=WebhookCalls,route="...",outcome=...,status=...}
+     * @throws JMException if the name cannot be formed
+     */
+    public static ObjectName objectName(CallSeries series) throws JMException {
+        return new ObjectName(JMX_DOMAIN + ":type=WebhookCalls,route=" + ObjectName.quote(series.getRoute())
+            + ",outcome=" + series.getOutcome() + ",status=" + series.getStatusClass());
+    }
+
+    /**
+     * Returns the route of a URL: its path without query or fragment.
+     *
+     * @param url the request URL
+     * @return the path, {@code /} if it has none
+     */
+    public static String routeOf(String url) {
+        return RouteKeys.routeOf(url);
+    }
+
+    private CallSeries createSeries(Route route, int index) {
+        CallOutcome outcome = OUTCOMES[index / STATUS_CLASSES];
+        CallSeries created = new CallSeries(route.path, outcome, STATUS_CLASS_NAMES[index % STATUS_CLASSES]);
+        if (!route.series.compareAndSet(index, null, created)) {
+            return route.series.get(index);
+        }
+        synchronized (listeners) {
+            for (Consumer<CallSeries> listener : listeners) {
+                listener.accept(created);
+            }
+        }
+        return created;
+    }
+
+    private static int statusClass(int statusCode) {
+        return statusCode >= 100 && statusCode < 600 ? statusCode / 100 : 0;
+    }
+
+    static boolean isMicrometerPresent() {
+        try {
+            Class.forName(MICROMETER_CLASS, false, WebhookMetrics.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * The series of one route, indexed by outcome and status class.
+     */
+    private static final class Route {
+        private final String path;
+        private final AtomicReferenceArray<CallSeries> series =
+            new AtomicReferenceArray<>(OUTCOMES.length * STATUS_CLASSES);
+
+        Route(String path) {
+            this.path = path;
+        }
+    }
+}
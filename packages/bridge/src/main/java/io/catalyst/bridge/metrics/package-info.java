@@ -0,0 +1,24 @@
+/**
+ * Runtime metrics for webhook calls.
+ *
+ * <p>This package contains lock-free recorders used on the call path:</p>
+ * <ul>
+ *   <li>{@link io.catalyst.bridge.metrics.LatencyHistogram} - Log-linear latency histogram</li>
+ *   <li>{@link io.catalyst.bridge.metrics.RouteLatencies} - Recent latency percentiles per route</li>
+ *   <li>{@link io.catalyst.bridge.metrics.RouteKeys} - Bounded per-route values looked up by URL</li>
+ *   <li>{@link io.catalyst.bridge.metrics.CompressionStats} - Compression ratios per route, published to JMX</li>
+ *   <li>{@link io.catalyst.bridge.metrics.WebhookMetrics} - Call latency and bytes per route, outcome and status class</li>
+ *   <li>{@link io.catalyst.bridge.metrics.CallSeries} - One such series, also its JMX MBean</li>
+ *   <li>{@link io.catalyst.bridge.metrics.MicrometerBinder} - Optional binding to a Micrometer registry</li>
+ *   <li>{@link io.catalyst.bridge.metrics.ExecutionTimings} - Phase timings of one connector execution</li>
+ *   <li>{@link io.catalyst.bridge.metrics.SlowExecutionLog} - Ring buffer of recent slow executions, also its JMX MBean</li>
+ *   <li>{@link io.catalyst.bridge.metrics.ExecutionCosts} - Allocation and CPU time of executions per route</li>
+ *   <li>{@link io.catalyst.bridge.metrics.ExecutionCost} - Those of one route, also its JMX MBean</li>
+ *   <li>{@link io.catalyst.bridge.metrics.ExecutionFailures} - Exact counts of failed executions per route and error</li>
+ *   <li>{@link io.catalyst.bridge.metrics.FailureCount} - That of one route and error, also its JMX MBean</li>
+ * </ul>
+ *
+ * @see io.catalyst.bridge.endpoint.PoolingWebhookClient
+ * @see io.catalyst.bridge.http.WebhookClient
+ */
+package io.catalyst.bridge.metrics;
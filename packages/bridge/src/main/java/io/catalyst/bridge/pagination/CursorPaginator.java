@@ -0,0 +1,273 @@
+package io.catalyst.bridge.pagination;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.catalyst.bridge.http.CancellationHandle;
+import io.catalyst.bridge.http.ResponseMode;
+import io.catalyst.bridge.http.WebhookCaller;
+import io.catalyst.bridge.http.WebhookRequest;
+import io.catalyst.bridge.http.WebhookResponse;
+import io.catalyst.bridge.mapping.ItemMapping;
+import io.catalyst.bridge.mapping.JsonPathExtractor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Fetches all pages of a cursor-paginated webhook in one service task.
+ *
+ * <p>Each page is a JSON object holding the page's items at
+ * {@code itemsPath} and the cursor of the next page at {@code cursorPath}.
+ * The next page is requested with the original JSON payload plus the cursor
+ * in {@code cursorField}. Pagination ends when the cursor is missing, null
+ * or empty, when it repeats, or when the page or item limit is reached.</p>
+ *
+ * <p>As soon as a page's cursor is known the next page is requested in the
+ * background, so the round trip for page N+1 overlaps with mapping the items
+ * of page N. A prefetch that turns out not to be needed because the item
+ * limit was reached is cancelled.</p>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ *
+ * @see PaginationResult
+ */
+public final class CursorPaginator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CursorPaginator.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final ExecutorService PREFETCH = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "catalyst-pagination-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final WebhookCaller client;
+    private final String cursorPath;
+    private final String itemsPath;
+    private final String cursorField;
+    private final ItemMapping itemMapping;
+    private final int maxPages;
+    private final int maxItems;
+
+    private CursorPaginator(Builder builder) {
+        this.client = builder.client;
+        this.cursorPath = builder.cursorPath;
+        this.itemsPath = builder.itemsPath;
+        this.cursorField = builder.cursorField;
+        this.itemMapping = new ItemMapping(builder.itemMapping);
+        this.maxPages = builder.maxPages;
+        this.maxItems = builder.maxItems;
+    }
+
+    /**
+     * Fetches pages until the last page or a limit is reached.
+     *
+     * @param firstPage the request for the first page; its body must be empty or a JSON object
+     * @return the aggregated items
+     * @throws IOException if a page cannot be fetched or is not valid JSON
+     * @throws IllegalArgumentException if the request has a streaming body or a non-object payload
+     */
+    public PaginationResult fetch(WebhookRequest firstPage) throws IOException {
+        if (firstPage.getStreamingBody() != null) {
+            throw new IllegalArgumentException("Pagination requires a JSON payload, not a streamed body");
+        }
+        WebhookRequest template = firstPage.toBuilder()
+            .responseMode(ResponseMode.TEXT)
+            .responseHandler(null)
+            .build();
+        ObjectNode payload = payloadOf(template);
+
+        List<Object> items = new ArrayList<>();
+        int pages = 0;
+        boolean truncated = false;
+        String previousCursor = null;
+        Prefetch next = null;
+        WebhookResponse response = client.execute(template);
+        while (true) {
+            if (!response.isSuccess()) {
+                LOGGER.warn("Pagination stopped at page {}: status {}", pages + 1, response.getStatusCode());
+                return new PaginationResult(items, pages, false, response.getStatusCode(), response.getBody());
+            }
+            JsonNode page = OBJECT_MAPPER.readTree(response.getBody());
+            pages++;
+
+            JsonNode cursorNode = page == null ? null : JsonPathExtractor.find(page, cursorPath);
+            String cursor = cursorNode == null || cursorNode.isNull() ? null : cursorNode.asText();
+            boolean hasNext = cursor != null && !cursor.isEmpty();
+            if (hasNext && cursor.equals(previousCursor)) {
+                LOGGER.warn("Pagination stopped at page {}: cursor '{}' repeats", pages, cursor);
+                hasNext = false;
+            }
+            if (hasNext && (pages >= maxPages || items.size() >= maxItems)) {
+                truncated = true;
+                hasNext = false;
+            }
+            if (hasNext) {
+                // Request the next page before mapping this one
+                next = new Prefetch(withCursor(template, payload, cursorNode));
+                previousCursor = cursor;
+            }
+
+            JsonNode pageItems = page == null ? null : JsonPathExtractor.find(page, itemsPath);
+            if (pageItems != null && pageItems.isArray()) {
+                for (JsonNode item : pageItems) {
+                    if (items.size() >= maxItems) {
+                        truncated = true;
+                        break;
+                    }
+                    items.add(itemMapping.apply(item));
+                }
+            } else if (pageItems != null && !pageItems.isNull()) {
+                LOGGER.warn("Page {} has no item array at '{}'", pages, itemsPath);
+            }
+
+            if (next == null) {
+                break;
+            }
+            if (items.size() >= maxItems) {
+                next.cancel();
+                truncated = true;
+                break;
+            }
+            response = next.await();
+            next = null;
+        }
+        LOGGER.debug("Pagination fetched {} items in {} pages{}", items.size(), pages, truncated ? " (truncated)" : "");
+        return new PaginationResult(items, pages, truncated, response.getStatusCode(), "");
+    }
+
+    private static ObjectNode payloadOf(WebhookRequest request) throws IOException {
+        if (request.getBody() == null || request.getBody().length == 0) {
+            return OBJECT_MAPPER.createObjectNode();
+        }
+        JsonNode payload = OBJECT_MAPPER.readTree(request.getBody());
+        if (!(payload instanceof ObjectNode)) {
+            throw new IllegalArgumentException("Pagination requires the payload to be a JSON object");
+        }
+        return (ObjectNode) payload;
+    }
+
+    private WebhookRequest withCursor(WebhookRequest template, ObjectNode payload, JsonNode cursor)
+            throws IOException {
+        ObjectNode body = payload.deepCopy();
+        body.set(cursorField, cursor);
+        return template.toBuilder()
+            .body(OBJECT_MAPPER.writeValueAsBytes(body))
+            .build();
+    }
+
+    /**
+     * A page request running in the background.
+     */
+    private final class Prefetch {
+        private final CancellationHandle cancellation = new CancellationHandle();
+        private final CompletableFuture<WebhookResponse> future = new CompletableFuture<>();
+
+        Prefetch(WebhookRequest request) {
+            PREFETCH.execute(() -> {
+                try {
+                    future.complete(client.execute(request, cancellation));
+                } catch (IOException | RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        }
+
+        WebhookResponse await() throws IOException {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                cancel();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the next page");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw (RuntimeException) e.getCause();
+            }
+        }
+
+        void cancel() {
+            cancellation.cancel();
+        }
+    }
+
+    /**
+     * Returns a new builder.
+     *
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for {@link CursorPaginator}.
+     */
+    public static class Builder {
+        private WebhookCaller client;
+        private String cursorPath;
+        private String itemsPath = "$.items";
+        private String cursorField = "cursor";
+        private Map<String, String> itemMapping;
+        private int maxPages = 100;
+        private int maxItems = 10_000;
+
+        public Builder client(WebhookCaller client) {
+            this.client = client;
+            return this;
+        }
+
+        public Builder cursorPath(String cursorPath) {
+            this.cursorPath = cursorPath;
+            return this;
+        }
+
+        public Builder itemsPath(String itemsPath) {
+            this.itemsPath = itemsPath;
+            return this;
+        }
+
+        public Builder cursorField(String cursorField) {
+            this.cursorField = cursorField;
+            return this;
+        }
+
+        public Builder itemMapping(Map<String, String> itemMapping) {
+            this.itemMapping = itemMapping;
+            return this;
+        }
+
+        public Builder maxPages(int maxPages) {
+            this.maxPages = maxPages;
+            return this;
+        }
+
+        public Builder maxItems(int maxItems) {
+            this.maxItems = maxItems;
+            return this;
+        }
+
+        public CursorPaginator build() {
+            if (client == null || cursorPath == null || cursorPath.trim().isEmpty()) {
+                throw new IllegalArgumentException("Pagination requires a client and a cursor path");
+            }
+            if (maxPages < 1 || maxItems < 1) {
+                throw new IllegalArgumentException("Pagination limits must be positive");
+            }
+            return new CursorPaginator(this);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.catalyst.bridge.pagination;
+
+import java.util.List;
+
+/**
+ * Items aggregated over all pages fetched by a {@link CursorPaginator}.
+ *
+ * <p>If a page fails with a non-2xx status, pagination stops; the items of
+ * the previous pages are kept and the failing status and body are
+ * reported.</p>
+ */
+public final class PaginationResult {
+
+    private final List<Object> items;
+    private final int pages;
+    private final boolean truncated;
+    private final int statusCode;
+    private final String errorBody;
+
+    PaginationResult(List<Object> items, int pages, boolean truncated, int statusCode, String errorBody) {
+        this.items = items;
+        this.pages = pages;
+        this.truncated = truncated;
+        this.statusCode = statusCode;
+        this.errorBody = errorBody;
+    }
+
+    /**
+     * Returns the mapped items of all pages, in page order.
+     *
+     * @return the items
+     */
+    public List<Object> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns the number of pages that were fetched successfully.
+     *
+     * @return the page count
+     */
+    public int getPages() {
+        return pages;
+    }
+
+    /**
+     * Returns true if pagination stopped at the page or item limit although
+     * more items were available.
+     *
+     * @return true if the result is incomplete because of a limit
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Returns the status code of the last page requested.
+     *
+     * @return the HTTP status code
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Returns true if every page was fetched with a 2xx status.
+     *
+     * @return true on success
+     */
+    public boolean isSuccess() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    /**
+     * Returns the body of the failing page.
+     *
+     * @return the body, empty on success
+     */
+    public String getErrorBody() {
+        return errorBody;
+    }
+
+    @Override
+    public String toString() {
+        return "PaginationResult{items=" + items.size() + ", pages=" + pages + ", truncated=" + truncated
+            + ", statusCode=" + statusCode + "}";
+    }
+}
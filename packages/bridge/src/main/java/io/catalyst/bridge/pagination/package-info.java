@@ -0,0 +1,11 @@
+/**
+ * Cursor-based pagination of webhook calls within a single service task.
+ *
+ * <ul>
+ *   <li>{@link io.catalyst.bridge.pagination.CursorPaginator} - Follows next-page cursors, prefetching the next page</li>
+ *   <li>{@link io.catalyst.bridge.pagination.PaginationResult} - Items aggregated over all pages</li>
+ * </ul>
+ *
+ * @see io.catalyst.bridge.CatalystBridge
+ */
+package io.catalyst.bridge.pagination;
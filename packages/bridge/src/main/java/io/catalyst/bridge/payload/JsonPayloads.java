@@ -0,0 +1,146 @@
+package io.catalyst.bridge.payload;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.camunda.bpm.engine.variable.value.ObjectValue;
+import org.camunda.bpm.engine.variable.value.SerializableValue;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSON serialization of payload values.
+ *
+ * <p>Values that are already JSON are passed through as text: Spin JSON
+ * values ({@code SpinJsonNode}, typed {@code json} values) and object values
+ * serialized with the {@code application/json} data format, the usual
+ * {@code defaultSerializationFormat}. Spin is detected by class name, so it
+ * is not a dependency of the bridge.</p>
+ *
+ * <p>Other objects are serialized with an {@link ObjectWriter} cached per
+ * class, which keeps the resolved root serializer between calls.</p>
+ *
+ * <p>Thread-safe.</p>
+ */
+public final class JsonPayloads {
+
+    /** Serialization format of object values stored as JSON. */
+    public static final String JSON_DATA_FORMAT = "application/json";
+
+    /** Value type name of Spin JSON values. */
+    public static final String SPIN_JSON_TYPE = "json";
+
+    private static final String SPIN_JSON_NODE_CLASS = "org.camunda.spin.json.SpinJsonNode";
+
+    /** Classes beyond this many are serialized with an uncached writer. */
+    private static final int MAX_CACHED_WRITERS = 1024;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private static final Map<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Boolean> SPIN_CLASSES = new ConcurrentHashMap<>();
+
+    private JsonPayloads() {
+        // Static utility class
+    }
+
+    /**
+     * Returns the JSON text of a typed value that is stored as JSON.
+     *
+     * @param value the typed value, may be null
+     * @return the JSON text, or null if the value is not JSON or has no text yet
+     */
+    public static String serializedJson(TypedValue value) {
+        if (!(value instanceof SerializableValue)) {
+            return null;
+        }
+        SerializableValue serializable = (SerializableValue) value;
+        boolean spin = value.getType() != null && SPIN_JSON_TYPE.equals(value.getType().getName());
+        if (!spin && !(value instanceof ObjectValue && JSON_DATA_FORMAT.equals(serializable.getSerializationDataFormat()))) {
+            return null;
+        }
+        String json = serializable.getValueSerialized();
+        if (json == null && spin && serializable.isDeserialized() && serializable.getValue() != null) {
+            // A Spin node set in this transaction has not been serialized yet
+            json = serializable.getValue().toString();
+        }
+        return json;
+    }
+
+    /**
+     * Returns true if the object is a Spin JSON node, which prints itself as JSON.
+     *
+     * @param value the object, may be null
+     * @return true for {@code org.camunda.spin.json.SpinJsonNode} instances
+     */
+    public static boolean isSpinJson(Object value) {
+        if (value == null) {
+            return false;
+        }
+        return SPIN_CLASSES.computeIfAbsent(value.getClass(), JsonPayloads::implementsSpinJsonNode);
+    }
+
+    /**
+     * Serializes a payload value to JSON bytes.
+     *
+     * @param value the value; Spin JSON nodes are written as their own JSON text
+     * @return the JSON as UTF-8 bytes
+     * @throws JsonProcessingException if the value cannot be serialized
+     */
+    public static byte[] toBytes(Object value) throws JsonProcessingException {
+        if (isSpinJson(value)) {
+            return value.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        return writerFor(value == null ? Object.class : value.getClass()).writeValueAsBytes(value);
+    }
+
+    /**
+     * Serializes a payload value to a JSON string.
+     *
+     * @param value the value; Spin JSON nodes are written as their own JSON text
+     * @return the JSON text
+     * @throws JsonProcessingException if the value cannot be serialized
+     */
+    public static String toString(Object value) throws JsonProcessingException {
+        if (isSpinJson(value)) {
+            return value.toString();
+        }
+        return writerFor(value == null ? Object.class : value.getClass()).writeValueAsString(value);
+    }
+
+    /**
+     * Returns the writer for a class, creating and caching it on first use.
+     * Writers do not close the stream they write to.
+     *
+     * @param type the class of the values to write
+     * @return the writer
+     */
+    public static ObjectWriter writerFor(Class<?> type) {
+        ObjectWriter writer = WRITERS.get(type);
+        if (writer == null) {
+            writer = OBJECT_MAPPER.writerFor(type);
+            if (WRITERS.size() < MAX_CACHED_WRITERS) {
+                WRITERS.putIfAbsent(type, writer);
+            }
+        }
+        return writer;
+    }
+
+    private static boolean implementsSpinJsonNode(Class<?> type) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            if (SPIN_JSON_NODE_CLASS.equals(c.getName())) {
+                return true;
+            }
+            for (Class<?> i : c.getInterfaces()) {
+                if (implementsSpinJsonNode(i)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
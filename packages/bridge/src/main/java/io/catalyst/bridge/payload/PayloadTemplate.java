@@ -0,0 +1,221 @@
+package io.catalyst.bridge.payload;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.catalyst.bridge.buffer.PooledOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A JSON payload template with {@code {{variable}}} placeholders, compiled
+ * once into literal byte segments and variable slots.
+ *
+ * <p>The placeholder syntax differs from Camunda's {@code ${...}} so that
+ * the engine passes the template to the connector unevaluated.</p>
+ *
+ * <p>A placeholder that stands for a whole JSON value, as in
+ * {@code {"id": {{orderId}}}}, is replaced by the variable serialized as
+ * JSON: strings are quoted and escaped, numbers and booleans written as
+ * is, maps and lists as JSON objects and arrays, and null as {@code null}.
+ * A placeholder inside a string literal, as in
+ * {@code {"greeting": "Hello {{name}}!"}}, inserts the variable's text
+ * escaped for a JSON string, or nothing if it is null. A literal double
+ * brace inside a string is written with a JSON unicode escape for the
+ * first brace.</p>
+ *
+ * <p>Templates are validated when compiled and cached by their text, so a
+ * template used by many process instances is parsed once. Rendering writes
+ * straight to the output without building an intermediate string or tree.</p>
+ *
+ * <p>Immutable and thread-safe.</p>
+ */
+public final class PayloadTemplate {
+
+    /** Templates beyond this many distinct texts are compiled per use instead of cached. */
+    private static final int MAX_CACHED_TEMPLATES = 256;
+
+    private static final Map<String, PayloadTemplate> CACHE = new ConcurrentHashMap<>();
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private static final ObjectReader VALIDATOR = OBJECT_MAPPER.reader()
+        .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte QUOTE = '"';
+
+    private final byte[][] literals;
+    private final String[] slotNames;
+    private final boolean[] slotInString;
+    private final int literalLength;
+
+    private PayloadTemplate(List<byte[]> literals, List<String> slotNames, List<Boolean> slotInString) {
+        this.literals = literals.toArray(new byte[0][]);
+        this.slotNames = slotNames.toArray(new String[0]);
+        this.slotInString = new boolean[slotInString.size()];
+        int length = 0;
+        for (int i = 0; i < this.slotInString.length; i++) {
+            this.slotInString[i] = slotInString.get(i);
+        }
+        for (byte[] literal : this.literals) {
+            length += literal.length;
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Returns the compiled template for a template text, compiling it on first use.
+     *
+     * @param template the template text
+     * @return the compiled template
+     * @throws IllegalArgumentException if the template is not valid JSON with placeholders
+     */
+    public static PayloadTemplate of(String template) {
+        PayloadTemplate compiled = CACHE.get(template);
+        if (compiled == null) {
+            compiled = compile(template);
+            if (CACHE.size() < MAX_CACHED_TEMPLATES) {
+                CACHE.putIfAbsent(template, compiled);
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * Compiles a template without caching it.
+     *
+     * @param template the template text
+     * @return the compiled template
+     * @throws IllegalArgumentException if the template is not valid JSON with placeholders
+     */
+    public static PayloadTemplate compile(String template) {
+        List<byte[]> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<Boolean> inStrings = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        // The template with every value slot replaced by null, to validate the JSON structure
+        StringBuilder probe = new StringBuilder();
+        boolean inString = false;
+        int i = 0;
+        while (i < template.length()) {
+            if (template.startsWith("{{", i)) {
+                int end = template.indexOf("}}", i + 2);
+                String name = end < 0 ? "" : template.substring(i + 2, end).trim();
+                if (name.isEmpty()) {
+                    throw new IllegalArgumentException("Invalid payload template: unterminated or empty placeholder at "
+                        + "position " + i);
+                }
+                literals.add(literal.toString().getBytes(StandardCharsets.UTF_8));
+                literal.setLength(0);
+                names.add(name);
+                inStrings.add(inString);
+                probe.append(inString ? "" : "null");
+                i = end + 2;
+                continue;
+            }
+            char c = template.charAt(i);
+            if (inString && c == '\\' && i + 1 < template.length()) {
+                literal.append(c).append(template.charAt(i + 1));
+                probe.append(c).append(template.charAt(i + 1));
+                i += 2;
+                continue;
+            }
+            if (c == '"') {
+                inString = !inString;
+            }
+            literal.append(c);
+            probe.append(c);
+            i++;
+        }
+        literals.add(literal.toString().getBytes(StandardCharsets.UTF_8));
+
+        try {
+            VALIDATOR.readTree(probe.toString());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid payload template: " + e.getOriginalMessage(), e);
+        }
+        return new PayloadTemplate(literals, names, inStrings);
+    }
+
+    /**
+     * Returns the names of the variables used by the template.
+     *
+     * @return the distinct names in order of first use
+     */
+    public Set<String> getVariableNames() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(slotNames)));
+    }
+
+    /**
+     * Renders the template into a stream.
+     *
+     * @param variables resolves a variable name to its value; may throw for unknown names
+     * @param out the stream to write the JSON to; not closed
+     * @throws IOException if writing fails
+     */
+    public void render(Function<String, Object> variables, OutputStream out) throws IOException {
+        out.write(literals[0]);
+        for (int i = 0; i < slotNames.length; i++) {
+            Object value = variables.apply(slotNames[i]);
+            if (slotInString[i]) {
+                writeEscaped(value, out);
+            } else {
+                writeValue(value, out);
+            }
+            out.write(literals[i + 1]);
+        }
+    }
+
+    /**
+     * Renders the template into a new byte array.
+     *
+     * @param variables resolves a variable name to its value; may throw for unknown names
+     * @return the JSON as UTF-8 bytes
+     * @throws IOException if a value cannot be serialized
+     */
+    public byte[] renderToBytes(Function<String, Object> variables) throws IOException {
+        try (PooledOutputStream out = new PooledOutputStream(literalLength + 16 * slotNames.length)) {
+            render(variables, out);
+            return out.toByteArray();
+        }
+    }
+
+    private static void writeValue(Object value, OutputStream out) throws IOException {
+        if (value == null) {
+            out.write(NULL);
+        } else if (value instanceof String) {
+            out.write(QUOTE);
+            out.write(JsonStringEncoder.getInstance().quoteAsUTF8((String) value));
+            out.write(QUOTE);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Boolean) {
+            out.write(value.toString().getBytes(StandardCharsets.US_ASCII));
+        } else if (JsonPayloads.isSpinJson(value)) {
+            out.write(value.toString().getBytes(StandardCharsets.UTF_8));
+        } else {
+            JsonPayloads.writerFor(value.getClass()).writeValue(out, value);
+        }
+    }
+
+    private static void writeEscaped(Object value, OutputStream out) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value instanceof String || value instanceof Number || value instanceof Boolean
+            ? value.toString()
+            : JsonPayloads.toString(value);
+        out.write(JsonStringEncoder.getInstance().quoteAsUTF8(text));
+    }
+}
@@ -0,0 +1,132 @@
+package io.catalyst.bridge.payload;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.catalyst.bridge.buffer.BufferPool;
+import io.catalyst.bridge.buffer.PooledOutputStream;
+import org.camunda.bpm.engine.delegate.VariableScope;
+import org.camunda.bpm.engine.variable.value.FileValue;
+import org.camunda.bpm.engine.variable.value.SerializableValue;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A payload made of selected process variables, written as one JSON object
+ * with a field per variable.
+ *
+ * <p>Each entry is a variable name, optionally renamed with
+ * {@code variable:field}. Variables are read as typed values without
+ * deserializing them and written with a streaming JSON generator; no
+ * intermediate map or string is built. Values that are already JSON, Spin
+ * JSON values and object values serialized as {@code application/json}, are
+ * embedded as their stored text without being parsed.</p>
+ *
+ * <p>Immutable and thread-safe.</p>
+ */
+public final class VariableProjection {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String[] variables;
+    private final String[] fields;
+
+    private VariableProjection(List<String> variables, List<String> fields) {
+        this.variables = variables.toArray(new String[0]);
+        this.fields = fields.toArray(new String[0]);
+    }
+
+    /**
+     * Parses projection entries.
+     *
+     * @param entries variable names, each optionally followed by {@code :field}
+     * @return the projection
+     * @throws IllegalArgumentException if an entry has an empty name or field
+     */
+    public static VariableProjection parse(Collection<String> entries) {
+        List<String> variables = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        for (String entry : entries) {
+            int colon = entry.indexOf(':');
+            String variable = (colon < 0 ? entry : entry.substring(0, colon)).trim();
+            String field = colon < 0 ? variable : entry.substring(colon + 1).trim();
+            if (variable.isEmpty() || field.isEmpty()) {
+                throw new IllegalArgumentException("Invalid payload variable entry: '" + entry + "'");
+            }
+            variables.add(variable);
+            fields.add(field);
+        }
+        return new VariableProjection(variables, fields);
+    }
+
+    /**
+     * Writes the variables as a JSON object.
+     *
+     * @param scope the execution or task holding the variables
+     * @param out the stream to write to; not closed
+     * @throws IllegalArgumentException if a variable does not exist or is a file
+     * @throws IOException if a value cannot be serialized
+     */
+    public void write(VariableScope scope, OutputStream out) throws IOException {
+        try (JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            for (int i = 0; i < variables.length; i++) {
+                generator.writeFieldName(fields[i]);
+                writeValue(scope, variables[i], generator);
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes the variables as a JSON object into a new byte array.
+     *
+     * @param scope the execution or task holding the variables
+     * @return the JSON as UTF-8 bytes
+     * @throws IllegalArgumentException if a variable does not exist or is a file
+     * @throws IOException if a value cannot be serialized
+     */
+    public byte[] toBytes(VariableScope scope) throws IOException {
+        try (PooledOutputStream out = new PooledOutputStream(BufferPool.MIN_BUFFER_SIZE)) {
+            write(scope, out);
+            return out.toByteArray();
+        }
+    }
+
+    private static void writeValue(VariableScope scope, String name, JsonGenerator generator) throws IOException {
+        TypedValue value = scope.getVariableTyped(name, false);
+        if (value == null) {
+            if (!scope.hasVariable(name)) {
+                throw new IllegalArgumentException("Payload variable '" + name + "' is not defined");
+            }
+            generator.writeNull();
+            return;
+        }
+        if (value instanceof FileValue) {
+            throw new IllegalArgumentException(
+                "Payload variable '" + name + "' is a file; send it with fileVariables instead");
+        }
+        String json = JsonPayloads.serializedJson(value);
+        if (json != null) {
+            generator.writeRawValue(json);
+            return;
+        }
+        if (value instanceof SerializableValue && !((SerializableValue) value).isDeserialized()) {
+            value = scope.getVariableTyped(name, true);
+        }
+        Object object = value.getValue();
+        if (object == null) {
+            generator.writeNull();
+        } else if (JsonPayloads.isSpinJson(object)) {
+            generator.writeRawValue(object.toString());
+        } else {
+            generator.writeObject(object);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * Building webhook request bodies from process variables.
+ *
+ * <ul>
+ *   <li>{@link io.catalyst.bridge.payload.PayloadTemplate} - Compiled JSON template with variable placeholders</li>
+ *   <li>{@link io.catalyst.bridge.payload.VariableProjection} - Selected process variables streamed as a JSON object</li>
+ *   <li>{@link io.catalyst.bridge.payload.JsonPayloads} - Passthrough of stored JSON and cached per-class writers</li>
+ * </ul>
+ *
+ * @see io.catalyst.bridge.CatalystBridge
+ */
+package io.catalyst.bridge.payload;
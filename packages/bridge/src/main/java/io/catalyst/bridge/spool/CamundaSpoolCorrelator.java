@@ -0,0 +1,56 @@
+package io.catalyst.bridge.spool;
+
+import io.catalyst.bridge.http.WebhookResponse;
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.ProcessEngines;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Correlates replayed responses to Camunda message events.
+ *
+ * <p>The BPMN model parks the instance on a message catch event (or receive
+ * task) named by the {@code spoolCorrelationMessage} input parameter. Once the
+ * spooled request is delivered, the message is correlated to the originating
+ * process instance with the standard bridge output variables.</p>
+ *
+ * @see SpoolReplayer
+ */
+public class CamundaSpoolCorrelator implements SpoolCorrelator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CamundaSpoolCorrelator.class);
+
+    private static final String RESPONSE_VAR = "n8nResponse";
+    private static final String STATUS_CODE_VAR = "n8nStatusCode";
+    private static final String SUCCESS_VAR = "n8nSuccess";
+    private static final String SPOOLED_VAR = "n8nSpooled";
+
+    @Override
+    public void correlate(SpoolEntry entry, WebhookResponse response) {
+        ProcessEngine engine = entry.getProcessEngineName() != null
+            ? ProcessEngines.getProcessEngine(entry.getProcessEngineName())
+            : ProcessEngines.getDefaultProcessEngine();
+
+        if (engine == null) {
+            throw new IllegalStateException("Process engine not available: " + entry.getProcessEngineName());
+        }
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put(RESPONSE_VAR, response.getBody());
+        variables.put(STATUS_CODE_VAR, response.getStatusCode());
+        variables.put(SUCCESS_VAR, response.isSuccess());
+        variables.put(SPOOLED_VAR, false);
+
+        engine.getRuntimeService()
+            .createMessageCorrelation(entry.getCorrelationMessage())
+            .processInstanceId(entry.getProcessInstanceId())
+            .setVariables(variables)
+            .correlate();
+
+        LOGGER.info("Correlated spooled webhook response '{}' to process instance: {}",
+            entry.getCorrelationMessage(), entry.getProcessInstanceId());
+    }
+}
@@ -0,0 +1,23 @@
+package io.catalyst.bridge.spool;
+
+import io.catalyst.bridge.http.WebhookResponse;
+
+/**
+ * Hands the response of a replayed request back to the waiting process instance.
+ *
+ * <p>Separated from {@link SpoolReplayer} for testability. The production
+ * implementation is {@link CamundaSpoolCorrelator}.</p>
+ *
+ * @see SpoolEntry#requiresCorrelation()
+ */
+public interface SpoolCorrelator {
+
+    /**
+     * Correlates the response of a delivered entry to its process instance.
+     *
+     * @param entry the delivered entry
+     * @param response the response received from n8n
+     * @throws Exception if the process instance is not (yet) waiting for the message
+     */
+    void correlate(SpoolEntry entry, WebhookResponse response) throws Exception;
+}
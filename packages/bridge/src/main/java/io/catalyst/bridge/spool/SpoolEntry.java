@@ -0,0 +1,176 @@
+package io.catalyst.bridge.spool;
+
+import io.catalyst.bridge.http.WebhookRequest;
+
+import java.util.Objects;
+
+/**
+ * Immutable webhook request persisted in the spool, awaiting delivery.
+ *
+ * <p>Besides the request itself an entry records which process instance it
+ * came from, so that the replayer can correlate the response back to the
+ * instance once n8n is reachable again.</p>
+ *
+ * @see WebhookSpool
+ * @see SpoolReplayer
+ */
+public final class SpoolEntry {
+
+    private final long sequence;
+    private final long createdAtMillis;
+    private final WebhookRequest request;
+    private final String processEngineName;
+    private final String processInstanceId;
+    private final String correlationMessage;
+
+    private SpoolEntry(Builder builder) {
+        this.sequence = builder.sequence;
+        this.createdAtMillis = builder.createdAtMillis;
+        this.request = Objects.requireNonNull(builder.request, "request");
+        this.processEngineName = builder.processEngineName;
+        this.processInstanceId = builder.processInstanceId;
+        this.correlationMessage = builder.correlationMessage;
+    }
+
+    /**
+     * Returns the spool sequence number. Entries are delivered in sequence order.
+     *
+     * @return the sequence number
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the time the entry was spooled.
+     *
+     * @return epoch milliseconds
+     */
+    public long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+
+    /**
+     * Returns the spooled request.
+     *
+     * @return the request
+     */
+    public WebhookRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * Returns the name of the process engine that produced the entry.
+     *
+     * @return the engine name, or null for the default engine
+     */
+    public String getProcessEngineName() {
+        return processEngineName;
+    }
+
+    /**
+     * Returns the id of the process instance that produced the entry.
+     *
+     * @return the process instance id (may be null)
+     */
+    public String getProcessInstanceId() {
+        return processInstanceId;
+    }
+
+    /**
+     * Returns the message to correlate to the process instance after delivery.
+     *
+     * @return the message name, or null if no correlation is required
+     */
+    public String getCorrelationMessage() {
+        return correlationMessage;
+    }
+
+    /**
+     * Returns true if the response must be correlated back to the process instance.
+     *
+     * @return true if a correlation message is configured
+     */
+    public boolean requiresCorrelation() {
+        return correlationMessage != null && processInstanceId != null;
+    }
+
+    /**
+     * Returns a builder pre-populated with this entry's values.
+     *
+     * @return a new Builder with current values
+     */
+    public Builder toBuilder() {
+        return new Builder()
+            .sequence(sequence)
+            .createdAtMillis(createdAtMillis)
+            .request(request)
+            .processEngineName(processEngineName)
+            .processInstanceId(processInstanceId)
+            .correlationMessage(correlationMessage);
+    }
+
+    /**
+     * Returns a new builder.
+     *
+     * @return a new Builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return "SpoolEntry{" +
+            "sequence=" + sequence +
+            ", processInstanceId='" + processInstanceId + '\'' +
+            ", url='" + request.getUrl() + '\'' +
+            '}';
+    }
+
+    /**
+     * Builder for creating SpoolEntry instances.
+     */
+    public static class Builder {
+        private long sequence;
+        private long createdAtMillis;
+        private WebhookRequest request;
+        private String processEngineName;
+        private String processInstanceId;
+        private String correlationMessage;
+
+        public Builder sequence(long sequence) {
+            this.sequence = sequence;
+            return this;
+        }
+
+        public Builder createdAtMillis(long createdAtMillis) {
+            this.createdAtMillis = createdAtMillis;
+            return this;
+        }
+
+        public Builder request(WebhookRequest request) {
+            this.request = request;
+            return this;
+        }
+
+        public Builder processEngineName(String processEngineName) {
+            this.processEngineName = processEngineName;
+            return this;
+        }
+
+        public Builder processInstanceId(String processInstanceId) {
+            this.processInstanceId = processInstanceId;
+            return this;
+        }
+
+        public Builder correlationMessage(String correlationMessage) {
+            this.correlationMessage = correlationMessage;
+            return this;
+        }
+
+        public SpoolEntry build() {
+            return new SpoolEntry(this);
+        }
+    }
+}
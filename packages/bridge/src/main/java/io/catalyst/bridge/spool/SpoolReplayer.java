@@ -0,0 +1,230 @@
+package io.catalyst.bridge.spool;
+
+import io.catalyst.bridge.config.SpoolConfig;
+import io.catalyst.bridge.http.WebhookCaller;
+import io.catalyst.bridge.http.WebhookClient;
+import io.catalyst.bridge.http.WebhookResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Replays spooled webhook requests in order once n8n is reachable again.
+ *
+ * <p>A single background thread delivers the head of the spool. While n8n is
+ * unavailable (connection failure or 502/503/504) delivery backs off
+ * exponentially from {@link SpoolConfig#getInitialBackoff()} up to
+ * {@link SpoolConfig#getMaxBackoff()}; later entries wait behind the head so
+ * ordering is preserved.</p>
+ *
+ * <p>An entry that still fails after {@link SpoolConfig#getMaxAttempts()}
+ * attempts, or whose delivery fails after the request may have reached n8n
+ * (e.g. a read timeout or an oversized response), is moved to the spool's
+ * dead-letter file instead of being sent again, so one bad entry cannot
+ * block the queue or run a webhook twice.</p>
+ *
+ * <p>Entries with a correlation message are only acknowledged once the
+ * response has been correlated to the waiting process instance. Correlation
+ * is retried without re-sending the request; if it still fails after
+ * {@value #MAX_CORRELATION_ATTEMPTS} attempts, the entry is dead-lettered
+ * with the response, so the process instance can be completed by hand.</p>
+ *
+ * @see WebhookSpool
+ * @see SpoolCorrelator
+ */
+public class SpoolReplayer implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpoolReplayer.class);
+
+    /** Correlation attempts before giving up on a delivered entry */
+    static final int MAX_CORRELATION_ATTEMPTS = 10;
+
+    private final WebhookSpool spool;
+    private final WebhookCaller client;
+    private final SpoolCorrelator correlator;
+    private final SpoolConfig config;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    // Only accessed from the replay thread
+    private long currentBackoffMillis;
+    private WebhookResponse undeliveredCorrelation;
+    private int correlationAttempts;
+    private int headAttempts;
+
+    /**
+     * Creates a replayer. Call {@link #start()} to begin replaying.
+     *
+     * @param spool the spool to drain
+     * @param client the client used to deliver requests
+     * @param correlator correlates responses back to process instances
+     * @param config the spool configuration (backoff settings)
+     */
+    public SpoolReplayer(WebhookSpool spool, WebhookCaller client,
+                         SpoolCorrelator correlator, SpoolConfig config) {
+        this.spool = spool;
+        this.client = client;
+        this.correlator = correlator;
+        this.config = config;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalyst-spool-replayer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts replaying any entries recovered from disk.
+     */
+    public void start() {
+        schedule(0);
+    }
+
+    /**
+     * Durably spools a request and wakes the replayer.
+     *
+     * @param entry the entry to spool
+     * @return the stored entry with its sequence number
+     * @throws IOException if the spool is full or cannot be written
+     */
+    public SpoolEntry submit(SpoolEntry entry) throws IOException {
+        SpoolEntry stored = spool.append(entry);
+        schedule(0);
+        return stored;
+    }
+
+    /**
+     * Returns the underlying spool.
+     *
+     * @return the spool
+     */
+    public WebhookSpool getSpool() {
+        return spool;
+    }
+
+    @Override
+    public void close() throws IOException {
+        executor.shutdownNow();
+        spool.close();
+    }
+
+    private void schedule(long delayMillis) {
+        // At most one pending run; a wake-up never shortens an active backoff
+        if (scheduled.compareAndSet(false, true)) {
+            executor.schedule(this::run, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void run() {
+        scheduled.set(false);
+        try {
+            long delay = drain();
+            if (delay >= 0) {
+                schedule(delay);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("Unexpected error replaying webhook spool", e);
+            schedule(config.getMaxBackoff().toMillis());
+        }
+    }
+
+    /**
+     * Delivers entries until the spool is empty or delivery fails.
+     *
+     * @return the delay before the next attempt, or -1 if the spool is empty
+     */
+    long drain() {
+        SpoolEntry entry;
+        while ((entry = spool.peek()) != null) {
+            if (!deliver(entry)) {
+                spool.recordFailedAttempt();
+                if (++headAttempts < config.getMaxAttempts()
+                        || !deadLetter(entry, "Not delivered after " + headAttempts + " attempts")) {
+                    return nextBackoffMillis();
+                }
+            }
+            headAttempts = 0;
+            currentBackoffMillis = 0;
+        }
+        return -1;
+    }
+
+    private boolean deliver(SpoolEntry entry) {
+        WebhookResponse response = undeliveredCorrelation;
+        if (response == null) {
+            try {
+                response = client.execute(entry.getRequest());
+            } catch (IOException e) {
+                if (WebhookClient.isConnectFailure(e)) {
+                    LOGGER.debug("Spool replay of {} failed: {}", entry, e.getMessage());
+                    return false;
+                }
+                // n8n may have processed the request; sending it again could run the webhook twice
+                return deadLetter(entry, e.toString());
+            }
+            if (response.isUnavailable()) {
+                LOGGER.debug("Spool replay of {} returned {}", entry, response.getStatusCode());
+                return false;
+            }
+        }
+
+        if (entry.requiresCorrelation()) {
+            try {
+                correlator.correlate(entry, response);
+            } catch (Exception e) {
+                if (++correlationAttempts < MAX_CORRELATION_ATTEMPTS) {
+                    // The process instance may not have reached the catch event yet
+                    undeliveredCorrelation = response;
+                    LOGGER.debug("Correlation of {} failed (attempt {}): {}",
+                        entry, correlationAttempts, e.getMessage());
+                    return false;
+                }
+                // Kept with the response so that the waiting process instance can be completed by hand
+                return deadLetter(entry, "Correlation to process instance " + entry.getProcessInstanceId()
+                    + " failed after " + correlationAttempts + " attempts: " + e, response);
+            }
+        }
+
+        try {
+            spool.acknowledge(entry);
+        } catch (IOException e) {
+            LOGGER.error("Failed to acknowledge spooled entry {}: {}", entry, e.getMessage());
+            return false;
+        }
+
+        undeliveredCorrelation = null;
+        correlationAttempts = 0;
+        LOGGER.info("Replayed spooled webhook request {} (status {})", entry, response.getStatusCode());
+        return true;
+    }
+
+    private boolean deadLetter(SpoolEntry entry, String reason) {
+        return deadLetter(entry, reason, null);
+    }
+
+    private boolean deadLetter(SpoolEntry entry, String reason, WebhookResponse response) {
+        try {
+            spool.deadLetter(entry, reason, response);
+        } catch (IOException e) {
+            LOGGER.error("Failed to dead-letter spooled entry {}: {}", entry, e.getMessage());
+            return false;
+        }
+        undeliveredCorrelation = null;
+        correlationAttempts = 0;
+        LOGGER.error("Moved spooled webhook request {} to the dead-letter file: {}", entry, reason);
+        return true;
+    }
+
+    private long nextBackoffMillis() {
+        long initial = config.getInitialBackoff().toMillis();
+        long max = config.getMaxBackoff().toMillis();
+        currentBackoffMillis = currentBackoffMillis == 0 ? initial : Math.min(max, currentBackoffMillis * 2);
+        return currentBackoffMillis;
+    }
+}
@@ -0,0 +1,80 @@
+package io.catalyst.bridge.spool;
+
+/**
+ * Immutable snapshot of spool metrics.
+ *
+ * <p>Exposes the numbers operators need during an n8n outage: how many
+ * requests are waiting, how old the oldest one is, and how fast the backlog
+ * is draining once n8n is back.</p>
+ *
+ * @see WebhookSpool#stats()
+ */
+public final class SpoolStats {
+
+    private final int backlogSize;
+    private final long oldestEntryAgeMillis;
+    private final long spooledTotal;
+    private final long deliveredTotal;
+    private final long failedAttempts;
+    private final long deadLetteredTotal;
+    private final double replayPerSecond;
+
+    /**
+     * Creates a stats snapshot.
+     *
+     * @param backlogSize number of entries awaiting delivery
+     * @param oldestEntryAgeMillis age of the oldest pending entry (0 if empty)
+     * @param spooledTotal entries spooled since startup
+     * @param deliveredTotal entries delivered since startup
+     * @param failedAttempts failed replay attempts since startup
+     * @param deadLetteredTotal entries moved to the dead-letter file since startup
+     * @param replayPerSecond average deliveries per second over the last minute
+     */
+    public SpoolStats(int backlogSize, long oldestEntryAgeMillis, long spooledTotal,
+                      long deliveredTotal, long failedAttempts, long deadLetteredTotal, double replayPerSecond) {
+        this.backlogSize = backlogSize;
+        this.oldestEntryAgeMillis = oldestEntryAgeMillis;
+        this.spooledTotal = spooledTotal;
+        this.deliveredTotal = deliveredTotal;
+        this.failedAttempts = failedAttempts;
+        this.deadLetteredTotal = deadLetteredTotal;
+        this.replayPerSecond = replayPerSecond;
+    }
+
+    public int getBacklogSize() {
+        return backlogSize;
+    }
+
+    public long getOldestEntryAgeMillis() {
+        return oldestEntryAgeMillis;
+    }
+
+    public long getSpooledTotal() {
+        return spooledTotal;
+    }
+
+    public long getDeliveredTotal() {
+        return deliveredTotal;
+    }
+
+    public long getFailedAttempts() {
+        return failedAttempts;
+    }
+
+    public long getDeadLetteredTotal() {
+        return deadLetteredTotal;
+    }
+
+    public double getReplayPerSecond() {
+        return replayPerSecond;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "SpoolStats{backlog=%d, oldestAgeMs=%d, spooled=%d, delivered=%d, failedAttempts=%d, "
+                + "deadLettered=%d, replay/s=%.2f}",
+            backlogSize, oldestEntryAgeMillis, spooledTotal, deliveredTotal, failedAttempts, deadLetteredTotal,
+            replayPerSecond);
+    }
+}
@@ -0,0 +1,610 @@
+package io.catalyst.bridge.spool;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.catalyst.bridge.config.SpoolConfig;
+import io.catalyst.bridge.http.WebhookRequest;
+import io.catalyst.bridge.http.WebhookResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * Durable, append-only store for webhook requests that could not be delivered.
+ *
+ * <p>Entries are written to segment files ({@code segment-<first sequence>.log})
+ * as length-prefixed, CRC-checked JSON records and forced to disk before
+ * {@link #append(SpoolEntry)} returns. Delivered entries are tracked with a
+ * single acknowledged-sequence checkpoint ({@code spool.ack}); segments whose
+ * entries have all been acknowledged are deleted.</p>
+ *
+ * <p>On startup the segments are scanned in order and every entry after the
+ * checkpoint is restored to the pending queue. A torn record at the end of the
+ * last segment (crash during append) is truncated.</p>
+ *
+ * <p>Delivery is at-least-once: a crash between delivery and acknowledgement
+ * causes the entry to be replayed again.</p>
+ *
+ * <p>An entry that cannot be delivered is moved to the dead-letter file
+ * ({@code dead-letter.log}, one JSON object per line with the reason and,
+ * if n8n answered, its response) so that it does not block the entries
+ * behind it.</p>
+ *
+ * <p>The metrics of {@link #stats()} can be published to JMX with
+ * {@link #registerMBean(MBeanServer)}.</p>
+ *
+ * <p>Thread-safe via a single lock; appends are rare (only during outages).</p>
+ *
+ * @see SpoolReplayer
+ * @see SpoolConfig
+ */
+public class WebhookSpool implements WebhookSpoolMXBean, Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebhookSpool.class);
+
+    static final String SEGMENT_PREFIX = "segment-";
+    static final String SEGMENT_SUFFIX = ".log";
+    static final String ACK_FILE_NAME = "spool.ack";
+    static final String DEAD_LETTER_FILE_NAME = "dead-letter.log";
+
+    /** Record header: 4 byte length + 4 byte CRC32 */
+    private static final int RECORD_HEADER_BYTES = 8;
+
+    /** Window used for the replay throughput metric */
+    private static final int RATE_WINDOW_SECONDS = 60;
+
+    private final SpoolConfig config;
+    private final Clock clock;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Object lock = new Object();
+
+    private final Deque<SpoolEntry> pending = new ArrayDeque<>();
+    private final NavigableMap<Long, Path> segments = new TreeMap<>();
+    private FileChannel activeChannel;
+    private long nextSequence = 1;
+    private long ackedSequence;
+
+    private long spooledTotal;
+    private long deliveredTotal;
+    private long failedAttempts;
+    private long deadLetteredTotal;
+    private final long[] rateCounts = new long[RATE_WINDOW_SECONDS];
+    private final long[] rateSeconds = new long[RATE_WINDOW_SECONDS];
+
+    /**
+     * Opens the spool with the system clock, recovering any pending entries.
+     *
+     * @param config the spool configuration
+     * @throws IOException if the spool directory cannot be read or created
+     */
+    public WebhookSpool(SpoolConfig config) throws IOException {
+        this(config, Clock.systemUTC());
+    }
+
+    /**
+     * Opens the spool with a custom clock, recovering any pending entries.
+     *
+     * @param config the spool configuration
+     * @param clock the clock used for entry timestamps and metrics
+     * @throws IOException if the spool directory cannot be read or created
+     */
+    public WebhookSpool(SpoolConfig config, Clock clock) throws IOException {
+        this.config = config;
+        this.clock = clock;
+        recover();
+    }
+
+    /**
+     * Durably appends a request to the spool.
+     *
+     * <p>The sequence number and creation time of the given entry are ignored
+     * and assigned by the spool.</p>
+     *
+     * @param entry the entry to spool
+     * @return the stored entry with sequence and timestamp assigned
+     * @throws IOException if the backlog is full or the write fails
+     * @throws IllegalArgumentException if the request has a streaming body
+     */
+    public SpoolEntry append(SpoolEntry entry) throws IOException {
+        if (entry.getRequest().getStreamingBody() != null) {
+            throw new IllegalArgumentException("Requests with a streaming body cannot be spooled");
+        }
+        synchronized (lock) {
+            if (pending.size() >= config.getMaxEntries()) {
+                throw new IOException("Webhook spool is full (" + config.getMaxEntries() + " pending entries)");
+            }
+
+            SpoolEntry stored = entry.toBuilder()
+                .sequence(nextSequence)
+                .createdAtMillis(clock.millis())
+                .build();
+
+            byte[] payload = objectMapper.writeValueAsBytes(SpoolEntryDto.fromEntry(stored));
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+
+            ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + payload.length);
+            record.putInt(payload.length);
+            record.putInt((int) crc.getValue());
+            record.put(payload);
+            record.flip();
+
+            FileChannel channel = activeSegmentFor(stored.getSequence(), record.remaining());
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            channel.force(false);
+
+            nextSequence++;
+            pending.addLast(stored);
+            spooledTotal++;
+            LOGGER.debug("Spooled webhook request: {}", stored);
+            return stored;
+        }
+    }
+
+    /**
+     * Returns the oldest pending entry without removing it.
+     *
+     * @return the next entry to deliver, or null if the spool is empty
+     */
+    public SpoolEntry peek() {
+        synchronized (lock) {
+            return pending.peekFirst();
+        }
+    }
+
+    /**
+     * Marks the given entry as delivered and removes it from the spool.
+     *
+     * <p>Only the head entry can be acknowledged, preserving delivery order.</p>
+     *
+     * @param entry the delivered entry
+     * @throws IOException if the checkpoint cannot be written
+     */
+    public void acknowledge(SpoolEntry entry) throws IOException {
+        synchronized (lock) {
+            SpoolEntry head = pending.peekFirst();
+            if (head == null || head.getSequence() != entry.getSequence()) {
+                throw new IllegalStateException("Only the head entry can be acknowledged: " + entry);
+            }
+
+            writeAckedSequence(entry.getSequence());
+            pending.removeFirst();
+            ackedSequence = entry.getSequence();
+            deliveredTotal++;
+            recordDelivery();
+            deleteAcknowledgedSegments();
+        }
+    }
+
+    /**
+     * Moves the head entry to the dead-letter file and removes it from the
+     * spool, so that the entries behind it can be delivered.
+     *
+     * @param entry the undeliverable entry
+     * @param reason why it could not be delivered
+     * @throws IOException if the dead-letter file or the checkpoint cannot be written
+     */
+    public void deadLetter(SpoolEntry entry, String reason) throws IOException {
+        deadLetter(entry, reason, null);
+    }
+
+    /**
+     * Moves the head entry to the dead-letter file together with the response
+     * n8n returned for it, e.g. when the response could not be correlated to
+     * the waiting process instance.
+     *
+     * @param entry the undeliverable entry
+     * @param reason why it could not be delivered
+     * @param response the response of n8n, or null if there was none
+     * @throws IOException if the dead-letter file or the checkpoint cannot be written
+     */
+    public void deadLetter(SpoolEntry entry, String reason, WebhookResponse response) throws IOException {
+        synchronized (lock) {
+            SpoolEntry head = pending.peekFirst();
+            if (head == null || head.getSequence() != entry.getSequence()) {
+                throw new IllegalStateException("Only the head entry can be dead-lettered: " + entry);
+            }
+
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("deadLetteredAt", clock.millis());
+            record.put("reason", reason);
+            record.put("entry", SpoolEntryDto.fromEntry(entry));
+            if (response != null) {
+                Map<String, Object> responseRecord = new LinkedHashMap<>();
+                responseRecord.put("statusCode", response.getStatusCode());
+                responseRecord.put("body", response.getBody());
+                record.put("response", responseRecord);
+            }
+            byte[] line = (objectMapper.writeValueAsString(record) + "\n").getBytes(StandardCharsets.UTF_8);
+            try (FileChannel channel = FileChannel.open(config.getDirectory().resolve(DEAD_LETTER_FILE_NAME),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(line);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+
+            writeAckedSequence(entry.getSequence());
+            pending.removeFirst();
+            ackedSequence = entry.getSequence();
+            deadLetteredTotal++;
+            deleteAcknowledgedSegments();
+        }
+    }
+
+    /**
+     * Records a failed replay attempt (for metrics).
+     */
+    public void recordFailedAttempt() {
+        synchronized (lock) {
+            failedAttempts++;
+        }
+    }
+
+    /**
+     * Returns the number of pending entries.
+     *
+     * @return the backlog size
+     */
+    public int size() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the spool metrics.
+     *
+     * @return current stats
+     */
+    public SpoolStats stats() {
+        synchronized (lock) {
+            SpoolEntry head = pending.peekFirst();
+            long oldestAge = head != null ? Math.max(0, clock.millis() - head.getCreatedAtMillis()) : 0;
+
+            long nowSecond = clock.millis() / 1000;
+            long recent = 0;
+            for (int i = 0; i < RATE_WINDOW_SECONDS; i++) {
+                if (nowSecond - rateSeconds[i] < RATE_WINDOW_SECONDS) {
+                    recent += rateCounts[i];
+                }
+            }
+
+            return new SpoolStats(pending.size(), oldestAge, spooledTotal, deliveredTotal,
+                failedAttempts, deadLetteredTotal, (double) recent / RATE_WINDOW_SECONDS);
+        }
+    }
+
+    /**
+     * Registers the spool metrics as an MBean.
+     *
+     * @param server the MBean server
+     */
+    public void registerMBean(MBeanServer server) {
+        try {
+            ObjectName name = new ObjectName("io.catalyst.bridge:type=Spool");
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+        } catch (JMException e) {
+            LOGGER.warn("Could not register MBean for the webhook spool: {}", e.toString());
+        }
+    }
+
+    @Override
+    public int getBacklogSize() {
+        return size();
+    }
+
+    @Override
+    public long getOldestEntryAgeMillis() {
+        return stats().getOldestEntryAgeMillis();
+    }
+
+    @Override
+    public long getSpooledTotal() {
+        return stats().getSpooledTotal();
+    }
+
+    @Override
+    public long getDeliveredTotal() {
+        return stats().getDeliveredTotal();
+    }
+
+    @Override
+    public long getFailedAttempts() {
+        return stats().getFailedAttempts();
+    }
+
+    @Override
+    public long getDeadLetteredTotal() {
+        return stats().getDeadLetteredTotal();
+    }
+
+    @Override
+    public double getReplayPerSecond() {
+        return stats().getReplayPerSecond();
+    }
+
+    /**
+     * Returns the spool directory.
+     *
+     * @return the directory path
+     */
+    public Path getDirectory() {
+        return config.getDirectory();
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            if (activeChannel != null) {
+                activeChannel.close();
+                activeChannel = null;
+            }
+        }
+    }
+
+    // ========== Segment handling ==========
+
+    /**
+     * Returns the channel to append the given record to, rolling to a new
+     * segment when the active one would exceed the configured size.
+     */
+    private FileChannel activeSegmentFor(long sequence, int recordBytes) throws IOException {
+        if (activeChannel != null
+                && activeChannel.size() > 0
+                && activeChannel.size() + recordBytes > config.getSegmentBytes()) {
+            activeChannel.close();
+            activeChannel = null;
+        }
+
+        if (activeChannel == null) {
+            Path segment = config.getDirectory().resolve(segmentFileName(sequence));
+            activeChannel = FileChannel.open(segment,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            segments.put(sequence, segment);
+            LOGGER.debug("Opened spool segment: {}", segment);
+        }
+        return activeChannel;
+    }
+
+    /**
+     * Deletes every segment except the newest whose entries are all acknowledged.
+     * A segment's last sequence is one less than the next segment's first sequence.
+     */
+    private void deleteAcknowledgedSegments() {
+        Iterator<Map.Entry<Long, Path>> it = segments.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Long, Path> segment = it.next();
+            Long nextFirst = segments.higherKey(segment.getKey());
+            if (nextFirst == null || nextFirst - 1 > ackedSequence) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(segment.getValue());
+                LOGGER.debug("Deleted delivered spool segment: {}", segment.getValue());
+            } catch (IOException e) {
+                LOGGER.warn("Failed to delete spool segment {}: {}", segment.getValue(), e.getMessage());
+            }
+            it.remove();
+        }
+    }
+
+    private void recordDelivery() {
+        long second = clock.millis() / 1000;
+        int slot = (int) (second % RATE_WINDOW_SECONDS);
+        if (rateSeconds[slot] != second) {
+            rateSeconds[slot] = second;
+            rateCounts[slot] = 0;
+        }
+        rateCounts[slot]++;
+    }
+
+    static String segmentFileName(long firstSequence) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX);
+    }
+
+    // ========== Recovery ==========
+
+    private void recover() throws IOException {
+        Path directory = config.getDirectory();
+        Files.createDirectories(directory);
+        ackedSequence = readAckedSequence();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(
+                directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path segment : stream) {
+                String name = segment.getFileName().toString();
+                String number = name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length());
+                try {
+                    segments.put(Long.parseLong(number), segment);
+                } catch (NumberFormatException e) {
+                    LOGGER.warn("Ignoring unexpected file in spool directory: {}", segment);
+                }
+            }
+        }
+
+        long maxSequence = ackedSequence;
+        Long lastKey = segments.isEmpty() ? null : segments.lastKey();
+        for (Map.Entry<Long, Path> segment : segments.entrySet()) {
+            long last = readSegment(segment.getValue(), segment.getKey().equals(lastKey));
+            maxSequence = Math.max(maxSequence, last);
+        }
+        nextSequence = maxSequence + 1;
+        deleteAcknowledgedSegments();
+
+        if (!pending.isEmpty()) {
+            LOGGER.warn("Recovered {} undelivered webhook request(s) from spool {}", pending.size(), directory);
+        }
+    }
+
+    /**
+     * Reads all records of a segment, adding unacknowledged entries to the queue.
+     *
+     * @return the highest sequence found in the segment
+     */
+    private long readSegment(Path segment, boolean lastSegment) throws IOException {
+        long maxSequence = 0;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            long position = 0;
+            ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+
+            while (position < size) {
+                header.clear();
+                if (size - position < RECORD_HEADER_BYTES || !readFully(channel, header, position)) {
+                    break;
+                }
+                header.flip();
+                int length = header.getInt();
+                int expectedCrc = header.getInt();
+                if (length <= 0 || position + RECORD_HEADER_BYTES + length > size) {
+                    break;
+                }
+
+                ByteBuffer payload = ByteBuffer.allocate(length);
+                if (!readFully(channel, payload, position + RECORD_HEADER_BYTES)) {
+                    break;
+                }
+                CRC32 crc = new CRC32();
+                crc.update(payload.array());
+                if ((int) crc.getValue() != expectedCrc) {
+                    break;
+                }
+
+                SpoolEntry entry = objectMapper.readValue(payload.array(), SpoolEntryDto.class).toEntry();
+                maxSequence = Math.max(maxSequence, entry.getSequence());
+                if (entry.getSequence() > ackedSequence) {
+                    pending.addLast(entry);
+                }
+                position += RECORD_HEADER_BYTES + length;
+            }
+
+            if (position < size) {
+                if (lastSegment) {
+                    LOGGER.warn("Truncating incomplete record at offset {} in spool segment {}", position, segment);
+                    channel.truncate(position);
+                } else {
+                    LOGGER.error("Corrupt record at offset {} in spool segment {}; remaining entries skipped",
+                        position, segment);
+                }
+            }
+
+            if (lastSegment && position < config.getSegmentBytes()) {
+                // Continue appending to the last segment
+                activeChannel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+        }
+        return maxSequence;
+    }
+
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, offset);
+            if (read < 0) {
+                return false;
+            }
+            offset += read;
+        }
+        return true;
+    }
+
+    private long readAckedSequence() throws IOException {
+        Path ackFile = config.getDirectory().resolve(ACK_FILE_NAME);
+        if (!Files.exists(ackFile)) {
+            return 0;
+        }
+        String content = new String(Files.readAllBytes(ackFile), StandardCharsets.UTF_8).trim();
+        try {
+            return content.isEmpty() ? 0 : Long.parseLong(content);
+        } catch (NumberFormatException e) {
+            LOGGER.error("Invalid spool checkpoint '{}', replaying all spooled entries", content);
+            return 0;
+        }
+    }
+
+    private void writeAckedSequence(long sequence) throws IOException {
+        // Write to temp file first, then atomic rename
+        Path ackFile = config.getDirectory().resolve(ACK_FILE_NAME);
+        Path tempFile = ackFile.resolveSibling(ACK_FILE_NAME + ".tmp");
+        Files.write(tempFile, Long.toString(sequence).getBytes(StandardCharsets.UTF_8));
+        Files.move(tempFile, ackFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * DTO for JSON serialization of spool records.
+     * The body is stored base64-encoded by Jackson.
+     */
+    static class SpoolEntryDto {
+        public long sequence;
+        public long createdAt;
+        public String url;
+        public byte[] body;
+        public String contentType;
+        public Map<String, String> headers;
+        public int timeoutSeconds;
+        public String processEngineName;
+        public String processInstanceId;
+        public String correlationMessage;
+
+        static SpoolEntryDto fromEntry(SpoolEntry entry) {
+            WebhookRequest request = entry.getRequest();
+            SpoolEntryDto dto = new SpoolEntryDto();
+            dto.sequence = entry.getSequence();
+            dto.createdAt = entry.getCreatedAtMillis();
+            dto.url = request.getUrl();
+            dto.body = request.getBody();
+            dto.contentType = request.getContentType();
+            dto.headers = request.getHeaders();
+            dto.timeoutSeconds = request.getTimeoutSeconds();
+            dto.processEngineName = entry.getProcessEngineName();
+            dto.processInstanceId = entry.getProcessInstanceId();
+            dto.correlationMessage = entry.getCorrelationMessage();
+            return dto;
+        }
+
+        SpoolEntry toEntry() {
+            WebhookRequest request = WebhookRequest.builder()
+                .url(url)
+                .body(body)
+                .contentType(contentType)
+                .headers(headers)
+                .timeoutSeconds(timeoutSeconds)
+                .build();
+            return SpoolEntry.builder()
+                .sequence(sequence)
+                .createdAtMillis(createdAt)
+                .request(request)
+                .processEngineName(processEngineName)
+                .processInstanceId(processInstanceId)
+                .correlationMessage(correlationMessage)
+                .build();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.catalyst.bridge.spool;
+
+/**
+ * JMX view of a {@link WebhookSpool}.
+ *
+ * <p>Registered as {@code io.catalyst.bridge:type=Spool}. Every attribute is
+ * read from a fresh {@link SpoolStats} snapshot.</p>
+ */
+public interface WebhookSpoolMXBean {
+
+    int getBacklogSize();
+
+    long getOldestEntryAgeMillis();
+
+    long getSpooledTotal();
+
+    long getDeliveredTotal();
+
+    long getFailedAttempts();
+
+    long getDeadLetteredTotal();
+
+    double getReplayPerSecond();
+}
@@ -0,0 +1,19 @@
+/**
+ * Durable outbound spool for webhook requests during n8n outages.
+ *
+ * <p>When n8n restarts or is briefly unavailable, requests that cannot be
+ * delivered are persisted here instead of failing the Camunda job:</p>
+ * <ul>
+ *   <li>{@link io.catalyst.bridge.spool.WebhookSpool} - Append-only segment files with a delivery checkpoint</li>
+ *   <li>{@link io.catalyst.bridge.spool.SpoolEntry} - A spooled request and its originating process instance</li>
+ *   <li>{@link io.catalyst.bridge.spool.SpoolReplayer} - Background thread replaying entries in order</li>
+ *   <li>{@link io.catalyst.bridge.spool.SpoolCorrelator} - Hands replayed responses back to the process</li>
+ *   <li>{@link io.catalyst.bridge.spool.SpoolStats} - Backlog size, oldest entry age, replay throughput</li>
+ *   <li>{@link io.catalyst.bridge.spool.WebhookSpoolMXBean} - The same metrics over JMX</li>
+ * </ul>
+ *
+ * <p>The spool is disabled by default; see {@link io.catalyst.bridge.config.SpoolConfig}.</p>
+ *
+ * @see io.catalyst.bridge.CatalystBridge
+ */
+package io.catalyst.bridge.spool;
@@ -0,0 +1,242 @@
+package io.catalyst.bridge.stats;
+
+import io.catalyst.bridge.config.StatsConfig;
+import io.catalyst.bridge.enforcement.EnforcementStatus;
+import io.catalyst.bridge.enforcement.LimpMode;
+import io.catalyst.bridge.metrics.CallOutcome;
+import io.catalyst.bridge.metrics.RouteKeys;
+import io.catalyst.bridge.metrics.WebhookMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Rolling activity counters of the bridge, for dashboards.
+ *
+ * <p>Webhook calls are counted per route (the webhook path, as in
+ * {@link WebhookMetrics}) in a {@link StatsFile}: totals, successes and
+ * errors, latency buckets and per-minute counts of the last hour. The limp
+ * mode and usage against the license limit are kept from the latest
+ * enforcement. Routes beyond the configured number share one slot,
+ * {@link WebhookMetrics#OTHER_ROUTE}. Calls cancelled by the bridge, such
+ * as the slower of two hedged requests, are not counted.</p>
+ *
+ * <p>Recording a call is a map lookup and a few atomic additions; the first
+ * call of a route also claims its slot. When stats are disabled every method
+ * returns immediately.</p>
+ *
+ * <p>Thread-safe.</p>
+ */
+public final class BridgeStats implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BridgeStats.class);
+
+    /** Path of the activity counters on the status endpoint */
+    public static final String STATS_PATH = "/stats";
+
+    /** Path of the enforcement snapshot on the status endpoint */
+    public static final String ENFORCEMENT_PATH = "/enforcement";
+
+    private static volatile BridgeStats shared;
+    private static final Object SHARED_LOCK = new Object();
+
+    private final StatsFile file;
+    private final int otherSlot;
+    private final RouteKeys<Integer> slots;
+    private final StatusServer server;
+
+    /**
+     * Creates the counters, and the status endpoint if a port is configured.
+     * If the file cannot be created, the counters are kept in memory only;
+     * if that fails too, stats are disabled.
+     *
+     * @param config whether stats are enabled, the file and the endpoint
+     */
+    public BridgeStats(StatsConfig config) {
+        int maxRoutes = maxRoutes(config);
+        StatsFile created = config.isEnabled() ? createFile(config, maxRoutes + 1) : null;
+        if (created == null) {
+            this.file = null;
+            this.otherSlot = -1;
+            this.slots = null;
+            this.server = null;
+            return;
+        }
+        this.file = created;
+        this.otherSlot = file.claimSlot(WebhookMetrics.OTHER_ROUTE);
+        this.slots = new RouteKeys<>(maxRoutes, this::claimSlot);
+        this.server = config.isEndpointEnabled() ? createServer(config) : null;
+        publish(STATS_PATH, this::snapshot);
+    }
+
+    /**
+     * Returns the stats shared by all executions, configured by the
+     * environment. The status endpoint is stopped when the JVM shuts down.
+     *
+     * @return the shared stats
+     */
+    public static BridgeStats shared() {
+        if (shared == null) {
+            synchronized (SHARED_LOCK) {
+                if (shared == null) {
+                    BridgeStats stats = new BridgeStats(StatsConfig.fromEnvironment());
+                    if (stats.server != null) {
+                        Runtime.getRuntime().addShutdownHook(new Thread(stats::close, "catalyst-status-shutdown"));
+                    }
+                    shared = stats;
+                }
+            }
+        }
+        return shared;
+    }
+
+    private static int maxRoutes(StatsConfig config) {
+        int maxRoutes = Math.max(1, config.getMaxConnectors());
+        if (maxRoutes > StatsConfig.MAX_CONNECTORS) {
+            LOGGER.warn("{} routes exceed the maximum of {}, further routes are counted as {}",
+                maxRoutes, StatsConfig.MAX_CONNECTORS, WebhookMetrics.OTHER_ROUTE);
+            return StatsConfig.MAX_CONNECTORS;
+        }
+        return maxRoutes;
+    }
+
+    private static StatsFile createFile(StatsConfig config, int slots) {
+        try {
+            StatsFile file = StatsFile.create(config.getFile(), slots);
+            LOGGER.info("Keeping activity counters in {}", config.getFile());
+            return file;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Cannot map stats file {}, keeping activity counters in memory: {}",
+                config.getFile(), e.toString());
+        }
+        try {
+            return StatsFile.inMemory(slots);
+        } catch (RuntimeException | OutOfMemoryError e) {
+            LOGGER.error("Cannot allocate activity counters, stats are disabled: {}", e.toString());
+            return null;
+        }
+    }
+
+    private static StatusServer createServer(StatsConfig config) {
+        InetSocketAddress address = new InetSocketAddress(config.getBindAddress(), config.getPort());
+        try {
+            StatusServer server = new StatusServer(address);
+            LOGGER.info("Serving bridge status on http://{}:{}{}", config.getBindAddress(), server.getPort(),
+                STATS_PATH);
+            return server;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Cannot start the status endpoint on {}: {}", address, e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Returns true if activity is counted.
+     *
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+        return file != null;
+    }
+
+    /**
+     * Counts a webhook call.
+     *
+     * @param url the webhook URL, whose path is the route
+     * @param outcome how the call ended
+     * @param nanos the call duration
+     */
+    public void recordCall(String url, CallOutcome outcome, long nanos) {
+        if (file == null || outcome == CallOutcome.CANCELLED) {
+            return;
+        }
+        file.recordCall(slots.get(url), outcome == CallOutcome.SUCCESS, nanos, System.currentTimeMillis());
+    }
+
+    /**
+     * Keeps the limp mode and usage of an enforced execution.
+     *
+     * @param status the enforcement status
+     */
+    public void recordEnforcement(EnforcementStatus status) {
+        if (file == null) {
+            return;
+        }
+        long limit = status.getLicense() != null ? status.getLicense().getAnnualLimit() : 0;
+        file.recordEnforcement(status.getLimpMode(), status.getExecutionsUsed(), limit, System.currentTimeMillis());
+    }
+
+    /**
+     * Keeps the limp mode of an execution whose usage is not known, e.g. one
+     * that was blocked.
+     *
+     * @param limpMode the limp mode
+     */
+    public void recordLimpMode(LimpMode limpMode) {
+        if (file != null) {
+            file.recordLimpMode(limpMode, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Reads the counters.
+     *
+     * @return the snapshot, empty if stats are disabled
+     */
+    public Map<String, Object> snapshot() {
+        return file != null ? file.snapshot(System.currentTimeMillis()) : Collections.emptyMap();
+    }
+
+    /**
+     * Serves a snapshot on the status endpoint, if there is one.
+     *
+     * @param path the path, e.g. {@code /stats}
+     * @param snapshot supplies the object to serialize as JSON per request
+     */
+    public void publish(String path, Supplier<?> snapshot) {
+        if (server != null) {
+            server.publish(path, snapshot);
+        }
+    }
+
+    /**
+     * Returns the status endpoint.
+     *
+     * @return the endpoint, or null if none is running
+     */
+    public StatusServer getServer() {
+        return server;
+    }
+
+    private int claimSlot(String route) {
+        if (WebhookMetrics.OTHER_ROUTE.equals(route)) {
+            return otherSlot;
+        }
+        int claimed = file.claimSlot(route);
+        return claimed >= 0 ? claimed : otherSlot;
+    }
+
+    /**
+     * Stops the status endpoint and closes the file; counting continues in
+     * the mapped memory.
+     */
+    @Override
+    public void close() {
+        if (server != null) {
+            server.close();
+        }
+        if (file != null) {
+            try {
+                file.close();
+            } catch (IOException e) {
+                LOGGER.debug("Could not close stats file: {}", e.toString());
+            }
+        }
+    }
+}
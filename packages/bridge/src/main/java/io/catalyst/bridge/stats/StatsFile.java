@@ -0,0 +1,475 @@
+package io.catalyst.bridge.stats;
+
+import io.catalyst.bridge.enforcement.LimpMode;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Activity counters in a fixed-layout, memory-mapped file.
+ *
+ * <p>The file is a header followed by one slot per connector route. All
+ * fields are little-endian longs at 8-byte aligned offsets, updated with
+ * atomic operations on the mapped memory; recording a call never takes a
+ * lock or makes a system call. Any process that maps the file can read it,
+ * and the status endpoint serves {@link #snapshot(long)}s of it.</p>
+ *
+ * <p>The header and every slot carry a pair of sequence numbers in the
+ * manner of a seqlock, adapted to concurrent writers: a writer increments
+ * {@code begin}, updates the fields, then increments {@code end}. A reader
+ * that sees {@code begin == end} before reading the fields and the same
+ * {@code begin} after has read a consistent record; otherwise it retries,
+ * a bounded number of times, after which it accepts the record as read.</p>
+ *
+ * <p>Layout, version {@value #VERSION} (offsets in bytes):</p>
+ * <pre>
+ * header (256)  0 magic "CATSTATS"   8 version   16 slot count   24 slot size
+ *              32 latency bucket count   40 minutes per slot   48 started at (epoch ms)
+ *              56 pid   64 begin   72 end   80 limp mode level (-1 unknown)
+ *              88 usage count   96 usage limit (0 none)   104 enforced at (epoch ms)
+ *             112 latency bucket upper bounds in ms, the last {@code Long.MAX_VALUE}
+ * slot (1256)   0 state (1 when claimed)   8 begin   16 end   24 name length
+ *              32 name, UTF-8, 128 bytes   160 calls   168 successes   176 errors
+ *             184 latency sum (us)   192 last call (epoch ms)   200 latency buckets
+ *             296 minute ring: per minute, calls then errors, each packed as
+ *                 (epoch minute &lt;&lt; 32 | count), at index epoch minute % 60
+ * </pre>
+ *
+ * <p>A file belongs to one JVM, which recreates it on start. Thread-safe.</p>
+ *
+ * @see BridgeStats
+ */
+public final class StatsFile implements Closeable {
+
+    /** "CATSTATS" read as a little-endian long */
+    public static final long MAGIC = 0x5354415453544143L;
+
+    /** Layout version */
+    public static final int VERSION = 1;
+
+    /** Upper bounds of the latency buckets in milliseconds; the last bucket is unbounded */
+    static final long[] LATENCY_BOUNDS_MILLIS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    /** Minutes of per-minute counts kept per slot */
+    public static final int MINUTES = 60;
+
+    static final int NAME_BYTES = 128;
+
+    private static final int BUCKETS = LATENCY_BOUNDS_MILLIS.length + 1;
+    private static final int HEADER_SIZE = 256;
+
+    private static final int H_MAGIC = 0;
+    private static final int H_VERSION = 8;
+    private static final int H_SLOTS = 16;
+    private static final int H_SLOT_SIZE = 24;
+    private static final int H_BUCKETS = 32;
+    private static final int H_MINUTES = 40;
+    private static final int H_STARTED = 48;
+    private static final int H_PID = 56;
+    private static final int H_BEGIN = 64;
+    private static final int H_END = 72;
+    private static final int H_LIMP_MODE = 80;
+    private static final int H_USAGE = 88;
+    private static final int H_LIMIT = 96;
+    private static final int H_ENFORCED_AT = 104;
+    private static final int H_BOUNDS = 112;
+
+    private static final int S_STATE = 0;
+    private static final int S_BEGIN = 8;
+    private static final int S_END = 16;
+    private static final int S_NAME_LENGTH = 24;
+    private static final int S_NAME = 32;
+    private static final int S_CALLS = S_NAME + NAME_BYTES;
+    private static final int S_SUCCESSES = S_CALLS + 8;
+    private static final int S_ERRORS = S_SUCCESSES + 8;
+    private static final int S_LATENCY_SUM = S_ERRORS + 8;
+    private static final int S_LAST_CALL = S_LATENCY_SUM + 8;
+    private static final int S_BUCKETS = S_LAST_CALL + 8;
+    private static final int S_MINUTES = S_BUCKETS + BUCKETS * 8;
+    static final int SLOT_SIZE = S_MINUTES + MINUTES * 16;
+
+    private static final int MAX_READ_ATTEMPTS = 100;
+    private static final long MILLIS_PER_MINUTE = 60_000;
+    private static final long COUNT_MASK = 0xffffffffL;
+
+    private static final VarHandle LONGS =
+        MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final ByteBuffer buffer;
+    private final FileChannel channel;
+    private final int slots;
+    private final AtomicInteger claimed = new AtomicInteger();
+
+    private StatsFile(ByteBuffer buffer, FileChannel channel, int slots) {
+        this.buffer = buffer;
+        this.channel = channel;
+        this.slots = slots;
+    }
+
+    /**
+     * Creates the file, replacing an existing one, and maps it.
+     *
+     * @param file the file
+     * @param slots the number of route slots
+     * @return the mapped stats
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public static StatsFile create(Path file, int slots) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size(slots));
+            return initialize(new StatsFile(buffer, channel, slots));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates stats with the same layout in memory that no other process
+     * can see, for when the file cannot be created.
+     *
+     * @param slots the number of route slots
+     * @return the stats
+     */
+    public static StatsFile inMemory(int slots) {
+        return initialize(new StatsFile(ByteBuffer.allocateDirect(Math.toIntExact(size(slots))), null, slots));
+    }
+
+    /**
+     * Maps an existing file for reading, e.g. from a monitoring tool.
+     *
+     * @param file the file
+     * @return the stats, on which only {@link #snapshot(long)} may be called
+     * @throws IOException if the file cannot be read or has an unknown layout
+     */
+    public static StatsFile open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.capacity() < HEADER_SIZE || (long) LONGS.getVolatile(buffer, H_MAGIC) != MAGIC) {
+                throw new IOException("Not a stats file: " + file);
+            }
+            if ((long) LONGS.get(buffer, H_VERSION) != VERSION
+                    || (long) LONGS.get(buffer, H_SLOT_SIZE) != SLOT_SIZE
+                    || (long) LONGS.get(buffer, H_BUCKETS) != BUCKETS) {
+                throw new IOException("Unsupported stats file layout version " + LONGS.get(buffer, H_VERSION)
+                    + ": " + file);
+            }
+            int slots = (int) (long) LONGS.get(buffer, H_SLOTS);
+            if (slots < 0 || buffer.capacity() < size(slots)) {
+                throw new IOException("Truncated stats file: " + file);
+            }
+            return new StatsFile(buffer, null, slots);
+        }
+    }
+
+    private static long size(int slots) {
+        return HEADER_SIZE + (long) slots * SLOT_SIZE;
+    }
+
+    private static StatsFile initialize(StatsFile stats) {
+        ByteBuffer buffer = stats.buffer;
+        LONGS.set(buffer, H_VERSION, (long) VERSION);
+        LONGS.set(buffer, H_SLOTS, (long) stats.slots);
+        LONGS.set(buffer, H_SLOT_SIZE, (long) SLOT_SIZE);
+        LONGS.set(buffer, H_BUCKETS, (long) BUCKETS);
+        LONGS.set(buffer, H_MINUTES, (long) MINUTES);
+        LONGS.set(buffer, H_STARTED, System.currentTimeMillis());
+        LONGS.set(buffer, H_PID, ProcessHandle.current().pid());
+        LONGS.set(buffer, H_LIMP_MODE, -1L);
+        for (int i = 0; i < BUCKETS; i++) {
+            LONGS.set(buffer, H_BOUNDS + i * 8, i < LATENCY_BOUNDS_MILLIS.length ? LATENCY_BOUNDS_MILLIS[i] : Long.MAX_VALUE);
+        }
+        // Readers check the magic first, so it is published last
+        LONGS.setRelease(buffer, H_MAGIC, MAGIC);
+        return stats;
+    }
+
+    /**
+     * Claims the next free slot for a route.
+     *
+     * @param name the route; bytes beyond the slot's name field are cut off
+     * @return the slot, or -1 if all slots are claimed
+     */
+    public int claimSlot(String name) {
+        int slot = claimed.getAndIncrement();
+        if (slot >= slots) {
+            return -1;
+        }
+        int base = base(slot);
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, NAME_BYTES);
+        for (int i = 0; i < length; i++) {
+            buffer.put(base + S_NAME + i, bytes[i]);
+        }
+        LONGS.set(buffer, base + S_NAME_LENGTH, (long) length);
+        LONGS.setRelease(buffer, base + S_STATE, 1L);
+        return slot;
+    }
+
+    /**
+     * Records a webhook call in a slot.
+     *
+     * @param slot a slot returned by {@link #claimSlot(String)}
+     * @param success true if n8n answered with a 2xx status
+     * @param nanos the call duration
+     * @param nowMillis the current time
+     */
+    public void recordCall(int slot, boolean success, long nanos, long nowMillis) {
+        int base = base(slot);
+        long millis = nanos / 1_000_000;
+        int bucket = 0;
+        while (bucket < LATENCY_BOUNDS_MILLIS.length && millis > LATENCY_BOUNDS_MILLIS[bucket]) {
+            bucket++;
+        }
+        long minute = nowMillis / MILLIS_PER_MINUTE;
+        int ring = base + S_MINUTES + (int) (minute % MINUTES) * 16;
+
+        LONGS.getAndAdd(buffer, base + S_BEGIN, 1L);
+        LONGS.getAndAdd(buffer, base + S_CALLS, 1L);
+        LONGS.getAndAdd(buffer, base + (success ? S_SUCCESSES : S_ERRORS), 1L);
+        LONGS.getAndAdd(buffer, base + S_LATENCY_SUM, nanos / 1000);
+        LONGS.getAndAdd(buffer, base + S_BUCKETS + bucket * 8, 1L);
+        incrementMinute(ring, minute);
+        if (!success) {
+            incrementMinute(ring + 8, minute);
+        }
+        LONGS.setOpaque(buffer, base + S_LAST_CALL, nowMillis);
+        LONGS.getAndAdd(buffer, base + S_END, 1L);
+    }
+
+    /**
+     * Counts one in a minute ring entry, restarting it if it holds an earlier minute.
+     */
+    private void incrementMinute(int offset, long minute) {
+        while (true) {
+            long value = (long) LONGS.getVolatile(buffer, offset);
+            long entryMinute = value >>> 32;
+            long next;
+            if (entryMinute == minute) {
+                if ((value & COUNT_MASK) == COUNT_MASK) {
+                    return;
+                }
+                next = value + 1;
+            } else if (entryMinute < minute) {
+                next = (minute << 32) | 1;
+            } else {
+                // Another thread has moved on to a later minute; this call is late
+                return;
+            }
+            if (LONGS.compareAndSet(buffer, offset, value, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Records the enforcement state after an execution was counted.
+     *
+     * @param limpMode the limp mode
+     * @param usage the executions counted this year
+     * @param limit the annual limit, 0 without a license
+     * @param nowMillis the current time
+     */
+    public void recordEnforcement(LimpMode limpMode, long usage, long limit, long nowMillis) {
+        LONGS.getAndAdd(buffer, H_BEGIN, 1L);
+        LONGS.setOpaque(buffer, H_LIMP_MODE, (long) limpMode.getLevel());
+        LONGS.setOpaque(buffer, H_USAGE, usage);
+        LONGS.setOpaque(buffer, H_LIMIT, limit);
+        LONGS.setOpaque(buffer, H_ENFORCED_AT, nowMillis);
+        LONGS.getAndAdd(buffer, H_END, 1L);
+    }
+
+    /**
+     * Records the limp mode alone, when the usage is not known.
+     *
+     * @param limpMode the limp mode
+     * @param nowMillis the current time
+     */
+    public void recordLimpMode(LimpMode limpMode, long nowMillis) {
+        LONGS.getAndAdd(buffer, H_BEGIN, 1L);
+        LONGS.setOpaque(buffer, H_LIMP_MODE, (long) limpMode.getLevel());
+        LONGS.setOpaque(buffer, H_ENFORCED_AT, nowMillis);
+        LONGS.getAndAdd(buffer, H_END, 1L);
+    }
+
+    /**
+     * Reads all counters.
+     *
+     * @param nowMillis the current time, the end of the per-minute series
+     * @return the header fields and a {@code connectors} list with one map per
+     *         claimed slot, ready to be serialized as JSON
+     */
+    public Map<String, Object> snapshot(long nowMillis) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("time", Instant.ofEpochMilli(nowMillis).toString());
+        snapshot.put("startedAt", Instant.ofEpochMilli((long) LONGS.get(buffer, H_STARTED)).toString());
+        snapshot.put("pid", (long) LONGS.get(buffer, H_PID));
+
+        long limpLevel;
+        long usage;
+        long limit;
+        long enforcedAt;
+        int attempt = 0;
+        while (true) {
+            long end = (long) LONGS.getVolatile(buffer, H_END);
+            long begin = (long) LONGS.getVolatile(buffer, H_BEGIN);
+            if (begin != end && ++attempt < MAX_READ_ATTEMPTS) {
+                Thread.onSpinWait();
+                continue;
+            }
+            limpLevel = (long) LONGS.getOpaque(buffer, H_LIMP_MODE);
+            usage = (long) LONGS.getOpaque(buffer, H_USAGE);
+            limit = (long) LONGS.getOpaque(buffer, H_LIMIT);
+            enforcedAt = (long) LONGS.getOpaque(buffer, H_ENFORCED_AT);
+            VarHandle.loadLoadFence();
+            if ((long) LONGS.getVolatile(buffer, H_BEGIN) == begin || ++attempt >= MAX_READ_ATTEMPTS) {
+                break;
+            }
+        }
+        snapshot.put("limpMode", limpMode(limpLevel));
+        Map<String, Object> usageMap = new LinkedHashMap<>();
+        usageMap.put("count", usage);
+        usageMap.put("limit", limit);
+        usageMap.put("updatedAt", enforcedAt > 0 ? Instant.ofEpochMilli(enforcedAt).toString() : null);
+        snapshot.put("usage", usageMap);
+
+        List<Long> bounds = new ArrayList<>();
+        for (long bound : LATENCY_BOUNDS_MILLIS) {
+            bounds.add(bound);
+        }
+        snapshot.put("latencyBoundsMillis", bounds);
+
+        List<Map<String, Object>> connectors = new ArrayList<>();
+        long nowMinute = nowMillis / MILLIS_PER_MINUTE;
+        for (int slot = 0; slot < slots; slot++) {
+            if ((long) LONGS.getAcquire(buffer, base(slot) + S_STATE) == 1L) {
+                connectors.add(readSlot(slot, nowMinute));
+            }
+        }
+        snapshot.put("connectors", connectors);
+        return snapshot;
+    }
+
+    private Map<String, Object> readSlot(int slot, long nowMinute) {
+        int base = base(slot);
+        long[] buckets = new long[BUCKETS];
+        long[] calls = new long[MINUTES];
+        long[] errors = new long[MINUTES];
+        long total;
+        long successes;
+        long failures;
+        long latencySum;
+        long lastCall;
+        int attempt = 0;
+        while (true) {
+            long end = (long) LONGS.getVolatile(buffer, base + S_END);
+            long begin = (long) LONGS.getVolatile(buffer, base + S_BEGIN);
+            if (begin != end && ++attempt < MAX_READ_ATTEMPTS) {
+                Thread.onSpinWait();
+                continue;
+            }
+            total = (long) LONGS.getOpaque(buffer, base + S_CALLS);
+            successes = (long) LONGS.getOpaque(buffer, base + S_SUCCESSES);
+            failures = (long) LONGS.getOpaque(buffer, base + S_ERRORS);
+            latencySum = (long) LONGS.getOpaque(buffer, base + S_LATENCY_SUM);
+            lastCall = (long) LONGS.getOpaque(buffer, base + S_LAST_CALL);
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = (long) LONGS.getOpaque(buffer, base + S_BUCKETS + i * 8);
+            }
+            // Oldest minute first, the current minute last
+            for (int i = 0; i < MINUTES; i++) {
+                long minute = nowMinute - (MINUTES - 1) + i;
+                int ring = base + S_MINUTES + (int) (minute % MINUTES) * 16;
+                calls[i] = countIn((long) LONGS.getOpaque(buffer, ring), minute);
+                errors[i] = countIn((long) LONGS.getOpaque(buffer, ring + 8), minute);
+            }
+            VarHandle.loadLoadFence();
+            if ((long) LONGS.getVolatile(buffer, base + S_BEGIN) == begin || ++attempt >= MAX_READ_ATTEMPTS) {
+                break;
+            }
+        }
+
+        Map<String, Object> connector = new LinkedHashMap<>();
+        connector.put("route", name(base));
+        connector.put("calls", total);
+        connector.put("successes", successes);
+        connector.put("errors", failures);
+        connector.put("meanLatencyMillis", total > 0 ? latencySum / 1000.0 / total : 0.0);
+        connector.put("lastCallAt", lastCall > 0 ? Instant.ofEpochMilli(lastCall).toString() : null);
+        connector.put("callsLastMinute", calls[MINUTES - 2]);
+        connector.put("latencyBuckets", buckets);
+        connector.put("callsPerMinute", calls);
+        connector.put("errorsPerMinute", errors);
+        return connector;
+    }
+
+    private static long countIn(long value, long minute) {
+        return (value >>> 32) == minute ? value & COUNT_MASK : 0;
+    }
+
+    private String name(int base) {
+        int length = (int) (long) LONGS.get(buffer, base + S_NAME_LENGTH);
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(base + S_NAME + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String limpMode(long level) {
+        for (LimpMode mode : LimpMode.values()) {
+            if (mode.getLevel() == level) {
+                return mode.name();
+            }
+        }
+        return null;
+    }
+
+    private static int base(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    /**
+     * Returns the number of route slots.
+     *
+     * @return the slot count
+     */
+    public int getSlots() {
+        return slots;
+    }
+
+    /**
+     * Closes the file channel. The mapping itself is released when the
+     * buffer is garbage collected; recording after closing still works.
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package io.catalyst.bridge.stats;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * A tiny read-only HTTP endpoint serving JSON snapshots of bridge state.
+ *
+ * <p>Built on the JDK's {@code com.sun.net.httpserver}, with a single
+ * daemon thread: each resource is a path and a supplier of a snapshot,
+ * which must be cheap and must not block, e.g. {@link BridgeStats#snapshot()}.
+ * Only {@code GET} and {@code HEAD} are accepted.</p>
+ *
+ * <p>Thread-safe.</p>
+ */
+public final class StatusServer implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatusServer.class);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, Supplier<?>> resources = new ConcurrentHashMap<>();
+
+    /**
+     * Binds the endpoint and starts serving.
+     *
+     * @param address the address to listen on, port 0 for any free port
+     * @throws IOException if the address cannot be bound
+     */
+    public StatusServer(InetSocketAddress address) throws IOException {
+        this.server = HttpServer.create(address, 0);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalyst-status");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        // The dispatcher thread inherits the daemon flag of the thread that starts it,
+        // and must not keep the engine's JVM alive
+        Thread starter = new Thread(server::start, "catalyst-status-start");
+        starter.setDaemon(true);
+        starter.start();
+        try {
+            starter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Serves a snapshot at a path, replacing any resource already there.
+     *
+     * @param path the path, e.g. {@code /stats}
+     * @param snapshot supplies the object to serialize as JSON per request
+     */
+    public void publish(String path, Supplier<?> snapshot) {
+        resources.put(path, snapshot);
+    }
+
+    /**
+     * Returns the port the endpoint listens on.
+     *
+     * @return the bound port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            Supplier<?> resource = resources.get(exchange.getRequestURI().getPath());
+            if (resource == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] body;
+            try {
+                body = OBJECT_MAPPER.writeValueAsBytes(resource.get());
+            } catch (RuntimeException | IOException e) {
+                LOGGER.warn("Could not serve {}: {}", exchange.getRequestURI().getPath(), e.toString());
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.getResponseHeaders().set("Cache-Control", "no-store");
+            if ("HEAD".equals(method)) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Stops serving, without waiting for requests in progress.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,13 @@
+/**
+ * Shared-memory activity counters and the read-only status endpoint.
+ *
+ * <p>This package gives dashboards a cheap view of the bridge that never touches the engine database:</p>
+ * <ul>
+ *   <li>{@link io.catalyst.bridge.stats.StatsFile} - Lock-free counters in a memory-mapped file with a seqlock-style layout</li>
+ *   <li>{@link io.catalyst.bridge.stats.BridgeStats} - Per-route call counting and enforcement state, shared instance configured by the environment</li>
+ *   <li>{@link io.catalyst.bridge.stats.StatusServer} - JSON snapshots over the JDK HTTP server</li>
+ * </ul>
+ *
+ * @see io.catalyst.bridge.config.StatsConfig
+ */
+package io.catalyst.bridge.stats;
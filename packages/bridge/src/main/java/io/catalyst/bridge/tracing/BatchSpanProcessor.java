@@ -0,0 +1,154 @@
+package io.catalyst.bridge.tracing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Queues ended spans and exports them in batches from a daemon thread.
+ *
+ * <p>Ending a span only offers it to a bounded queue; when the queue is
+ * full the span is dropped and counted, so a slow exporter never holds up
+ * an execution. A batch is exported once it is full or the export interval
+ * has passed since the first queued span.</p>
+ *
+ * <p>Thread-safe.</p>
+ */
+public final class BatchSpanProcessor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchSpanProcessor.class);
+
+    private final SpanExporter exporter;
+    private final BlockingQueue<Span> queue;
+    private final int batchSize;
+    private final long intervalNanos;
+    private final Thread worker;
+    private final AtomicLong exported = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile boolean shutdown;
+    private boolean failing;
+
+    /**
+     * Creates and starts a processor.
+     *
+     * @param exporter the exporter
+     * @param queueSize spans waiting for export
+     * @param batchSize maximum spans per export
+     * @param interval maximum time a span waits for its batch to fill
+     */
+    public BatchSpanProcessor(SpanExporter exporter, int queueSize, int batchSize, Duration interval) {
+        this.exporter = exporter;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueSize));
+        this.batchSize = Math.max(1, batchSize);
+        this.intervalNanos = interval.toNanos();
+        this.worker = new Thread(this::run, "catalyst-span-exporter");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Queues an ended span without blocking.
+     *
+     * @param span the span
+     */
+    void onEnd(Span span) {
+        if (shutdown || !queue.offer(span)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Exports what is queued and stops the export thread.
+     *
+     * @param timeout how long to wait for the export
+     */
+    public void shutdown(Duration timeout) {
+        shutdown = true;
+        worker.interrupt();
+        try {
+            worker.join(timeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<Span> batch = new ArrayList<>(batchSize);
+        while (!shutdown) {
+            try {
+                Span first = queue.take();
+                batch.add(first);
+                long deadline = System.nanoTime() + intervalNanos;
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (queue.drainTo(batch, batchSize - batch.size()) == 0) {
+                        if (remaining <= 0) {
+                            break;
+                        }
+                        Span next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                        if (next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                }
+            } catch (InterruptedException e) {
+                // Shutting down: export what has been collected
+            }
+            export(batch);
+        }
+        while (queue.drainTo(batch, batchSize) > 0) {
+            export(batch);
+        }
+        try {
+            exporter.close();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Failed to close span exporter: {}", e.toString());
+        }
+    }
+
+    private void export(List<Span> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            exporter.export(batch);
+            exported.addAndGet(batch.size());
+            failing = false;
+        } catch (IOException | RuntimeException e) {
+            failed.addAndGet(batch.size());
+            // Only the first failure of a streak is logged at warn, later ones at debug
+            if (!failing) {
+                LOGGER.warn("Failed to export {} spans: {}", batch.size(), e.toString());
+                failing = true;
+            } else {
+                LOGGER.debug("Failed to export {} spans: {}", batch.size(), e.toString());
+            }
+        } finally {
+            batch.clear();
+        }
+    }
+
+    // ========== Getters ==========
+
+    public long getExportedCount() {
+        return exported.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+}
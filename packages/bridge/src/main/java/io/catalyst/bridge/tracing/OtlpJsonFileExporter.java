@@ -0,0 +1,172 @@
+package io.catalyst.bridge.tracing;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Appends spans to a file as OTLP/JSON, one {@code ExportTraceServiceRequest}
+ * per line.
+ *
+ * <p>Works offline; the file can be replayed into any OpenTelemetry collector
+ * (e.g. with the {@code otlpjsonfile} receiver) or read with {@code jq}. Ids
+ * are hex strings and 64-bit integers decimal strings, as the OTLP/JSON
+ * encoding requires. When the file reaches its size limit it is renamed to
+ * {@code <file>.1}, replacing an earlier one, and a new file is started.</p>
+ *
+ * <p>Not thread-safe; used from the export thread only.</p>
+ */
+public final class OtlpJsonFileExporter implements SpanExporter {
+
+    /** Service name reported when none is given */
+    public static final String DEFAULT_SERVICE_NAME = "catalyst-bridge";
+
+    private static final String SCOPE_NAME = "io.catalyst.bridge";
+    private static final int STATUS_CODE_ERROR = 2;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final Path file;
+    private final long maxBytes;
+    private final String serviceName;
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+    private OutputStream out;
+    private long size;
+
+    /**
+     * Creates an exporter; the file is opened on the first export.
+     *
+     * @param file the file to append to
+     * @param maxBytes the size at which the file is rolled over, 0 for no limit
+     * @param serviceName the {@code service.name} resource attribute
+     */
+    public OtlpJsonFileExporter(Path file, long maxBytes, String serviceName) {
+        this.file = file;
+        this.maxBytes = maxBytes;
+        this.serviceName = serviceName;
+    }
+
+    @Override
+    public void export(List<Span> spans) throws IOException {
+        line.reset();
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(line, JsonEncoding.UTF8)) {
+            writeRequest(json, spans);
+        }
+        line.write('\n');
+
+        if (out == null) {
+            open();
+        }
+        if (maxBytes > 0 && size > 0 && size + line.size() > maxBytes) {
+            close();
+            Files.move(file, file.resolveSibling(file.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+            open();
+        }
+        line.writeTo(out);
+        out.flush();
+        size += line.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+    private void open() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        // FileOutputStream rather than a channel: interrupting the export thread must not close it
+        out = new FileOutputStream(file.toFile(), true);
+        size = Files.size(file);
+    }
+
+    private void writeRequest(JsonGenerator json, List<Span> spans) throws IOException {
+        json.writeStartObject();
+        json.writeArrayFieldStart("resourceSpans");
+        json.writeStartObject();
+
+        json.writeObjectFieldStart("resource");
+        json.writeArrayFieldStart("attributes");
+        writeAttribute(json, "service.name", serviceName);
+        json.writeEndArray();
+        json.writeEndObject();
+
+        json.writeArrayFieldStart("scopeSpans");
+        json.writeStartObject();
+        json.writeObjectFieldStart("scope");
+        json.writeStringField("name", SCOPE_NAME);
+        json.writeEndObject();
+        json.writeArrayFieldStart("spans");
+        for (Span span : spans) {
+            writeSpan(json, span);
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+        json.writeEndArray();
+
+        json.writeEndObject();
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    private static void writeSpan(JsonGenerator json, Span span) throws IOException {
+        TraceContext context = span.getContext();
+        json.writeStartObject();
+        json.writeStringField("traceId", context.getTraceId());
+        json.writeStringField("spanId", context.getSpanId());
+        if (span.getParentSpanId() != null) {
+            json.writeStringField("parentSpanId", span.getParentSpanId());
+        }
+        if (context.getTraceState() != null) {
+            json.writeStringField("traceState", context.getTraceState());
+        }
+        json.writeStringField("name", span.getName());
+        json.writeNumberField("kind", span.getKind().getOtlpValue());
+        json.writeStringField("startTimeUnixNano", Long.toString(span.getStartEpochNanos()));
+        json.writeStringField("endTimeUnixNano", Long.toString(span.getEndEpochNanos()));
+        json.writeArrayFieldStart("attributes");
+        for (int i = 0; i < span.getAttributeCount(); i++) {
+            writeAttribute(json, span.getAttributeKey(i), span.getAttributeValue(i));
+        }
+        json.writeEndArray();
+        if (span.isError()) {
+            json.writeObjectFieldStart("status");
+            json.writeNumberField("code", STATUS_CODE_ERROR);
+            if (span.getStatusMessage() != null) {
+                json.writeStringField("message", span.getStatusMessage());
+            }
+            json.writeEndObject();
+        }
+        json.writeEndObject();
+    }
+
+    private static void writeAttribute(JsonGenerator json, String key, Object value) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("key", key);
+        json.writeObjectFieldStart("value");
+        if (value instanceof Boolean) {
+            json.writeBooleanField("boolValue", (Boolean) value);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short) {
+            json.writeStringField("intValue", value.toString());
+        } else if (value instanceof Number) {
+            json.writeNumberField("doubleValue", ((Number) value).doubleValue());
+        } else {
+            json.writeStringField("stringValue", value.toString());
+        }
+        json.writeEndObject();
+        json.writeEndObject();
+    }
+}
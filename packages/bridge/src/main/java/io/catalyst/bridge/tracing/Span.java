@@ -0,0 +1,175 @@
+package io.catalyst.bridge.tracing;
+
+import java.util.Arrays;
+
+/**
+ * A timed operation in a trace.
+ *
+ * <p>Spans are started by a {@link Tracer} or as a child of another span and
+ * handed to the tracer's processor when they end; ending a span twice has no
+ * effect. Attributes are kept in a small array rather than a map, and the
+ * wall-clock end time is derived from {@link System#nanoTime()} so that
+ * durations are monotonic.</p>
+ *
+ * <p>Attributes and status are set by the thread that owns the span;
+ * {@link #startChild} may be called from any thread.</p>
+ */
+public final class Span {
+
+    private static final int INITIAL_ATTRIBUTES = 8;
+
+    private final Tracer tracer;
+    private final TraceContext context;
+    private final long parentSpanId;
+    private final String name;
+    private final SpanKind kind;
+    private final long startEpochNanos;
+    private final long startNanos;
+    private long endEpochNanos;
+    private Object[] attributes = new Object[INITIAL_ATTRIBUTES * 2];
+    private int attributeCount;
+    private boolean error;
+    private String statusMessage;
+    private boolean ended;
+
+    Span(Tracer tracer, TraceContext context, long parentSpanId, String name, SpanKind kind) {
+        this.tracer = tracer;
+        this.context = context;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.kind = kind;
+        this.startEpochNanos = System.currentTimeMillis() * 1_000_000L;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Starts a child span in the same trace.
+     *
+     * @param childName the span name
+     * @param childKind the span kind
+     * @return the started span
+     */
+    public Span startChild(String childName, SpanKind childKind) {
+        return new Span(tracer, context.child(), context.spanIdValue(), childName, childKind);
+    }
+
+    /**
+     * Sets a string, long, double or boolean attribute.
+     *
+     * @param key the attribute key, e.g. {@code http.response.status_code}
+     * @param value the value; null values are ignored
+     * @return this span
+     */
+    public Span setAttribute(String key, Object value) {
+        if (value == null) {
+            return this;
+        }
+        if (attributeCount * 2 == attributes.length) {
+            attributes = Arrays.copyOf(attributes, attributes.length * 2);
+        }
+        attributes[attributeCount * 2] = key;
+        attributes[attributeCount * 2 + 1] = value;
+        attributeCount++;
+        return this;
+    }
+
+    /**
+     * Marks the span as failed.
+     *
+     * @param message the error description
+     * @return this span
+     */
+    public Span setError(String message) {
+        this.error = true;
+        this.statusMessage = message;
+        return this;
+    }
+
+    /**
+     * Ends the span and queues it for export if its trace is sampled.
+     */
+    public void end() {
+        if (ended) {
+            return;
+        }
+        ended = true;
+        endEpochNanos = startEpochNanos + (System.nanoTime() - startNanos);
+        tracer.onEnd(this);
+    }
+
+    /**
+     * Returns the span's context, to propagate or log.
+     *
+     * @return the context
+     */
+    public TraceContext getContext() {
+        return context;
+    }
+
+    // ========== Getters ==========
+
+    public String getName() {
+        return name;
+    }
+
+    public SpanKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the parent span id.
+     *
+     * @return 16 hex characters, or null for a root span
+     */
+    public String getParentSpanId() {
+        return parentSpanId != 0 ? TraceContext.spanIdHex(parentSpanId) : null;
+    }
+
+    public long getStartEpochNanos() {
+        return startEpochNanos;
+    }
+
+    public long getEndEpochNanos() {
+        return endEpochNanos;
+    }
+
+    public int getAttributeCount() {
+        return attributeCount;
+    }
+
+    public String getAttributeKey(int index) {
+        return (String) attributes[index * 2];
+    }
+
+    public Object getAttributeValue(int index) {
+        return attributes[index * 2 + 1];
+    }
+
+    /**
+     * Returns an attribute value by key.
+     *
+     * @param key the attribute key
+     * @return the last value set, or null
+     */
+    public Object getAttribute(String key) {
+        for (int i = attributeCount - 1; i >= 0; i--) {
+            if (key.equals(attributes[i * 2])) {
+                return attributes[i * 2 + 1];
+            }
+        }
+        return null;
+    }
+
+    public boolean isError() {
+        return error;
+    }
+
+    public String getStatusMessage() {
+        return statusMessage;
+    }
+
+    @Override
+    public String toString() {
+        return "Span{name='" + name + "', traceparent=" + context.toTraceparent() + '}';
+    }
+}
@@ -0,0 +1,34 @@
+package io.catalyst.bridge.tracing;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Receives batches of ended spans from the {@link BatchSpanProcessor}.
+ *
+ * <p>Called from the processor's single export thread, so implementations
+ * need not be thread-safe. A custom exporter is configured by class name
+ * with {@code CATALYST_TRACING_EXPORTER} and needs a public no-argument
+ * constructor.</p>
+ *
+ * @see OtlpJsonFileExporter
+ */
+public interface SpanExporter {
+
+    /**
+     * Exports a batch of spans. A failed batch is dropped, not retried.
+     *
+     * @param spans the spans, in the order they ended
+     * @throws IOException if the batch cannot be exported
+     */
+    void export(List<Span> spans) throws IOException;
+
+    /**
+     * Releases resources after the last batch. Does nothing by default.
+     *
+     * @throws IOException if resources cannot be released
+     */
+    default void close() throws IOException {
+        // Nothing to release
+    }
+}
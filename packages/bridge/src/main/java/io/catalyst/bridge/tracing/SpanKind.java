@@ -0,0 +1,26 @@
+package io.catalyst.bridge.tracing;
+
+/**
+ * The role of a span, with its OTLP enum value.
+ */
+public enum SpanKind {
+    /** Work inside the bridge, e.g. a connector execution */
+    INTERNAL(1),
+    /** An outgoing call, e.g. a webhook request to n8n */
+    CLIENT(3);
+
+    private final int otlpValue;
+
+    SpanKind(int otlpValue) {
+        this.otlpValue = otlpValue;
+    }
+
+    /**
+     * Returns the value of {@code Span.SpanKind} in the OTLP protocol.
+     *
+     * @return the OTLP value
+     */
+    public int getOtlpValue() {
+        return otlpValue;
+    }
+}
@@ -0,0 +1,205 @@
+package io.catalyst.bridge.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Immutable W3C trace context: trace id, span id, flags and trace state.
+ *
+ * <p>Ids are held as longs and formatted as lower-case hex only when a
+ * header or log value is needed. Parsing follows the W3C Trace Context
+ * recommendation for version {@code 00}: an invalid {@code traceparent}
+ * is ignored, and so is its {@code tracestate}.</p>
+ *
+ * @see <a href="https://www.w3.org/TR/trace-context/">W3C Trace Context</a>
+ */
+public final class TraceContext {
+
+    /** Header and variable name of the trace parent */
+    public static final String TRACEPARENT = "traceparent";
+
+    /** Header and variable name of the vendor trace state */
+    public static final String TRACESTATE = "tracestate";
+
+    private static final int FLAG_SAMPLED = 0x01;
+    private static final int TRACEPARENT_LENGTH = 55;
+
+    private final long traceIdHigh;
+    private final long traceIdLow;
+    private final long spanId;
+    private final int flags;
+    private final String traceState;
+
+    TraceContext(long traceIdHigh, long traceIdLow, long spanId, int flags, String traceState) {
+        this.traceIdHigh = traceIdHigh;
+        this.traceIdLow = traceIdLow;
+        this.spanId = spanId;
+        this.flags = flags;
+        this.traceState = traceState;
+    }
+
+    /**
+     * Parses a {@code traceparent} header value and its {@code tracestate}.
+     *
+     * @param traceparent e.g. {@code 00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01}, may be null
+     * @param tracestate the vendor trace state, may be null
+     * @return the context, or null if the trace parent is missing or invalid
+     */
+    public static TraceContext parse(String traceparent, String tracestate) {
+        if (traceparent == null) {
+            return null;
+        }
+        String value = traceparent.trim();
+        // Future versions may append fields; version 00 has exactly four
+        if (value.length() < TRACEPARENT_LENGTH
+                || value.charAt(2) != '-' || value.charAt(35) != '-' || value.charAt(52) != '-'
+                || (value.length() > TRACEPARENT_LENGTH && (value.startsWith("00") || value.charAt(55) != '-'))) {
+            return null;
+        }
+        try {
+            int version = hex(value, 0, 2);
+            if (version == 0xff) {
+                return null;
+            }
+            long traceIdHigh = hexLong(value, 3);
+            long traceIdLow = hexLong(value, 19);
+            long spanId = hexLong(value, 36);
+            int flags = hex(value, 53, 55);
+            if ((traceIdHigh == 0 && traceIdLow == 0) || spanId == 0) {
+                return null;
+            }
+            String state = tracestate != null && !tracestate.trim().isEmpty() ? tracestate.trim() : null;
+            return new TraceContext(traceIdHigh, traceIdLow, spanId, flags, state);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates the context of a child span: same trace, flags and state, new span id.
+     *
+     * @return the child context
+     */
+    TraceContext child() {
+        return new TraceContext(traceIdHigh, traceIdLow, randomNonZero(), flags, traceState);
+    }
+
+    /**
+     * Creates the sampled context of a new trace.
+     *
+     * @return the root context
+     */
+    static TraceContext newRoot() {
+        return new TraceContext(randomNonZero(), ThreadLocalRandom.current().nextLong(),
+            randomNonZero(), FLAG_SAMPLED, null);
+    }
+
+    /**
+     * Returns the {@code traceparent} header value of this context.
+     *
+     * @return the header value, version 00
+     */
+    public String toTraceparent() {
+        char[] chars = new char[TRACEPARENT_LENGTH];
+        chars[0] = '0';
+        chars[1] = '0';
+        chars[2] = '-';
+        writeHex(chars, 3, traceIdHigh, 16);
+        writeHex(chars, 19, traceIdLow, 16);
+        chars[35] = '-';
+        writeHex(chars, 36, spanId, 16);
+        chars[52] = '-';
+        writeHex(chars, 53, flags, 2);
+        return new String(chars);
+    }
+
+    /**
+     * Returns the trace id as 32 hex characters.
+     *
+     * @return the trace id
+     */
+    public String getTraceId() {
+        char[] chars = new char[32];
+        writeHex(chars, 0, traceIdHigh, 16);
+        writeHex(chars, 16, traceIdLow, 16);
+        return new String(chars);
+    }
+
+    /**
+     * Returns the span id as 16 hex characters.
+     *
+     * @return the span id
+     */
+    public String getSpanId() {
+        return spanIdHex(spanId);
+    }
+
+    /**
+     * Returns the vendor trace state.
+     *
+     * @return the {@code tracestate} value, or null
+     */
+    public String getTraceState() {
+        return traceState;
+    }
+
+    /**
+     * Returns true if the caller recorded the trace, so this span should be too.
+     *
+     * @return true if the sampled flag is set
+     */
+    public boolean isSampled() {
+        return (flags & FLAG_SAMPLED) != 0;
+    }
+
+    long spanIdValue() {
+        return spanId;
+    }
+
+    static String spanIdHex(long spanId) {
+        char[] chars = new char[16];
+        writeHex(chars, 0, spanId, 16);
+        return new String(chars);
+    }
+
+    private static long randomNonZero() {
+        long value;
+        do {
+            value = ThreadLocalRandom.current().nextLong();
+        } while (value == 0);
+        return value;
+    }
+
+    private static void writeHex(char[] chars, int offset, long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            chars[offset + i] = Character.forDigit((int) (value & 0xf), 16);
+            value >>>= 4;
+        }
+    }
+
+    private static long hexLong(String value, int offset) {
+        return (((long) hex(value, offset, offset + 8)) << 32) | (hex(value, offset + 8, offset + 16) & 0xffffffffL);
+    }
+
+    /** Parses lower-case hex only, as the recommendation requires */
+    private static int hex(String value, int start, int end) {
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if (c >= 'a' && c <= 'f') {
+                digit = c - 'a' + 10;
+            } else {
+                throw new NumberFormatException("Not lower-case hex: " + c);
+            }
+            result = (result << 4) | digit;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return toTraceparent();
+    }
+}
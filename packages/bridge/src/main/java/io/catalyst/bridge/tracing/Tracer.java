@@ -0,0 +1,144 @@
+package io.catalyst.bridge.tracing;
+
+import io.catalyst.bridge.config.TracingConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+
+/**
+ * Starts spans and hands ended, sampled spans to a {@link BatchSpanProcessor}.
+ *
+ * <p>A span costs a few small allocations and, when exported, a non-blocking
+ * queue offer; export happens on a background thread. Spans of traces that
+ * the caller did not sample still get ids and propagate context, but are not
+ * exported.</p>
+ *
+ * <p>Thread-safe.</p>
+ */
+public final class Tracer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Tracer.class);
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private static volatile Tracer shared;
+    private static final Object SHARED_LOCK = new Object();
+
+    private final boolean enabled;
+    private final String parentVariable;
+    private final BatchSpanProcessor processor;
+
+    /**
+     * Creates a tracer.
+     *
+     * @param config whether tracing is enabled and how spans are batched
+     * @param exporter the exporter, or null to propagate context without exporting
+     */
+    public Tracer(TracingConfig config, SpanExporter exporter) {
+        this.enabled = config.isEnabled();
+        this.parentVariable = config.getParentVariable();
+        this.processor = enabled && exporter != null
+            ? new BatchSpanProcessor(exporter, config.getQueueSize(), config.getBatchSize(), config.getExportInterval())
+            : null;
+    }
+
+    /**
+     * Returns the tracer shared by all executions, configured by the
+     * environment. Queued spans are exported when the JVM shuts down.
+     *
+     * @return the shared tracer
+     */
+    public static Tracer shared() {
+        if (shared == null) {
+            synchronized (SHARED_LOCK) {
+                if (shared == null) {
+                    TracingConfig config = TracingConfig.fromEnvironment();
+                    Tracer tracer = new Tracer(config, config.isEnabled() ? createExporter(config) : null);
+                    if (tracer.processor != null) {
+                        Runtime.getRuntime().addShutdownHook(new Thread(
+                            () -> tracer.processor.shutdown(SHUTDOWN_TIMEOUT), "catalyst-span-exporter-shutdown"));
+                    }
+                    shared = tracer;
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Creates the configured exporter: a custom class if one is named,
+     * otherwise the OTLP/JSON file exporter if a file is set.
+     *
+     * @param config the tracing configuration
+     * @return the exporter, or null if export is not configured or the class cannot be created
+     */
+    static SpanExporter createExporter(TracingConfig config) {
+        if (config.getExporterClass() != null) {
+            try {
+                Object exporter = Class.forName(config.getExporterClass(), true, Tracer.class.getClassLoader())
+                    .getConstructor().newInstance();
+                LOGGER.info("Exporting spans with {}", config.getExporterClass());
+                return (SpanExporter) exporter;
+            } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+                LOGGER.error("Cannot create span exporter {}, spans will not be exported: {}",
+                    config.getExporterClass(), e.toString());
+                return null;
+            }
+        }
+        if (config.getFile() != null) {
+            LOGGER.info("Exporting spans as OTLP/JSON to {}", config.getFile());
+            return new OtlpJsonFileExporter(config.getFile(), config.getFileMaxBytes(),
+                OtlpJsonFileExporter.DEFAULT_SERVICE_NAME);
+        }
+        return null;
+    }
+
+    /**
+     * Starts a span, continuing the parent's trace or starting a new one.
+     *
+     * @param name the span name
+     * @param kind the span kind
+     * @param parent the incoming context, or null to start a trace
+     * @return the started span
+     */
+    public Span startSpan(String name, SpanKind kind, TraceContext parent) {
+        if (parent == null) {
+            return new Span(this, TraceContext.newRoot(), 0, name, kind);
+        }
+        return new Span(this, parent.child(), parent.spanIdValue(), name, kind);
+    }
+
+    void onEnd(Span span) {
+        if (processor != null && span.getContext().isSampled()) {
+            processor.onEnd(span);
+        }
+    }
+
+    /**
+     * Returns true if spans are created and context propagated.
+     *
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the process variable holding the incoming {@code traceparent}.
+     *
+     * @return the variable name
+     */
+    public String getParentVariable() {
+        return parentVariable;
+    }
+
+    /**
+     * Returns the processor spans are exported through.
+     *
+     * @return the processor, or null if spans are not exported
+     */
+    public BatchSpanProcessor getProcessor() {
+        return processor;
+    }
+}
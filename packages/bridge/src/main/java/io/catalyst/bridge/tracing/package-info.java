@@ -0,0 +1,16 @@
+/**
+ * W3C trace-context propagation and span export.
+ *
+ * <p>This package contains a small tracer with no dependencies beyond SLF4J and Jackson:</p>
+ * <ul>
+ *   <li>{@link io.catalyst.bridge.tracing.TraceContext} - Parsing and formatting of {@code traceparent}/{@code tracestate}</li>
+ *   <li>{@link io.catalyst.bridge.tracing.Tracer} - Starts spans, shared instance configured by the environment</li>
+ *   <li>{@link io.catalyst.bridge.tracing.Span} - A timed operation with attributes and status</li>
+ *   <li>{@link io.catalyst.bridge.tracing.BatchSpanProcessor} - Bounded queue and background batch export</li>
+ *   <li>{@link io.catalyst.bridge.tracing.SpanExporter} - Pluggable export target</li>
+ *   <li>{@link io.catalyst.bridge.tracing.OtlpJsonFileExporter} - Offline export as OTLP/JSON lines</li>
+ * </ul>
+ *
+ * @see io.catalyst.bridge.config.TracingConfig
+ */
+package io.catalyst.bridge.tracing;
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.catalyst.bridge.config.CatalystPaths;
+import io.catalyst.bridge.jfr.CatalystUsagePersist;
 import io.catalyst.bridge.licensing.License;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -99,29 +100,45 @@ public class FileUsageStore implements UsageStore {
 
     @Override
     public void save(UsageData data) {
+        CatalystUsagePersist event = new CatalystUsagePersist();
+        event.begin();
+        long waitStart = System.nanoTime();
         synchronized (lock) {
-            try {
-                // Write to temp file first
-                Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
-                UsageDataDto dto = UsageDataDto.fromUsageData(data);
-                objectMapper.writeValue(tempFile.toFile(), dto);
+            long lockWait = System.nanoTime() - waitStart;
+            write(data);
+            commit(event, "save", data, lockWait);
+        }
+    }
 
-                // Atomic rename
-                Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING,
-                          StandardCopyOption.ATOMIC_MOVE);
+    /**
+     * Writes the usage file. Callers hold the lock.
+     */
+    private void write(UsageData data) {
+        try {
+            // Write to temp file first
+            Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+            UsageDataDto dto = UsageDataDto.fromUsageData(data);
+            objectMapper.writeValue(tempFile.toFile(), dto);
 
-                LOGGER.debug("Saved usage data: year={}, count={}", data.getYear(), data.getCount());
+            // Atomic rename
+            Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING,
+                      StandardCopyOption.ATOMIC_MOVE);
 
-            } catch (IOException e) {
-                LOGGER.error("Failed to save usage file: {}", e.getMessage());
-                throw new RuntimeException("Failed to persist usage data", e);
-            }
+            LOGGER.debug("Saved usage data: year={}, count={}", data.getYear(), data.getCount());
+
+        } catch (IOException e) {
+            LOGGER.error("Failed to save usage file: {}", e.getMessage());
+            throw new RuntimeException("Failed to persist usage data", e);
         }
     }
 
     @Override
     public UsageData incrementAndGet(License license, Clock clock) {
+        CatalystUsagePersist event = new CatalystUsagePersist();
+        event.begin();
+        long waitStart = System.nanoTime();
         synchronized (lock) {
+            long lockWait = System.nanoTime() - waitStart;
             LocalDate today = LocalDate.now(clock);
             int currentYear = today.getYear();
 
@@ -155,11 +172,23 @@ public class FileUsageStore implements UsageStore {
                 }
             }
 
-            save(updated);
+            write(updated);
+            commit(event, "incrementAndGet", updated, lockWait);
             return updated;
         }
     }
 
+    private void commit(CatalystUsagePersist event, String operation, UsageData data, long lockWait) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.path = filePath.toString();
+            event.usageCount = data.getCount();
+            event.lockWait = lockWait;
+            event.commit();
+        }
+    }
+
     /**
      * Returns the file path being used.
      *
@@ -1,12 +1,19 @@
 package io.catalyst.bridge;
 
+import com.sun.net.httpserver.HttpServer;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
@@ -262,4 +269,44 @@ public class CatalystBridgeTest {
         // Then: Process instance ID should be available for logging
         verify(execution, atLeastOnce()).getProcessInstanceId();
     }
+
+    @Test
+    public void testExecute_SameIdempotencyKeyTwice_CallsWebhookOnce() throws Exception {
+        // Given: n8n on the default allowlisted address, counting calls
+        HttpServer server;
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", 5678), 0);
+        } catch (IOException e) {
+            Assume.assumeNoException("Port 5678 is in use", e);
+            return;
+        }
+        AtomicInteger calls = new AtomicInteger();
+        server.createContext("/webhook/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            calls.incrementAndGet();
+            byte[] body = "{\"ok\":true}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        try {
+            when(execution.getVariable("webhookUrl")).thenReturn("http://localhost:5678/webhook/dedup-test");
+            when(execution.getVariable("payload")).thenReturn("{\"order\":1}");
+            when(execution.getVariable("idempotencyKey")).thenReturn("order-1");
+            when(execution.getCurrentActivityId()).thenReturn("callN8n");
+
+            // When: the same execution runs twice, as on a Camunda job retry
+            delegate.execute(execution);
+            delegate.execute(execution);
+
+            // Then: n8n was called once and both runs got its response
+            assertEquals(1, calls.get());
+            verify(execution, times(2)).setVariable("n8nResponse", "{\"ok\":true}");
+        } finally {
+            server.stop(0);
+        }
+    }
 }
@@ -0,0 +1,81 @@
+package io.catalyst.bridge.buffer;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for BufferPool and PooledOutputStream.
+ */
+public class BufferPoolTest {
+
+    @Test
+    public void testAcquire_RoundsUpToSizeClass() {
+        BufferPool pool = new BufferPool();
+
+        assertEquals(BufferPool.MIN_BUFFER_SIZE, pool.acquire(1).length);
+        assertEquals(8192, pool.acquire(4097).length);
+        assertEquals(BufferPool.MAX_BUFFER_SIZE, pool.acquire(BufferPool.MAX_BUFFER_SIZE).length);
+    }
+
+    @Test
+    public void testRelease_ThenAcquire_ReusesBuffer() {
+        BufferPool pool = new BufferPool();
+        byte[] first = pool.acquire(8192);
+
+        pool.release(first);
+
+        assertSame(first, pool.acquire(5000));
+        assertEquals(1, pool.getHits());
+        assertEquals(1, pool.getMisses());
+    }
+
+    @Test
+    public void testAcquire_Oversize_IsNotPooled() {
+        BufferPool pool = new BufferPool();
+        byte[] large = pool.acquire(BufferPool.MAX_BUFFER_SIZE + 1);
+
+        pool.release(large);
+
+        assertEquals(BufferPool.MAX_BUFFER_SIZE + 1, large.length);
+        assertNotSame(large, pool.acquire(BufferPool.MAX_BUFFER_SIZE + 1));
+        assertEquals(0, pool.getHits());
+    }
+
+    @Test
+    public void testRelease_OddSizedBuffer_IsDropped() {
+        BufferPool pool = new BufferPool();
+
+        pool.release(new byte[5000]);
+
+        assertEquals(8192, pool.acquire(5000).length);
+        assertEquals(0, pool.getHits());
+    }
+
+    @Test
+    public void testPooledOutputStream_GrowsAndReturnsBuffers() throws IOException {
+        BufferPool pool = new BufferPool();
+        byte[] data = new byte[3 * BufferPool.MIN_BUFFER_SIZE + 17];
+        Arrays.fill(data, (byte) 'x');
+
+        try (PooledOutputStream out = new PooledOutputStream(pool, 0)) {
+            out.write('[');
+            assertEquals(data.length, out.readFrom(new ByteArrayInputStream(data)));
+            out.write(']');
+
+            assertEquals(data.length + 2, out.size());
+            String text = out.toString(StandardCharsets.US_ASCII);
+            assertTrue(text.startsWith("[xxx") && text.endsWith("xx]"));
+        }
+
+        // The 4K and 8K buffers were released while growing, the 16K one on close
+        assertEquals(BufferPool.MIN_BUFFER_SIZE, pool.acquire(1).length);
+        assertEquals(16384, pool.acquire(16384).length);
+        assertEquals(2, pool.getHits());
+    }
+}
@@ -0,0 +1,233 @@
+package io.catalyst.bridge.endpoint;
+
+import io.catalyst.bridge.config.EndpointPoolConfig;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for EndpointPool and EndpointRegistry.
+ */
+public class EndpointPoolTest {
+
+    private MutableClock clock;
+    private EndpointPoolConfig config;
+
+    @Before
+    public void setUp() {
+        clock = new MutableClock(Instant.parse("2025-06-01T10:00:00Z"));
+        config = EndpointPoolConfig.builder()
+            .consecutiveFailures(3)
+            .baseEjectionTime(Duration.ofSeconds(30))
+            .maxEjectionPercent(50)
+            .slowStartWindow(Duration.ofSeconds(10))
+            .unhealthyThreshold(2)
+            .build();
+    }
+
+    private EndpointPool pool(String... urls) {
+        return new EndpointPool("workers", Arrays.asList(urls), config, clock, new Random(42));
+    }
+
+    @Test
+    public void testSelect_ResolvesMemberUrlWithPath() {
+        EndpointPool pool = pool("http://n8n-1:5678/");
+        EndpointSelection selection = pool.select("/webhook/test");
+
+        assertEquals("http://n8n-1:5678/webhook/test", selection.getUrl());
+        assertEquals(1, selection.getMember().getOutstanding());
+
+        selection.complete(true);
+        selection.complete(true);
+        assertEquals(0, selection.getMember().getOutstanding());
+    }
+
+    @Test
+    public void testSelect_PrefersMemberWithFewerOutstandingRequests() {
+        EndpointPool pool = pool("http://n8n-1:5678", "http://n8n-2:5678");
+        PoolMember busy = pool.getMembers().get(0);
+        for (int i = 0; i < 10; i++) {
+            busy.acquire();
+        }
+
+        for (int i = 0; i < 20; i++) {
+            EndpointSelection selection = pool.select("/webhook/x");
+            assertEquals("http://n8n-2:5678", selection.getMember().getBaseUrl());
+            selection.complete(true);
+        }
+    }
+
+    @Test
+    public void testSelect_SpreadsLoadAcrossIdleMembers() {
+        EndpointPool pool = pool("http://a:5678", "http://b:5678", "http://c:5678");
+        Set<String> chosen = new HashSet<>();
+        for (int i = 0; i < 50; i++) {
+            EndpointSelection selection = pool.select("/webhook/x");
+            chosen.add(selection.getMember().getBaseUrl());
+            selection.complete(true);
+        }
+        assertEquals(3, chosen.size());
+    }
+
+    @Test
+    public void testConsecutiveFailures_EjectMemberThenSlowStart() {
+        EndpointPool pool = pool("http://n8n-1:5678", "http://n8n-2:5678");
+        PoolMember failing = pool.getMembers().get(0);
+
+        for (int i = 0; i < 3; i++) {
+            pool.recordOutcome(failing, false);
+        }
+        assertTrue(failing.isEjected(clock.millis()));
+
+        // Ejected member receives no traffic
+        for (int i = 0; i < 10; i++) {
+            EndpointSelection selection = pool.select("/webhook/x");
+            assertNotSame(failing, selection.getMember());
+            selection.complete(true);
+        }
+
+        // After the ejection time the member returns with reduced weight
+        clock.advance(Duration.ofSeconds(31));
+        assertFalse(failing.isEjected(clock.millis()));
+        double weight = failing.weight(clock.millis(), config.getSlowStartWindow().toMillis());
+        assertTrue("Returning member should slow-start, weight=" + weight, weight < 0.2);
+
+        clock.advance(Duration.ofSeconds(10));
+        assertEquals(1.0, failing.weight(clock.millis(), config.getSlowStartWindow().toMillis()), 0.0001);
+    }
+
+    @Test
+    public void testSuccess_ResetsConsecutiveFailures() {
+        EndpointPool pool = pool("http://n8n-1:5678", "http://n8n-2:5678");
+        PoolMember member = pool.getMembers().get(0);
+
+        pool.recordOutcome(member, false);
+        pool.recordOutcome(member, false);
+        pool.recordOutcome(member, true);
+        pool.recordOutcome(member, false);
+
+        assertFalse(member.isEjected(clock.millis()));
+    }
+
+    @Test
+    public void testMaxEjectionPercent_KeepsLastMemberInRotation() {
+        EndpointPool pool = pool("http://n8n-1:5678", "http://n8n-2:5678");
+        for (PoolMember member : pool.getMembers()) {
+            for (int i = 0; i < 3; i++) {
+                pool.recordOutcome(member, false);
+            }
+        }
+
+        long ejected = pool.getMembers().stream().filter(m -> m.isEjected(clock.millis())).count();
+        assertEquals(1, ejected);
+    }
+
+    @Test
+    public void testActiveHealthChecks_MarkUnhealthyAndRecover() {
+        Map<String, Boolean> health = new HashMap<>();
+        health.put("http://n8n-1:5678", false);
+        health.put("http://n8n-2:5678", true);
+        EndpointPoolConfig poolConfig = EndpointPoolConfig.builder()
+            .pool("workers", Arrays.asList("http://n8n-1:5678", "http://n8n-2:5678"))
+            .unhealthyThreshold(2)
+            .build();
+        EndpointRegistry registry = new EndpointRegistry(poolConfig, health::get, clock);
+        PoolMember first = registry.getPool("workers").getMembers().get(0);
+
+        registry.checkHealth();
+        assertTrue("One failed probe is below the threshold", first.isHealthy());
+        registry.checkHealth();
+        assertFalse(first.isHealthy());
+
+        health.put("http://n8n-1:5678", true);
+        registry.checkHealth();
+        assertTrue(first.isHealthy());
+    }
+
+    @Test
+    public void testPanicMode_UsesAllMembersWhenNoneAvailable() {
+        EndpointPool pool = pool("http://n8n-1:5678");
+        pool.recordProbe(pool.getMembers().get(0), false);
+        pool.recordProbe(pool.getMembers().get(0), false);
+
+        EndpointSelection selection = pool.select("/webhook/x");
+        assertEquals("http://n8n-1:5678/webhook/x", selection.getUrl());
+        assertTrue(pool.isPanicMode());
+    }
+
+    @Test
+    public void testPanicMode_EndsWhenMemberRecovers() {
+        EndpointPool pool = pool("http://n8n-1:5678");
+        PoolMember member = pool.getMembers().get(0);
+        pool.recordProbe(member, false);
+        pool.recordProbe(member, false);
+        pool.select("/webhook/x").complete(true);
+        pool.select("/webhook/x").complete(true);
+        assertTrue(pool.isPanicMode());
+
+        pool.recordProbe(member, true);
+        pool.select("/webhook/x").complete(true);
+        assertFalse(pool.isPanicMode());
+    }
+
+    @Test
+    public void testRegistry_ResolvesPoolUrl() {
+        EndpointPoolConfig poolConfig = EndpointPoolConfig.fromEnvironment(Map.of(
+            EndpointPoolConfig.POOLS_ENV, "workers=http://n8n-1:5678, http://n8n-2:5678;ai=http://n8n-ai:5678"));
+        EndpointRegistry registry = new EndpointRegistry(poolConfig, url -> true, clock);
+
+        assertTrue(EndpointRegistry.isPoolUrl("pool://ai/webhook/analyze"));
+        assertFalse(EndpointRegistry.isPoolUrl("http://n8n:5678/webhook/analyze"));
+        assertEquals(2, registry.getPool("workers").getMembers().size());
+        assertEquals("http://n8n-ai:5678/webhook/analyze", registry.select("pool://ai/webhook/analyze").getUrl());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRegistry_UnknownPool_Throws() {
+        EndpointRegistry registry = new EndpointRegistry(EndpointPoolConfig.builder().build(), url -> true, clock);
+        registry.select("pool://missing/webhook/x");
+    }
+
+    /**
+     * Clock that tests can move forward.
+     */
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package io.catalyst.bridge.endpoint;
+
+import io.catalyst.bridge.config.EndpointPoolConfig;
+import io.catalyst.bridge.config.HedgingConfig;
+import io.catalyst.bridge.http.CancellationHandle;
+import io.catalyst.bridge.http.WebhookClient;
+import io.catalyst.bridge.http.WebhookRequest;
+import io.catalyst.bridge.http.WebhookResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for PoolingWebhookClient hedging.
+ */
+public class PoolingWebhookClientTest {
+
+    private static final String SLOW = "http://n8n-slow:5678";
+    private static final String FAST = "http://n8n-fast:5678";
+
+    private FakeClient delegate;
+    private EndpointRegistry registry;
+
+    @Before
+    public void setUp() {
+        delegate = new FakeClient();
+        EndpointPoolConfig config = EndpointPoolConfig.builder()
+            .pool("workers", Arrays.asList(SLOW, FAST))
+            .build();
+        registry = new EndpointRegistry(config, url -> true, Clock.systemUTC());
+    }
+
+    private PoolingWebhookClient client(double budgetPercent) {
+        HedgingConfig hedging = HedgingConfig.builder()
+            .budgetPercent(budgetPercent)
+            .minSamples(5)
+            .minDelay(Duration.ofMillis(1))
+            .build();
+        return new PoolingWebhookClient(registry, url -> { }, delegate, hedging, Clock.systemUTC());
+    }
+
+    private static WebhookRequest request(boolean idempotent) {
+        return WebhookRequest.builder()
+            .url("pool://workers/webhook/lookup")
+            .body("{}")
+            .idempotent(idempotent)
+            .build();
+    }
+
+    /**
+     * Warms the route up with fast calls so the hedge delay is known. The
+     * calls are not idempotent, so no late hedge is counted by the test.
+     */
+    private void warmUp(PoolingWebhookClient client) throws IOException {
+        delegate.delays.put(SLOW, 0L);
+        delegate.delays.put(FAST, 0L);
+        for (int i = 0; i < 100; i++) {
+            client.execute(request(false));
+        }
+        delegate.calls.clear();
+    }
+
+    @Test
+    public void testIdempotentRequest_SlowMemberIsHedged() throws Exception {
+        PoolingWebhookClient client = client(100);
+        warmUp(client);
+        delegate.delays.put(SLOW, 5_000L);
+
+        for (int i = 0; i < 10; i++) {
+            long start = System.nanoTime();
+            WebhookResponse response = client.execute(request(true));
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertEquals(FAST + "/webhook/lookup", response.getBody());
+            assertTrue("Hedge should answer quickly, took " + millis + "ms", millis < 2_000);
+        }
+
+        // Cancelled exchanges release their member asynchronously
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (member(SLOW).getOutstanding() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals("Slow member's requests should be cancelled", 0, member(SLOW).getOutstanding());
+    }
+
+    @Test
+    public void testNonIdempotentRequest_IsNeverHedged() throws IOException {
+        PoolingWebhookClient client = client(100);
+        warmUp(client);
+        delegate.delays.put(SLOW, 50L);
+
+        for (int i = 0; i < 10; i++) {
+            client.execute(request(false));
+        }
+        assertEquals(10, delegate.calls.size());
+    }
+
+    @Test
+    public void testBudgetExhausted_NoHedges() throws IOException {
+        PoolingWebhookClient client = client(0.0001);
+        warmUp(client);
+        delegate.delays.put(SLOW, 50L);
+
+        for (int i = 0; i < 10; i++) {
+            client.execute(request(true));
+        }
+        assertEquals(10, delegate.calls.size());
+    }
+
+    @Test
+    public void testHedgeBudget_AllowsConfiguredShare() {
+        HedgeBudget budget = new HedgeBudget(5, 10);
+        int hedges = 0;
+        for (int i = 0; i < 1000; i++) {
+            budget.onCall();
+            if (budget.tryAcquire()) {
+                hedges++;
+            }
+        }
+        assertEquals(50, hedges);
+    }
+
+    private PoolMember member(String baseUrl) {
+        for (PoolMember member : registry.getPool("workers").getMembers()) {
+            if (member.getBaseUrl().equals(baseUrl)) {
+                return member;
+            }
+        }
+        throw new AssertionError(baseUrl);
+    }
+
+    /**
+     * Client that answers with the requested URL after a per-member delay and
+     * honours cancellation.
+     */
+    private static class FakeClient extends WebhookClient {
+        final Map<String, Long> delays = new ConcurrentHashMap<>();
+        final List<String> calls = new CopyOnWriteArrayList<>();
+
+        @Override
+        public WebhookResponse execute(WebhookRequest request, CancellationHandle cancellation) throws IOException {
+            calls.add(request.getUrl());
+            String member = request.getUrl().substring(0, request.getUrl().indexOf("/webhook"));
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delays.getOrDefault(member, 0L));
+            try {
+                while (System.nanoTime() < deadline) {
+                    if (cancellation != null && cancellation.isCancelled()) {
+                        throw new InterruptedIOException("cancelled");
+                    }
+                    Thread.sleep(1);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("interrupted");
+            }
+            return new WebhookResponse(request.getUrl(), 200);
+        }
+    }
+}
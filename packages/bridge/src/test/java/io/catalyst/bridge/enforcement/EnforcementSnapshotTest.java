@@ -0,0 +1,105 @@
+package io.catalyst.bridge.enforcement;
+
+import io.catalyst.bridge.config.CatalystPaths;
+import io.catalyst.bridge.licensing.LicenseLoader;
+import io.catalyst.bridge.licensing.LicenseValidator;
+import io.catalyst.bridge.logging.EnforcementLogger;
+import io.catalyst.bridge.usage.FileUsageStore;
+import io.catalyst.bridge.usage.RunRateCalculator;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for EnforcementEngine.snapshot(), EnforcementSnapshot and EnforcementMonitor.
+ */
+public class EnforcementSnapshotTest {
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private FileUsageStore store;
+    private EnforcementEngine engine;
+
+    @Before
+    public void setUp() throws Exception {
+        Path dir = temp.newFolder().toPath();
+        store = new FileUsageStore(dir.resolve(CatalystPaths.USAGE_FILE_NAME));
+        engine = EnforcementEngine.create(
+            new LicenseLoader(new CatalystPaths(dir), new LicenseValidator()), store,
+            new RunRateCalculator(), new PreGraceEvaluator(), new LimpModeEvaluator(),
+            new EnforcementLogger(), new DelayEnforcer(millis -> { }), Clock.systemUTC());
+    }
+
+    @Test
+    public void testSnapshot_NotAvailableBeforeFirstExecution() {
+        EnforcementSnapshot snapshot = engine.snapshot();
+
+        assertFalse(snapshot.isAvailable());
+        assertNull(snapshot.getStatus());
+        assertNull(snapshot.getTakenAt());
+        assertEquals(Boolean.FALSE, snapshot.toMap().get("available"));
+        assertFalse(Files.exists(store.getFilePath()));
+    }
+
+    @Test
+    public void testSnapshot_ReflectsLatestExecutionWithoutCounting() throws Exception {
+        engine.enforce();
+        engine.enforce();
+
+        for (int i = 0; i < 3; i++) {
+            EnforcementSnapshot snapshot = engine.snapshot();
+            assertTrue(snapshot.isAvailable());
+            assertEquals(2, snapshot.getUsageData().getCount());
+            assertEquals(EnforcementTrigger.NO_LICENSE, snapshot.getStatus().getTrigger());
+            assertNotNull(snapshot.getTakenAt());
+        }
+        assertEquals(2, store.load().get().getCount());
+    }
+
+    @Test
+    public void testToMap_StatusAndUsageForJson() throws Exception {
+        EnforcementStatus status = engine.enforce();
+
+        Map<String, Object> map = engine.snapshot().toMap();
+
+        assertEquals(Boolean.TRUE, map.get("available"));
+        assertEquals(status.getLimpMode().name(), map.get("limpMode"));
+        assertEquals("NO_LICENSE", map.get("trigger"));
+        assertEquals(Boolean.FALSE, map.get("blocked"));
+        assertNull(map.get("license"));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> usage = (Map<String, Object>) map.get("usage");
+        assertEquals(1, usage.get("count"));
+        assertNotNull(usage.get("firstExecution"));
+    }
+
+    @Test
+    public void testMonitor_RegisteredAsMBean() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        new EnforcementMonitor(engine).registerMBean(server);
+        ObjectName name = new ObjectName("io.catalyst.bridge:type=Enforcement");
+
+        assertEquals(Boolean.FALSE, server.getAttribute(name, "Available"));
+        assertEquals(0, server.getAttribute(name, "ExecutionsUsed"));
+
+        EnforcementStatus status = engine.enforce();
+
+        assertEquals(Boolean.TRUE, server.getAttribute(name, "Available"));
+        assertEquals(1, server.getAttribute(name, "ExecutionsUsed"));
+        assertEquals(status.getLimpMode().name(), server.getAttribute(name, "LimpMode"));
+        assertEquals("NO_LICENSE", server.getAttribute(name, "Trigger"));
+        assertNull(server.getAttribute(name, "LicenseTier"));
+    }
+}
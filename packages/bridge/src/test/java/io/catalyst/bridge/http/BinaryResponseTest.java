@@ -0,0 +1,151 @@
+package io.catalyst.bridge.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for binary and size-limited response handling.
+ */
+public class BinaryResponseTest {
+
+    private HttpServer server;
+
+    @After
+    public void tearDown() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void testAuto_PdfResponseIsStreamedToFile() throws IOException {
+        byte[] pdf = new byte[200_000];
+        for (int i = 0; i < pdf.length; i++) {
+            pdf[i] = (byte) (i * 31);
+        }
+        String url = serve("application/pdf", "attachment; filename=\"x.pdf\"; filename*=UTF-8''r%C3%A9sum%C3%A9.pdf",
+            pdf, false);
+
+        WebhookResponse response = new HttpClientTransport().send(WebhookRequest.builder()
+            .url(url)
+            .body("{}")
+            .responseMode(ResponseMode.AUTO)
+            .build(), null);
+
+        assertTrue(response.isBinary());
+        assertEquals("", response.getBody());
+        BinaryBody binary = response.getBinaryBody();
+        Path file = binary.getFile();
+        assertEquals("résumé.pdf", binary.getFilename());
+        assertEquals("application/pdf", binary.getContentType());
+        assertEquals(pdf.length, binary.getSize());
+        assertArrayEquals(pdf, Files.readAllBytes(file));
+
+        binary.close();
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void testAuto_JsonResponseStaysText() throws IOException {
+        String url = serve("application/json; charset=utf-8", null, "{\"ok\":true}".getBytes("UTF-8"), false);
+
+        WebhookResponse response = new HttpClientTransport().send(WebhookRequest.builder()
+            .url(url)
+            .responseMode(ResponseMode.AUTO)
+            .build(), null);
+
+        assertFalse(response.isBinary());
+        assertEquals("{\"ok\":true}", response.getBody());
+    }
+
+    @Test(expected = ResponseTooLargeException.class)
+    public void testMaxResponseBytes_ChunkedBodyAbortsEarly() throws IOException {
+        String url = serve("application/octet-stream", null, new byte[1024 * 1024], true);
+
+        new HttpClientTransport().send(WebhookRequest.builder()
+            .url(url)
+            .responseMode(ResponseMode.BINARY)
+            .maxResponseBytes(64 * 1024)
+            .build(), null);
+    }
+
+    @Test(expected = ResponseTooLargeException.class)
+    public void testMaxResponseBytes_TextOverLimitThrows() throws IOException {
+        String url = serve("application/json", null, new byte[10_000], false);
+
+        new HttpClientTransport().send(WebhookRequest.builder()
+            .url(url)
+            .maxResponseBytes(1000)
+            .build(), null);
+    }
+
+    @Test
+    public void testLoopback_BinaryRoundTrip() throws IOException {
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G', 0, 1, 2};
+        Path source = Files.createTempFile("binary-test", ".png");
+        Files.write(source, png);
+        try (BinaryBody served = BinaryBody.spill(Files.newInputStream(source), "image/png", "chart.png", 0, null)) {
+            LoopbackTransport transport = new LoopbackTransport(request -> new WebhookResponse(served, 200, -1, -1));
+
+            WebhookResponse response = transport.send(WebhookRequest.builder()
+                .url("http://n8n:5678/webhook/chart")
+                .responseMode(ResponseMode.AUTO)
+                .build(), null);
+
+            try (BinaryBody binary = response.getBinaryBody()) {
+                assertEquals("chart.png", binary.getFilename());
+                assertArrayEquals(png, Files.readAllBytes(binary.getFile()));
+            }
+        } finally {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    @Test
+    public void testFilename_ParsesAndStripsDirectories() {
+        assertEquals("report.csv", ResponseReader.filename("attachment; filename=\"../../etc/report.csv\""));
+        assertEquals("a;b.txt", ResponseReader.filename("inline; filename=\"a;b.txt\""));
+        assertEquals("plain.bin", ResponseReader.filename("attachment; filename=plain.bin"));
+        assertNull(ResponseReader.filename("inline"));
+        assertNull(ResponseReader.filename(null));
+    }
+
+    @Test
+    public void testResponseMode_AutoDetection() {
+        assertFalse(ResponseMode.AUTO.isBinary(null));
+        assertFalse(ResponseMode.AUTO.isBinary("text/html; charset=utf-8"));
+        assertFalse(ResponseMode.AUTO.isBinary("application/problem+json"));
+        assertFalse(ResponseMode.AUTO.isBinary("application/xml"));
+        assertTrue(ResponseMode.AUTO.isBinary("image/png"));
+        assertTrue(ResponseMode.AUTO.isBinary("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+        assertFalse(ResponseMode.TEXT.isBinary("image/png"));
+    }
+
+    private String serve(String contentType, String disposition, byte[] body, boolean chunked) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            if (disposition != null) {
+                exchange.getResponseHeaders().set("Content-Disposition", disposition);
+            }
+            exchange.sendResponseHeaders(200, chunked ? 0 : body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            } catch (IOException e) {
+                // Client aborted the download
+            }
+        });
+        server.start();
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/webhook/doc";
+    }
+}
@@ -0,0 +1,134 @@
+package io.catalyst.bridge.http;
+
+import com.sun.net.httpserver.HttpServer;
+import io.catalyst.bridge.config.CompressionConfig;
+import io.catalyst.bridge.metrics.CompressionStats;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for ContentCoding and WebhookClient compression negotiation.
+ */
+public class ContentCodingTest {
+
+    private static final String LARGE_JSON = "{\"items\":[" + "{\"name\":\"item\",\"value\":42},".repeat(1000) + "{}]}";
+
+    @Test
+    public void testEncodeDecode_GzipAndDeflateRoundTrip() throws IOException {
+        byte[] body = LARGE_JSON.getBytes(StandardCharsets.UTF_8);
+        for (String coding : new String[] {ContentCoding.GZIP, ContentCoding.DEFLATE}) {
+            byte[] encoded = ContentCoding.encode(coding, body);
+            assertTrue(coding + " should compress", encoded.length < body.length / 10);
+            try (InputStream in = ContentCoding.decode(coding, new ByteArrayInputStream(encoded))) {
+                assertArrayEquals(body, in.readAllBytes());
+            }
+        }
+    }
+
+    @Test
+    public void testDecode_StackedCodingsAndEmptyBody() throws IOException {
+        byte[] body = "hello".getBytes(StandardCharsets.UTF_8);
+        byte[] twice = ContentCoding.encode(ContentCoding.GZIP, ContentCoding.encode(ContentCoding.DEFLATE, body));
+        try (InputStream in = ContentCoding.decode("deflate, gzip", new ByteArrayInputStream(twice))) {
+            assertArrayEquals(body, in.readAllBytes());
+        }
+        try (InputStream in = ContentCoding.decode("gzip", new ByteArrayInputStream(new byte[0]))) {
+            assertEquals(0, in.readAllBytes().length);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testDecode_UnknownCoding_Throws() throws IOException {
+        ContentCoding.decode("br", new ByteArrayInputStream(new byte[] {1, 2, 3}));
+    }
+
+    @Test
+    public void testCodecDecodeResponse_GzipBodyReportsBothSizes() throws IOException {
+        byte[] body = LARGE_JSON.getBytes(StandardCharsets.UTF_8);
+        byte[] gzipped = ContentCoding.encode(ContentCoding.GZIP, body);
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        raw.write(("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nContent-Encoding: gzip\r\n" +
+            "Content-Length: " + gzipped.length + "\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        raw.write(gzipped);
+
+        Http1Codec.Response response = Http1Codec.decodeResponse(new ByteArrayInputStream(raw.toByteArray()));
+
+        assertEquals(LARGE_JSON, response.response.getBody());
+        assertEquals(body.length, response.response.getDecodedLength());
+        assertEquals(gzipped.length, response.response.getWireLength());
+    }
+
+    @Test
+    public void testExecute_CompressesOnlyAboveThreshold() throws IOException {
+        AtomicReference<WebhookRequest> received = new AtomicReference<>();
+        LoopbackTransport transport = new LoopbackTransport(request -> {
+            received.set(request);
+            return new WebhookResponse("{}", 200);
+        });
+        WebhookClient client = new WebhookClient(transport, Collections.emptyMap(), CompressionConfig.builder()
+            .requestCoding("gzip")
+            .thresholdBytes(1024)
+            .build(), new CompressionStats());
+        String url = "http://n8n:5678/webhook/test";
+
+        client.execute(WebhookRequest.builder().url(url + "?small=1").body("{\"a\":1}").build());
+        assertNull(received.get().getHeaders().get("content-encoding"));
+        assertEquals("{\"a\":1}", received.get().getBodyAsString());
+        assertEquals("gzip, deflate", received.get().getHeaders().get("accept-encoding").replace(", zstd", ""));
+
+        client.execute(WebhookRequest.builder().url(url).body(LARGE_JSON).build());
+        assertEquals("gzip", received.get().getHeaders().get("content-encoding"));
+        try (InputStream in = ContentCoding.decode("gzip", new ByteArrayInputStream(received.get().getBody()))) {
+            assertEquals(LARGE_JSON, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        double ratio = client.getCompressionStats().getRequestRatio(url);
+        assertTrue("ratio " + ratio, ratio < 0.2);
+        assertEquals(1.0, client.getCompressionStats().getRequestRatio("http://n8n:5678/webhook/other"), 0.0);
+    }
+
+    @Test
+    public void testHttpClientTransport_DecodesGzipResponse() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        AtomicReference<String> acceptEncoding = new AtomicReference<>();
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            acceptEncoding.set(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+            ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+            try (GZIPOutputStream out = new GZIPOutputStream(gzipped)) {
+                out.write(LARGE_JSON.getBytes(StandardCharsets.UTF_8));
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, gzipped.size());
+            try (OutputStream out = exchange.getResponseBody()) {
+                gzipped.writeTo(out);
+            }
+        });
+        server.start();
+        try {
+            WebhookClient client = new WebhookClient();
+            String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/webhook/test";
+            WebhookResponse response = client.execute(WebhookRequest.builder().url(url).body("{}").build());
+
+            assertEquals(LARGE_JSON, response.getBody());
+            assertTrue(acceptEncoding.get().startsWith("gzip, deflate"));
+            assertTrue(response.getWireLength() < response.getDecodedLength() / 10);
+            assertTrue(client.getCompressionStats().getResponseRatio(url) < 0.1);
+        } finally {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package io.catalyst.bridge.http;
+
+import com.sun.net.httpserver.HttpServer;
+import io.catalyst.bridge.config.TransportConfig;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpVersion;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.nio.AsyncRequestConsumer;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.entity.StringAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.nio.support.BasicResponseProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.ListenerEndpoint;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for Http2Transport.
+ */
+public class Http2TransportTest {
+
+    private HttpAsyncServer h2Server;
+    private HttpServer http1Server;
+    private Http2Transport transport;
+
+    @After
+    public void tearDown() {
+        if (transport != null) {
+            transport.close();
+        }
+        if (h2Server != null) {
+            h2Server.close(CloseMode.IMMEDIATE);
+        }
+        if (http1Server != null) {
+            http1Server.stop(0);
+        }
+    }
+
+    @Test
+    public void testH2c_MultiplexesConcurrentCalls() throws Exception {
+        Set<String> versions = ConcurrentHashMap.newKeySet();
+        h2Server = H2ServerBootstrap.bootstrap()
+            .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_2)
+            .register("*", new EchoHandler(versions))
+            .create();
+        h2Server.start();
+        ListenerEndpoint endpoint = h2Server.listen(new InetSocketAddress("127.0.0.1", 0)).get();
+        int port = ((InetSocketAddress) endpoint.getAddress()).getPort();
+
+        transport = new Http2Transport(TransportConfig.builder().build(), new HttpClientTransport(), Clock.systemUTC());
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            List<Future<WebhookResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                String body = "{\"i\":" + i + "}";
+                futures.add(executor.submit(() -> transport.send(WebhookRequest.builder()
+                    .url("http://127.0.0.1:" + port + "/webhook/test")
+                    .body(body)
+                    .timeoutSeconds(5)
+                    .build(), null)));
+            }
+            for (int i = 0; i < 20; i++) {
+                WebhookResponse response = futures.get(i).get();
+                assertEquals(200, response.getStatusCode());
+                assertEquals("echo:{\"i\":" + i + "}", response.getBody());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(Set.of(HttpVersion.HTTP_2.toString()), versions);
+        assertFalse(transport.isFallenBack("http://127.0.0.1:" + port + "/webhook/test"));
+    }
+
+    @Test
+    public void testHttp1OnlyRoute_FallsBackToHttp1() throws Exception {
+        http1Server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        http1Server.createContext("/", exchange -> {
+            byte[] response = "{\"ok\":true}".getBytes(StandardCharsets.UTF_8);
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        http1Server.start();
+        String url = "http://127.0.0.1:" + http1Server.getAddress().getPort() + "/webhook/test";
+
+        transport = new Http2Transport(TransportConfig.builder().build(), new HttpClientTransport(), Clock.systemUTC());
+        for (int i = 0; i < 3; i++) {
+            WebhookResponse response = transport.send(WebhookRequest.builder()
+                .url(url)
+                .body("{}")
+                .timeoutSeconds(5)
+                .build(), null);
+            assertEquals(200, response.getStatusCode());
+            assertEquals("{\"ok\":true}", response.getBody());
+        }
+        assertTrue(transport.isFallenBack(url));
+    }
+
+    @Test
+    public void testHttp2Route_FailedCallIsNotResentOverHttp1() throws Exception {
+        Set<String> methods = ConcurrentHashMap.newKeySet();
+        h2Server = H2ServerBootstrap.bootstrap()
+            .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_2)
+            .register("*", new EchoHandler(ConcurrentHashMap.newKeySet()) {
+                @Override
+                public void handle(Message<HttpRequest, String> message, ResponseTrigger trigger, HttpContext context)
+                        throws org.apache.hc.core5.http.HttpException, java.io.IOException {
+                    methods.add(message.getHead().getMethod());
+                    if ("POST".equals(message.getHead().getMethod())) {
+                        // Resets the stream after the request was received
+                        throw new IllegalStateException("crashed while processing");
+                    }
+                    super.handle(message, trigger, context);
+                }
+            })
+            .create();
+        h2Server.start();
+        ListenerEndpoint endpoint = h2Server.listen(new InetSocketAddress("127.0.0.1", 0)).get();
+        String url = "http://127.0.0.1:" + ((InetSocketAddress) endpoint.getAddress()).getPort() + "/webhook/test";
+        AtomicInteger fallbackCalls = new AtomicInteger();
+        WebhookTransport fallback = (request, cancellation) -> {
+            fallbackCalls.incrementAndGet();
+            return new WebhookResponse("{}", 200);
+        };
+
+        transport = new Http2Transport(TransportConfig.builder().build(), fallback, Clock.systemUTC());
+        try {
+            transport.send(WebhookRequest.builder().url(url).body("{}").timeoutSeconds(5).build(), null);
+            fail("Expected the reset stream to fail the call");
+        } catch (IOException e) {
+            // expected
+        }
+
+        assertEquals(0, fallbackCalls.get());
+        assertEquals(Set.of("OPTIONS", "POST"), methods);
+        assertFalse(transport.isFallenBack(url));
+    }
+
+    /**
+     * Echoes the request body and records the protocol version.
+     */
+    private static class EchoHandler implements AsyncServerRequestHandler<Message<HttpRequest, String>> {
+        private final Set<String> versions;
+
+        EchoHandler(Set<String> versions) {
+            this.versions = versions;
+        }
+
+        @Override
+        public AsyncRequestConsumer<Message<HttpRequest, String>> prepare(
+                HttpRequest request, EntityDetails entityDetails, HttpContext context) {
+            return new BasicRequestConsumer<>(new StringAsyncEntityConsumer());
+        }
+
+        @Override
+        public void handle(Message<HttpRequest, String> message, ResponseTrigger trigger, HttpContext context)
+                throws org.apache.hc.core5.http.HttpException, java.io.IOException {
+            versions.add(String.valueOf(context.getProtocolVersion()));
+            trigger.submitResponse(new BasicResponseProducer(200, "echo:" + message.getBody(),
+                ContentType.APPLICATION_JSON), context);
+        }
+    }
+}
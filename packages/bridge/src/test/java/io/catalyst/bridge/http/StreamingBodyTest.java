@@ -0,0 +1,159 @@
+package io.catalyst.bridge.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for streaming request bodies.
+ */
+public class StreamingBodyTest {
+
+    @Test
+    public void testMultipart_KnownLengthMatchesWrittenBytes() throws IOException {
+        MultipartBody body = MultipartBody.builder()
+            .boundary("b0undary")
+            .part("payload", "{\"id\":1}".getBytes(StandardCharsets.UTF_8), "application/json")
+            .part("invoice", InputStreamBody.of("PDF".getBytes(StandardCharsets.UTF_8), "application/pdf",
+                "in\"voice.pdf"))
+            .build();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+
+        String expected = "--b0undary\r\n" +
+            "Content-Disposition: form-data; name=\"payload\"\r\n" +
+            "Content-Type: application/json\r\n\r\n" +
+            "{\"id\":1}\r\n" +
+            "--b0undary\r\n" +
+            "Content-Disposition: form-data; name=\"invoice\"; filename=\"in%22voice.pdf\"\r\n" +
+            "Content-Type: application/pdf\r\n\r\n" +
+            "PDF\r\n" +
+            "--b0undary--\r\n";
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+        assertEquals(out.size(), body.getContentLength());
+        assertEquals("multipart/form-data; boundary=b0undary", body.getContentType());
+    }
+
+    @Test
+    public void testMultipart_UnknownPartLength_IsChunked() {
+        MultipartBody body = MultipartBody.builder()
+            .part("file", new InputStreamBody(() -> new PatternInputStream(10), null, -1, "a.bin"))
+            .build();
+        assertEquals(-1, body.getContentLength());
+    }
+
+    @Test
+    public void testLoopback_ChunkedRawBodyRoundTrips() throws IOException {
+        AtomicReference<WebhookRequest> received = new AtomicReference<>();
+        LoopbackTransport transport = new LoopbackTransport(request -> {
+            received.set(request);
+            return new WebhookResponse("{}", 200);
+        });
+
+        int size = 20_000;
+        transport.send(WebhookRequest.builder()
+            .url("http://n8n:5678/webhook/upload")
+            .streamingBody(new InputStreamBody(() -> new PatternInputStream(size), "image/png", -1, null))
+            .build(), null);
+
+        assertEquals("image/png", received.get().getContentType());
+        byte[] body = received.get().getBody();
+        assertEquals(size, body.length);
+        for (int i = 0; i < size; i++) {
+            assertEquals((byte) i, body[i]);
+        }
+    }
+
+    @Test
+    public void testHttpClientTransport_StreamsLargeFileChunked() throws IOException {
+        long size = 32L * 1024 * 1024;
+        AtomicLong receivedBytes = new AtomicLong();
+        AtomicReference<String> transferEncoding = new AtomicReference<>();
+        AtomicReference<String> contentType = new AtomicReference<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            transferEncoding.set(exchange.getRequestHeaders().getFirst("Transfer-Encoding"));
+            contentType.set(exchange.getRequestHeaders().getFirst("Content-Type"));
+            byte[] buffer = new byte[8192];
+            long total = 0;
+            int n;
+            try (InputStream in = exchange.getRequestBody()) {
+                while ((n = in.read(buffer)) >= 0) {
+                    total += n;
+                }
+            }
+            receivedBytes.set(total);
+            exchange.sendResponseHeaders(200, 2);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write("{}".getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        server.start();
+        try {
+            MultipartBody body = MultipartBody.builder()
+                .part("payload", "{}".getBytes(StandardCharsets.UTF_8), "application/json")
+                .part("video", new InputStreamBody(() -> new PatternInputStream(size), "video/mp4", -1, "v.mp4"))
+                .build();
+            WebhookResponse response = new WebhookClient().execute(WebhookRequest.builder()
+                .url("http://127.0.0.1:" + server.getAddress().getPort() + "/webhook/upload")
+                .streamingBody(body)
+                .build());
+
+            assertEquals(200, response.getStatusCode());
+            assertEquals("chunked", transferEncoding.get());
+            assertEquals(body.getContentType(), contentType.get());
+            assertTrue(receivedBytes.get() > size);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRequest_BodyAndStreamingBody_Throws() {
+        WebhookRequest.builder()
+            .url("http://n8n:5678/webhook/upload")
+            .body("{}")
+            .streamingBody(InputStreamBody.of(new byte[1], null, null))
+            .build();
+    }
+
+    /**
+     * Generates {@code (byte) i} for i in [0, size) without holding the content.
+     */
+    private static class PatternInputStream extends InputStream {
+        private final long size;
+        private long position;
+
+        PatternInputStream(long size) {
+            this.size = size;
+        }
+
+        @Override
+        public int read() {
+            return position < size ? (int) (position++ & 0xFF) : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (position >= size) {
+                return -1;
+            }
+            int n = (int) Math.min(len, size - position);
+            for (int i = 0; i < n; i++) {
+                b[off + i] = (byte) position++;
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package io.catalyst.bridge.http;
+
+import io.catalyst.bridge.config.TransportConfig;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ProtocolFamily;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for WebhookClient transport selection and the non-HttpClient transports.
+ */
+public class WebhookTransportTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testLoopback_RoundTripsRequestAndResponse() throws IOException {
+        AtomicReference<WebhookRequest> received = new AtomicReference<>();
+        LoopbackTransport transport = new LoopbackTransport(request -> {
+            received.set(request);
+            return new WebhookResponse("{\"ok\":\"ü\"}", 201);
+        });
+
+        WebhookResponse response = transport.send(WebhookRequest.builder()
+            .url("http://n8n:5678/webhook/test?x=1")
+            .body("{\"name\":\"ü\"}")
+            .header("X-Trace", "abc")
+            .build(), null);
+
+        assertEquals(201, response.getStatusCode());
+        assertEquals("{\"ok\":\"ü\"}", response.getBody());
+        assertEquals("http://n8n:5678/webhook/test?x=1", received.get().getUrl());
+        assertEquals("{\"name\":\"ü\"}", received.get().getBodyAsString());
+        assertEquals("abc", received.get().getHeaders().get("x-trace"));
+        assertEquals("application/json", received.get().getContentType());
+    }
+
+    @Test
+    public void testWriteRequest_HeaderWithLineBreak_Throws() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (String value : new String[] {"a\r\nX-Injected: 1", "a\nb", "a\0b"}) {
+            try {
+                Http1Codec.writeRequest(WebhookRequest.builder()
+                    .url("http://n8n:5678/webhook/test")
+                    .header("X-Trace", value)
+                    .build(), true, out);
+                fail("Expected IllegalArgumentException for " + value);
+            } catch (IllegalArgumentException expected) {
+                // Rejected before anything is written
+            }
+        }
+        try {
+            Http1Codec.writeRequest(WebhookRequest.builder()
+                .url("http://n8n:5678/webhook/test")
+                .header("X-Bad\r\nName", "a")
+                .build(), true, out);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // Rejected before anything is written
+        }
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    public void testDecodeResponse_ChunkedAndInterim() throws IOException {
+        String raw = "HTTP/1.1 100 Continue\r\n\r\n" +
+            "HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\nContent-Type: application/json\r\n\r\n" +
+            "4\r\n{\"a\"\r\n3;ext=1\r\n:1}\r\n0\r\n\r\n";
+        Http1Codec.Response response = Http1Codec.decodeResponse(
+            new ByteArrayInputStream(raw.getBytes(StandardCharsets.ISO_8859_1)));
+
+        assertEquals(200, response.response.getStatusCode());
+        assertEquals("{\"a\":1}", response.response.getBody());
+        assertTrue(response.keepAlive);
+    }
+
+    @Test
+    public void testDecodeResponse_ConnectionCloseIsNotReusable() throws IOException {
+        String raw = "HTTP/1.1 500 Oops\r\nConnection: close\r\n\r\nfailed";
+        Http1Codec.Response response = Http1Codec.decodeResponse(
+            new ByteArrayInputStream(raw.getBytes(StandardCharsets.ISO_8859_1)));
+
+        assertEquals(500, response.response.getStatusCode());
+        assertEquals("failed", response.response.getBody());
+        assertFalse(response.keepAlive);
+    }
+
+    @Test
+    public void testTransportFor_LongestBaseUrlPrefixWins() {
+        WebhookTransport tcp = (request, cancellation) -> null;
+        WebhookTransport socket = (request, cancellation) -> null;
+        WebhookClient client = new WebhookClient(tcp, Collections.singletonMap("http://n8n:5678", socket));
+
+        assertSame(socket, client.transportFor("http://n8n:5678/webhook/x"));
+        assertSame(tcp, client.transportFor("http://n8n:56789/webhook/x"));
+        assertSame(tcp, client.transportFor("http://other:5678/webhook/x"));
+    }
+
+    @Test
+    public void testTransportConfig_ParsesSocketMappings() {
+        TransportConfig config = TransportConfig.fromEnvironment(Map.of(
+            TransportConfig.UNIX_SOCKETS_ENV, "http://n8n:5678/=/var/run/n8n.sock; http://ai:5678=/tmp/ai.sock"));
+
+        assertEquals(2, config.getUnixSockets().size());
+        assertEquals("/var/run/n8n.sock", config.getUnixSockets().get("http://n8n:5678").toString());
+        assertEquals("/tmp/ai.sock", config.getUnixSockets().get("http://ai:5678").toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTransportConfig_MalformedEntry_Throws() {
+        TransportConfig.fromEnvironment(Map.of(TransportConfig.UNIX_SOCKETS_ENV, "/var/run/n8n.sock"));
+    }
+
+    @Test
+    public void testUnixSocket_SendsRequestsOverKeepAliveConnection() throws Exception {
+        Assume.assumeTrue("Unix domain sockets need Java 16+", UnixSocketTransport.isSupported());
+
+        Path socketPath = tempFolder.getRoot().toPath().resolve("n8n.sock");
+        ServerSocketChannel server = (ServerSocketChannel) ServerSocketChannel.class
+            .getMethod("open", ProtocolFamily.class)
+            .invoke(null, UnixSocketTransport.unixProtocolFamily());
+        server.bind(UnixSocketTransport.address(socketPath));
+        AtomicInteger connections = new AtomicInteger();
+
+        Thread serverThread = new Thread(() -> {
+            try {
+                while (true) {
+                    SocketChannel channel = server.accept();
+                    connections.incrementAndGet();
+                    InputStream in = new BufferedInputStream(Channels.newInputStream(channel));
+                    OutputStream out = Channels.newOutputStream(channel);
+                    try {
+                        while (true) {
+                            WebhookRequest request = Http1Codec.decodeRequest(in, "http");
+                            out.write(Http1Codec.encodeResponse(
+                                new WebhookResponse("echo:" + request.getBodyAsString(), 200)));
+                            out.flush();
+                        }
+                    } catch (IOException e) {
+                        channel.close();
+                    }
+                }
+            } catch (IOException e) {
+                // Server closed
+            }
+        });
+        serverThread.setDaemon(true);
+        serverThread.start();
+
+        try (UnixSocketTransport transport = new UnixSocketTransport(socketPath)) {
+            WebhookClient client = new WebhookClient(new HttpClientTransport(),
+                Collections.singletonMap("http://n8n:5678", transport));
+            for (int i = 0; i < 5; i++) {
+                WebhookResponse response = client.execute(WebhookRequest.builder()
+                    .url("http://n8n:5678/webhook/test")
+                    .body("{\"i\":" + i + "}")
+                    .timeoutSeconds(5)
+                    .build());
+                assertEquals(200, response.getStatusCode());
+                assertEquals("echo:{\"i\":" + i + "}", response.getBody());
+            }
+        } finally {
+            server.close();
+        }
+        assertEquals("Connection should be reused", 1, connections.get());
+    }
+
+    @Test(expected = IOException.class)
+    public void testUnixSocket_MissingSocket_ThrowsIOException() throws IOException {
+        Assume.assumeTrue("Unix domain sockets need Java 16+", UnixSocketTransport.isSupported());
+
+        new UnixSocketTransport(tempFolder.getRoot().toPath().resolve("missing.sock"))
+            .send(WebhookRequest.builder().url("http://n8n:5678/webhook/test").build(), null);
+    }
+}
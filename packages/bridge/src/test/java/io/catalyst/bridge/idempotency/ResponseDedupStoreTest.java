@@ -0,0 +1,105 @@
+package io.catalyst.bridge.idempotency;
+
+import io.catalyst.bridge.config.IdempotencyConfig;
+import io.catalyst.bridge.http.WebhookResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for ResponseDedupStore and IdempotencyKeys.
+ */
+public class ResponseDedupStoreTest {
+
+    private static final String URL = "http://localhost:5678/webhook/orders";
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2025-06-01T10:00:00Z"));
+    private Clock clock;
+
+    @Before
+    public void setUp() {
+        clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        };
+    }
+
+    @Test
+    public void testDerive_SameInputs_SameKey() {
+        String key = IdempotencyKeys.derive("pi-1", "Task_Notify", "order-42");
+
+        assertEquals(key, IdempotencyKeys.derive("pi-1", "Task_Notify", "order-42"));
+        assertTrue(key.matches("catalyst-[0-9a-f]{32}"));
+        assertNotEquals(key, IdempotencyKeys.derive("pi-1", "Task_Notify", "order-43"));
+        assertNotEquals(key, IdempotencyKeys.derive("pi-2", "Task_Notify", "order-42"));
+        // Parts are delimited, not concatenated
+        assertNotEquals(IdempotencyKeys.derive("pi-1", "ab", "c"), IdempotencyKeys.derive("pi-1", "a", "bc"));
+    }
+
+    @Test
+    public void testGet_AfterPut_ReturnsResponseForSameUrl() {
+        ResponseDedupStore store = new ResponseDedupStore(IdempotencyConfig.builder().build(), clock);
+
+        assertTrue(store.put("k1", URL, new WebhookResponse("{\"ok\":true}", 200, 11, 11)));
+
+        WebhookResponse cached = store.get("k1", URL);
+        assertEquals("{\"ok\":true}", cached.getBody());
+        assertEquals(200, cached.getStatusCode());
+        assertNull(store.get("k1", "http://localhost:5678/webhook/other"));
+        assertNull(store.get("k2", URL));
+        assertEquals(1, store.getHits());
+        assertEquals(2, store.getMisses());
+    }
+
+    @Test
+    public void testPut_FailedOrLargeResponse_NotStored() {
+        ResponseDedupStore store = new ResponseDedupStore(
+            IdempotencyConfig.builder().maxBodyBytes(10).build(), clock);
+
+        assertFalse(store.put("k1", URL, new WebhookResponse("error", 500)));
+        assertFalse(store.put("k2", URL, new WebhookResponse("{\"items\":[1,2,3]}", 200)));
+        assertTrue(store.put("k3", URL, new WebhookResponse("{}", 201)));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    public void testGet_ExpiredOrEvicted_ReturnsNull() {
+        ResponseDedupStore store = new ResponseDedupStore(IdempotencyConfig.builder()
+            .maxEntries(2)
+            .ttl(Duration.ofMinutes(10))
+            .build(), clock);
+
+        store.put("k1", URL, new WebhookResponse("1", 200));
+        now.set(now.get().plusSeconds(300));
+        store.put("k2", URL, new WebhookResponse("2", 200));
+        store.put("k3", URL, new WebhookResponse("3", 200));
+
+        // k1 evicted as the oldest entry
+        assertNull(store.get("k1", URL));
+        assertEquals("2", store.get("k2", URL).getBody());
+
+        now.set(now.get().plusSeconds(600));
+        assertNull(store.get("k3", URL));
+        assertEquals(0, store.size());
+    }
+}
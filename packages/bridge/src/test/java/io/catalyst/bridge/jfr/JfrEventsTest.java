@@ -0,0 +1,118 @@
+package io.catalyst.bridge.jfr;
+
+import io.catalyst.bridge.config.CatalystPaths;
+import io.catalyst.bridge.config.CompressionConfig;
+import io.catalyst.bridge.config.MetricsConfig;
+import io.catalyst.bridge.enforcement.DelayEnforcer;
+import io.catalyst.bridge.enforcement.EnforcementEngine;
+import io.catalyst.bridge.enforcement.LimpModeEvaluator;
+import io.catalyst.bridge.enforcement.PreGraceEvaluator;
+import io.catalyst.bridge.http.LoopbackTransport;
+import io.catalyst.bridge.http.WebhookClient;
+import io.catalyst.bridge.http.WebhookRequest;
+import io.catalyst.bridge.http.WebhookResponse;
+import io.catalyst.bridge.licensing.LicenseLoader;
+import io.catalyst.bridge.licensing.LicenseValidator;
+import io.catalyst.bridge.logging.EnforcementLogger;
+import io.catalyst.bridge.metrics.WebhookMetrics;
+import io.catalyst.bridge.usage.FileUsageStore;
+import io.catalyst.bridge.usage.RunRateCalculator;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the JFR events emitted by the webhook client, enforcement
+ * and usage store.
+ */
+public class JfrEventsTest {
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void testWebhookCall_RecordedWithRouteStatusAndBytes() throws Exception {
+        WebhookClient client = new WebhookClient(new LoopbackTransport(request -> new WebhookResponse("{}", 404)),
+            Collections.emptyMap(), CompressionConfig.builder().build(),
+            new WebhookMetrics(MetricsConfig.builder().build()));
+
+        List<RecordedEvent> events = record(CatalystWebhookCall.NAME, () ->
+            client.execute(WebhookRequest.builder()
+                .url("http://localhost:5678/webhook/orders?id=7")
+                .body("{\"id\":7}")
+                .build()).discard());
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("/webhook/orders", event.getString("route"));
+        assertEquals(404, event.getInt("statusCode"));
+        assertEquals("non_2xx", event.getString("outcome"));
+        assertEquals(8, event.getLong("requestBytes"));
+    }
+
+    @Test
+    public void testEnforcement_RecordedWithUsagePersist() throws Exception {
+        Path dir = temp.newFolder().toPath();
+        FileUsageStore store = new FileUsageStore(dir.resolve(CatalystPaths.USAGE_FILE_NAME));
+        EnforcementEngine engine = EnforcementEngine.create(
+            new LicenseLoader(new CatalystPaths(dir), new LicenseValidator()), store,
+            new RunRateCalculator(), new PreGraceEvaluator(), new LimpModeEvaluator(),
+            new EnforcementLogger(), new DelayEnforcer(millis -> { }), Clock.systemUTC());
+
+        List<RecordedEvent> events = record(null, engine::enforce);
+
+        RecordedEvent enforcement = only(events, CatalystEnforcement.NAME);
+        assertEquals(1, enforcement.getInt("usageCount"));
+        assertEquals("NO_LICENSE", enforcement.getString("trigger"));
+        assertFalse(enforcement.getBoolean("blocked"));
+        List<RecordedEvent> persists = events.stream()
+            .filter(e -> e.getEventType().getName().equals(CatalystUsagePersist.NAME))
+            .collect(Collectors.toList());
+        assertFalse(persists.isEmpty());
+        assertEquals("incrementAndGet", persists.get(0).getString("operation"));
+        assertEquals(store.getFilePath().toString(), persists.get(0).getString("path"));
+        // Persisting happens inside the enforcement check
+        assertFalse(persists.get(0).getStartTime().isBefore(enforcement.getStartTime()));
+    }
+
+    private List<RecordedEvent> record(String eventName, ThrowingRunnable action) throws Exception {
+        Path file = temp.newFile("recording.jfr").toPath();
+        try (Recording recording = new Recording()) {
+            for (String name : new String[] {CatalystWebhookCall.NAME, CatalystEnforcement.NAME,
+                    CatalystUsagePersist.NAME, CatalystOutputMapping.NAME}) {
+                recording.enable(name);
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+            .filter(e -> e.getEventType().getName().startsWith("io.catalyst."))
+            .filter(e -> eventName == null || e.getEventType().getName().equals(eventName))
+            .collect(Collectors.toList());
+    }
+
+    private static RecordedEvent only(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+            .filter(e -> e.getEventType().getName().equals(name))
+            .collect(Collectors.toList());
+        assertEquals(1, matching.size());
+        return matching.get(0);
+    }
+
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
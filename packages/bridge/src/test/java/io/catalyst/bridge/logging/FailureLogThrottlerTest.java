@@ -0,0 +1,161 @@
+package io.catalyst.bridge.logging;
+
+import io.catalyst.bridge.config.LogThrottleConfig;
+import io.catalyst.bridge.config.MetricsConfig;
+import io.catalyst.bridge.metrics.ExecutionFailures;
+import io.catalyst.bridge.metrics.FailureCount;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.net.SocketTimeoutException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for FailureLogThrottler and ExecutionFailures.
+ */
+public class FailureLogThrottlerTest {
+
+    private static final String URL_A = "http://localhost:5678/webhook/a";
+    private static final String URL_B = "http://localhost:5678/webhook/b";
+
+    private final MutableClock clock = new MutableClock();
+    private final List<String> log = new ArrayList<>();
+    private ExecutionFailures failures;
+
+    @Before
+    public void setUp() {
+        failures = new ExecutionFailures(MetricsConfig.builder().build());
+    }
+
+    @Test
+    public void testRecordFailure_FirstLoggedThenSummarizedWithExactCounts() {
+        FailureLogThrottler throttler = throttler(LogThrottleConfig.builder().first(5).build());
+
+        int logged = 0;
+        for (int i = 0; i < 1243; i++) {
+            if (throttler.recordFailure(URL_A, new SocketTimeoutException("Read timed out"))) {
+                logged++;
+            }
+        }
+
+        assertEquals(5, logged);
+        assertEquals(1238, throttler.getSuppressedCount());
+        assertEquals(1, log.size());
+        assertTrue(log.get(0).contains("More than 5 SocketTimeoutException to /webhook/a"));
+        assertEquals(1243, count("/webhook/a", "SocketTimeoutException").getCount());
+
+        clock.advance(Duration.ofSeconds(60));
+        assertTrue(throttler.recordFailure(URL_A, new SocketTimeoutException("Read timed out")));
+
+        assertEquals(2, log.size());
+        assertEquals("[CATALYST] 1,243 SocketTimeoutException to /webhook/a in last 60s (5 logged in full)",
+            log.get(1));
+        assertEquals(1244, count("/webhook/a", "SocketTimeoutException").getCount());
+    }
+
+    @Test
+    public void testRecordFailure_ThrottledPerRouteAndError() {
+        FailureLogThrottler throttler = throttler(LogThrottleConfig.builder().first(1).build());
+
+        assertTrue(throttler.recordFailure(URL_A, "HTTP 503"));
+        assertFalse(throttler.recordFailure(URL_A, "HTTP 503"));
+        assertTrue(throttler.recordFailure(URL_A, "HTTP 502"));
+        assertTrue(throttler.recordFailure(URL_B, "HTTP 503"));
+        assertFalse(throttler.recordFailure(URL_B, "HTTP 503"));
+
+        assertEquals(2, count("/webhook/a", "HTTP 503").getCount());
+        assertEquals(1, count("/webhook/a", "HTTP 502").getCount());
+        assertEquals(2, count("/webhook/b", "HTTP 503").getCount());
+    }
+
+    @Test
+    public void testSummarizeDue_WritesSummaryWithoutFurtherFailuresAndQuietsBanner() {
+        FailureLogThrottler throttler = throttler(LogThrottleConfig.builder().first(1).build());
+        assertFalse(throttler.isBannerQuiet());
+
+        throttler.recordFailure(URL_A, "HTTP 503");
+        throttler.recordFailure(URL_A, "HTTP 503");
+        throttler.recordFailure(URL_A, "HTTP 503");
+        assertTrue(throttler.isBannerQuiet());
+
+        clock.advance(Duration.ofSeconds(30));
+        throttler.summarizeDue();
+        assertEquals(1, log.size());
+
+        clock.advance(Duration.ofSeconds(30));
+        throttler.summarizeDue();
+        assertEquals(2, log.size());
+        assertTrue(log.get(1).startsWith("[CATALYST] 3 HTTP 503 to /webhook/a in last 60s"));
+        assertFalse(throttler.isBannerQuiet());
+        assertTrue(throttler.recordFailure(URL_A, "HTTP 503"));
+    }
+
+    @Test
+    public void testRecordFailure_DisabledLogsEveryFailureAndStillCounts() throws Exception {
+        FailureLogThrottler throttler = throttler(LogThrottleConfig.builder().enabled(false).first(1).build());
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        failures.registerMBeans(server);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(throttler.recordFailure(URL_A, new IllegalStateException()));
+        }
+
+        assertTrue(log.isEmpty());
+        assertFalse(throttler.isBannerQuiet());
+        ObjectName name = new ObjectName("io.catalyst.bridge:type=Failures,route=\"/webhook/a\","
+            + "error=\"IllegalStateException\"");
+        assertEquals(10L, server.getAttribute(name, "Count"));
+        assertEquals(clock.instant().toString(), server.getAttribute(name, "LastFailureAt"));
+    }
+
+    private FailureLogThrottler throttler(LogThrottleConfig config) {
+        return new FailureLogThrottler(config, failures, clock, log::add);
+    }
+
+    private FailureCount count(String route, String error) {
+        for (FailureCount count : failures.getCounts()) {
+            if (count.getRoute().equals(route) && count.getError().equals(error)) {
+                return count;
+            }
+        }
+        throw new AssertionError("No failures counted for " + route + " " + error);
+    }
+
+    /**
+     * A clock that only moves when advanced.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-03-01T12:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package io.catalyst.bridge.mapping;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.catalyst.bridge.http.LoopbackTransport;
+import io.catalyst.bridge.http.WebhookRequest;
+import io.catalyst.bridge.http.WebhookResponse;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for ItemStreamProcessor.
+ */
+public class ItemStreamProcessorTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    public void testHandle_NdjsonWithMapping_MapsEachItem() throws IOException {
+        Map<String, String> mapping = new LinkedHashMap<>();
+        mapping.put("id", "$.id");
+        mapping.put("city", "$.address.city");
+        ItemStreamProcessor processor = new ItemStreamProcessor(mapping, 1024 * 1024);
+
+        ItemStreamResult result = processor.handle(stream(
+            "{\"id\":1,\"address\":{\"city\":\"Berlin\"},\"noise\":\"x\"}\n" +
+            "{\"id\":2,\"address\":{\"city\":\"Paris\"}}\n"), "application/x-ndjson");
+
+        assertFalse(result.isSpilled());
+        assertEquals(2, result.getCount());
+        List<Object> items = result.getItems();
+        assertEquals(2, items.size());
+        Map<?, ?> first = (Map<?, ?>) items.get(0);
+        assertEquals(1, first.get("id"));
+        assertEquals("Berlin", first.get("city"));
+        assertEquals("Paris", ((Map<?, ?>) items.get(1)).get("city"));
+    }
+
+    @Test
+    public void testHandle_TopLevelArrayWithoutMapping_KeepsItems() throws IOException {
+        ItemStreamProcessor processor = new ItemStreamProcessor(null, 1024 * 1024);
+
+        ItemStreamResult result = processor.handle(stream("[1, \"two\", [3], null]"), "application/json");
+
+        assertEquals(4, result.getCount());
+        assertEquals(Arrays.asList(1, "two", Collections.singletonList(3), null), result.getItems());
+    }
+
+    @Test
+    public void testHandle_EmptyBody_NoItems() throws IOException {
+        ItemStreamResult result = new ItemStreamProcessor(null, 1024).handle(stream(""), null);
+
+        assertEquals(0, result.getCount());
+        assertTrue(result.getItems().isEmpty());
+    }
+
+    @Test
+    public void testHandle_OverThreshold_SpillsToJsonFile() throws IOException {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            body.append("{\"id\":").append(i).append(",\"meta\":{\"tag\":\"t").append(i).append("\"}}\n");
+        }
+        Map<String, String> mapping = new LinkedHashMap<>();
+        mapping.put("id", "$.id");
+        mapping.put("meta", "$.meta");
+
+        ItemStreamResult result = new ItemStreamProcessor(mapping, 4096).handle(stream(body.toString()), null);
+        Path file = result.getFile();
+
+        assertTrue(result.isSpilled());
+        assertNull(result.getItems());
+        assertEquals(5000, result.getCount());
+        assertEquals(Files.size(file), result.getSize());
+        JsonNode items = OBJECT_MAPPER.readTree(file.toFile());
+        assertEquals(5000, items.size());
+        assertEquals(4999, items.get(4999).get("id").asInt());
+        assertEquals("t7", items.get(7).get("meta").get("tag").asText());
+
+        result.close();
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void testResponseHandler_AppliedOnlyToSuccessfulResponses() throws IOException {
+        ItemStreamProcessor processor = new ItemStreamProcessor(null, 1024);
+        LoopbackTransport ok = new LoopbackTransport(request -> new WebhookResponse("[1,2,3]", 200));
+        LoopbackTransport failed = new LoopbackTransport(request -> new WebhookResponse("{\"error\":1}", 500));
+        WebhookRequest request = WebhookRequest.builder()
+            .url("http://n8n:5678/webhook/items")
+            .responseHandler(processor)
+            .build();
+
+        WebhookResponse handled = ok.send(request, null);
+        WebhookResponse error = failed.send(request, null);
+
+        assertEquals("", handled.getBody());
+        assertEquals(3, ((ItemStreamResult) handled.getHandledBody()).getCount());
+        assertNull(error.getHandledBody());
+        assertEquals("{\"error\":1}", error.getBody());
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
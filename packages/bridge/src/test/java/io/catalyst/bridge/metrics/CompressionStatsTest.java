@@ -0,0 +1,74 @@
+package io.catalyst.bridge.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for CompressionStats.
+ */
+public class CompressionStatsTest {
+
+    @Test
+    public void testRecord_KeyedByWebhookRoute() {
+        CompressionStats stats = new CompressionStats();
+        stats.recordRequest("http://n8n:5678/webhook/orders?id=1", 1000, 200);
+        stats.recordRequest("http://n8n:5678/webhook/orders?id=2", 1000, 300);
+        stats.recordResponse("http://n8n:5678/webhook/orders", 100, 400);
+
+        assertEquals(0.25, stats.getRequestRatio("/webhook/orders"), 0.0);
+        assertEquals(0.25, stats.getRequestRatio("http://n8n:5678/webhook/orders"), 0.0);
+        assertEquals(0.25, stats.getResponseRatio("/webhook/orders"), 0.0);
+        assertEquals(1, stats.snapshot().size());
+        assertTrue(stats.snapshot().containsKey("/webhook/orders"));
+    }
+
+    @Test
+    public void testRecord_BeyondMaxRoutes_CountedAsOther() {
+        CompressionStats stats = new CompressionStats(1);
+        stats.recordRequest("http://n8n/webhook/a", 100, 100);
+        for (int i = 0; i < 50; i++) {
+            stats.recordRequest("http://n8n/webhook/b" + i, 100, 50);
+        }
+
+        Map<String, double[]> snapshot = stats.snapshot();
+        assertEquals(2, snapshot.size());
+        assertEquals(1.0, snapshot.get("/webhook/a")[0], 0.0);
+        assertEquals(0.5, snapshot.get(RouteKeys.OTHER_ROUTE)[0], 0.0);
+        assertEquals(0.5, stats.getRequestRatio(RouteKeys.OTHER_ROUTE), 0.0);
+    }
+
+    @Test
+    public void testRegisterMBeans_RegistersExistingAndNewRoutes() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        CompressionStats stats = new CompressionStats();
+        stats.recordRequest("http://n8n/webhook/a", 1000, 250);
+        stats.registerMBeans(server);
+        stats.recordResponse("http://n8n/webhook/b", 100, 400);
+
+        ObjectName a = new ObjectName("io.catalyst.bridge:type=Compression,route=" + ObjectName.quote("/webhook/a"));
+        ObjectName b = new ObjectName("io.catalyst.bridge:type=Compression,route=" + ObjectName.quote("/webhook/b"));
+        assertEquals(0.25, (Double) server.getAttribute(a, "RequestRatio"), 0.0);
+        assertEquals(1000L, server.getAttribute(a, "RequestRawBytes"));
+        assertEquals(0.25, (Double) server.getAttribute(b, "ResponseRatio"), 0.0);
+    }
+
+    @Test
+    public void testMicrometerBinder_RegistersMetersPerRoute() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CompressionStats stats = new CompressionStats();
+        new MicrometerBinder(null, stats).bindTo(registry);
+        stats.recordRequest("http://n8n/webhook/a?id=1", 1000, 250);
+
+        assertEquals(1000.0, registry.get("catalyst.webhook.compression.request.raw.bytes")
+            .tags("route", "/webhook/a").functionCounter().count(), 0.0);
+        assertEquals(0.25, registry.get("catalyst.webhook.compression.request.ratio")
+            .tags("route", "/webhook/a").gauge().value(), 0.0);
+    }
+}
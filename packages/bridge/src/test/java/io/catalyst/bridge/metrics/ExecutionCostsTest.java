@@ -0,0 +1,84 @@
+package io.catalyst.bridge.metrics;
+
+import io.catalyst.bridge.config.MetricsConfig;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for ExecutionCosts and ExecutionCost.
+ */
+public class ExecutionCostsTest {
+
+    private static final String URL = "http://localhost:5678/webhook/orders?id=1";
+
+    private final ExecutionCosts costs = new ExecutionCosts(MetricsConfig.builder().resourcesEnabled(true).build());
+
+    private static volatile byte[] sink;
+
+    @Test
+    public void testRecordSince_MeasuresCurrentThreadAllocationAndCpu() {
+        assertTrue(costs.isEnabled());
+        long allocatedBefore = costs.threadAllocatedBytes();
+        long cpuBefore = costs.threadCpuNanos();
+        for (int i = 0; i < 4; i++) {
+            sink = new byte[1 << 20];
+        }
+        costs.recordSince(URL, allocatedBefore, cpuBefore);
+
+        ExecutionCost cost = costs.getCosts().get(0);
+        assertEquals("/webhook/orders", cost.getRoute());
+        assertEquals(1, cost.getCount());
+        assertTrue(cost.getAllocatedBytesMax() >= 4L << 20);
+        assertTrue(cost.getCpuMaxMillis() >= 0);
+    }
+
+    @Test
+    public void testDisabled_ReadsNothing() {
+        ExecutionCosts disabled = new ExecutionCosts(MetricsConfig.builder().build());
+
+        assertFalse(disabled.isEnabled());
+        assertEquals(-1, disabled.threadAllocatedBytes());
+        assertEquals(-1, disabled.threadCpuNanos());
+        disabled.recordSince(URL, -1, -1);
+        assertTrue(disabled.getCosts().isEmpty());
+    }
+
+    @Test
+    public void testRecord_BeyondMaxRoutes_RecordedAsOther() {
+        ExecutionCosts limited = new ExecutionCosts(MetricsConfig.builder().maxRoutes(1).build());
+        limited.record("http://n8n/webhook/a", 100, 1_000);
+        limited.record("http://n8n/webhook/b", 200, 2_000);
+        limited.record("http://n8n/webhook/c", -1, 3_000);
+
+        assertEquals(2, limited.getCosts().size());
+        ExecutionCost other = limited.getCosts().stream()
+            .filter(c -> WebhookMetrics.OTHER_ROUTE.equals(c.getRoute())).findFirst().orElseThrow(AssertionError::new);
+        assertEquals(2, other.getCount());
+        assertEquals(1, other.getAllocatedBytes().getCount());
+        assertEquals(2, other.getCpuNanos().getCount());
+    }
+
+    @Test
+    public void testPublish_MBeansAndMicrometerMeters() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        costs.registerMBeans(server);
+        new MicrometerBinder(null, costs).bindTo(registry);
+        costs.record(URL, 2048, 4_000_000);
+
+        ObjectName name = new ObjectName("io.catalyst.bridge:type=ExecutionCost,route=\"/webhook/orders\"");
+        assertEquals(1L, server.getAttribute(name, "Count"));
+        assertEquals(2048L, server.getAttribute(name, "AllocatedBytesMax"));
+        FunctionTimer cpu = registry.get("catalyst.execution.cpu").tags("route", "/webhook/orders").functionTimer();
+        assertEquals(4.0, cpu.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(2048.0, registry.get("catalyst.execution.allocated.bytes").functionCounter().count(), 0.0);
+    }
+}
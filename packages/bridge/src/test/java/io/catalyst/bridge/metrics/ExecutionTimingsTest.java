@@ -0,0 +1,121 @@
+package io.catalyst.bridge.metrics;
+
+import io.catalyst.bridge.config.CompressionConfig;
+import io.catalyst.bridge.config.MetricsConfig;
+import io.catalyst.bridge.config.TimingConfig;
+import io.catalyst.bridge.http.LoopbackTransport;
+import io.catalyst.bridge.http.WebhookClient;
+import io.catalyst.bridge.http.WebhookRequest;
+import io.catalyst.bridge.http.WebhookResponse;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for ExecutionTimings and SlowExecutionLog.
+ */
+public class ExecutionTimingsTest {
+
+    @Test
+    public void testLap_AttributesTimeSinceLastLap() {
+        ExecutionTimings timings = ExecutionTimings.start("callN8n", "pi-1");
+        pause(5);
+        timings.lap(ExecutionTimings.Phase.ENFORCEMENT);
+        timings.lap(ExecutionTimings.Phase.SERIALIZATION);
+        pause(2);
+        timings.lap(ExecutionTimings.Phase.ENFORCEMENT);
+        timings.finish(true);
+
+        assertTrue(timings.getNanos(ExecutionTimings.Phase.ENFORCEMENT) >= 7_000_000);
+        assertTrue(timings.getNanos(ExecutionTimings.Phase.SERIALIZATION) < 5_000_000);
+        assertTrue(timings.getTotalMillis() >= timings.getEnforcementMillis());
+        Map<String, Long> map = timings.toMap();
+        assertEquals(new ArrayList<>(Arrays.asList("enforcement", "serialization", "connect", "firstByte", "bodyRead",
+            "mapping", "variableWrites", "total")), new ArrayList<>(map.keySet()));
+        assertTrue(map.get("total") >= map.get("enforcement"));
+    }
+
+    @Test
+    public void testWebhookClient_LapsSerializationAndResponsePhases() throws Exception {
+        WebhookClient client = new WebhookClient(new LoopbackTransport(request -> {
+            pause(3);
+            return new WebhookResponse("{\"ok\":true}", 200);
+        }), Collections.emptyMap(), CompressionConfig.builder().build(),
+            new WebhookMetrics(MetricsConfig.builder().build()));
+        ExecutionTimings timings = ExecutionTimings.start("callN8n", "pi-1");
+
+        client.execute(WebhookRequest.builder().url("http://localhost:5678/webhook/orders")
+            .body("{\"id\":1}").timings(timings).build()).discard();
+        timings.finish(true);
+
+        assertTrue(timings.getNanos(ExecutionTimings.Phase.SERIALIZATION) > 0);
+        assertTrue(timings.getNanos(ExecutionTimings.Phase.FIRST_BYTE) >= 3_000_000);
+        assertTrue(timings.getNanos(ExecutionTimings.Phase.BODY_READ) > 0);
+        assertEquals(0, timings.getNanos(ExecutionTimings.Phase.MAPPING));
+    }
+
+    @Test
+    public void testSlowExecutionLog_KeepsMostRecentSlowExecutions() {
+        SlowExecutionLog log = new SlowExecutionLog(TimingConfig.builder()
+            .slowThreshold(Duration.ZERO).slowLogSize(2).build());
+        for (int i = 0; i < 3; i++) {
+            ExecutionTimings timings = ExecutionTimings.start("task" + i, "pi-" + i);
+            timings.finish(true);
+            assertTrue(log.record(timings));
+        }
+
+        assertEquals(3, log.getSlowCount());
+        List<ExecutionTimings> slow = log.getSlowExecutions();
+        assertEquals(2, slow.size());
+        assertEquals("task2", slow.get(0).getActivityId());
+        assertEquals("task1", slow.get(1).getActivityId());
+
+        SlowExecutionLog strict = new SlowExecutionLog(TimingConfig.builder()
+            .slowThreshold(Duration.ofHours(1)).build());
+        ExecutionTimings fast = ExecutionTimings.start("task", "pi");
+        fast.finish(true);
+        assertFalse(strict.record(fast));
+        assertTrue(strict.getSlowExecutions().isEmpty());
+    }
+
+    @Test
+    public void testRegisterMBean_SlowExecutionsAsCompositeData() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        SlowExecutionLog log = new SlowExecutionLog(TimingConfig.builder().slowThreshold(Duration.ZERO).build());
+        log.registerMBean(server);
+        ExecutionTimings timings = ExecutionTimings.start("callN8n", "pi-1");
+        timings.setRoute("/webhook/orders");
+        timings.lap(ExecutionTimings.Phase.ENFORCEMENT);
+        timings.finish(false);
+        log.record(timings);
+
+        ObjectName name = new ObjectName("io.catalyst.bridge:type=SlowExecutions");
+        assertEquals(1L, server.getAttribute(name, "SlowCount"));
+        CompositeData[] slow = (CompositeData[]) server.getAttribute(name, "SlowExecutions");
+        assertEquals(1, slow.length);
+        assertEquals("/webhook/orders", slow[0].get("route"));
+        assertEquals(Boolean.FALSE, slow[0].get("success"));
+        assertTrue(slow[0].containsKey("firstByteMillis"));
+    }
+
+    /**
+     * Waits at least the given time on the monotonic clock.
+     */
+    private static void pause(long millis) {
+        long until = System.nanoTime() + millis * 1_000_000;
+        while (System.nanoTime() < until) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package io.catalyst.bridge.metrics;
+
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for LatencyHistogram and RouteLatencies.
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketIndex_IsMonotonicAndCoversUpperBound() {
+        long[] values = {0, 1, 15, 16, 17, 31, 32, 1_000, 123_456_789, Long.MAX_VALUE};
+        int previous = -1;
+        for (long value : values) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(index >= previous);
+            assertTrue(index < LatencyHistogram.BUCKET_COUNT);
+            assertTrue(LatencyHistogram.bucketUpperBound(index) >= value);
+            previous = index;
+        }
+    }
+
+    @Test
+    public void testPercentiles_WithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000_000L);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000_000L, histogram.getMax());
+        assertEquals(500_500_000.0, histogram.getMean(), 1.0);
+        assertEquals(500_000_000L, histogram.valueAtPercentile(50), 500_000_000L / 16);
+        assertEquals(950_000_000L, histogram.valueAtPercentile(95), 950_000_000L / 16);
+        assertEquals(1_000_000_000L, histogram.valueAtPercentile(100));
+    }
+
+    @Test
+    public void testEmptyHistogram_ReturnsZero() {
+        assertEquals(0, new LatencyHistogram().valueAtPercentile(99));
+    }
+
+    @Test
+    public void testReset_ClearsValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void testRouteLatencies_RequireMinSamples() {
+        Instant start = Instant.parse("2025-06-01T10:00:00Z");
+        RouteLatencies latencies = new RouteLatencies(Duration.ofMinutes(1), Clock.fixed(start, ZoneOffset.UTC));
+        assertEquals(-1, latencies.percentile("pool://a/x", 95, 1));
+
+        for (int i = 0; i < 10; i++) {
+            latencies.record("pool://a/x", 1_000_000L);
+        }
+        assertEquals(-1, latencies.percentile("pool://a/x", 95, 20));
+        assertEquals(1_000_000L, latencies.percentile("pool://a/x", 95, 5), 1_000_000L / 16);
+    }
+
+    @Test
+    public void testRouteLatencies_ForgetOldWindows() {
+        AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2025-06-01T10:00:00Z"));
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        };
+        RouteLatencies latencies = new RouteLatencies(Duration.ofMinutes(1), clock);
+        for (int i = 0; i < 10; i++) {
+            latencies.record("pool://a/x", 1_000_000L);
+        }
+
+        // Previous window still counts
+        now.set(now.get().plusSeconds(90));
+        assertEquals(1_000_000L, latencies.percentile("pool://a/x", 95, 10), 1_000_000L / 16);
+
+        // Two windows later the samples are gone
+        now.set(now.get().plusSeconds(150));
+        assertEquals(-1, latencies.percentile("pool://a/x", 95, 1));
+    }
+
+    @Test
+    public void testRouteLatencies_BeyondMaxRoutes_ShareOther() {
+        RouteLatencies latencies = new RouteLatencies(Duration.ofMinutes(1), 1,
+            Clock.fixed(Instant.parse("2025-06-01T10:00:00Z"), ZoneOffset.UTC));
+        latencies.record("pool://a/x?id=1", 1_000_000L);
+        latencies.record("pool://a/x?id=2", 1_000_000L);
+        for (int i = 0; i < 100; i++) {
+            latencies.record("pool://b/x?id=" + i, 8_000_000L);
+        }
+
+        assertEquals(1_000_000L, latencies.percentile("pool://a/x", 95, 2), 1_000_000L / 16);
+        assertEquals(8_000_000L, latencies.percentile("pool://c/x", 95, 100), 8_000_000L / 16);
+    }
+}
@@ -0,0 +1,45 @@
+package io.catalyst.bridge.metrics;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for RouteKeys.
+ */
+public class RouteKeysTest {
+
+    @Test
+    public void testGet_SameRouteForUrlsDifferingInQuery() {
+        RouteKeys<String> keys = new RouteKeys<>(10, route -> route);
+
+        assertEquals("/webhook/orders", keys.get("http://n8n/webhook/orders?id=1"));
+        assertEquals("/webhook/orders", keys.get("http://n8n/webhook/orders?id=2"));
+        assertEquals(1, keys.values().size());
+    }
+
+    @Test
+    public void testGet_BeyondMaxRoutes_SharesOther() {
+        List<String> created = new ArrayList<>();
+        RouteKeys<String> keys = new RouteKeys<>(1, route -> route, created::add);
+
+        assertEquals("/webhook/a", keys.get("http://n8n/webhook/a"));
+        assertEquals(RouteKeys.OTHER_ROUTE, keys.get("http://n8n/webhook/b"));
+        assertEquals(RouteKeys.OTHER_ROUTE, keys.get("http://n8n/webhook/c"));
+        assertEquals("/webhook/a", keys.get("http://n8n/webhook/a?retry=1"));
+        assertEquals(2, keys.values().size());
+        assertEquals(2, created.size());
+    }
+
+    @Test
+    public void testGet_NullUrl_IsOther() {
+        RouteKeys<String> keys = new RouteKeys<>(10, route -> route);
+
+        assertEquals(RouteKeys.OTHER_ROUTE, keys.get(null));
+        assertEquals(RouteKeys.OTHER_ROUTE, keys.getRoute(RouteKeys.OTHER_ROUTE));
+        assertNull(keys.getRoute("/webhook/unknown"));
+    }
+}
@@ -0,0 +1,139 @@
+package io.catalyst.bridge.metrics;
+
+import io.catalyst.bridge.config.CompressionConfig;
+import io.catalyst.bridge.config.MetricsConfig;
+import io.catalyst.bridge.http.LoopbackTransport;
+import io.catalyst.bridge.http.ResponseTooLargeException;
+import io.catalyst.bridge.http.WebhookClient;
+import io.catalyst.bridge.http.WebhookRequest;
+import io.catalyst.bridge.http.WebhookResponse;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for WebhookMetrics, CallOutcome and MicrometerBinder.
+ */
+public class WebhookMetricsTest {
+
+    private static final String URL = "http://localhost:5678/webhook/orders";
+
+    private final WebhookMetrics metrics = new WebhookMetrics(MetricsConfig.builder().build());
+
+    @Test
+    public void testRecord_SeriesPerRouteOutcomeAndStatusClass() {
+        metrics.record(URL, 200, CallOutcome.SUCCESS, 10_000_000, 100, 500);
+        metrics.record(URL + "?page=2", 201, CallOutcome.SUCCESS, 30_000_000, 50, 1500);
+        metrics.record("http://n8n-2:5678/webhook/orders", 503, CallOutcome.NON_2XX, 5_000_000, 100, 20);
+        metrics.record(URL, 0, CallOutcome.TIMEOUT, 60_000_000, 100, -1);
+
+        assertEquals(3, metrics.getSeries().size());
+        CallSeries success = series("/webhook/orders", "success", "2xx");
+        assertEquals(2, success.getCount());
+        assertEquals(150, success.getRequestBytes());
+        assertEquals(2000, success.getResponseBytes());
+        assertEquals(1500, success.getResponseBytesMax());
+        assertEquals(30.0, success.getLatencyMaxMillis(), 0.001);
+        assertEquals(1, series("/webhook/orders", "non_2xx", "5xx").getCount());
+        CallSeries timeout = series("/webhook/orders", "timeout", "none");
+        assertEquals(0, timeout.getResponseBytes());
+    }
+
+    @Test
+    public void testRecord_BeyondMaxRoutes_RecordedAsOther() {
+        WebhookMetrics limited = new WebhookMetrics(MetricsConfig.builder().maxRoutes(2).build());
+        for (int i = 0; i < 5; i++) {
+            limited.record("http://localhost:5678/webhook/order/" + i, 200, CallOutcome.SUCCESS, 1_000, 1, 1);
+        }
+
+        assertEquals(3, limited.getSeries().size());
+        assertTrue(limited.getSeries().stream()
+            .anyMatch(s -> WebhookMetrics.OTHER_ROUTE.equals(s.getRoute()) && s.getCount() == 3));
+    }
+
+    @Test
+    public void testRouteOf_StripsOriginQueryAndFragment() {
+        assertEquals("/webhook/orders", WebhookMetrics.routeOf("https://n8n:5678/webhook/orders?x=1#top"));
+        assertEquals("/", WebhookMetrics.routeOf("http://n8n:5678"));
+    }
+
+    @Test
+    public void testCallOutcome_ClassifiesFailures() {
+        assertEquals(CallOutcome.SUCCESS, CallOutcome.of(204));
+        assertEquals(CallOutcome.NON_2XX, CallOutcome.of(404));
+        assertEquals(CallOutcome.TIMEOUT, CallOutcome.of(new SocketTimeoutException()));
+        assertEquals(CallOutcome.CONNECTION_ERROR, CallOutcome.of(new ConnectException()));
+        assertEquals(CallOutcome.ERROR, CallOutcome.of(new ResponseTooLargeException(URL, 10)));
+        assertEquals(CallOutcome.ERROR, CallOutcome.of(new IllegalStateException()));
+    }
+
+    @Test
+    public void testWebhookClient_RecordsResponsesAndFailures() throws Exception {
+        WebhookClient client = new WebhookClient(new LoopbackTransport(request -> {
+            if (request.getUrl().endsWith("/down")) {
+                throw new IllegalStateException("no route");
+            }
+            return new WebhookResponse("{\"ok\":true}", 200);
+        }), Collections.emptyMap(), CompressionConfig.builder().build(), metrics);
+
+        client.execute(WebhookRequest.builder().url(URL).body("{\"id\":1}").build()).discard();
+        try {
+            client.execute(WebhookRequest.builder().url("http://localhost:5678/webhook/down").body("{}").build());
+            fail("Expected failure");
+        } catch (IllegalStateException | IOException expected) {
+            // recorded below
+        }
+
+        CallSeries success = series("/webhook/orders", "success", "2xx");
+        assertEquals(1, success.getCount());
+        assertEquals(8, success.getRequestBytes());
+        assertEquals(1, metrics.getSeries().stream().filter(s -> s.getRoute().equals("/webhook/down")).count());
+    }
+
+    @Test
+    public void testRegisterMBeans_ExistingAndNewSeries() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        metrics.record(URL, 200, CallOutcome.SUCCESS, 2_000_000, 10, 20);
+        metrics.registerMBeans(server);
+        metrics.record(URL, 500, CallOutcome.NON_2XX, 4_000_000, 10, 20);
+
+        ObjectName success = new ObjectName(
+            "io.catalyst.bridge:type=WebhookCalls,route=\"/webhook/orders\",outcome=success,status=2xx");
+        assertEquals(1L, server.getAttribute(success, "Count"));
+        assertEquals(20L, server.getAttribute(success, "ResponseBytes"));
+        assertEquals(2, server.queryNames(new ObjectName("io.catalyst.bridge:type=WebhookCalls,*"), null).size());
+    }
+
+    @Test
+    public void testMicrometerBinder_RegistersMetersPerSeries() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new MicrometerBinder(metrics).bindTo(registry);
+        metrics.record(URL, 200, CallOutcome.SUCCESS, 8_000_000, 10, 20);
+
+        FunctionTimer timer = registry.get("catalyst.webhook.calls")
+            .tags("route", "/webhook/orders", "outcome", "success", "status", "2xx")
+            .functionTimer();
+        assertEquals(1.0, timer.count(), 0.0);
+        assertEquals(8.0, timer.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(20.0, registry.get("catalyst.webhook.response.bytes").functionCounter().count(), 0.0);
+    }
+
+    private CallSeries series(String route, String outcome, String status) {
+        return metrics.getSeries().stream()
+            .filter(s -> s.getRoute().equals(route) && s.getOutcome().equals(outcome)
+                && s.getStatusClass().equals(status))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No series " + route + " " + outcome + " " + status));
+    }
+}
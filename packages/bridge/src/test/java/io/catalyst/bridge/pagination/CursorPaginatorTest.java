@@ -0,0 +1,135 @@
+package io.catalyst.bridge.pagination;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.catalyst.bridge.http.LoopbackTransport;
+import io.catalyst.bridge.http.WebhookClient;
+import io.catalyst.bridge.http.WebhookRequest;
+import io.catalyst.bridge.http.WebhookResponse;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for CursorPaginator.
+ */
+public class CursorPaginatorTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final List<JsonNode> requests = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testFetch_FollowsCursorAndAggregatesItems() throws IOException {
+        CursorPaginator paginator = paginator(3, 2, null)
+            .itemMapping(Collections.singletonMap("id", "$.id"))
+            .build();
+
+        PaginationResult result = paginator.fetch(firstPage());
+
+        assertTrue(result.isSuccess());
+        assertFalse(result.isTruncated());
+        assertEquals(3, result.getPages());
+        assertEquals(6, result.getItems().size());
+        assertEquals(Collections.singletonMap("id", 5), result.getItems().get(5));
+        assertEquals(3, requests.size());
+        assertFalse(requests.get(0).has("cursor"));
+        assertEquals("c1", requests.get(1).get("cursor").asText());
+        assertEquals("c2", requests.get(2).get("cursor").asText());
+        assertEquals("acme", requests.get(2).get("tenant").asText());
+    }
+
+    @Test
+    public void testFetch_MaxItems_StopsAndTruncates() throws IOException {
+        PaginationResult result = paginator(10, 3, null)
+            .itemMapping(Collections.singletonMap("id", "$.id"))
+            .maxItems(4)
+            .build()
+            .fetch(firstPage());
+
+        assertTrue(result.isTruncated());
+        assertEquals(Arrays.asList(0, 1, 2, 3), ids(result));
+        assertEquals(2, result.getPages());
+    }
+
+    @Test
+    public void testFetch_MaxPages_StopsAndTruncates() throws IOException {
+        PaginationResult result = paginator(10, 1, null).maxPages(3).build().fetch(firstPage());
+
+        assertTrue(result.isTruncated());
+        assertEquals(3, result.getPages());
+        assertEquals(3, requests.size());
+    }
+
+    @Test
+    public void testFetch_FailingPage_KeepsPreviousItems() throws IOException {
+        PaginationResult result = paginator(5, 2, 3).build().fetch(firstPage());
+
+        assertFalse(result.isSuccess());
+        assertEquals(503, result.getStatusCode());
+        assertEquals("{\"error\":\"busy\"}", result.getErrorBody());
+        assertEquals(2, result.getPages());
+        assertEquals(4, result.getItems().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFetch_ArrayPayload_Rejected() throws IOException {
+        paginator(1, 1, null).build().fetch(WebhookRequest.builder()
+            .url("http://n8n:5678/webhook/list")
+            .body("[1]")
+            .build());
+    }
+
+    /**
+     * Serves {@code pages} pages of {@code perPage} items with ids counting up;
+     * page {@code failingPage} (1-based) answers 503.
+     */
+    private CursorPaginator.Builder paginator(int pages, int perPage, Integer failingPage) {
+        LoopbackTransport transport = new LoopbackTransport(request -> {
+            try {
+                JsonNode payload = OBJECT_MAPPER.readTree(request.getBody());
+                requests.add(payload);
+                int page = payload.has("cursor") ? Integer.parseInt(payload.get("cursor").asText().substring(1)) : 0;
+                if (failingPage != null && page + 1 == failingPage) {
+                    return new WebhookResponse("{\"error\":\"busy\"}", 503);
+                }
+                StringBuilder body = new StringBuilder("{\"data\":{\"items\":[");
+                for (int i = 0; i < perPage; i++) {
+                    body.append(i > 0 ? "," : "").append("{\"id\":").append(page * perPage + i).append('}');
+                }
+                body.append("]},\"next\":").append(page + 1 < pages ? "\"c" + (page + 1) + "\"" : "null").append('}');
+                return new WebhookResponse(body.toString(), 200);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return CursorPaginator.builder()
+            .client(new WebhookClient(transport, Collections.emptyMap()))
+            .cursorPath("$.next")
+            .itemsPath("$.data.items");
+    }
+
+    private static WebhookRequest firstPage() {
+        return WebhookRequest.builder()
+            .url("http://n8n:5678/webhook/list")
+            .body("{\"tenant\":\"acme\"}")
+            .build();
+    }
+
+    private static List<Object> ids(PaginationResult result) {
+        List<Object> ids = new ArrayList<>();
+        for (Object item : result.getItems()) {
+            ids.add(((Map<?, ?>) item).get("id"));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,73 @@
+package io.catalyst.bridge.payload;
+
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.type.SerializableValueType;
+import org.camunda.bpm.engine.variable.value.SerializableValue;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JsonPayloads.
+ */
+public class JsonPayloadsTest {
+
+    @Test
+    public void testSerializedJson_JsonObjectValue_ReturnsStoredText() {
+        String stored = "{\"b\":2,\"a\":1}";
+
+        assertEquals(stored, JsonPayloads.serializedJson(Variables.serializedObjectValue(stored)
+            .serializationDataFormat("application/json")
+            .objectTypeName("com.example.Order")
+            .create()));
+    }
+
+    @Test
+    public void testSerializedJson_OtherValues_ReturnNull() {
+        assertNull(JsonPayloads.serializedJson(null));
+        assertNull(JsonPayloads.serializedJson(Variables.stringValue("{\"a\":1}")));
+        assertNull(JsonPayloads.serializedJson(Variables.serializedObjectValue("rO0AB")
+            .serializationDataFormat("application/x-java-serialized-object")
+            .objectTypeName("java.util.ArrayList")
+            .create()));
+    }
+
+    @Test
+    public void testSerializedJson_SpinValueNotYetSerialized_UsesNodeText() {
+        SerializableValueType jsonType = mock(SerializableValueType.class);
+        when(jsonType.getName()).thenReturn("json");
+        SerializableValue spin = mock(SerializableValue.class);
+        when(spin.getType()).thenReturn(jsonType);
+        when(spin.isDeserialized()).thenReturn(true);
+        when(spin.getValue()).thenReturn(new StringBuilder("[1,2]"));
+
+        assertEquals("[1,2]", JsonPayloads.serializedJson(spin));
+    }
+
+    @Test
+    public void testWriterFor_CachedPerClass() throws Exception {
+        assertSame(JsonPayloads.writerFor(Order.class), JsonPayloads.writerFor(Order.class));
+        assertEquals("{\"id\":7,\"tags\":[\"x\"]}",
+            new String(JsonPayloads.toBytes(new Order()), StandardCharsets.UTF_8));
+        assertFalse(JsonPayloads.isSpinJson(new Order()));
+        assertFalse(JsonPayloads.isSpinJson(null));
+    }
+
+    /**
+     * Simple POJO payload.
+     */
+    public static class Order {
+        public int getId() {
+            return 7;
+        }
+
+        public List<String> getTags() {
+            return Collections.singletonList("x");
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package io.catalyst.bridge.payload;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for PayloadTemplate.
+ */
+public class PayloadTemplateTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    public void testRender_ValueSlots_SerializeAsJson() throws IOException {
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("name", "Ada \"the\" Countess\né");
+        vars.put("count", 42L);
+        vars.put("active", true);
+        vars.put("missing", null);
+        vars.put("tags", Arrays.asList("a", "b"));
+        vars.put("price", 9.5);
+
+        JsonNode json = render("{\"name\": {{name}}, \"count\": {{count}}, \"active\": {{active}}, "
+            + "\"missing\": {{missing}}, \"tags\": {{tags}}, \"price\": {{price}}}", vars);
+
+        assertEquals("Ada \"the\" Countess\né", json.get("name").asText());
+        assertEquals(42L, json.get("count").asLong());
+        assertTrue(json.get("active").asBoolean());
+        assertTrue(json.get("missing").isNull());
+        assertEquals("b", json.get("tags").get(1).asText());
+        assertEquals(9.5, json.get("price").asDouble(), 0.0);
+    }
+
+    @Test
+    public void testRender_SlotInsideString_IsEscaped() throws IOException {
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("first", "Jo\"hn\\");
+        vars.put("id", 7);
+        vars.put("none", null);
+
+        JsonNode json = render("{\"greeting\": \"Hi {{first}} (#{{id}}){{none}}!\", \"raw\": \"\\\"{{id}}\\\"\"}", vars);
+
+        assertEquals("Hi Jo\"hn\\ (#7)!", json.get("greeting").asText());
+        assertEquals("\"7\"", json.get("raw").asText());
+    }
+
+    @Test
+    public void testRender_NestedMap() throws IOException {
+        Map<String, Object> customer = new LinkedHashMap<>();
+        customer.put("id", 1);
+        customer.put("city", "Berlin");
+
+        JsonNode json = render("{\"customer\": {{customer}}}", Collections.singletonMap("customer", customer));
+
+        assertEquals("Berlin", json.get("customer").get("city").asText());
+    }
+
+    @Test
+    public void testCompile_EscapedBrace_IsLiteral() throws IOException {
+        JsonNode json = render("{\"text\": \"use \\u007b{amount}} or ${amount}\"}", new HashMap<>());
+
+        assertEquals("use {{amount}} or ${amount}", json.get("text").asText());
+    }
+
+    @Test
+    public void testCompile_InvalidJson_Throws() {
+        try {
+            PayloadTemplate.compile("{\"a\": {{a}}, }");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().startsWith("Invalid payload template"));
+        }
+        try {
+            PayloadTemplate.compile("{\"a\": {{a}}");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().startsWith("Invalid payload template"));
+        }
+    }
+
+    @Test
+    public void testOf_SameText_ReturnsCachedTemplate() {
+        String template = "{\"id\": {{id}}, \"again\": {{id}}, \"other\": \"{{other}}\"}";
+
+        PayloadTemplate first = PayloadTemplate.of(template);
+
+        assertSame(first, PayloadTemplate.of(template));
+        assertEquals(Arrays.asList("id", "other"), new ArrayList<>(first.getVariableNames()));
+    }
+
+    private static JsonNode render(String template, Map<String, Object> vars) throws IOException {
+        byte[] body = PayloadTemplate.of(template).renderToBytes(vars::get);
+        return OBJECT_MAPPER.readTree(new String(body, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,112 @@
+package io.catalyst.bridge.payload;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.type.SerializableValueType;
+import org.camunda.bpm.engine.variable.value.SerializableValue;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for VariableProjection.
+ */
+public class VariableProjectionTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private DelegateExecution execution;
+
+    @Before
+    public void setUp() {
+        execution = mock(DelegateExecution.class);
+    }
+
+    @Test
+    public void testWrite_PrimitivesWithRename() throws IOException {
+        when(execution.getVariableTyped("customerId", false)).thenReturn(Variables.stringValue("c-\"1\""));
+        when(execution.getVariableTyped("amount", false)).thenReturn(Variables.doubleValue(12.5));
+        when(execution.getVariableTyped("vip", false)).thenReturn(Variables.booleanValue(true));
+
+        JsonNode json = write("customerId:id", "amount", " vip ");
+
+        assertEquals("c-\"1\"", json.get("id").asText());
+        assertEquals(12.5, json.get("amount").asDouble(), 0.0);
+        assertTrue(json.get("vip").asBoolean());
+        assertEquals(3, json.size());
+    }
+
+    @Test
+    public void testWrite_JsonObjectValue_EmbeddedRaw() throws IOException {
+        when(execution.getVariableTyped("order", false)).thenReturn(Variables
+            .serializedObjectValue("{\"id\":7,\"lines\":[1,2]}")
+            .serializationDataFormat("application/json")
+            .objectTypeName("com.example.Order")
+            .create());
+
+        JsonNode json = write("order");
+
+        assertEquals(7, json.get("order").get("id").asInt());
+        assertEquals(2, json.get("order").get("lines").size());
+        verify(execution, never()).getVariableTyped("order", true);
+    }
+
+    @Test
+    public void testWrite_SpinJsonValue_EmbeddedRaw() throws IOException {
+        SerializableValueType jsonType = mock(SerializableValueType.class);
+        when(jsonType.getName()).thenReturn("json");
+        SerializableValue spin = mock(SerializableValue.class);
+        when(spin.getType()).thenReturn(jsonType);
+        when(spin.getValueSerialized()).thenReturn("{\"nested\":{\"ok\":true}}");
+        when(execution.getVariableTyped("doc", false)).thenReturn(spin);
+
+        JsonNode json = write("doc:document");
+
+        assertTrue(json.get("document").get("nested").get("ok").asBoolean());
+    }
+
+    @Test
+    public void testWrite_JavaSerializedObject_Deserialized() throws IOException {
+        when(execution.getVariableTyped("tags", false)).thenReturn(Variables
+            .serializedObjectValue("rO0AB")
+            .serializationDataFormat("application/x-java-serialized-object")
+            .objectTypeName("java.util.ArrayList")
+            .create());
+        when(execution.getVariableTyped("tags", true))
+            .thenReturn(Variables.objectValue(Arrays.asList("a", "b")).create());
+
+        JsonNode json = write("tags");
+
+        assertEquals("b", json.get("tags").get(1).asText());
+    }
+
+    @Test
+    public void testWrite_NullAndMissingVariables() throws IOException {
+        when(execution.hasVariable("empty")).thenReturn(true);
+
+        assertTrue(write("empty").get("empty").isNull());
+        try {
+            write("missing");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("'missing'"));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParse_EmptyField_Throws() {
+        VariableProjection.parse(Collections.singletonList("name:"));
+    }
+
+    private JsonNode write(String... entries) throws IOException {
+        return OBJECT_MAPPER.readTree(VariableProjection.parse(Arrays.asList(entries)).toBytes(execution));
+    }
+}
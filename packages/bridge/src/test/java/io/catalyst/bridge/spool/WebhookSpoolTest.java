@@ -0,0 +1,337 @@
+package io.catalyst.bridge.spool;
+
+import io.catalyst.bridge.config.SpoolConfig;
+import io.catalyst.bridge.http.WebhookClient;
+import io.catalyst.bridge.http.WebhookRequest;
+import io.catalyst.bridge.http.WebhookResponse;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WebhookSpool and SpoolReplayer.
+ */
+public class WebhookSpoolTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private SpoolConfig config;
+    private Clock clock;
+
+    @Before
+    public void setUp() throws IOException {
+        config = SpoolConfig.builder()
+            .enabled(true)
+            .directory(tempFolder.newFolder("spool").toPath())
+            .segmentBytes(512)
+            .initialBackoff(Duration.ofMillis(100))
+            .maxBackoff(Duration.ofMillis(400))
+            .build();
+        clock = Clock.fixed(Instant.parse("2025-06-01T10:00:00Z"), ZoneOffset.UTC);
+    }
+
+    private SpoolEntry entry(String body) {
+        return SpoolEntry.builder()
+            .request(WebhookRequest.builder()
+                .url("http://n8n:5678/webhook/test")
+                .body(body)
+                .header("X-Test", "1")
+                .build())
+            .processInstanceId("pi-1")
+            .build();
+    }
+
+    @Test
+    public void testAppend_AssignsIncreasingSequences() throws IOException {
+        try (WebhookSpool spool = new WebhookSpool(config, clock)) {
+            SpoolEntry first = spool.append(entry("{\"n\":1}"));
+            SpoolEntry second = spool.append(entry("{\"n\":2}"));
+
+            assertEquals(1, first.getSequence());
+            assertEquals(2, second.getSequence());
+            assertEquals(2, spool.size());
+            assertEquals(first.getSequence(), spool.peek().getSequence());
+        }
+    }
+
+    @Test
+    public void testReopen_RecoversPendingEntriesInOrder() throws IOException {
+        try (WebhookSpool spool = new WebhookSpool(config, clock)) {
+            for (int i = 1; i <= 10; i++) {
+                spool.append(entry("{\"n\":" + i + "}"));
+            }
+            spool.acknowledge(spool.peek());
+        }
+
+        try (WebhookSpool reopened = new WebhookSpool(config, clock)) {
+            assertEquals(9, reopened.size());
+            SpoolEntry head = reopened.peek();
+            assertEquals(2, head.getSequence());
+            assertEquals("{\"n\":2}", head.getRequest().getBodyAsString());
+            assertEquals("1", head.getRequest().getHeaders().get("X-Test"));
+            assertEquals("pi-1", head.getProcessInstanceId());
+
+            // New entries continue the sequence
+            assertEquals(11, reopened.append(entry("{}")).getSequence());
+        }
+    }
+
+    @Test
+    public void testAcknowledge_DeletesDeliveredSegments() throws IOException {
+        try (WebhookSpool spool = new WebhookSpool(config, clock)) {
+            for (int i = 0; i < 20; i++) {
+                spool.append(entry("{\"padding\":\"" + "x".repeat(100) + "\"}"));
+            }
+            long segmentsBefore = countSegments();
+            assertTrue("Small segment size should roll segments", segmentsBefore > 2);
+
+            while (spool.peek() != null) {
+                spool.acknowledge(spool.peek());
+            }
+
+            assertEquals(1, countSegments());
+            assertEquals(20, spool.stats().getDeliveredTotal());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAcknowledge_OutOfOrder_Throws() throws IOException {
+        try (WebhookSpool spool = new WebhookSpool(config, clock)) {
+            spool.append(entry("{}"));
+            SpoolEntry second = spool.append(entry("{}"));
+            spool.acknowledge(second);
+        }
+    }
+
+    @Test
+    public void testReopen_TruncatesTornRecord() throws IOException {
+        try (WebhookSpool spool = new WebhookSpool(config, clock)) {
+            spool.append(entry("{\"n\":1}"));
+        }
+
+        // Simulate a crash in the middle of writing a record
+        Path segment = config.getDirectory().resolve(WebhookSpool.segmentFileName(1));
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.APPEND)) {
+            channel.write(java.nio.ByteBuffer.wrap(new byte[]{0, 0, 0, 50, 1, 2}));
+        }
+
+        try (WebhookSpool reopened = new WebhookSpool(config, clock)) {
+            assertEquals(1, reopened.size());
+            assertEquals(2, reopened.append(entry("{\"n\":2}")).getSequence());
+        }
+        try (WebhookSpool reopened = new WebhookSpool(config, clock)) {
+            assertEquals(2, reopened.size());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testAppend_BacklogFull_Throws() throws IOException {
+        SpoolConfig small = SpoolConfig.builder()
+            .enabled(true)
+            .directory(config.getDirectory())
+            .maxEntries(1)
+            .build();
+        try (WebhookSpool spool = new WebhookSpool(small, clock)) {
+            spool.append(entry("{}"));
+            spool.append(entry("{}"));
+        }
+    }
+
+    @Test
+    public void testStats_ReportsBacklogAndOldestAge() throws IOException {
+        Clock later = Clock.offset(clock, Duration.ofSeconds(42));
+        try (WebhookSpool spool = new WebhookSpool(config, clock)) {
+            spool.append(entry("{}"));
+            spool.append(entry("{}"));
+        }
+        try (WebhookSpool spool = new WebhookSpool(config, later)) {
+            SpoolStats stats = spool.stats();
+            assertEquals(2, stats.getBacklogSize());
+            assertEquals(42_000, stats.getOldestEntryAgeMillis());
+        }
+    }
+
+    @Test
+    public void testReplayer_BacksOffWhileUnavailableThenDeliversInOrder() throws Exception {
+        WebhookClient client = mock(WebhookClient.class);
+        when(client.execute(any()))
+            .thenThrow(new ConnectException("Connection refused"))
+            .thenReturn(new WebhookResponse("", 503))
+            .thenReturn(new WebhookResponse("{\"ok\":1}", 200))
+            .thenReturn(new WebhookResponse("{\"ok\":2}", 200));
+
+        try (WebhookSpool spool = new WebhookSpool(config, clock)) {
+            spool.append(entry("{\"n\":1}"));
+            spool.append(entry("{\"n\":2}"));
+            SpoolReplayer replayer = new SpoolReplayer(spool, client, mock(SpoolCorrelator.class), config);
+
+            assertEquals(100, replayer.drain());
+            assertEquals(200, replayer.drain());
+            assertEquals(-1, replayer.drain());
+
+            assertEquals(0, spool.size());
+            assertEquals(2, spool.stats().getFailedAttempts());
+            verify(client, times(4)).execute(any());
+        }
+    }
+
+    @Test
+    public void testReplayer_RetriesCorrelationWithoutResending() throws Exception {
+        WebhookClient client = mock(WebhookClient.class);
+        when(client.execute(any())).thenReturn(new WebhookResponse("{}", 200));
+        SpoolCorrelator correlator = mock(SpoolCorrelator.class);
+        doThrow(new IllegalStateException("not waiting yet"))
+            .doNothing()
+            .when(correlator).correlate(any(), any());
+
+        try (WebhookSpool spool = new WebhookSpool(config, clock)) {
+            spool.append(entry("{}").toBuilder().correlationMessage("n8nDone").build());
+            SpoolReplayer replayer = new SpoolReplayer(spool, client, correlator, config);
+
+            assertTrue(replayer.drain() > 0);
+            assertEquals(1, spool.size());
+            assertEquals(-1, replayer.drain());
+            assertEquals(0, spool.size());
+
+            verify(client, times(1)).execute(any());
+            verify(correlator, times(2)).correlate(any(), any());
+        }
+    }
+
+    @Test
+    public void testReplayer_DeadLettersWithResponseWhenCorrelationKeepsFailing() throws Exception {
+        WebhookClient client = mock(WebhookClient.class);
+        when(client.execute(any())).thenReturn(new WebhookResponse("{\"approved\":true}", 200));
+        SpoolCorrelator correlator = mock(SpoolCorrelator.class);
+        doThrow(new IllegalStateException("no execution waiting"))
+            .when(correlator).correlate(any(), any());
+
+        try (WebhookSpool spool = new WebhookSpool(config, clock)) {
+            spool.append(entry("{}").toBuilder().correlationMessage("n8nDone").build());
+            SpoolReplayer replayer = new SpoolReplayer(spool, client, correlator, config);
+
+            long delay;
+            int runs = 0;
+            while ((delay = replayer.drain()) >= 0) {
+                assertTrue(delay > 0);
+                assertTrue(++runs < SpoolReplayer.MAX_CORRELATION_ATTEMPTS);
+            }
+
+            assertEquals(0, spool.size());
+            assertEquals(0, spool.stats().getDeliveredTotal());
+            assertEquals(1, spool.stats().getDeadLetteredTotal());
+            verify(client, times(1)).execute(any());
+            verify(correlator, times(SpoolReplayer.MAX_CORRELATION_ATTEMPTS)).correlate(any(), any());
+            String deadLetters = new String(Files.readAllBytes(
+                config.getDirectory().resolve(WebhookSpool.DEAD_LETTER_FILE_NAME)), StandardCharsets.UTF_8);
+            assertTrue(deadLetters.contains("Correlation to process instance pi-1 failed after 10 attempts"));
+            assertTrue(deadLetters.contains("\"statusCode\":200"));
+            assertTrue(deadLetters.contains("approved"));
+        }
+    }
+
+    @Test
+    public void testReplayer_ReadTimeoutIsDeadLetteredWithoutResending() throws Exception {
+        WebhookClient client = mock(WebhookClient.class);
+        when(client.execute(any()))
+            .thenThrow(new SocketTimeoutException("Read timed out"))
+            .thenReturn(new WebhookResponse("{}", 200));
+
+        try (WebhookSpool spool = new WebhookSpool(config, clock)) {
+            spool.append(entry("{\"n\":1}"));
+            spool.append(entry("{\"n\":2}"));
+            SpoolReplayer replayer = new SpoolReplayer(spool, client, mock(SpoolCorrelator.class), config);
+
+            assertEquals(-1, replayer.drain());
+
+            assertEquals(0, spool.size());
+            assertEquals(1, spool.stats().getDeadLetteredTotal());
+            assertEquals(1, spool.stats().getDeliveredTotal());
+            verify(client, times(2)).execute(any());
+            String deadLetters = new String(Files.readAllBytes(
+                config.getDirectory().resolve(WebhookSpool.DEAD_LETTER_FILE_NAME)), StandardCharsets.UTF_8);
+            assertTrue(deadLetters.contains("SocketTimeoutException"));
+            assertTrue(deadLetters.contains("\"sequence\":1"));
+        }
+    }
+
+    @Test
+    public void testReplayer_DeadLettersAfterMaxAttempts() throws Exception {
+        SpoolConfig limited = SpoolConfig.builder()
+            .enabled(true)
+            .directory(config.getDirectory())
+            .initialBackoff(Duration.ofMillis(100))
+            .maxBackoff(Duration.ofMillis(400))
+            .maxAttempts(2)
+            .build();
+        WebhookClient client = mock(WebhookClient.class);
+        when(client.execute(any()))
+            .thenReturn(new WebhookResponse("", 503))
+            .thenReturn(new WebhookResponse("", 503))
+            .thenReturn(new WebhookResponse("{}", 200));
+
+        try (WebhookSpool spool = new WebhookSpool(limited, clock)) {
+            spool.append(entry("{\"n\":1}"));
+            spool.append(entry("{\"n\":2}"));
+            SpoolReplayer replayer = new SpoolReplayer(spool, client, mock(SpoolCorrelator.class), limited);
+
+            assertEquals(100, replayer.drain());
+            assertEquals(2, spool.size());
+            assertEquals(-1, replayer.drain());
+
+            assertEquals(0, spool.size());
+            assertEquals(1, spool.stats().getDeadLetteredTotal());
+            verify(client, times(3)).execute(any());
+        }
+    }
+
+    @Test
+    public void testRegisterMBean_ExposesStats() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        try (WebhookSpool spool = new WebhookSpool(config, clock)) {
+            spool.append(entry("{}"));
+            spool.registerMBean(server);
+
+            ObjectName name = new ObjectName("io.catalyst.bridge:type=Spool");
+            assertEquals(1, server.getAttribute(name, "BacklogSize"));
+            assertEquals(1L, server.getAttribute(name, "SpooledTotal"));
+        }
+    }
+
+    @Test
+    public void testIsConnectFailure_OnlyBeforeTheRequestIsSent() {
+        assertTrue(WebhookClient.isConnectFailure(new ConnectException("Connection refused")));
+        assertFalse(WebhookClient.isConnectFailure(new SocketTimeoutException("Read timed out")));
+        assertFalse(WebhookClient.isConnectFailure(new IOException("Connection reset")));
+    }
+
+    private long countSegments() throws IOException {
+        try (Stream<Path> files = Files.list(config.getDirectory())) {
+            return files.filter(p -> p.getFileName().toString().startsWith(WebhookSpool.SEGMENT_PREFIX)).count();
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package io.catalyst.bridge.stats;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.catalyst.bridge.config.StatsConfig;
+import io.catalyst.bridge.enforcement.EnforcementStatus;
+import io.catalyst.bridge.enforcement.LimpMode;
+import io.catalyst.bridge.metrics.CallOutcome;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for BridgeStats, StatsFile and StatusServer.
+ */
+public class BridgeStatsTest {
+
+    private static final String URL_A = "http://localhost:5678/webhook/a";
+    private static final String URL_B = "http://localhost:5678/webhook/b?x=1";
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void testRecordCall_CountsPerRouteWithOverflowToOther() throws Exception {
+        try (BridgeStats stats = new BridgeStats(config(temp.getRoot().toPath().resolve("stats.bin"), 1))) {
+            stats.recordCall(URL_A, CallOutcome.SUCCESS, 3_000_000);
+            stats.recordCall(URL_A, CallOutcome.NON_2XX, 300_000_000);
+            stats.recordCall(URL_A, CallOutcome.CANCELLED, 1_000_000);
+            stats.recordCall(URL_B, CallOutcome.TIMEOUT, 20_000_000_000L);
+
+            List<Map<String, Object>> connectors = connectors(stats.snapshot());
+            assertEquals(2, connectors.size());
+            Map<String, Object> other = connectors.get(0);
+            Map<String, Object> a = connectors.get(1);
+            assertEquals("other", other.get("route"));
+            assertEquals(1L, other.get("errors"));
+            assertEquals("/webhook/a", a.get("route"));
+            assertEquals(2L, a.get("calls"));
+            assertEquals(1L, a.get("successes"));
+            assertEquals(1L, a.get("errors"));
+            assertEquals(151.5, (Double) a.get("meanLatencyMillis"), 0.001);
+
+            long[] buckets = (long[]) a.get("latencyBuckets");
+            assertEquals(1L, buckets[0]);
+            assertEquals(1L, buckets[6]);
+            assertEquals(1L, ((long[]) other.get("latencyBuckets"))[buckets.length - 1]);
+            long[] perMinute = (long[]) a.get("callsPerMinute");
+            assertEquals(StatsFile.MINUTES, perMinute.length);
+            assertEquals(2L, perMinute[StatsFile.MINUTES - 1]);
+            assertEquals(1L, ((long[]) a.get("errorsPerMinute"))[StatsFile.MINUTES - 1]);
+        }
+    }
+
+    @Test
+    public void testOpen_AnotherMappingSeesCountersAndEnforcement() throws Exception {
+        Path file = temp.getRoot().toPath().resolve("stats.bin");
+        try (BridgeStats stats = new BridgeStats(config(file, 8))) {
+            assertNull(stats.snapshot().get("limpMode"));
+            stats.recordCall(URL_A, CallOutcome.SUCCESS, 1_000_000);
+            stats.recordEnforcement(EnforcementStatus.normal(null, 42, null));
+
+            StatsFile reader = StatsFile.open(file);
+            Map<String, Object> snapshot = reader.snapshot(System.currentTimeMillis());
+            assertEquals("NONE", snapshot.get("limpMode"));
+            @SuppressWarnings("unchecked")
+            Map<String, Object> usage = (Map<String, Object>) snapshot.get("usage");
+            assertEquals(42L, usage.get("count"));
+            assertEquals(0L, usage.get("limit"));
+            assertEquals(1L, connectors(snapshot).get(1).get("calls"));
+
+            stats.recordLimpMode(LimpMode.DISABLED);
+            assertEquals("DISABLED", reader.snapshot(System.currentTimeMillis()).get("limpMode"));
+        }
+    }
+
+    @Test
+    public void testSnapshot_ConsistentWhileWritersAreRunning() throws Exception {
+        StatsFile file = StatsFile.inMemory(2);
+        int slot = file.claimSlot("/webhook/a");
+        int threads = 4;
+        int callsPerThread = 20_000;
+        AtomicBoolean done = new AtomicBoolean();
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            boolean success = t % 2 == 0;
+            Thread writer = new Thread(() -> {
+                for (int i = 0; i < callsPerThread; i++) {
+                    file.recordCall(slot, success, i % 2 == 0 ? 1_000_000 : 700_000_000, System.currentTimeMillis());
+                }
+            });
+            writers.add(writer);
+            writer.start();
+        }
+        Thread stopper = new Thread(() -> {
+            for (Thread writer : writers) {
+                try {
+                    writer.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            done.set(true);
+        });
+        stopper.start();
+
+        int consistent = 0;
+        while (!done.get()) {
+            Map<String, Object> connector = connectors(file.snapshot(System.currentTimeMillis())).get(0);
+            long calls = (Long) connector.get("calls");
+            if (calls == (Long) connector.get("successes") + (Long) connector.get("errors")
+                    && calls == sum((long[]) connector.get("latencyBuckets"))) {
+                consistent++;
+            }
+        }
+        stopper.join();
+
+        Map<String, Object> connector = connectors(file.snapshot(System.currentTimeMillis())).get(0);
+        assertEquals((long) threads * callsPerThread, connector.get("calls"));
+        assertEquals((long) threads / 2 * callsPerThread, connector.get("errors"));
+        assertEquals((long) threads * callsPerThread, sum((long[]) connector.get("latencyBuckets")));
+        assertTrue(consistent > 0);
+    }
+
+    @Test
+    public void testStatusServer_ServesSnapshotsReadOnly() throws Exception {
+        StatsConfig config = StatsConfig.builder()
+            .enabled(true)
+            .file(temp.getRoot().toPath().resolve("stats.bin"))
+            .port(0)
+            .build();
+        try (BridgeStats stats = new BridgeStats(config)) {
+            stats.recordCall(URL_A, CallOutcome.SUCCESS, 1_000_000);
+            assertNotNull(stats.getServer());
+            int port = stats.getServer().getPort();
+
+            HttpURLConnection get = open(port, BridgeStats.STATS_PATH, "GET");
+            assertEquals(200, get.getResponseCode());
+            assertEquals("application/json", get.getContentType());
+            JsonNode json;
+            try (InputStream in = get.getInputStream()) {
+                json = new ObjectMapper().readTree(in);
+            }
+            assertEquals("/webhook/a", json.path("connectors").path(1).path("route").asText());
+            assertEquals(1, json.path("connectors").path(1).path("successes").asLong());
+
+            assertEquals(405, open(port, BridgeStats.STATS_PATH, "POST").getResponseCode());
+            assertEquals(404, open(port, "/missing", "GET").getResponseCode());
+        }
+    }
+
+    private static StatsConfig config(Path file, int maxConnectors) {
+        return StatsConfig.builder().enabled(true).file(file).maxConnectors(maxConnectors).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> connectors(Map<String, Object> snapshot) {
+        return (List<Map<String, Object>>) snapshot.get("connectors");
+    }
+
+    private static HttpURLConnection open(int port, String path, String method) throws Exception {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://127.0.0.1:" + port + path).openConnection();
+        connection.setRequestMethod(method);
+        return connection;
+    }
+
+    private static long sum(long[] values) {
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Test
+    public void testStatsConfig_MalformedNumbers_UseDefaults() {
+        StatsConfig config = StatsConfig.fromEnvironment(Map.of(
+            StatsConfig.ENABLED_ENV, "true",
+            StatsConfig.FILE_ENV, temp.getRoot().toPath().resolve("stats.bin").toString(),
+            StatsConfig.MAX_CONNECTORS_ENV, "many",
+            StatsConfig.PORT_ENV, "80a"));
+
+        assertEquals(StatsConfig.DEFAULT_MAX_CONNECTORS, config.getMaxConnectors());
+        assertEquals(StatsConfig.NO_PORT, config.getPort());
+        assertFalse(config.isEndpointEnabled());
+        assertEquals(StatsConfig.NO_PORT,
+            StatsConfig.fromEnvironment(Map.of(StatsConfig.PORT_ENV, "70000")).getPort());
+        assertEquals(9464, StatsConfig.fromEnvironment(Map.of(StatsConfig.PORT_ENV, " 9464 ")).getPort());
+    }
+
+    @Test
+    public void testMaxConnectors_CappedSoTheFileStaysSmall() throws Exception {
+        Path file = temp.getRoot().toPath().resolve("stats.bin");
+        try (BridgeStats stats = new BridgeStats(config(file, Integer.MAX_VALUE))) {
+            assertTrue(stats.isEnabled());
+            stats.recordCall(URL_A, CallOutcome.SUCCESS, 1_000_000);
+
+            StatsFile reader = StatsFile.open(file);
+            assertEquals(StatsConfig.MAX_CONNECTORS + 1, reader.getSlots());
+            assertEquals(1L, connectors(reader.snapshot(System.currentTimeMillis())).get(1).get("calls"));
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package io.catalyst.bridge.tracing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.catalyst.bridge.config.CompressionConfig;
+import io.catalyst.bridge.config.MetricsConfig;
+import io.catalyst.bridge.config.TracingConfig;
+import io.catalyst.bridge.http.LoopbackTransport;
+import io.catalyst.bridge.http.WebhookClient;
+import io.catalyst.bridge.http.WebhookRequest;
+import io.catalyst.bridge.http.WebhookResponse;
+import io.catalyst.bridge.metrics.WebhookMetrics;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for TraceContext, Tracer, BatchSpanProcessor and OtlpJsonFileExporter.
+ */
+public class TracingTest {
+
+    private static final String PARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private final BlockingQueue<Span> exported = new LinkedBlockingQueue<>();
+
+    @Test
+    public void testParse_ValidAndInvalidTraceparents() {
+        TraceContext context = TraceContext.parse(PARENT, " vendor=abc ");
+        assertNotNull(context);
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", context.getTraceId());
+        assertEquals("00f067aa0ba902b7", context.getSpanId());
+        assertEquals("vendor=abc", context.getTraceState());
+        assertTrue(context.isSampled());
+        assertEquals(PARENT, context.toTraceparent());
+
+        assertFalse(TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00", null).isSampled());
+        assertNotNull(TraceContext.parse("01-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01-future", null));
+        assertNull(TraceContext.parse(null, null));
+        assertNull(TraceContext.parse("00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01", null));
+        assertNull(TraceContext.parse("00-00000000000000000000000000000000-00f067aa0ba902b7-01", null));
+        assertNull(TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-0000000000000000-01", null));
+        assertNull(TraceContext.parse("ff-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01", null));
+        assertNull(TraceContext.parse(PARENT + "-extra", null));
+    }
+
+    @Test
+    public void testWebhookClient_PropagatesChildSpanContext() throws Exception {
+        Tracer tracer = new Tracer(TracingConfig.builder().exportInterval(Duration.ofMillis(10)).build(),
+            spans -> exported.addAll(spans));
+        List<WebhookRequest> received = new ArrayList<>();
+        WebhookClient client = new WebhookClient(new LoopbackTransport(request -> {
+            received.add(request);
+            return new WebhookResponse("{}", request.getUrl().endsWith("/missing") ? 404 : 200);
+        }), Collections.emptyMap(), CompressionConfig.builder().build(),
+            new WebhookMetrics(MetricsConfig.builder().build()));
+        Span execution = tracer.startSpan("catalyst callN8n", SpanKind.INTERNAL, TraceContext.parse(PARENT, "v=1"));
+
+        client.execute(WebhookRequest.builder().url("http://localhost:5678/webhook/orders").body("{}")
+            .parentSpan(execution).build()).discard();
+        client.execute(WebhookRequest.builder().url("http://localhost:5678/webhook/missing").body("{}")
+            .header("traceparent", PARENT).parentSpan(execution).build()).discard();
+        execution.end();
+
+        TraceContext sent = TraceContext.parse(received.get(0).getHeaders().get("traceparent"),
+            received.get(0).getHeaders().get("tracestate"));
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", sent.getTraceId());
+        assertEquals("v=1", sent.getTraceState());
+        assertEquals(PARENT, received.get(1).getHeaders().get("traceparent"));
+
+        Span call = exported.poll(5, TimeUnit.SECONDS);
+        assertEquals("POST /webhook/orders", call.getName());
+        assertEquals(SpanKind.CLIENT, call.getKind());
+        assertEquals(sent.getSpanId(), call.getContext().getSpanId());
+        assertEquals(execution.getContext().getSpanId(), call.getParentSpanId());
+        assertEquals(200L, call.getAttribute("http.response.status_code"));
+        assertFalse(call.isError());
+        assertTrue(exported.poll(5, TimeUnit.SECONDS).isError());
+        assertEquals("00f067aa0ba902b7", exported.poll(5, TimeUnit.SECONDS).getParentSpanId());
+    }
+
+    @Test
+    public void testTracer_UnsampledAndDisabledTracesNotExported() throws Exception {
+        Tracer tracer = new Tracer(TracingConfig.builder().exportInterval(Duration.ofMillis(10)).build(),
+            spans -> exported.addAll(spans));
+        tracer.startSpan("unsampled", SpanKind.INTERNAL,
+            TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00", null)).end();
+        Span root = tracer.startSpan("root", SpanKind.INTERNAL, null);
+        root.end();
+        root.end();
+
+        assertEquals("root", exported.poll(5, TimeUnit.SECONDS).getName());
+        assertNull(root.getParentSpanId());
+        tracer.getProcessor().shutdown(Duration.ofSeconds(5));
+        assertTrue(exported.isEmpty());
+        assertEquals(1, tracer.getProcessor().getExportedCount());
+
+        assertNull(new Tracer(TracingConfig.builder().enabled(false).build(), spans -> { }).getProcessor());
+    }
+
+    @Test
+    public void testOtlpJsonFileExporter_WritesLinesAndRollsOver() throws Exception {
+        Path file = temp.getRoot().toPath().resolve("traces/spans.jsonl");
+        OtlpJsonFileExporter exporter = new OtlpJsonFileExporter(file, 1500, "bridge-test");
+        Tracer tracer = new Tracer(TracingConfig.builder().build(), null);
+        Span span = tracer.startSpan("catalyst callN8n", SpanKind.INTERNAL, TraceContext.parse(PARENT, null))
+            .setAttribute("camunda.activity_id", "callN8n")
+            .setAttribute("http.response.status_code", 503L)
+            .setError("HTTP 503");
+        span.end();
+
+        exporter.export(Collections.singletonList(span));
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(1, lines.size());
+        JsonNode resourceSpans = new ObjectMapper().readTree(lines.get(0)).get("resourceSpans").get(0);
+        assertEquals("bridge-test", resourceSpans.at("/resource/attributes/0/value/stringValue").asText());
+        JsonNode json = resourceSpans.at("/scopeSpans/0/spans/0");
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", json.get("traceId").asText());
+        assertEquals("00f067aa0ba902b7", json.get("parentSpanId").asText());
+        assertEquals(1, json.get("kind").asInt());
+        assertEquals("503", json.at("/attributes/1/value/intValue").asText());
+        assertEquals(2, json.at("/status/code").asInt());
+        assertTrue(Long.parseLong(json.get("endTimeUnixNano").asText())
+            >= Long.parseLong(json.get("startTimeUnixNano").asText()));
+
+        for (int i = 0; i < 3; i++) {
+            exporter.export(Collections.singletonList(span));
+        }
+        exporter.close();
+        assertTrue(Files.exists(file.resolveSibling("spans.jsonl.1")));
+        assertTrue(Files.size(file) <= 1500);
+    }
+}